@@ -0,0 +1,71 @@
+package com.example.mapsbridge.benchmark;
+
+import com.example.mapsbridge.dto.MapType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The inputs of {@code postman-validation.json}, the corpus the conversion integration test checks
+ * against, shared with the benchmarks so both exercise the same real-world links.
+ */
+final class BenchmarkCorpus {
+
+    private static final List<Entry> ENTRIES = load();
+
+    private BenchmarkCorpus() {
+        throw new AssertionError("No instances");
+    }
+
+    /**
+     * @return every input as the user shared it, URLs, text with an embedded URL and coordinates
+     */
+    static String[] inputs() {
+        return ENTRIES.stream().map(Entry::input).toArray(String[]::new);
+    }
+
+    /**
+     * @return the coordinate inputs
+     */
+    static String[] coordinates() {
+        return ENTRIES.stream().filter(entry -> entry.source() == null).map(Entry::input).toArray(String[]::new);
+    }
+
+    /**
+     * The URLs of a map provider as its extractors receive them, after following redirects.
+     *
+     * @param mapType The map provider
+     * @return the resolved URLs
+     */
+    static String[] resolvedUrls(MapType mapType) {
+        return ENTRIES.stream()
+                .filter(entry -> entry.source() == mapType)
+                .map(entry -> StubNetwork.resolve(entry.url()))
+                .toArray(String[]::new);
+    }
+
+    private static List<Entry> load() {
+        try (InputStream inputStream = BenchmarkCorpus.class.getResourceAsStream("/postman/postman-validation.json")) {
+            List<Entry> entries = new ArrayList<>();
+            for (JsonNode testCase : new ObjectMapper().readTree(inputStream)) {
+                JsonNode testConfig = testCase.path("testConfig");
+                String input = testCase.path("input").asText();
+                String sourceUrl = testConfig.path("sourceUrl").asText(null);
+                String source = testConfig.path("source").asText(null);
+                entries.add(new Entry(input, sourceUrl != null ? sourceUrl : input,
+                        source != null ? MapType.fromString(source) : null));
+            }
+            return entries;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load the benchmark corpus", e);
+        }
+    }
+
+    private record Entry(String input, String url, MapType source) {
+    }
+}
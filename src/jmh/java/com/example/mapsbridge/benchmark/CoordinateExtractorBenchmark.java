@@ -0,0 +1,108 @@
+package com.example.mapsbridge.benchmark;
+
+import com.example.mapsbridge.config.metrics.tracker.MapProviderTracker;
+import com.example.mapsbridge.dto.MapType;
+import com.example.mapsbridge.provider.extractor.CoordinateExtractor;
+import com.example.mapsbridge.provider.extractor.apple.A100DefaultExtractor;
+import com.example.mapsbridge.provider.extractor.apple.A1UrlContentExtractor;
+import com.example.mapsbridge.provider.extractor.bing.B100DefaultExtractor;
+import com.example.mapsbridge.provider.extractor.google.G1UrlContentExtractor;
+import com.example.mapsbridge.provider.extractor.google.G2LatLon3d4dExtractor;
+import com.example.mapsbridge.provider.extractor.google.G3AtSymbolExtractor;
+import com.example.mapsbridge.provider.extractor.google.G4QParameterExtractor;
+import com.example.mapsbridge.provider.extractor.google.G5SearchPatternExtractor;
+import com.example.mapsbridge.provider.extractor.google.G6PlaceIdExtractor;
+import com.example.mapsbridge.provider.extractor.google.G7AddressGeocodingExtractor;
+import com.example.mapsbridge.provider.extractor.komoot.K100DefaultExtractor;
+import com.example.mapsbridge.provider.extractor.openstreet.O100DefaultExtractor;
+import com.example.mapsbridge.provider.extractor.waze.W100DefaultExtractor;
+import com.example.mapsbridge.provider.url.UrlPatternExtractor;
+import com.example.mapsbridge.provider.utils.HttpClientUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs each {@link CoordinateExtractor} over the URLs of its provider from the integration test
+ * corpus, as they look after following redirects. The content extractors read a canned page and
+ * the geocoding extractors a stubbed service, so only parsing and scanning are measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CoordinateExtractorBenchmark {
+
+    @Param({
+            "G1UrlContentExtractor", "G2LatLon3d4dExtractor", "G3AtSymbolExtractor", "G4QParameterExtractor",
+            "G5SearchPatternExtractor", "G6PlaceIdExtractor", "G7AddressGeocodingExtractor",
+            "A1UrlContentExtractor", "A100DefaultExtractor", "B100DefaultExtractor", "K100DefaultExtractor",
+            "O100DefaultExtractor", "W100DefaultExtractor"
+    })
+    private String extractorName;
+
+    private CoordinateExtractor extractor;
+    private String[] corpus;
+
+    @Setup
+    public void setUp() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OkHttpClient httpClient = StubNetwork.client();
+        HttpClientUtils httpClientUtils = new HttpClientUtils(httpClient, new MapProviderTracker(meterRegistry));
+        StubGeocodingService geocodingService = new StubGeocodingService(meterRegistry);
+        UrlPatternExtractor urlPatternExtractor = new UrlPatternExtractor();
+
+        Map<String, CoordinateExtractor> extractors = Map.ofEntries(
+                Map.entry("G1UrlContentExtractor", new G1UrlContentExtractor(httpClientUtils)),
+                Map.entry("G2LatLon3d4dExtractor", new G2LatLon3d4dExtractor()),
+                Map.entry("G3AtSymbolExtractor", new G3AtSymbolExtractor()),
+                Map.entry("G4QParameterExtractor", new G4QParameterExtractor()),
+                Map.entry("G5SearchPatternExtractor", new G5SearchPatternExtractor()),
+                Map.entry("G6PlaceIdExtractor", new G6PlaceIdExtractor(geocodingService, urlPatternExtractor)),
+                Map.entry("G7AddressGeocodingExtractor", new G7AddressGeocodingExtractor(geocodingService, urlPatternExtractor)),
+                Map.entry("A1UrlContentExtractor", new A1UrlContentExtractor(httpClientUtils)),
+                Map.entry("A100DefaultExtractor", new A100DefaultExtractor(httpClient)),
+                Map.entry("B100DefaultExtractor", new B100DefaultExtractor(httpClient)),
+                Map.entry("K100DefaultExtractor", new K100DefaultExtractor(httpClient)),
+                Map.entry("O100DefaultExtractor", new O100DefaultExtractor(httpClient)),
+                Map.entry("W100DefaultExtractor", new W100DefaultExtractor(httpClient)));
+        this.extractor = extractors.get(extractorName);
+        this.corpus = BenchmarkCorpus.resolvedUrls(mapType(extractorName));
+    }
+
+    @Benchmark
+    public void extract(Blackhole blackhole) {
+        for (String url : corpus) {
+            blackhole.consume(extractor.extract(url));
+        }
+    }
+
+    private static MapType mapType(String extractorName) {
+        return switch (extractorName.charAt(0)) {
+            case 'G' -> MapType.GOOGLE;
+            case 'A' -> MapType.APPLE;
+            case 'B' -> MapType.BING;
+            case 'K' -> MapType.KOMOOT;
+            case 'O' -> MapType.OPENSTREETMAP;
+            case 'W' -> MapType.WAZE;
+            default -> throw new IllegalArgumentException("Unknown extractor: " + extractorName);
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.mapsbridge.benchmark;
+
+import com.example.mapsbridge.dto.Coordinate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses the coordinate inputs of the integration test corpus (comma, comma and spaces, and
+ * whitespace separated) with {@link Coordinate#fromString(String)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CoordinateParsingBenchmark {
+
+    private final String[] corpus = BenchmarkCorpus.coordinates();
+
+    @Benchmark
+    public void fromString(Blackhole blackhole) {
+        for (String input : corpus) {
+            blackhole.consume(Coordinate.fromString(input.trim()));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.mapsbridge.benchmark;
+
+import com.example.mapsbridge.provider.url.GoogleUrlScanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the per-extractor regular expressions the Google chain used to run (G2-G5 plus the
+ * place ID and address lookups, one scan each) with the single-pass {@link GoogleUrlScanner}.
+ * Each invocation processes the whole corpus.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GoogleUrlScannerBenchmark {
+
+    private static final Pattern DATA = Pattern.compile("!3d([\\-\\d.]+)!4d([\\-\\d.]+)");
+    private static final Pattern AT = Pattern.compile("@([\\-\\d.]+),([\\-\\d.]+)");
+    private static final Pattern QUERY = Pattern.compile("q=(?<lat>-?\\d+[.,]?\\d*),(?<lon>-?\\d+[.,]?\\d*)");
+    private static final Pattern SEARCH = Pattern.compile("/search/([-+]?\\d+\\.\\d+),([-+]?\\d+\\.\\d+)");
+    private static final Pattern[] PLACE_ID = {
+            Pattern.compile("place_id=([\\w\\-]+)"),
+            Pattern.compile("!1s([\\w\\-:]+)"),
+            Pattern.compile("!3m\\d+!1s([\\w\\-:]+)")
+    };
+    private static final Pattern ADDRESS_QUERY = Pattern.compile("q=([^&]+)");
+
+    // Real URLs as they reach the extractor chain, after redirects
+    private final String[] corpus = {
+            "https://www.google.com/maps/place/Foodhall+Arnhem/@51.9774178,5.9042947,18z/data=!3m1!5s0x47c7a5ca3bc380cf:0xacfac2b1fdd2642!4m6!3m5!1s0x47c7a59e06802b89:0xadfd07d7242c2cd1!8m2!3d51.9779268!4d5.9055642!16s%2Fg%2F11h5x3nlff?entry=ttu&g_ep=EgoyMDI1MDcyMS4wIKXMDSoASAFQAw%3D%3D",
+            "https://www.google.com/maps/place/Statue+of+Liberty/@40.6892494,-74.0445004,17z/data=!3m1!4b1!4m6!3m5!1s0x89c25090129c363d:0x40c6a5770d25022b!8m2!3d40.6892494!4d-74.0445004!16zL20vMDcycDg?entry=ttu",
+            "https://www.google.com/maps/place/Champs-%C3%89lys%C3%A9es/@48.8698,2.3075,17z",
+            "https://www.google.com/maps/place/Berlin/@52.5200,13.4050,11z",
+            "https://www.google.com/maps/@-33.8688,151.2093,14z",
+            "https://www.google.com/maps?q=48.0839646,10.8589516",
+            "https://maps.google.com/maps?q=40,7128,-74,0060&z=15",
+            "https://maps.google.com/maps?q=-33.8688%2C151.2093&hl=en",
+            "https://www.google.com/maps/search/37.7749,-122.4194?entry=ttu",
+            "https://www.google.com/maps/search/coffee+shops",
+            "https://www.google.com/maps/search/?api=1&query=Eiffel+Tower&query_place_id=ChIJLU7jZClu5kcR4PcOOO6p3I0",
+            "https://www.google.com/maps/place/?q=place_id:ChIJN1t_tDeuEmsRUsoyG83frY4",
+            "https://www.google.com/maps?q=Amsterdam+Centraal%2C+Netherlands&hl=en",
+            "https://www.google.com/maps/dir//Rijnkade+1,+Arnhem/@51.9740939,5.9016994,15z"
+    };
+
+    @Benchmark
+    public void legacyRegexChain(Blackhole blackhole) {
+        for (String url : corpus) {
+            blackhole.consume(lastMatch(DATA, url));
+            blackhole.consume(firstMatch(AT, url));
+            blackhole.consume(firstMatch(QUERY, URLDecoder.decode(url, StandardCharsets.UTF_8)));
+            blackhole.consume(firstMatch(SEARCH, url));
+            blackhole.consume(placeId(url));
+            blackhole.consume(firstMatch(ADDRESS_QUERY, url));
+        }
+    }
+
+    @Benchmark
+    public void singlePassScanner(Blackhole blackhole) {
+        for (String url : corpus) {
+            // Same six lookups as the chain, each extractor scans the URL for its own token
+            blackhole.consume(GoogleUrlScanner.scan(url).dataCoordinate());
+            blackhole.consume(GoogleUrlScanner.scan(url).atCoordinate());
+            blackhole.consume(GoogleUrlScanner.scan(url).queryCoordinate());
+            blackhole.consume(GoogleUrlScanner.scan(url).searchCoordinate());
+            blackhole.consume(GoogleUrlScanner.scan(url).placeId());
+            blackhole.consume(GoogleUrlScanner.scan(url).addressQuery());
+        }
+    }
+
+    private static String firstMatch(Pattern pattern, String url) {
+        Matcher matcher = pattern.matcher(url);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    private static String lastMatch(Pattern pattern, String url) {
+        Matcher matcher = pattern.matcher(url);
+        String last = null;
+        while (matcher.find()) {
+            last = matcher.group(1) + "," + matcher.group(2);
+        }
+        return last;
+    }
+
+    private static String placeId(String url) {
+        for (Pattern pattern : PLACE_ID) {
+            String match = firstMatch(pattern, url);
+            if (match != null) {
+                return match;
+            }
+        }
+        return null;
+    }
+}
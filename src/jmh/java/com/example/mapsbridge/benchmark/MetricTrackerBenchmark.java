@@ -0,0 +1,69 @@
+package com.example.mapsbridge.benchmark;
+
+import com.example.mapsbridge.config.metrics.MetricTags;
+import com.example.mapsbridge.config.metrics.tracker.MapProviderTracker;
+import com.example.mapsbridge.dto.MapType;
+import com.example.mapsbridge.provider.extractor.google.G2LatLon3d4dExtractor;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares tracking one conversion's metrics the way the trackers used to (tagging a shared
+ * {@link Counter.Builder} and registering it on every call) with the pre-resolved counters of
+ * {@link MapProviderTracker}. Run with {@code -prof gc} to see the allocation per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricTrackerBenchmark {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MapProviderTracker tracker = new MapProviderTracker(meterRegistry);
+
+    private final Counter.Builder extractionSuccessCounterBuilder = Counter.builder("legacy.extraction.success")
+            .description("Number of successful extractions by map provider and extractor");
+    private final Counter.Builder resolvedUrlCacheCounterBuilder = Counter.builder("legacy.redirect.cache")
+            .description("Number of resolved short-link cache lookups and evictions by result");
+
+    @Benchmark
+    public void registerPerCall() {
+        resolvedUrlCacheCounterBuilder
+                .tag("result", "miss")
+                .tag("cause", "none")
+                .register(meterRegistry)
+                .increment();
+        extractionSuccessCounterBuilder
+                .tag(MetricTags.PROVIDER, MapType.GOOGLE.getName())
+                .tag("extractor", G2LatLon3d4dExtractor.class.getSimpleName())
+                .register(meterRegistry)
+                .increment();
+        resolvedUrlCacheCounterBuilder
+                .tag("result", "eviction")
+                .tag("cause", RemovalCause.SIZE.name().toLowerCase())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @Benchmark
+    public void preResolved() {
+        tracker.trackResolvedUrlCacheMiss();
+        tracker.trackExtractionSuccess(MapType.GOOGLE, G2LatLon3d4dExtractor.class);
+        tracker.trackResolvedUrlCacheEviction(RemovalCause.SIZE);
+    }
+}
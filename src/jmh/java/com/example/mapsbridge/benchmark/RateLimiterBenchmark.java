@@ -0,0 +1,74 @@
+package com.example.mapsbridge.benchmark;
+
+import com.example.mapsbridge.service.ratelimit.AbstractRateLimiterService;
+import com.example.mapsbridge.service.ratelimit.GcraRateLimiter;
+import com.example.mapsbridge.service.ratelimit.MapConverterRateLimiterService;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks the daily convert quota from eight threads at once, through
+ * {@link AbstractRateLimiterService#checkRateLimitForIp(String)}, with either engine. With a single
+ * IP every thread updates the same limiter, with many IPs the threads mostly touch different ones.
+ * The quota is never exhausted, so the rejection path is not part of the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class RateLimiterBenchmark {
+
+    @Param({"resilience4j", "gcra"})
+    private String engine;
+
+    @Param({"1", "10000"})
+    private int ips;
+
+    private String[] identifiers;
+    private MapConverterRateLimiterService rateLimiterService;
+
+    @Setup
+    public void setUp() {
+        RateLimiterConfig unlimited = RateLimiterConfig.custom()
+                .limitForPeriod(Integer.MAX_VALUE)
+                .limitRefreshPeriod(Duration.ofHours(24))
+                .timeoutDuration(Duration.ZERO)
+                .build();
+        RateLimiterRegistry rateLimiterRegistry = RateLimiterRegistry.of(Map.of(
+                "default", RateLimiterConfig.ofDefaults(),
+                "geocodingIpConfig", unlimited));
+
+        GcraRateLimiter gcraRateLimiter = engine.equals("gcra") ? new GcraRateLimiter(rateLimiterRegistry) : null;
+        this.rateLimiterService = new MapConverterRateLimiterService(rateLimiterRegistry, gcraRateLimiter, null);
+
+        this.identifiers = new String[ips];
+        for (int i = 0; i < ips; i++) {
+            identifiers[i] = "10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    @Benchmark
+    public void checkRateLimit() {
+        rateLimiterService.checkDailyQuotaForIp(identifiers[ThreadLocalRandom.current().nextInt(identifiers.length)]);
+    }
+}
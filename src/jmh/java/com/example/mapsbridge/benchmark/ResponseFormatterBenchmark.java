@@ -0,0 +1,79 @@
+package com.example.mapsbridge.benchmark;
+
+import com.example.mapsbridge.config.metrics.tracker.InputSourceTracker;
+import com.example.mapsbridge.dto.Coordinate;
+import com.example.mapsbridge.dto.MapType;
+import com.example.mapsbridge.dto.request.ConvertRequest;
+import com.example.mapsbridge.dto.response.WebConvertResponse;
+import com.example.mapsbridge.service.converter.MapConverterServiceImpl;
+import com.example.mapsbridge.telegram.service.ResponseFormatterService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders the Telegram reply for a converted location with the Mustache template of
+ * {@link ResponseFormatterService}. The conversion itself is stubbed out, see
+ * {@link UserInputProcessorBenchmark} for that.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseFormatterBenchmark {
+
+    private final ResponseFormatterService responseFormatterService =
+            new ResponseFormatterService(new FixedConverter(response()));
+
+    @Benchmark
+    public String formatResponse() {
+        return responseFormatterService.convertMessageToMapLinks("https://maps.app.goo.gl/f9PD4LmvWrPdhEDT6");
+    }
+
+    private static WebConvertResponse response() {
+        Map<MapType, String> links = new EnumMap<>(MapType.class);
+        links.put(MapType.GOOGLE, "https://maps.app.goo.gl/f9PD4LmvWrPdhEDT6");
+        links.put(MapType.APPLE, "https://maps.apple.com/?q=51.9779268,5.9055642");
+        links.put(MapType.BING, "https://www.bing.com/maps?q=51.9779268,5.9055642");
+        links.put(MapType.OPENSTREETMAP, "https://www.openstreetmap.org/?mlat=51.9779268&mlon=5.9055642");
+        links.put(MapType.WAZE, "https://waze.com/ul?ll=51.9779268,5.9055642");
+        links.put(MapType.KOMOOT, "https://www.komoot.com/discover/@51.9779268,5.9055642/tours");
+
+        WebConvertResponse response = new WebConvertResponse(new Coordinate(51.9779268, 5.9055642),
+                "Foodhall Arnhem", "Rijnkade 49, 6811 HB Arnhem, Netherlands");
+        response.setLinks(links);
+        return response;
+    }
+
+    /**
+     * Converter answering every request with the same response.
+     */
+    private static class FixedConverter extends MapConverterServiceImpl {
+
+        private final WebConvertResponse response;
+
+        FixedConverter(WebConvertResponse response) {
+            super(List.of(), null, new InputSourceTracker(new SimpleMeterRegistry()));
+            this.response = response;
+        }
+
+        @Override
+        public WebConvertResponse convert(ConvertRequest request) {
+            return response;
+        }
+    }
+}
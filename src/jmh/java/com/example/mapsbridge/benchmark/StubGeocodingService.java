@@ -0,0 +1,54 @@
+package com.example.mapsbridge.benchmark;
+
+import com.example.mapsbridge.config.metrics.tracker.GeocodingTracker;
+import com.example.mapsbridge.dto.Coordinate;
+import com.example.mapsbridge.dto.LocationResult;
+import com.example.mapsbridge.service.geocoding.HybridGeocodingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Geocoding service answering every lookup with a fixed location, without any cache or API call.
+ */
+class StubGeocodingService extends HybridGeocodingService {
+
+    private static final Coordinate LOCATION = new Coordinate(51.9779268, 5.9055642);
+    private static final String ADDRESS = "Rijnkade 49, 6811 HB Arnhem, Netherlands";
+
+    StubGeocodingService(MeterRegistry meterRegistry) {
+        super(null, null, null, null, Counter.builder("benchmark.geocoding"), meterRegistry,
+                new GeocodingTracker(meterRegistry));
+    }
+
+    @Override
+    public LocationResult reverseGeocode(Coordinate coordinate) {
+        return LocationResult.fromCoordinatesAndName(coordinate, ADDRESS);
+    }
+
+    @Override
+    public CompletableFuture<LocationResult> reverseGeocodeAsync(Coordinate coordinate) {
+        return CompletableFuture.completedFuture(reverseGeocode(coordinate));
+    }
+
+    @Override
+    public LocationResult getLocationFromPlaceId(String placeId) {
+        return LocationResult.fromCoordinatesAndName(LOCATION, ADDRESS);
+    }
+
+    @Override
+    public CompletableFuture<LocationResult> getLocationFromPlaceIdAsync(String placeId) {
+        return CompletableFuture.completedFuture(getLocationFromPlaceId(placeId));
+    }
+
+    @Override
+    public LocationResult geocodeQuery(String query) {
+        return LocationResult.fromCoordinatesAndName(LOCATION, ADDRESS);
+    }
+
+    @Override
+    public CompletableFuture<LocationResult> geocodeQueryAsync(String query) {
+        return CompletableFuture.completedFuture(geocodeQuery(query));
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.mapsbridge.benchmark;
+
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * OkHttp client answering every request from memory, so benchmarks measure the pipeline and not
+ * the network. Short links resolve to one of a few expanded URLs, as if OkHttp had followed the
+ * redirects, and every page is a canned document with the meta tags the content extractors read.
+ */
+final class StubNetwork {
+
+    // The shapes Google short links expand to: place with data segments, viewport, query and place ID
+    private static final String[] GOOGLE_EXPANDED_URLS = {
+            "https://www.google.com/maps/place/Foodhall+Arnhem/@51.9774178,5.9042947,18z/data=!3m1!5s0x47c7a5ca3bc380cf:0xacfac2b1fdd2642!4m6!3m5!1s0x47c7a59e06802b89:0xadfd07d7242c2cd1!8m2!3d51.9779268!4d5.9055642!16s%2Fg%2F11h5x3nlff?entry=ttu",
+            "https://www.google.com/maps/place/Lech-Stau+Kaufring/@48.1139244,10.8624105,17z?entry=ttu",
+            "https://maps.google.com/maps?q=51.9740939,5.9016994&entry=gps",
+            "https://www.google.com/maps/place/?q=place_id:ChIJN1t_tDeuEmsRUsoyG83frY4"
+    };
+    private static final String WAZE_LIVE_MAP_URL = "https://www.waze.com/live-map/directions?to=ll.48.0981%2C10.8554";
+
+    private static final MediaType HTML = MediaType.get("text/html; charset=utf-8");
+
+    private static final String GOOGLE_PAGE = """
+            <!DOCTYPE html><html><head>
+            <meta content="Foodhall Arnhem · Rijnkade 49, 6811 HB Arnhem, Netherlands" property="og:title">
+            <meta content="https://maps.google.com/maps/api/staticmap?center=51.9779268%2C5.9055642" property="og:image">
+            <link rel="canonical" href="https://www.google.com/maps/place/Foodhall+Arnhem/@51.9779268,5.9055642,17z">
+            </head><body></body></html>
+            """;
+
+    private static final String APPLE_PAGE = """
+            <!DOCTYPE html><html><head><title>Cantina Charlotta - Apple Maps</title>
+            <meta property="og:title" content="Cantina Charlotta">
+            <meta property="place:location:latitude" content="48.083965">
+            <meta property="place:location:longitude" content="10.858952">
+            </head><body><script>{"shortAddress": "Iglinger Straße 1, Kaufering"}</script></body></html>
+            """;
+
+    private StubNetwork() {
+        throw new AssertionError("No instances");
+    }
+
+    /**
+     * @return a client that never opens a connection
+     */
+    static OkHttpClient client() {
+        return new OkHttpClient.Builder()
+                .addInterceptor(chain -> {
+                    Request request = chain.request();
+                    String finalUrl = resolve(request.url().toString());
+                    return new Response.Builder()
+                            .request(request.newBuilder().url(finalUrl).build())
+                            .protocol(Protocol.HTTP_1_1)
+                            .code(200)
+                            .message("OK")
+                            .body(ResponseBody.create(page(finalUrl), HTML))
+                            .build();
+                })
+                .build();
+    }
+
+    /**
+     * Resolve a URL the way following its redirects would.
+     *
+     * @param url The URL as the user shared it
+     * @return The expanded URL for short links, the URL itself otherwise
+     */
+    static String resolve(String url) {
+        HttpUrl httpUrl = HttpUrl.parse(url);
+        if (httpUrl == null) {
+            return url;
+        }
+        if (httpUrl.host().equals("maps.app.goo.gl")) {
+            return GOOGLE_EXPANDED_URLS[Math.floorMod(httpUrl.encodedPath().hashCode(), GOOGLE_EXPANDED_URLS.length)];
+        }
+        if (httpUrl.host().endsWith("waze.com") && httpUrl.encodedPath().startsWith("/ul/h")) {
+            return WAZE_LIVE_MAP_URL;
+        }
+        return url;
+    }
+
+    private static String page(String url) {
+        return url.contains("apple.com") ? APPLE_PAGE : GOOGLE_PAGE;
+    }
+}
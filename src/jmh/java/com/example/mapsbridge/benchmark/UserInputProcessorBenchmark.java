@@ -0,0 +1,126 @@
+package com.example.mapsbridge.benchmark;
+
+import com.example.mapsbridge.config.metrics.tracker.InputSourceTracker;
+import com.example.mapsbridge.config.metrics.tracker.MapProviderTracker;
+import com.example.mapsbridge.config.properties.CacheProperties;
+import com.example.mapsbridge.provider.MapProvider;
+import com.example.mapsbridge.provider.cache.ResolvedUrlCache;
+import com.example.mapsbridge.provider.extractor.ParallelExtractionRunner;
+import com.example.mapsbridge.provider.extractor.apple.A100DefaultExtractor;
+import com.example.mapsbridge.provider.extractor.apple.A1UrlContentExtractor;
+import com.example.mapsbridge.provider.extractor.bing.B100DefaultExtractor;
+import com.example.mapsbridge.provider.extractor.google.G1UrlContentExtractor;
+import com.example.mapsbridge.provider.extractor.google.G2LatLon3d4dExtractor;
+import com.example.mapsbridge.provider.extractor.google.G3AtSymbolExtractor;
+import com.example.mapsbridge.provider.extractor.google.G4QParameterExtractor;
+import com.example.mapsbridge.provider.extractor.google.G5SearchPatternExtractor;
+import com.example.mapsbridge.provider.extractor.google.G6PlaceIdExtractor;
+import com.example.mapsbridge.provider.extractor.google.G7AddressGeocodingExtractor;
+import com.example.mapsbridge.provider.extractor.komoot.K100DefaultExtractor;
+import com.example.mapsbridge.provider.extractor.openstreet.O100DefaultExtractor;
+import com.example.mapsbridge.provider.extractor.waze.W100DefaultExtractor;
+import com.example.mapsbridge.provider.impl.AppleMapProvider;
+import com.example.mapsbridge.provider.impl.BingMapProvider;
+import com.example.mapsbridge.provider.impl.GoogleMapProvider;
+import com.example.mapsbridge.provider.impl.KomootMapProvider;
+import com.example.mapsbridge.provider.impl.OpenStreetMapProvider;
+import com.example.mapsbridge.provider.impl.WazeMapProvider;
+import com.example.mapsbridge.provider.url.UrlPatternExtractor;
+import com.example.mapsbridge.provider.utils.HttpClientUtils;
+import com.example.mapsbridge.service.UserInputProcessorService;
+import com.example.mapsbridge.service.cache.ConversionResultCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converts every input of the integration test corpus with {@link UserInputProcessorService},
+ * wired with all providers and extractors but a stubbed network and geocoding service.
+ * <p>
+ * With {@code caches=false} the conversion and resolved short-link caches hold nothing, so every
+ * invocation runs the full extractor chains; with {@code caches=true} all but the first
+ * invocation are cache hits, as for a popular link.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserInputProcessorBenchmark {
+
+    @Param({"false", "true"})
+    private boolean caches;
+
+    private final String[] corpus = BenchmarkCorpus.inputs();
+    private UserInputProcessorService userInputProcessorService;
+
+    @Setup
+    public void setUp() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MapProviderTracker mapProviderTracker = new MapProviderTracker(meterRegistry);
+        InputSourceTracker inputSourceTracker = new InputSourceTracker(meterRegistry);
+        CacheProperties cacheProperties = new CacheProperties();
+        if (!caches) {
+            cacheProperties.setResolvedUrl(new CacheProperties.CacheSpec(0, Duration.ofHours(6)));
+            cacheProperties.setConversionResult(new CacheProperties.CacheSpec(0, Duration.ofMinutes(30)));
+        }
+
+        OkHttpClient httpClient = StubNetwork.client();
+        HttpClientUtils httpClientUtils = new HttpClientUtils(httpClient, mapProviderTracker);
+        StubGeocodingService geocodingService = new StubGeocodingService(meterRegistry);
+        UrlPatternExtractor urlPatternExtractor = new UrlPatternExtractor();
+        ResolvedUrlCache resolvedUrlCache = new ResolvedUrlCache(cacheProperties, mapProviderTracker);
+        ParallelExtractionRunner parallelExtractionRunner = new ParallelExtractionRunner(false, 1, Duration.ofSeconds(15));
+
+        List<MapProvider> mapProviders = List.of(
+                new GoogleMapProvider(httpClient, "https://www.google.com/maps?q={lat},{lon}",
+                        List.of(new G1UrlContentExtractor(httpClientUtils), new G2LatLon3d4dExtractor(),
+                                new G3AtSymbolExtractor(), new G4QParameterExtractor(), new G5SearchPatternExtractor(),
+                                new G6PlaceIdExtractor(geocodingService, urlPatternExtractor),
+                                new G7AddressGeocodingExtractor(geocodingService, urlPatternExtractor)),
+                        mapProviderTracker, resolvedUrlCache, parallelExtractionRunner),
+                new AppleMapProvider(httpClient, "https://maps.apple.com/?q={lat},{lon}",
+                        List.of(new A1UrlContentExtractor(httpClientUtils), new A100DefaultExtractor(httpClient)),
+                        mapProviderTracker, resolvedUrlCache),
+                new BingMapProvider(httpClient, "https://www.bing.com/maps?q={lat},{lon}",
+                        List.of(new B100DefaultExtractor(httpClient)), mapProviderTracker, resolvedUrlCache),
+                new OpenStreetMapProvider(httpClient, "https://www.openstreetmap.org/?mlat={lat}&mlon={lon}",
+                        List.of(new O100DefaultExtractor(httpClient)), mapProviderTracker, resolvedUrlCache),
+                new WazeMapProvider(httpClient, "https://waze.com/ul?ll={lat},{lon}", "waze://?ll={lat},{lon}",
+                        List.of(new W100DefaultExtractor(httpClient)), mapProviderTracker, resolvedUrlCache),
+                new KomootMapProvider(httpClient, "https://www.komoot.com/discover/@{lat},{lon}/tours",
+                        List.of(new K100DefaultExtractor(httpClient)), mapProviderTracker, resolvedUrlCache));
+
+        this.userInputProcessorService = new UserInputProcessorService(mapProviders, inputSourceTracker,
+                geocodingService, new ConversionResultCache(cacheProperties, inputSourceTracker));
+    }
+
+    @Benchmark
+    public void processInput(Blackhole blackhole) {
+        for (String input : corpus) {
+            try {
+                blackhole.consume(userInputProcessorService.processInput(input));
+            } catch (RuntimeException e) {
+                // Inputs no extractor understands fail the same way in production
+                blackhole.consume(e);
+            }
+        }
+    }
+}
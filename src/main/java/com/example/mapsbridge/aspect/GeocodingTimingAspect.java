@@ -0,0 +1,78 @@
+package com.example.mapsbridge.aspect;
+
+import com.example.mapsbridge.config.metrics.Outcome;
+import com.example.mapsbridge.config.metrics.tracker.GeocodingTracker;
+import com.example.mapsbridge.config.metrics.tracker.GeocodingTracker.Operation;
+import com.example.mapsbridge.dto.LocationResult;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Aspect timing every call of a {@link com.example.mapsbridge.service.geocoding.GeocodingService},
+ * blocking and non-blocking, tagged with the service, operation and outcome.
+ * <p>
+ * The hybrid service and the services it delegates to are timed separately, so the time spent in
+ * the caches and the fallback shows as the difference between them.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class GeocodingTimingAspect {
+
+    private final GeocodingTracker geocodingTracker;
+
+    @Around("execution(* com.example.mapsbridge.service.geocoding.GeocodingService.reverseGeocode*(..))")
+    public Object timeReverseGeocode(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, Operation.REVERSE_GEOCODE);
+    }
+
+    @Around("execution(* com.example.mapsbridge.service.geocoding.GeocodingService.geocodeQuery*(..))")
+    public Object timeForwardGeocode(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, Operation.FORWARD_GEOCODE);
+    }
+
+    @Around("execution(* com.example.mapsbridge.service.geocoding.GeocodingService.getLocationFromPlaceId*(..))")
+    public Object timePlaceIdLookup(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, Operation.PLACE_ID_LOOKUP);
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, Operation operation) throws Throwable {
+        Class<?> serviceClass = joinPoint.getTarget().getClass();
+        long startNanos = System.nanoTime();
+
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            geocodingTracker.recordOperation(serviceClass, operation, Outcome.ERROR, startNanos);
+            throw e;
+        }
+
+        if (result instanceof CompletableFuture<?> future) {
+            // Recorded on completion, the returned future is left untouched
+            future.whenComplete((value, e) -> geocodingTracker.recordOperation(serviceClass, operation,
+                    e != null ? Outcome.ERROR : outcome(operation, value), startNanos));
+        } else {
+            geocodingTracker.recordOperation(serviceClass, operation, outcome(operation, result), startNanos);
+        }
+        return result;
+    }
+
+    private static Outcome outcome(Operation operation, Object result) {
+        if (!(result instanceof LocationResult location)) {
+            return Outcome.FAILURE;
+        }
+
+        // Reverse geocoding always echoes the coordinates, it only succeeded if a name was found
+        boolean found = operation == Operation.REVERSE_GEOCODE
+                ? StringUtils.isNotBlank(location.getAddress()) || StringUtils.isNotBlank(location.getPlaceName())
+                : location.hasValidCoordinates();
+        return found ? Outcome.SUCCESS : Outcome.FAILURE;
+    }
+}
@@ -3,43 +3,67 @@ package com.example.mapsbridge.aspect;
 import com.example.mapsbridge.config.logging.LoggingContext;
 import com.example.mapsbridge.config.metrics.MetricTags;
 import com.example.mapsbridge.config.metrics.tracker.ClientTracker;
+import com.example.mapsbridge.dto.RateLimitStatus;
+import com.example.mapsbridge.exception.rate.ChatIdRateLimitExceededException;
+import com.example.mapsbridge.exception.rate.EmailRateLimitExceededException;
+import com.example.mapsbridge.exception.rate.IpRateLimitExceededException;
+import com.example.mapsbridge.exception.rate.RateLimitExceededException;
 import com.example.mapsbridge.service.ratelimit.MapConverterRateLimiterService;
-import lombok.AllArgsConstructor;
+import com.example.mapsbridge.service.ratelimit.TieredRateLimiter;
+import com.example.mapsbridge.service.ratelimit.TieredRateLimiter.IdentifierType;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.Map;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Aspect to apply rate limiting to map conversion operations.
  * Checks rate limits for IP address, chat ID, and email before allowing the method execution.
  * Also tracks requests based on the endpoint type when applicable.
+ * <p>
+ * When the tiered rate limiter is enabled, all tiers of the identifier are checked by it in one
+ * step instead, and the remaining quota is sent back in {@code RateLimit-*} response headers.
  */
 @Slf4j
 @Aspect
 @Component
-@AllArgsConstructor
 public class MapConverterRateLimitAspect {
 
     private final MapConverterRateLimiterService mapConverterRateLimiterService;
     private final ClientTracker clientTracker;
 
+    // Combined multi-tier limiter, null when the daily quotas are checked by the service
+    private final TieredRateLimiter tieredRateLimiter;
+
     private static final Map<String, Consumer<ClientTracker>> ENDPOINT_TRACKERS = Map.of(
             MetricTags.SDK.toLowerCase(), ClientTracker::trackSdkRequest,
             MetricTags.SHORTCUT.toLowerCase(), ClientTracker::trackShortcutRequest,
             MetricTags.WEB.toLowerCase(), ClientTracker::trackWebRequest
     );
 
+    public MapConverterRateLimitAspect(MapConverterRateLimiterService mapConverterRateLimiterService,
+                                       ClientTracker clientTracker,
+                                       @Nullable TieredRateLimiter tieredRateLimiter) {
+        this.mapConverterRateLimiterService = mapConverterRateLimiterService;
+        this.clientTracker = clientTracker;
+        this.tieredRateLimiter = tieredRateLimiter;
+    }
+
     /**
-     * Pointcut that matches the convert method in implementations of the MapConverterService interface.
+     * Pointcut that matches the convert methods (blocking and async) in implementations of the MapConverterService interface.
      */
-    @Pointcut("execution(* com.example.mapsbridge.service.converter.MapConverterService+.convert(..))")
+    @Pointcut("execution(* com.example.mapsbridge.service.converter.MapConverterService+.convert*(..))")
     public void mapConverterMethods() {
     }
 
@@ -70,7 +94,11 @@ public class MapConverterRateLimitAspect {
         }
 
         log.debug("Checking geocoding daily quota for email: {}", email);
-        mapConverterRateLimiterService.checkDailyQuotaForEmail(email);
+        if (tieredRateLimiter != null) {
+            checkTieredRateLimit(IdentifierType.EMAIL, email, EmailRateLimitExceededException::new);
+        } else {
+            mapConverterRateLimiterService.checkDailyQuotaForEmail(email);
+        }
         clientTracker.trackApiRequest();
         return true;
     }
@@ -82,7 +110,11 @@ public class MapConverterRateLimitAspect {
         }
 
         log.debug("Checking geocoding daily quota for IP: {}", ipAddress);
-        mapConverterRateLimiterService.checkDailyQuotaForIp(ipAddress);
+        if (tieredRateLimiter != null) {
+            checkTieredRateLimit(IdentifierType.IP, ipAddress, IpRateLimitExceededException::new);
+        } else {
+            mapConverterRateLimiterService.checkDailyQuotaForIp(ipAddress);
+        }
         trackEndpointRequest();
         return true;
     }
@@ -91,11 +123,34 @@ public class MapConverterRateLimitAspect {
         String chatId = LoggingContext.getChatId();
         if (StringUtils.hasText(chatId)) {
             log.debug("Checking geocoding daily quota for chat ID: {}", chatId);
-            mapConverterRateLimiterService.checkDailyQuotaForChatId(chatId);
+            if (tieredRateLimiter != null) {
+                checkTieredRateLimit(IdentifierType.CHAT_ID, chatId, ChatIdRateLimitExceededException::new);
+            } else {
+                mapConverterRateLimiterService.checkDailyQuotaForChatId(chatId);
+            }
             clientTracker.trackTelegramRequest();
         }
     }
 
+    private void checkTieredRateLimit(IdentifierType type, String identifier,
+                                      Function<String, RateLimitExceededException> exceptionFactory) {
+        RateLimitStatus status = tieredRateLimiter.tryAcquire(type, identifier);
+        if (!status.allowed()) {
+            log.warn("Rate limit exceeded for {} {}", type, identifier);
+            throw exceptionFactory.apply(identifier).withRateLimitStatus(status);
+        }
+        addRateLimitHeaders(status);
+    }
+
+    private void addRateLimitHeaders(RateLimitStatus status) {
+        // Only conversions served on the request thread have a response, not batch items or Telegram updates
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                && attributes.getResponse() != null) {
+            HttpServletResponse response = attributes.getResponse();
+            status.toHeaders().forEach((name, values) -> values.forEach(value -> response.setHeader(name, value)));
+        }
+    }
+
     private void trackEndpointRequest() {
         String endpointType = LoggingContext.getEndpointType();
 
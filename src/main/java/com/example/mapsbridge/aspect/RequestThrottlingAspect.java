@@ -8,16 +8,19 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 /**
  * Aspect to apply throttling to map converter controller endpoints.
  * Uses IP-based rate limiters to throttle requests from each client IP address
  * according to the configured rate limit.
+ * Not registered when the tiered rate limiter is enabled, which checks the burst limit itself.
  */
 @Slf4j
 @Aspect
 @Component
+@ConditionalOnProperty(name = "app.rate-limiter.tiered.enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 public class RequestThrottlingAspect {
 
@@ -27,7 +30,7 @@ public class RequestThrottlingAspect {
      * Pointcut that matches convert methods in all map converter controllers.
      */
     @Pointcut("execution(* com.example.mapsbridge.controller.ShortcutMapConverterController.convert(..)) || " +
-            "execution(* com.example.mapsbridge.controller.WebMapConverterController.convert(..))")
+            "execution(* com.example.mapsbridge.controller.WebMapConverterController.convert*(..))")
     public void mapConverterControllerMethods() {
     }
 
@@ -1,31 +1,113 @@
 package com.example.mapsbridge.config;
 
+import java.util.List;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
+import com.example.mapsbridge.config.metrics.tracker.HttpClientTracker;
+import com.example.mapsbridge.config.properties.HttpClientProperties;
+import com.example.mapsbridge.config.properties.HttpClientProperties.TimeoutSpec;
+
+import lombok.RequiredArgsConstructor;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 
 /**
  * Configuration for OkHttpClient used to make HTTP requests.
+ * <p>
+ * The clients for redirect resolution and for fetching page content share one connection pool,
+ * dispatcher and metrics listener, and differ only in their timeout budget.
  */
 @Configuration
+@RequiredArgsConstructor
 public class WebClientConfig {
 
+    private final HttpClientProperties properties;
+    private final HttpClientTracker httpClientTracker;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     /**
-     * Creates an OkHttpClient bean with the appropriate configuration.
-     * 
+     * Creates the OkHttpClient used to resolve redirects of map URLs, and by default for any other
+     * outbound request.
+     *
+     * @param connectionPool The shared connection pool
+     * @param dispatcher     The shared dispatcher
      * @return Configured OkHttpClient instance
      */
     @Bean
-    public OkHttpClient httpClient() {
+    @Primary
+    public OkHttpClient httpClient(ConnectionPool connectionPool, Dispatcher dispatcher) {
+        return client(connectionPool, dispatcher, properties.getRedirect());
+    }
+
+    /**
+     * Creates the OkHttpClient used to fetch the content of map pages, which can take longer than
+     * following a redirect.
+     *
+     * @param connectionPool The shared connection pool
+     * @param dispatcher     The shared dispatcher
+     * @return Configured OkHttpClient instance
+     */
+    @Bean
+    public OkHttpClient contentHttpClient(ConnectionPool connectionPool, Dispatcher dispatcher) {
+        return client(connectionPool, dispatcher, properties.getContent());
+    }
+
+    /**
+     * Creates the connection pool shared by all clients. With HTTP/2 one connection per host
+     * carries all concurrent calls to it, so the pool mostly holds HTTP/1.1 connections.
+     *
+     * @return Connection pool with the configured size and keep-alive
+     */
+    @Bean
+    public ConnectionPool httpConnectionPool() {
+        ConnectionPool connectionPool = new ConnectionPool(properties.getPool().getMaxIdleConnections(),
+                properties.getPool().getKeepAlive().toMillis(), TimeUnit.MILLISECONDS);
+        httpClientTracker.bindConnectionPool(connectionPool);
+        return connectionPool;
+    }
+
+    /**
+     * Creates the dispatcher running enqueued (asynchronous) calls. With virtual threads enabled,
+     * every call runs on its own virtual thread instead of OkHttp's cached platform thread pool.
+     * Synchronous calls always run on the calling thread.
+     *
+     * @return Dispatcher with the configured concurrency limits
+     */
+    @Bean
+    public Dispatcher httpDispatcher() {
+        Dispatcher dispatcher = virtualThreads
+                ? new Dispatcher(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("okhttp-", 0).factory()))
+                : new Dispatcher();
+        dispatcher.setMaxRequests(properties.getDispatcher().getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(properties.getDispatcher().getMaxRequestsPerHost());
+        httpClientTracker.bindDispatcher(dispatcher);
+        return dispatcher;
+    }
+
+    private OkHttpClient client(ConnectionPool connectionPool, Dispatcher dispatcher, TimeoutSpec timeouts) {
         return new OkHttpClient.Builder()
-                .connectTimeout(30, TimeUnit.SECONDS)
-                .readTimeout(30, TimeUnit.SECONDS)
-                .writeTimeout(30, TimeUnit.SECONDS)
+                .connectionPool(connectionPool)
+                .dispatcher(dispatcher)
+                .eventListenerFactory(httpClientTracker.eventListenerFactory())
+                .protocols(properties.isHttp2Enabled()
+                        ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1)
+                        : List.of(Protocol.HTTP_1_1))
+                .connectTimeout(properties.getConnectTimeout())
+                .readTimeout(timeouts.getReadTimeout())
+                .writeTimeout(timeouts.getReadTimeout())
+                .callTimeout(timeouts.getCallTimeout())
                 .followRedirects(true)
                 .followSslRedirects(true)
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -2,8 +2,9 @@ package com.example.mapsbridge.config.auth;
 
 import com.example.mapsbridge.config.auth.security.ApiKeyAuthToken;
 import com.example.mapsbridge.config.logging.LoggingContext;
-import com.example.mapsbridge.model.ApiKeyModel;
 import com.example.mapsbridge.repository.ApiKeyRepository;
+import com.example.mapsbridge.service.cache.ApiKeyCache;
+import com.example.mapsbridge.service.cache.ApiKeyCache.CachedApiKey;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -11,11 +12,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
 import java.util.Optional;
 
-import static java.time.ZoneOffset.UTC;
-
 @Slf4j
 @Component
 public class ApiKeyAuthManager implements AuthenticationManager {
@@ -25,11 +23,17 @@ public class ApiKeyAuthManager implements AuthenticationManager {
 
     private final String masterToken;
     private final ApiKeyRepository apiKeyRepository;
+    private final ApiKeyUsageRecorder apiKeyUsageRecorder;
+    private final ApiKeyCache apiKeyCache;
 
     public ApiKeyAuthManager(@Value("${api.security.token}") String masterToken,
-                             ApiKeyRepository apiKeyRepository) {
+                             ApiKeyRepository apiKeyRepository,
+                             ApiKeyUsageRecorder apiKeyUsageRecorder,
+                             ApiKeyCache apiKeyCache) {
         this.masterToken = masterToken;
         this.apiKeyRepository = apiKeyRepository;
+        this.apiKeyUsageRecorder = apiKeyUsageRecorder;
+        this.apiKeyCache = apiKeyCache;
     }
 
     @Override
@@ -96,25 +100,26 @@ public class ApiKeyAuthManager implements AuthenticationManager {
                 });
     }
 
-    private Optional<ApiKeyModel> findApiKey(String token) {
+    private Optional<CachedApiKey> findApiKey(String token) {
         try {
-            return apiKeyRepository.findByApiKey(token);
+            // Failed lookups are not cached, only keys found or known not to exist
+            return apiKeyCache.get(token, apiKeyRepository::findByApiKey);
         } catch (Exception e) {
             log.error("Error querying API key repository", e);
             return Optional.empty();
         }
     }
 
-    private boolean validateAndUpdateApiKey(ApiKeyModel apiKey) {
-        log.debug("API key found in repository, active: {}", apiKey.isActive());
+    private boolean validateAndUpdateApiKey(CachedApiKey apiKey) {
+        log.debug("API key found in repository, active: {}", apiKey.active());
 
-        if (!apiKey.isActive()) {
+        if (!apiKey.active()) {
             log.warn("API key is not active");
             return false;
         }
 
         // Store email in LoggingContext for inclusion in logs
-        String email = apiKey.getEmail();
+        String email = apiKey.email();
         if (email != null && !email.isEmpty()) {
             LoggingContext.setEmail(email);
             log.debug("Set email in logging context: {}", email);
@@ -124,13 +129,9 @@ public class ApiKeyAuthManager implements AuthenticationManager {
         return true;
     }
 
-    private void updateLastUsedTimestamp(ApiKeyModel apiKey) {
-        try {
-            apiKey.setLastUsedAt(LocalDateTime.now(UTC));
-            apiKeyRepository.save(apiKey);
-        } catch (Exception e) {
-            log.warn("Failed to update last used timestamp for API key", e);
-        }
+    private void updateLastUsedTimestamp(CachedApiKey apiKey) {
+        // Written behind in batches, keeping the request path free of database writes
+        apiKeyUsageRecorder.recordUsage(apiKey.id());
     }
 
     private String maskToken(String token) {
@@ -0,0 +1,119 @@
+package com.example.mapsbridge.config.auth;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind recorder for the last use of API keys.
+ * <p>
+ * Authenticated requests only record the time in memory, keeping the latest per key. The
+ * recorded times are flushed periodically and on shutdown with a single UPDATE for all keys,
+ * which never moves a timestamp backwards. If the flush fails the times are kept for the next one.
+ */
+@Slf4j
+@Component
+public class ApiKeyUsageRecorder {
+
+    private static final String UPDATE_LAST_USED_SQL = """
+            UPDATE api_keys AS k SET last_used_at = u.last_used_at
+            FROM unnest(?, ?) AS u(id, last_used_at)
+            WHERE k.id = u.id AND (k.last_used_at IS NULL OR k.last_used_at < u.last_used_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final Map<UUID, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ApiKeyUsageRecorder(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, Clock.systemUTC());
+    }
+
+    ApiKeyUsageRecorder(JdbcTemplate jdbcTemplate, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+    }
+
+    /**
+     * Record that an API key was used now.
+     *
+     * @param apiKeyId the ID of the API key
+     */
+    public void recordUsage(UUID apiKeyId) {
+        pending.merge(apiKeyId, LocalDateTime.now(clock), ApiKeyUsageRecorder::latest);
+    }
+
+    /**
+     * Write the recorded last-use times to the database.
+     *
+     * @return the number of API keys flushed
+     */
+    @Scheduled(fixedDelayString = "${app.api-key.last-used.flush-interval:PT30S}")
+    public int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        Map<UUID, LocalDateTime> batch = new HashMap<>();
+        for (Map.Entry<UUID, LocalDateTime> entry : pending.entrySet()) {
+            // Keep entries updated since they were read, they go out with the next flush
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                batch.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        UUID[] ids = new UUID[batch.size()];
+        Timestamp[] lastUsed = new Timestamp[batch.size()];
+        int i = 0;
+        for (Map.Entry<UUID, LocalDateTime> entry : batch.entrySet()) {
+            ids[i] = entry.getKey();
+            lastUsed[i++] = Timestamp.valueOf(entry.getValue());
+        }
+
+        try {
+            jdbcTemplate.update(UPDATE_LAST_USED_SQL, ps -> {
+                Connection connection = ps.getConnection();
+                ps.setArray(1, connection.createArrayOf("uuid", ids));
+                ps.setArray(2, connection.createArrayOf("timestamp", lastUsed));
+            });
+            log.debug("Flushed last used timestamps of {} API keys", batch.size());
+            return batch.size();
+        } catch (Exception e) {
+            log.warn("Failed to flush last used timestamps of {} API keys, retrying with the next flush",
+                    batch.size(), e);
+            batch.forEach((id, time) -> pending.merge(id, time, ApiKeyUsageRecorder::latest));
+            return 0;
+        }
+    }
+
+    /**
+     * Get the number of API keys with a last-use time not yet written.
+     *
+     * @return the number of pending API keys
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
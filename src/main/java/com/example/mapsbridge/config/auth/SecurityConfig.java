@@ -4,6 +4,7 @@ import com.example.mapsbridge.config.auth.security.ApiKeyAuthFilter;
 import com.example.mapsbridge.config.auth.security.ApiKeyAuthToken;
 import com.example.mapsbridge.config.properties.CorsProperties;
 import com.example.mapsbridge.config.properties.EndpointSecurityProperties;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -64,6 +65,8 @@ public class SecurityConfig {
         String[] authenticatedEndpoints = getEndpointsArray(endpointSecurityProperties.getAuthenticatedEndpointsList());
 
         authorize
+                // Async endpoints were already authorized on the initial dispatch
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers(publicEndpoints).permitAll()
                 .requestMatchers(masterEndpoints).hasAuthority(ApiKeyAuthToken.ROLE_MASTER)
                 .requestMatchers(authenticatedEndpoints)
@@ -3,10 +3,18 @@ package com.example.mapsbridge.config.logging;
 import lombok.experimental.UtilityClass;
 import org.slf4j.MDC;
 
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
 /**
  * Utility class for storing and retrieving logging context information.
  * This class uses MDC (Mapped Diagnostic Context) to store transaction ID, email,
  * chat ID, and IP address to be included in logs.
+ * <p>
+ * The context is bound to the current thread. Work handed over to another thread (an executor,
+ * an HTTP callback, a virtual thread per Telegram update) must be wrapped with {@link #wrap(Runnable)}
+ * or run with {@link #runWith(Map, Runnable)} to keep the caller's context in its logs.
  */
 @UtilityClass
 public class LoggingContext {
@@ -118,4 +126,84 @@ public class LoggingContext {
         MDC.remove(IP_ADDRESS_KEY);
         MDC.remove(ENDPOINT_TYPE_KEY);
     }
+
+    /**
+     * Captures the context of the current thread, to be restored on another thread.
+     *
+     * @return a copy of the context, or null if it is empty
+     */
+    public static Map<String, String> capture() {
+        return MDC.getCopyOfContextMap();
+    }
+
+    /**
+     * Runs a task with the given context, then restores the context of the current thread.
+     * Restoring rather than clearing matters when the task runs on the caller's own thread.
+     *
+     * @param context the context returned by {@link #capture()}
+     * @param task    the task to run
+     */
+    public static void runWith(Map<String, String> context, Runnable task) {
+        supplyWith(context, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Computes a value with the given context, then restores the context of the current thread.
+     *
+     * @param context the context returned by {@link #capture()}
+     * @param task    the task computing the value
+     * @param <T>     the result type
+     * @return the value computed by the task
+     */
+    public static <T> T supplyWith(Map<String, String> context, Supplier<T> task) {
+        Map<String, String> previous = install(context);
+        try {
+            return task.get();
+        } finally {
+            install(previous);
+        }
+    }
+
+    /**
+     * Wraps a task so it runs with the context of the current thread, wherever it is executed.
+     *
+     * @param task the task to wrap
+     * @return the wrapped task
+     */
+    public static Runnable wrap(Runnable task) {
+        Map<String, String> context = capture();
+        return () -> runWith(context, task);
+    }
+
+    /**
+     * Wraps a task so it runs with the context of the current thread, wherever it is executed.
+     *
+     * @param task the task to wrap
+     * @param <T>  the result type
+     * @return the wrapped task
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        Map<String, String> context = capture();
+        return () -> {
+            Map<String, String> previous = install(context);
+            try {
+                return task.call();
+            } finally {
+                install(previous);
+            }
+        };
+    }
+
+    private static Map<String, String> install(Map<String, String> context) {
+        Map<String, String> previous = MDC.getCopyOfContextMap();
+        if (context != null) {
+            MDC.setContextMap(context);
+        } else {
+            MDC.clear();
+        }
+        return previous;
+    }
 }
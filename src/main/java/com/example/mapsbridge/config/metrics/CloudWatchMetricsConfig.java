@@ -4,7 +4,10 @@ package com.example.mapsbridge.config.metrics;
 import io.micrometer.cloudwatch2.CloudWatchConfig;
 import io.micrometer.cloudwatch2.CloudWatchMeterRegistry;
 import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -85,11 +88,24 @@ public class CloudWatchMetricsConfig {
     /**
      * Creates the CloudWatch MeterRegistry that will actually send metrics to CloudWatch.
      * This is the primary MeterRegistry that will be used throughout the application.
+     * <p>
+     * Percentile histograms are turned off for it: CloudWatch would receive every bucket as a
+     * separate metric. The latency timers still publish their p50/p95/p99 percentiles.
      */
     @Bean
     @Primary
     public MeterRegistry cloudWatchMeterRegistry(CloudWatchConfig cloudWatchConfig,
                                                  CloudWatchAsyncClient cloudWatchAsyncClient) {
-        return new CloudWatchMeterRegistry(cloudWatchConfig, Clock.SYSTEM, cloudWatchAsyncClient);
+        CloudWatchMeterRegistry registry = new CloudWatchMeterRegistry(cloudWatchConfig, Clock.SYSTEM, cloudWatchAsyncClient);
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(false)
+                        .build()
+                        .merge(config);
+            }
+        });
+        return registry;
     }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.example.mapsbridge.config.metrics;
+
+import java.util.Locale;
+
+/**
+ * Outcome of a timed stage of the conversion pipeline, used as the {@code outcome} tag of its timer.
+ */
+public enum Outcome {
+    /**
+     * The stage produced a result
+     */
+    SUCCESS,
+
+    /**
+     * The result was served from a cache without doing the work
+     */
+    CACHED,
+
+    /**
+     * The stage completed without a result, e.g. no coordinates or a non-2xx response
+     */
+    FAILURE,
+
+    /**
+     * The stage threw an exception
+     */
+    ERROR;
+
+    private final String tag = name().toLowerCase(Locale.ROOT);
+
+    /**
+     * Get the tag value of this outcome.
+     *
+     * @return The lowercase tag value
+     */
+    public String getTag() {
+        return tag;
+    }
+}
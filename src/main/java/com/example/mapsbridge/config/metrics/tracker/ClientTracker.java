@@ -9,8 +9,12 @@ import org.springframework.stereotype.Component;
 @Component
 public class ClientTracker {
 
-    private final MeterRegistry meterRegistry;
-    private final Counter.Builder requestSourceCounterBuilder;
+    private final MeterCache<String, Counter> requestSourceCounters;
+    private final Counter apiRequestCounter;
+    private final Counter webRequestCounter;
+    private final Counter telegramRequestCounter;
+    private final Counter sdkRequestCounter;
+    private final Counter shortcutRequestCounter;
 
     /**
      * Constructor with dependency injection.
@@ -19,11 +23,17 @@ public class ClientTracker {
      */
     @Autowired
     public ClientTracker(MeterRegistry meterRegistry) {
-        this.meterRegistry = meterRegistry;
+        // Create counters for tracking request sources, the known sources resolved up front
+        this.requestSourceCounters = new MeterCache<>(source -> Counter.builder("maps.converter.request.source")
+                .description("Number of map conversion requests by source (API, WEB, TELEGRAM)")
+                .tag(MetricTags.CLIENT_SOURCE, source)
+                .register(meterRegistry));
 
-        // Create counter builder for tracking request sources
-        this.requestSourceCounterBuilder = Counter.builder("maps.converter.request.source")
-                .description("Number of map conversion requests by source (API, WEB, TELEGRAM)");
+        this.apiRequestCounter = requestSourceCounters.get(MetricTags.API);
+        this.webRequestCounter = requestSourceCounters.get(MetricTags.WEB);
+        this.telegramRequestCounter = requestSourceCounters.get(MetricTags.TELEGRAM);
+        this.sdkRequestCounter = requestSourceCounters.get(MetricTags.SDK);
+        this.shortcutRequestCounter = requestSourceCounters.get(MetricTags.SHORTCUT);
     }
 
     /**
@@ -32,44 +42,41 @@ public class ClientTracker {
      * @param source The source of the request (API, WEB, TELEGRAM)
      */
     public void trackRequestSource(String source) {
-        requestSourceCounterBuilder
-                .tag(MetricTags.CLIENT_SOURCE, source)
-                .register(meterRegistry)
-                .increment();
+        requestSourceCounters.get(source).increment();
     }
 
     /**
      * Track a request from API (email present).
      */
     public void trackApiRequest() {
-        trackRequestSource(MetricTags.API);
+        apiRequestCounter.increment();
     }
 
     /**
      * Track a request from WEB (IP address present).
      */
     public void trackWebRequest() {
-        trackRequestSource(MetricTags.WEB);
+        webRequestCounter.increment();
     }
 
     /**
      * Track a request from TELEGRAM (chatId present).
      */
     public void trackTelegramRequest() {
-        trackRequestSource(MetricTags.TELEGRAM);
+        telegramRequestCounter.increment();
     }
 
     /**
      * Track a request from SDK.
      */
     public void trackSdkRequest() {
-        trackRequestSource(MetricTags.SDK);
+        sdkRequestCounter.increment();
     }
 
     /**
      * Track a request from Shortcut.
      */
     public void trackShortcutRequest() {
-        trackRequestSource(MetricTags.SHORTCUT);
+        shortcutRequestCounter.increment();
     }
-}
\ No newline at end of file
+}
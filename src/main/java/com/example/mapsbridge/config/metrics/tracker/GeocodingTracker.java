@@ -1,18 +1,53 @@
 package com.example.mapsbridge.config.metrics.tracker;
 
+import com.example.mapsbridge.config.metrics.Outcome;
+import com.example.mapsbridge.model.GeocodingCacheModel.LookupType;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Component for tracking metrics related to geocoding operations.
+ * <p>
+ * Counters are resolved once, per geocoding service on first use, so tracking does not build or
+ * register a meter. Latency timers are registered on first use of their tags.
  */
 @Component
 public class GeocodingTracker {
 
-    private final MeterRegistry meterRegistry;
-    private final Counter.Builder geocodingCounterBuilder;
+    /**
+     * The geocoding operations, with the values of their {@code operation} tag.
+     */
+    public enum Operation {
+        REVERSE_GEOCODE("reverseGeocode"),
+        FORWARD_GEOCODE("forwardGeocode"),
+        PLACE_ID_LOOKUP("placeIdLookup");
+
+        private final String tag;
+
+        Operation(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final MeterCache<String, Counter> reverseGeocodeCounters;
+    private final MeterCache<String, Counter> forwardGeocodeCounters;
+    private final MeterCache<String, Counter> placeIdLookupCounters;
+    private final Counter reverseGeocodeCacheHitCounter;
+    private final Counter reverseGeocodeCacheMissCounter;
+    private final Map<RemovalCause, Counter> reverseGeocodeCacheEvictionCounters = new EnumMap<>(RemovalCause.class);
+    private final Map<LookupType, MeterCache<String, Counter>> persistentCacheCounters = new EnumMap<>(LookupType.class);
+    private final Map<LookupType, Counter> coalescedCounters = new EnumMap<>(LookupType.class);
+    private final Map<Operation, Map<Outcome, MeterCache<Class<?>, Timer>>> operationTimers = new EnumMap<>(Operation.class);
 
     /**
      * Constructor with dependency injection.
@@ -21,11 +56,46 @@ public class GeocodingTracker {
      */
     @Autowired
     public GeocodingTracker(MeterRegistry meterRegistry) {
-        this.meterRegistry = meterRegistry;
+        // Create counters for tracking geocoding operations
+        this.reverseGeocodeCounters = operationCounters(meterRegistry, "reverseGeocode");
+        this.forwardGeocodeCounters = operationCounters(meterRegistry, "forwardGeocode");
+        this.placeIdLookupCounters = operationCounters(meterRegistry, "placeIdLookup");
+
+        this.reverseGeocodeCacheHitCounter = reverseGeocodeCacheCounter(meterRegistry, "hit", "none");
+        this.reverseGeocodeCacheMissCounter = reverseGeocodeCacheCounter(meterRegistry, "miss", "none");
+        for (RemovalCause cause : RemovalCause.values()) {
+            reverseGeocodeCacheEvictionCounters.put(cause,
+                    reverseGeocodeCacheCounter(meterRegistry, "eviction", cause.name().toLowerCase(Locale.ROOT)));
+        }
+
+        for (LookupType lookupType : LookupType.values()) {
+            String type = lookupType.name().toLowerCase(Locale.ROOT);
+            persistentCacheCounters.put(lookupType, new MeterCache<>(result ->
+                    Counter.builder("geocoding.persistent.cache")
+                            .description("Number of persistent geocoding cache lookups and writes by lookup type and result")
+                            .tag("type", type)
+                            .tag("result", result)
+                            .register(meterRegistry)));
 
-        // Create counter builder for tracking geocoding operations
-        this.geocodingCounterBuilder = Counter.builder("geocoding.operation")
-                .description("Number of geocoding operations by service and operation type");
+            coalescedCounters.put(lookupType, Counter.builder("geocoding.coalesced")
+                    .description("Number of geocoding lookups that joined an identical lookup already in flight, by lookup type")
+                    .tag("type", type)
+                    .register(meterRegistry));
+        }
+
+        // Create timers for geocoding operations, per service class
+        for (Operation operation : Operation.values()) {
+            Map<Outcome, MeterCache<Class<?>, Timer>> timersByOutcome = new EnumMap<>(Outcome.class);
+            for (Outcome outcome : Outcome.values()) {
+                timersByOutcome.put(outcome, new MeterCache<>(serviceClass ->
+                        LatencyTimers.builder("geocoding.duration", "Time taken by a geocoding operation")
+                                .tag("service", serviceName(serviceClass))
+                                .tag("operation", operation.tag)
+                                .tag("outcome", outcome.getTag())
+                                .register(meterRegistry)));
+            }
+            operationTimers.put(operation, timersByOutcome);
+        }
     }
 
     /**
@@ -34,11 +104,7 @@ public class GeocodingTracker {
      * @param service The geocoding service name
      */
     public void trackReverseGeocode(String service) {
-        geocodingCounterBuilder
-                .tag("service", service)
-                .tag("operation", "reverseGeocode")
-                .register(meterRegistry)
-                .increment();
+        reverseGeocodeCounters.get(service).increment();
     }
 
     /**
@@ -47,11 +113,7 @@ public class GeocodingTracker {
      * @param service The geocoding service name
      */
     public void trackForwardGeocode(String service) {
-        geocodingCounterBuilder
-                .tag("service", service)
-                .tag("operation", "forwardGeocode")
-                .register(meterRegistry)
-                .increment();
+        forwardGeocodeCounters.get(service).increment();
     }
 
     /**
@@ -60,10 +122,86 @@ public class GeocodingTracker {
      * @param service The geocoding service name
      */
     public void trackPlaceIdLookup(String service) {
-        geocodingCounterBuilder
+        placeIdLookupCounters.get(service).increment();
+    }
+
+    /**
+     * Track a reverse geocoding cache hit.
+     */
+    public void trackReverseGeocodeCacheHit() {
+        reverseGeocodeCacheHitCounter.increment();
+    }
+
+    /**
+     * Track a reverse geocoding cache miss.
+     */
+    public void trackReverseGeocodeCacheMiss() {
+        reverseGeocodeCacheMissCounter.increment();
+    }
+
+    /**
+     * Track an entry being evicted from the reverse geocoding cache.
+     *
+     * @param cause The eviction cause
+     */
+    public void trackReverseGeocodeCacheEviction(RemovalCause cause) {
+        reverseGeocodeCacheEvictionCounters.get(cause).increment();
+    }
+
+    /**
+     * Track a persistent geocoding cache operation.
+     *
+     * @param lookupType The lookup type
+     * @param result     The outcome (hit, miss, stale, rejected, write, error)
+     */
+    public void trackPersistentCache(LookupType lookupType, String result) {
+        persistentCacheCounters.get(lookupType).get(result).increment();
+    }
+
+    /**
+     * Track a geocoding lookup that joined an identical lookup already in flight.
+     *
+     * @param lookupType The lookup type
+     */
+    public void trackCoalesced(LookupType lookupType) {
+        coalescedCounters.get(lookupType).increment();
+    }
+
+    /**
+     * Record the time taken by a geocoding operation.
+     *
+     * @param serviceClass The class of the geocoding service
+     * @param operation    The operation
+     * @param outcome      The outcome
+     * @param startNanos   The {@link System#nanoTime()} the operation was started at
+     */
+    public void recordOperation(Class<?> serviceClass, Operation operation, Outcome outcome, long startNanos) {
+        operationTimers.get(operation).get(outcome).get(serviceClass)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Derive the service tag from the class of a geocoding service, e.g. "radar" for RadarGeocodingService.
+     */
+    private static String serviceName(Class<?> serviceClass) {
+        String name = ClassUtils.getUserClass(serviceClass).getSimpleName();
+        int end = name.indexOf("GeocodingService");
+        return (end > 0 ? name.substring(0, end) : name).toLowerCase(Locale.ROOT);
+    }
+
+    private static MeterCache<String, Counter> operationCounters(MeterRegistry meterRegistry, String operation) {
+        return new MeterCache<>(service -> Counter.builder("geocoding.operation")
+                .description("Number of geocoding operations by service and operation type")
                 .tag("service", service)
-                .tag("operation", "placeIdLookup")
-                .register(meterRegistry)
-                .increment();
+                .tag("operation", operation)
+                .register(meterRegistry));
+    }
+
+    private static Counter reverseGeocodeCacheCounter(MeterRegistry meterRegistry, String result, String cause) {
+        return Counter.builder("geocoding.reverse.cache")
+                .description("Number of reverse geocoding cache lookups and evictions by result")
+                .tag("result", result)
+                .tag("cause", cause)
+                .register(meterRegistry);
     }
-}
\ No newline at end of file
+}
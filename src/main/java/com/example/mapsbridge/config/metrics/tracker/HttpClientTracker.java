@@ -0,0 +1,160 @@
+package com.example.mapsbridge.config.metrics.tracker;
+
+import com.example.mapsbridge.config.metrics.Outcome;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import okhttp3.Call;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.EventListener;
+import okhttp3.Protocol;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Component for tracking metrics related to the outbound OkHttp clients.
+ * <p>
+ * Publishes the state of the shared connection pool and dispatcher as gauges, and times DNS
+ * lookups and new connections through an {@link EventListener}. Pooled connections are reused
+ * without a DNS lookup or connect, so these timers only count the calls that paid for them.
+ */
+@Component
+public class HttpClientTracker {
+
+    private static final String NO_PROTOCOL = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Timer dnsSuccessTimer;
+    private final Timer dnsFailureTimer;
+    private final MeterCache<String, Timer> connectSuccessTimers;
+    private final Timer connectFailureTimer;
+
+    /**
+     * Constructor with dependency injection.
+     *
+     * @param meterRegistry The meter registry
+     */
+    @Autowired
+    public HttpClientTracker(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        // Create timers for the connection setup of outbound calls
+        this.dnsSuccessTimer = dnsTimer(meterRegistry, Outcome.SUCCESS);
+        this.dnsFailureTimer = dnsTimer(meterRegistry, Outcome.FAILURE);
+        this.connectSuccessTimers = new MeterCache<>(protocol -> connectTimer(meterRegistry, Outcome.SUCCESS, protocol));
+        this.connectFailureTimer = connectTimer(meterRegistry, Outcome.FAILURE, NO_PROTOCOL);
+    }
+
+    /**
+     * Publish the number of active and idle connections of a connection pool.
+     *
+     * @param connectionPool The connection pool
+     */
+    public void bindConnectionPool(ConnectionPool connectionPool) {
+        Gauge.builder("http.client.pool.connections", connectionPool,
+                        pool -> pool.connectionCount() - pool.idleConnectionCount())
+                .description("Number of pooled outbound HTTP connections by state")
+                .tag("state", "active")
+                .register(meterRegistry);
+        Gauge.builder("http.client.pool.connections", connectionPool, ConnectionPool::idleConnectionCount)
+                .description("Number of pooled outbound HTTP connections by state")
+                .tag("state", "idle")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publish the number of queued and running asynchronous calls of a dispatcher.
+     *
+     * @param dispatcher The dispatcher
+     */
+    public void bindDispatcher(Dispatcher dispatcher) {
+        Gauge.builder("http.client.dispatcher.calls", dispatcher, Dispatcher::queuedCallsCount)
+                .description("Number of asynchronous outbound HTTP calls by state; queued calls wait for a free slot")
+                .tag("state", "queued")
+                .register(meterRegistry);
+        Gauge.builder("http.client.dispatcher.calls", dispatcher, Dispatcher::runningCallsCount)
+                .description("Number of asynchronous outbound HTTP calls by state; queued calls wait for a free slot")
+                .tag("state", "running")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Create the event listener factory timing the DNS lookups and connects of each call.
+     *
+     * @return The event listener factory
+     */
+    public EventListener.Factory eventListenerFactory() {
+        return call -> new TimingEventListener();
+    }
+
+    private static void record(Timer timer, long startNanos) {
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer dnsTimer(MeterRegistry meterRegistry, Outcome outcome) {
+        return LatencyTimers.builder("http.client.dns.duration", "Time taken to resolve the host of an outbound HTTP call")
+                .tag("outcome", outcome.getTag())
+                .register(meterRegistry);
+    }
+
+    private static Timer connectTimer(MeterRegistry meterRegistry, Outcome outcome, String protocol) {
+        return LatencyTimers.builder("http.client.connect.duration",
+                        "Time taken to open a new outbound HTTP connection, including the TLS handshake")
+                .tag("outcome", outcome.getTag())
+                .tag("protocol", protocol)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Listener for a single call; OkHttp delivers the events of a call sequentially.
+     */
+    private final class TimingEventListener extends EventListener {
+        private long dnsStartNanos;
+        private long connectStartNanos;
+
+        @Override
+        public void dnsStart(@NotNull Call call, @NotNull String domainName) {
+            dnsStartNanos = System.nanoTime();
+        }
+
+        @Override
+        public void dnsEnd(@NotNull Call call, @NotNull String domainName, @NotNull List<InetAddress> inetAddressList) {
+            record(dnsSuccessTimer, dnsStartNanos);
+            dnsStartNanos = 0;
+        }
+
+        @Override
+        public void connectStart(@NotNull Call call, @NotNull InetSocketAddress inetSocketAddress, @NotNull Proxy proxy) {
+            connectStartNanos = System.nanoTime();
+        }
+
+        @Override
+        public void connectEnd(@NotNull Call call, @NotNull InetSocketAddress inetSocketAddress, @NotNull Proxy proxy,
+                               Protocol protocol) {
+            record(connectSuccessTimers.get(protocol != null ? protocol.toString() : NO_PROTOCOL), connectStartNanos);
+        }
+
+        @Override
+        public void connectFailed(@NotNull Call call, @NotNull InetSocketAddress inetSocketAddress, @NotNull Proxy proxy,
+                                  Protocol protocol, @NotNull IOException ioe) {
+            record(connectFailureTimer, connectStartNanos);
+        }
+
+        @Override
+        public void callFailed(@NotNull Call call, @NotNull IOException ioe) {
+            // A failed lookup ends the call without a dnsEnd event
+            if (dnsStartNanos != 0) {
+                record(dnsFailureTimer, dnsStartNanos);
+            }
+        }
+    }
+}
@@ -1,20 +1,40 @@
 package com.example.mapsbridge.config.metrics.tracker;
 
 import com.example.mapsbridge.config.metrics.MetricTags;
+import com.example.mapsbridge.config.metrics.Outcome;
+import com.example.mapsbridge.dto.MapType;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Component for tracking metrics related to user input processing.
+ * <p>
+ * Counters are resolved once, so tracking does not build or register a meter. Latency timers are
+ * registered on first use of their tags.
  */
 @Component
 public class InputSourceTracker {
 
-    private final MeterRegistry meterRegistry;
-    private final Counter.Builder inputTypeCounterBuilder;
-    private final Counter.Builder mapProviderUrlCounterBuilder;
+    private final MeterCache<String, Counter> inputTypeCounters;
+    private final Map<MapType, Counter> mapProviderUrlCounters = new EnumMap<>(MapType.class);
+    private final Counter unknownMapProviderUrlCounter;
+    private final Counter conversionCacheHitCounter;
+    private final Counter conversionCacheMissCounter;
+    private final Map<RemovalCause, Counter> conversionCacheEvictionCounters = new EnumMap<>(RemovalCause.class);
+    private final Counter conversionCoalescedCounter;
+    private final Map<MapType, Map<Outcome, MeterCache<String, Timer>>> conversionTimers = new EnumMap<>(MapType.class);
+    private final Map<Outcome, MeterCache<String, Timer>> conversionWithoutProviderTimers;
+    private final Map<Outcome, MeterCache<String, Timer>> linkGenerationTimers = new EnumMap<>(Outcome.class);
 
     /**
      * Constructor with dependency injection.
@@ -23,14 +43,41 @@ public class InputSourceTracker {
      */
     @Autowired
     public InputSourceTracker(MeterRegistry meterRegistry) {
-        this.meterRegistry = meterRegistry;
+        // Create counters for tracking input types and map provider URLs
+        this.inputTypeCounters = new MeterCache<>(inputType -> Counter.builder("maps.input.type")
+                .description("Number of times each input type is used (coordinates vs URL)")
+                .tag(MetricTags.INPUT_TYPE, inputType)
+                .register(meterRegistry));
+
+        for (MapType mapProvider : MapType.values()) {
+            mapProviderUrlCounters.put(mapProvider, mapProviderUrlCounter(meterRegistry, mapProvider.getName()));
+        }
+        this.unknownMapProviderUrlCounter = mapProviderUrlCounter(meterRegistry, MetricTags.UNKNOWN);
 
-        // Create counter builders for tracking input types and map provider URLs
-        this.inputTypeCounterBuilder = Counter.builder("maps.input.type")
-                .description("Number of times each input type is used (coordinates vs URL)");
+        this.conversionCacheHitCounter = conversionCacheCounter(meterRegistry, "hit", "none");
+        this.conversionCacheMissCounter = conversionCacheCounter(meterRegistry, "miss", "none");
+        for (RemovalCause cause : RemovalCause.values()) {
+            conversionCacheEvictionCounters.put(cause,
+                    conversionCacheCounter(meterRegistry, "eviction", cause.name().toLowerCase(Locale.ROOT)));
+        }
 
-        this.mapProviderUrlCounterBuilder = Counter.builder("maps.provider.url.usage")
-                .description("Number of times URLs from each map provider are used as input");
+        this.conversionCoalescedCounter = Counter.builder("maps.conversion.coalesced")
+                .description("Number of conversions that joined an identical conversion already in flight")
+                .register(meterRegistry);
+
+        // Create timers for end-to-end conversions, per endpoint, and for generating the links
+        for (MapType mapProvider : MapType.values()) {
+            conversionTimers.put(mapProvider, conversionTimers(meterRegistry, mapProvider.getName()));
+        }
+        this.conversionWithoutProviderTimers = conversionTimers(meterRegistry, "none");
+
+        for (Outcome outcome : Outcome.values()) {
+            linkGenerationTimers.put(outcome, new MeterCache<>(converter ->
+                    LatencyTimers.builder("maps.links.duration", "Time taken to generate the links to all map providers")
+                            .tag("converter", converter)
+                            .tag("outcome", outcome.getTag())
+                            .register(meterRegistry)));
+        }
     }
 
     /**
@@ -39,21 +86,110 @@ public class InputSourceTracker {
      * @param inputType The type of input (coordinates or URL)
      */
     public void trackInputType(String inputType) {
-        inputTypeCounterBuilder
-                .tag(MetricTags.INPUT_TYPE, inputType)
-                .register(meterRegistry)
-                .increment();
+        inputTypeCounters.get(inputType).increment();
     }
 
     /**
      * Track which map provider URL was used as input.
      *
-     * @param providerName The name of the map provider
+     * @param mapProvider The map provider
+     */
+    public void trackMapProviderUrl(MapType mapProvider) {
+        mapProviderUrlCounters.get(mapProvider).increment();
+    }
+
+    /**
+     * Track a URL used as input that no map provider supports.
+     */
+    public void trackUnknownMapProviderUrl() {
+        unknownMapProviderUrlCounter.increment();
+    }
+
+    /**
+     * Track a conversion result cache hit.
+     */
+    public void trackConversionCacheHit() {
+        conversionCacheHitCounter.increment();
+    }
+
+    /**
+     * Track a conversion result cache miss.
+     */
+    public void trackConversionCacheMiss() {
+        conversionCacheMissCounter.increment();
+    }
+
+    /**
+     * Track an entry being evicted from the conversion result cache.
+     *
+     * @param cause The eviction cause
      */
-    public void trackMapProviderUrl(String providerName) {
-        mapProviderUrlCounterBuilder
+    public void trackConversionCacheEviction(RemovalCause cause) {
+        conversionCacheEvictionCounters.get(cause).increment();
+    }
+
+    /**
+     * Track a conversion that joined an identical conversion already in flight.
+     */
+    public void trackConversionCoalesced() {
+        conversionCoalescedCounter.increment();
+    }
+
+    /**
+     * Record the end-to-end time of a conversion.
+     *
+     * @param endpoint    The endpoint type the conversion was requested through, or null if unknown
+     * @param mapProvider The map provider of the input URL, or null for coordinates and failed conversions
+     * @param outcome     The outcome
+     * @param startNanos  The {@link System#nanoTime()} the conversion was started at
+     */
+    public void recordConversion(@Nullable String endpoint, @Nullable MapType mapProvider, Outcome outcome, long startNanos) {
+        Map<Outcome, MeterCache<String, Timer>> timers = mapProvider != null
+                ? conversionTimers.get(mapProvider)
+                : conversionWithoutProviderTimers;
+        record(timers.get(outcome).get(endpoint != null ? endpoint : MetricTags.UNKNOWN), startNanos);
+    }
+
+    /**
+     * Record the time taken to generate the links to all map providers.
+     *
+     * @param converter  The converter generating the links (web, shortcut)
+     * @param outcome    The outcome, a failure if a link could not be generated for some provider
+     * @param startNanos The {@link System#nanoTime()} the generation was started at
+     */
+    public void recordLinkGeneration(String converter, Outcome outcome, long startNanos) {
+        record(linkGenerationTimers.get(outcome).get(converter), startNanos);
+    }
+
+    private static void record(Timer timer, long startNanos) {
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Map<Outcome, MeterCache<String, Timer>> conversionTimers(MeterRegistry meterRegistry, String providerName) {
+        Map<Outcome, MeterCache<String, Timer>> timersByOutcome = new EnumMap<>(Outcome.class);
+        for (Outcome outcome : Outcome.values()) {
+            timersByOutcome.put(outcome, new MeterCache<>(endpoint ->
+                    LatencyTimers.builder("maps.convert.duration", "End-to-end time of a conversion by endpoint type")
+                            .tag("endpoint", endpoint)
+                            .tag(MetricTags.PROVIDER, providerName)
+                            .tag("outcome", outcome.getTag())
+                            .register(meterRegistry)));
+        }
+        return timersByOutcome;
+    }
+
+    private static Counter mapProviderUrlCounter(MeterRegistry meterRegistry, String providerName) {
+        return Counter.builder("maps.provider.url.usage")
+                .description("Number of times URLs from each map provider are used as input")
                 .tag(MetricTags.PROVIDER, providerName)
-                .register(meterRegistry)
-                .increment();
+                .register(meterRegistry);
+    }
+
+    private static Counter conversionCacheCounter(MeterRegistry meterRegistry, String result, String cause) {
+        return Counter.builder("maps.conversion.cache")
+                .description("Number of conversion result cache lookups and evictions by result")
+                .tag("result", result)
+                .tag("cause", cause)
+                .register(meterRegistry);
     }
-}
\ No newline at end of file
+}
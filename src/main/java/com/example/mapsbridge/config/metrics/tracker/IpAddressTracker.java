@@ -1,5 +1,6 @@
 package com.example.mapsbridge.config.metrics.tracker;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -16,7 +17,7 @@ import static java.time.ZoneOffset.UTC;
 @Component
 public class IpAddressTracker {
 
-    private final MeterRegistry meterRegistry;
+    private final Counter uniqueIpCounter;
     // Store IPs seen today to avoid double counting
     private final Set<String> dailyUniqueIps = ConcurrentHashMap.newKeySet();
     private LocalDate currentDate = LocalDate.now(UTC);
@@ -28,7 +29,7 @@ public class IpAddressTracker {
      */
     @Autowired
     public IpAddressTracker(MeterRegistry meterRegistry) {
-        this.meterRegistry = meterRegistry;
+        this.uniqueIpCounter = meterRegistry.counter("maps.unique.ip", "description", "Number of unique IP addresses using the system daily");
     }
 
     /**
@@ -60,11 +61,7 @@ public class IpAddressTracker {
      * This method is separated to make testing easier.
      */
     public void incrementCounter() {
-        try {
-            meterRegistry.counter("maps.unique.ip", "description", "Number of unique IP addresses using the system daily").increment();
-        } catch (Exception e) {
-            // Safely handle any issues with the counter
-        }
+        uniqueIpCounter.increment();
     }
 
     /**
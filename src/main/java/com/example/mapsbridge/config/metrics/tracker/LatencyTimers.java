@@ -0,0 +1,39 @@
+package com.example.mapsbridge.config.metrics.tracker;
+
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+
+/**
+ * Shared configuration of the latency timers of the conversion pipeline.
+ * <p>
+ * Timers publish a percentile histogram, so latency percentiles can be aggregated across
+ * instances in Prometheus, and p50/p95/p99 computed on the instance for registries without
+ * histogram support. The expected range bounds the number of histogram buckets.
+ */
+final class LatencyTimers {
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+    private static final Duration MINIMUM_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAXIMUM_EXPECTED = Duration.ofSeconds(30);
+
+    private LatencyTimers() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Create a builder for a latency timer.
+     *
+     * @param name        The name of the timer
+     * @param description The description of the timer
+     * @return The builder, to add the tags to
+     */
+    static Timer.Builder builder(String name, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentileHistogram()
+                .publishPercentiles(PERCENTILES)
+                .minimumExpectedValue(MINIMUM_EXPECTED)
+                .maximumExpectedValue(MAXIMUM_EXPECTED);
+    }
+}
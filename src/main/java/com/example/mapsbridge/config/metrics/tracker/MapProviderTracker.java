@@ -1,21 +1,38 @@
 package com.example.mapsbridge.config.metrics.tracker;
 
 import com.example.mapsbridge.config.metrics.MetricTags;
+import com.example.mapsbridge.config.metrics.Outcome;
 import com.example.mapsbridge.dto.MapType;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Component for tracking metrics related to map providers and extractors.
+ * <p>
+ * Counters are resolved once, per provider and extractor class on first use, so tracking an
+ * extraction does not build or register a meter. Latency timers are registered on first use of
+ * their tags, so outcomes that never happen do not publish empty histograms.
  */
 @Component
 public class MapProviderTracker {
 
-    private final MeterRegistry meterRegistry;
-    private final Counter.Builder extractionSuccessCounterBuilder;
-    private final Counter.Builder extractionFailureCounterBuilder;
+    private final Map<MapType, MeterCache<Class<?>, Counter>> extractionSuccessCounters = new EnumMap<>(MapType.class);
+    private final Map<MapType, MeterCache<Class<?>, Counter>> extractionFailureCounters = new EnumMap<>(MapType.class);
+    private final Counter resolvedUrlCacheHitCounter;
+    private final Counter resolvedUrlCacheMissCounter;
+    private final Map<RemovalCause, Counter> resolvedUrlCacheEvictionCounters = new EnumMap<>(RemovalCause.class);
+    private final Map<MapType, MeterCache<Outcome, Timer>> redirectTimers = new EnumMap<>(MapType.class);
+    private final Map<MapType, Map<Outcome, MeterCache<Class<?>, Timer>>> extractionTimers = new EnumMap<>(MapType.class);
+    private final MeterCache<Outcome, Timer> pageFetchTimers;
 
     /**
      * Constructor with dependency injection.
@@ -24,41 +41,142 @@ public class MapProviderTracker {
      */
     @Autowired
     public MapProviderTracker(MeterRegistry meterRegistry) {
-        this.meterRegistry = meterRegistry;
+        // Create counters for tracking extraction success and failure
+        for (MapType mapProvider : MapType.values()) {
+            extractionSuccessCounters.put(mapProvider, new MeterCache<>(extractorClass ->
+                    Counter.builder("maps.extraction.success")
+                            .description("Number of successful extractions by map provider and extractor")
+                            .tag(MetricTags.PROVIDER, mapProvider.getName())
+                            .tag("extractor", extractorClass.getSimpleName())
+                            .register(meterRegistry)));
+
+            extractionFailureCounters.put(mapProvider, new MeterCache<>(extractorClass ->
+                    Counter.builder("maps.extraction.failure")
+                            .description("Number of failed extractions by map provider and extractor")
+                            .tag(MetricTags.PROVIDER, mapProvider.getName())
+                            .tag("extractor", extractorClass.getSimpleName())
+                            .register(meterRegistry)));
+        }
+
+        // Create counters for tracking the resolved short-link cache
+        this.resolvedUrlCacheHitCounter = resolvedUrlCacheCounter(meterRegistry, "hit", "none");
+        this.resolvedUrlCacheMissCounter = resolvedUrlCacheCounter(meterRegistry, "miss", "none");
+        for (RemovalCause cause : RemovalCause.values()) {
+            resolvedUrlCacheEvictionCounters.put(cause,
+                    resolvedUrlCacheCounter(meterRegistry, "eviction", cause.name().toLowerCase(Locale.ROOT)));
+        }
 
-        // Create counter builders for tracking extraction success and failure
-        this.extractionSuccessCounterBuilder = Counter.builder("maps.extraction.success")
-                .description("Number of successful extractions by map provider and extractor");
+        // Create timers for the network-bound stages of extracting a location
+        for (MapType mapProvider : MapType.values()) {
+            redirectTimers.put(mapProvider, new MeterCache<>(outcome ->
+                    LatencyTimers.builder("maps.redirect.duration", "Time taken to follow the redirects of a map URL")
+                            .tag(MetricTags.PROVIDER, mapProvider.getName())
+                            .tag("outcome", outcome.getTag())
+                            .register(meterRegistry)));
 
-        this.extractionFailureCounterBuilder = Counter.builder("maps.extraction.failure")
-                .description("Number of failed extractions by map provider and extractor");
+            Map<Outcome, MeterCache<Class<?>, Timer>> timersByOutcome = new EnumMap<>(Outcome.class);
+            for (Outcome outcome : Outcome.values()) {
+                timersByOutcome.put(outcome, new MeterCache<>(extractorClass ->
+                        LatencyTimers.builder("maps.extraction.duration", "Time taken by a coordinate extractor")
+                                .tag(MetricTags.PROVIDER, mapProvider.getName())
+                                .tag("extractor", extractorClass.getSimpleName())
+                                .tag("outcome", outcome.getTag())
+                                .register(meterRegistry)));
+            }
+            extractionTimers.put(mapProvider, timersByOutcome);
+        }
+
+        this.pageFetchTimers = new MeterCache<>(outcome ->
+                LatencyTimers.builder("maps.page.fetch.duration", "Time taken to fetch the page of a map URL")
+                        .tag("outcome", outcome.getTag())
+                        .register(meterRegistry));
     }
 
     /**
      * Track a successful extraction.
      *
-     * @param mapProvider   The map provider type
-     * @param extractorName The name of the extractor used
+     * @param mapProvider    The map provider type
+     * @param extractorClass The class of the extractor used
      */
-    public void trackExtractionSuccess(MapType mapProvider, String extractorName) {
-        extractionSuccessCounterBuilder
-                .tag(MetricTags.PROVIDER, mapProvider.getName())
-                .tag("extractor", extractorName)
-                .register(meterRegistry)
-                .increment();
+    public void trackExtractionSuccess(MapType mapProvider, Class<?> extractorClass) {
+        extractionSuccessCounters.get(mapProvider).get(extractorClass).increment();
     }
 
     /**
      * Track a failed extraction.
      *
-     * @param mapProvider   The map provider type
-     * @param extractorName The name of the extractor used
+     * @param mapProvider    The map provider type
+     * @param extractorClass The class of the extractor used
+     */
+    public void trackExtractionFailure(MapType mapProvider, Class<?> extractorClass) {
+        extractionFailureCounters.get(mapProvider).get(extractorClass).increment();
+    }
+
+    /**
+     * Track a resolved short-link cache hit.
+     */
+    public void trackResolvedUrlCacheHit() {
+        resolvedUrlCacheHitCounter.increment();
+    }
+
+    /**
+     * Track a resolved short-link cache miss.
+     */
+    public void trackResolvedUrlCacheMiss() {
+        resolvedUrlCacheMissCounter.increment();
+    }
+
+    /**
+     * Track an eviction from the resolved short-link cache.
+     *
+     * @param cause The eviction cause
+     */
+    public void trackResolvedUrlCacheEviction(RemovalCause cause) {
+        resolvedUrlCacheEvictionCounters.get(cause).increment();
+    }
+
+    /**
+     * Record the time taken to follow the redirects of a map URL.
+     *
+     * @param mapProvider The map provider type
+     * @param outcome     The outcome
+     * @param startNanos  The {@link System#nanoTime()} the redirects were started at
+     */
+    public void recordRedirect(MapType mapProvider, Outcome outcome, long startNanos) {
+        record(redirectTimers.get(mapProvider).get(outcome), startNanos);
+    }
+
+    /**
+     * Record the time taken by a coordinate extractor.
+     *
+     * @param mapProvider    The map provider type
+     * @param extractorClass The class of the extractor used
+     * @param outcome        The outcome
+     * @param startNanos     The {@link System#nanoTime()} the extractor was started at
      */
-    public void trackExtractionFailure(MapType mapProvider, String extractorName) {
-        extractionFailureCounterBuilder
-                .tag(MetricTags.PROVIDER, mapProvider.getName())
-                .tag("extractor", extractorName)
-                .register(meterRegistry)
-                .increment();
+    public void recordExtraction(MapType mapProvider, Class<?> extractorClass, Outcome outcome, long startNanos) {
+        record(extractionTimers.get(mapProvider).get(outcome).get(extractorClass), startNanos);
+    }
+
+    /**
+     * Record the time taken to fetch (and scan) the page of a map URL.
+     *
+     * @param outcome    The outcome
+     * @param startNanos The {@link System#nanoTime()} the request was started at
+     */
+    public void recordPageFetch(Outcome outcome, long startNanos) {
+        record(pageFetchTimers.get(outcome), startNanos);
+    }
+
+    private static void record(Timer timer, long startNanos) {
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Counter resolvedUrlCacheCounter(MeterRegistry meterRegistry, String result, String cause) {
+        return Counter.builder("maps.redirect.cache")
+                .description("Number of resolved short-link cache lookups and evictions by result")
+                .tag("result", result)
+                .tag("cause", cause)
+                .register(meterRegistry);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+package com.example.mapsbridge.config.metrics.tracker;
+
+import io.micrometer.core.instrument.Meter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Meters of one name resolved once per tag value, for tags whose values are not known up front
+ * or whose meters should only be registered once used. Looking up a meter already resolved is a
+ * plain map read, without allocating.
+ *
+ * @param <K> The type the tag values are derived from
+ * @param <M> The type of meter
+ */
+final class MeterCache<K, M extends Meter> {
+
+    private final Map<K, M> meters = new ConcurrentHashMap<>();
+    private final Function<K, M> factory;
+
+    /**
+     * @param factory Registers the meter for a key, called once per key
+     */
+    MeterCache(Function<K, M> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Get the meter for a key, registering it on first use.
+     *
+     * @param key The key
+     * @return The meter
+     */
+    M get(K key) {
+        M meter = meters.get(key);
+        return meter != null ? meter : meters.computeIfAbsent(key, factory);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.mapsbridge.config.metrics.tracker;
+
+import com.example.mapsbridge.service.ratelimit.AbstractRateLimiterService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * Component exposing the number of live per-identifier rate limiters of each rate limiter service,
+ * so growth of the limiter maps and of the Resilience4j registry behind them can be watched.
+ */
+@Component
+public class RateLimiterTracker {
+
+    /**
+     * Constructor with dependency injection. Registers one gauge per rate limiter service.
+     *
+     * @param meterRegistry       The meter registry
+     * @param rateLimiterServices The rate limiter services
+     */
+    @Autowired
+    public RateLimiterTracker(MeterRegistry meterRegistry, List<AbstractRateLimiterService> rateLimiterServices) {
+        for (AbstractRateLimiterService service : rateLimiterServices) {
+            Gauge.builder("ratelimiter.live.limiters", service, AbstractRateLimiterService::getLiveLimiterCount)
+                    .description("Number of identifiers currently holding a rate limiter, by rate limiter service")
+                    .tag("service", ClassUtils.getUserClass(service).getSimpleName())
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.mapsbridge.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-memory caches.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheProperties {
+
+    private CacheSpec resolvedUrl = new CacheSpec(10_000, Duration.ofHours(6));
+    private CacheSpec conversionResult = new CacheSpec(5_000, Duration.ofMinutes(30));
+    private SpatialCacheSpec reverseGeocode = new SpatialCacheSpec(50_000, Duration.ofDays(7), 4);
+    private CacheSpec geocodeResult = new CacheSpec(20_000, Duration.ofHours(6));
+    private PersistentCacheSpec geocodingPersistent = new PersistentCacheSpec(true, Duration.ofDays(30));
+    private CacheSpec apiKey = new CacheSpec(10_000, Duration.ofMinutes(1));
+    private CacheSpec unknownApiKey = new CacheSpec(1_000, Duration.ofSeconds(10));
+
+    /**
+     * Size and time-to-live limits for a single cache.
+     */
+    @Getter
+    @Setter
+    public static class CacheSpec {
+        private long maxSize;
+        private Duration ttl;
+
+        public CacheSpec() {
+        }
+
+        public CacheSpec(long maxSize, Duration ttl) {
+            this.maxSize = maxSize;
+            this.ttl = ttl;
+        }
+    }
+
+    /**
+     * Cache limits for caches keyed by a fixed-precision coordinate grid.
+     */
+    @Getter
+    @Setter
+    public static class SpatialCacheSpec extends CacheSpec {
+        /**
+         * Number of decimal places a grid cell spans (4 ~ 11m, 3 ~ 110m).
+         */
+        private int precision;
+
+        public SpatialCacheSpec() {
+        }
+
+        public SpatialCacheSpec(long maxSize, Duration ttl, int precision) {
+            super(maxSize, ttl);
+            this.precision = precision;
+        }
+    }
+
+    /**
+     * Limits for a database-backed cache tier.
+     */
+    @Getter
+    @Setter
+    public static class PersistentCacheSpec {
+        private boolean enabled;
+        private Duration ttl;
+
+        public PersistentCacheSpec() {
+        }
+
+        public PersistentCacheSpec(boolean enabled, Duration ttl) {
+            this.enabled = enabled;
+            this.ttl = ttl;
+        }
+    }
+}
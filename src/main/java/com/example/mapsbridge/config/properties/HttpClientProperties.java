@@ -0,0 +1,91 @@
+package com.example.mapsbridge.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the outbound OkHttp clients.
+ * <p>
+ * Redirect resolution and page fetches use separate clients with their own timeout budget; both
+ * share one connection pool and dispatcher.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "http.client")
+public class HttpClientProperties {
+
+    private Duration connectTimeout = Duration.ofSeconds(5);
+    /**
+     * Negotiate HTTP/2 over TLS (ALPN), so concurrent calls to one host share a single connection.
+     */
+    private boolean http2Enabled = true;
+    private PoolSpec pool = new PoolSpec(32, Duration.ofMinutes(5));
+    private DispatcherSpec dispatcher = new DispatcherSpec(64, 5);
+    private TimeoutSpec redirect = new TimeoutSpec(Duration.ofSeconds(5), Duration.ofSeconds(10));
+    private TimeoutSpec content = new TimeoutSpec(Duration.ofSeconds(10), Duration.ofSeconds(15));
+
+    /**
+     * Limits for the connection pool shared by all hosts.
+     */
+    @Getter
+    @Setter
+    public static class PoolSpec {
+        private int maxIdleConnections;
+        private Duration keepAlive;
+
+        public PoolSpec() {
+        }
+
+        public PoolSpec(int maxIdleConnections, Duration keepAlive) {
+            this.maxIdleConnections = maxIdleConnections;
+            this.keepAlive = keepAlive;
+        }
+    }
+
+    /**
+     * Concurrency limits for asynchronous (enqueued) calls; calls over a limit wait in the queue.
+     */
+    @Getter
+    @Setter
+    public static class DispatcherSpec {
+        private int maxRequests;
+        private int maxRequestsPerHost;
+
+        public DispatcherSpec() {
+        }
+
+        public DispatcherSpec(int maxRequests, int maxRequestsPerHost) {
+            this.maxRequests = maxRequests;
+            this.maxRequestsPerHost = maxRequestsPerHost;
+        }
+    }
+
+    /**
+     * Timeout budget for one kind of call.
+     */
+    @Getter
+    @Setter
+    public static class TimeoutSpec {
+        /**
+         * Maximum time between two reads or writes of a response or request.
+         */
+        private Duration readTimeout;
+        /**
+         * Deadline for the whole call: DNS, connecting, redirects, and reading the response body.
+         */
+        private Duration callTimeout;
+
+        public TimeoutSpec() {
+        }
+
+        public TimeoutSpec(Duration readTimeout, Duration callTimeout) {
+            this.readTimeout = readTimeout;
+            this.callTimeout = callTimeout;
+        }
+    }
+}
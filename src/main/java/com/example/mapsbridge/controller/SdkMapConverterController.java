@@ -2,16 +2,25 @@ package com.example.mapsbridge.controller;
 
 import com.example.mapsbridge.config.logging.LoggingContext;
 import com.example.mapsbridge.config.metrics.MetricTags;
+import com.example.mapsbridge.dto.request.BatchConvertRequest;
 import com.example.mapsbridge.dto.request.ConvertRequest;
+import com.example.mapsbridge.dto.response.BatchConvertItem;
+import com.example.mapsbridge.dto.response.BatchConvertResponse;
 import com.example.mapsbridge.dto.response.WebConvertResponse;
+import com.example.mapsbridge.service.converter.BatchMapConverterService;
 import com.example.mapsbridge.service.converter.MapConverterService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Controller for the web map link conversion API.
@@ -23,6 +32,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class SdkMapConverterController {
 
     private final MapConverterService<WebConvertResponse> mapConverterService;
+    private final BatchMapConverterService batchMapConverterService;
 
     /**
      * Convert a map URL or coordinates to links for all supported map providers.
@@ -37,4 +47,48 @@ public class SdkMapConverterController {
         return mapConverterService.convert(request);
     }
 
+    /**
+     * Non-blocking variant of {@link #convert(ConvertRequest)}. The servlet thread is released
+     * while redirects, page fetches and geocoding calls are in flight.
+     *
+     * @param request The conversion request
+     * @return Future completing with the conversion response
+     */
+    @PostMapping("/sdk/location/convert/async")
+    public CompletableFuture<WebConvertResponse> convertAsync(@Valid @RequestBody ConvertRequest request) {
+        LoggingContext.setEndpointType(MetricTags.SDK.toLowerCase());
+        log.info("Converting SDK input asynchronously: {}", request.getInput());
+        return mapConverterService.convertAsync(request);
+    }
+
+    /**
+     * Convert many map URLs or coordinates in one request. Each distinct input is charged
+     * to the daily quota; failures are reported per input instead of failing the request.
+     *
+     * @param request The batch conversion request
+     * @return One result or error per input, in request order
+     */
+    @PostMapping("/sdk/location/convert/batch")
+    public BatchConvertResponse convertBatch(@Valid @RequestBody BatchConvertRequest request) {
+        LoggingContext.setEndpointType(MetricTags.SDK.toLowerCase());
+        log.info("Converting SDK batch of {} inputs", request.getInputs().size());
+        return batchMapConverterService.convert(request);
+    }
+
+    /**
+     * Convert newline-delimited map URLs or coordinates of any size. Results are written as
+     * newline-delimited JSON as each conversion completes, and the body is read only as fast
+     * as results are consumed.
+     *
+     * @param body One input per line
+     * @return One result or error per non-blank line, in completion order
+     */
+    @PostMapping(value = "/sdk/location/convert/stream",
+            consumes = MediaType.TEXT_PLAIN_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BatchConvertItem> convertStream(InputStream body) {
+        LoggingContext.setEndpointType(MetricTags.SDK.toLowerCase());
+        log.info("Converting SDK input stream");
+        return batchMapConverterService.convertStream(body);
+    }
 }
@@ -13,6 +13,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Controller for the web map link conversion API.
  */
@@ -37,4 +39,18 @@ public class WebMapConverterController {
         return mapConverterService.convert(request);
     }
 
+    /**
+     * Non-blocking variant of {@link #convert(ConvertRequest)}. The servlet thread is released
+     * while redirects, page fetches and geocoding calls are in flight.
+     *
+     * @param request The conversion request
+     * @return Future completing with the conversion response
+     */
+    @PostMapping("/web/location/convert/async")
+    public CompletableFuture<WebConvertResponse> convertAsync(@Valid @RequestBody ConvertRequest request) {
+        LoggingContext.setEndpointType(MetricTags.WEB.toLowerCase());
+        log.info("Converting web input asynchronously: {}", request.getInput());
+        return mapConverterService.convertAsync(request);
+    }
+
 }
@@ -90,4 +90,15 @@ public class LocationResult {
         }
         return coordinates.getLat() + "," + coordinates.getLon();
     }
+
+    /**
+     * Creates a deep copy of this location result, so cached instances can be
+     * handed out without callers mutating the shared state.
+     *
+     * @return A new LocationResult with the same values
+     */
+    public LocationResult copy() {
+        Coordinate coordinatesCopy = coordinates == null ? null : new Coordinate(coordinates.getLat(), coordinates.getLon());
+        return new LocationResult(mapSource, originalUrl, coordinatesCopy, address, placeName);
+    }
 }
@@ -0,0 +1,41 @@
+package com.example.mapsbridge.dto;
+
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a tiered rate limit check, describing the most restrictive tier so clients can back off.
+ *
+ * @param allowed    Whether the request was allowed
+ * @param limit      The limit of the most restrictive tier
+ * @param remaining  The requests left in that tier after this one
+ * @param reset      Time until the current window of that tier ends
+ * @param retryAfter Time until a request would be allowed again, zero if allowed
+ * @param policy     All tiers in {@code RateLimit-Policy} format, e.g. {@code 1;w=3, 50;w=86400}
+ */
+public record RateLimitStatus(boolean allowed, long limit, long remaining, Duration reset, Duration retryAfter,
+                              String policy) {
+
+    /**
+     * Build the {@code RateLimit-*} headers, plus {@code Retry-After} for rejected requests.
+     *
+     * @return The headers
+     */
+    public HttpHeaders toHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("RateLimit-Limit", String.valueOf(limit));
+        headers.set("RateLimit-Remaining", String.valueOf(remaining));
+        headers.set("RateLimit-Reset", String.valueOf(toSeconds(reset)));
+        headers.set("RateLimit-Policy", policy);
+        if (!allowed) {
+            headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(toSeconds(retryAfter)));
+        }
+        return headers;
+    }
+
+    private static long toSeconds(Duration duration) {
+        // Round up, a client retrying after a rounded-down delay would be rejected again
+        return (duration.toMillis() + 999) / 1000;
+    }
+}
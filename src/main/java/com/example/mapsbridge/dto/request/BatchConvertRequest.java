@@ -0,0 +1,25 @@
+package com.example.mapsbridge.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request model for the batch map link conversion API.
+ * Each input can be either a map URL or coordinates in the format "lat,lon".
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchConvertRequest {
+
+    /**
+     * The inputs to convert. Identical inputs are converted once.
+     */
+    @NotEmpty(message = "Inputs cannot be empty")
+    private List<@NotBlank(message = "Input cannot be empty") String> inputs;
+}
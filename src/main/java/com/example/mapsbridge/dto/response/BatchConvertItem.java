@@ -0,0 +1,33 @@
+package com.example.mapsbridge.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of a single input of a batch conversion.
+ * Exactly one of result and error is set.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchConvertItem {
+
+    private String input;
+    private WebConvertResponse result;
+    private String error;
+
+    public static BatchConvertItem success(String input, WebConvertResponse result) {
+        return new BatchConvertItem(input, result, null);
+    }
+
+    public static BatchConvertItem failure(String input, String error) {
+        return new BatchConvertItem(input, null, error);
+    }
+
+    public boolean isSuccessful() {
+        return error == null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.mapsbridge.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response model for the batch map link conversion API.
+ * Contains one item per input, in request order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchConvertResponse {
+
+    private List<BatchConvertItem> results;
+    private int succeeded;
+    private int failed;
+}
@@ -1,5 +1,6 @@
 package com.example.mapsbridge.exception;
 
+import com.example.mapsbridge.dto.RateLimitStatus;
 import com.example.mapsbridge.exception.rate.RateLimitExceededException;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
@@ -104,13 +105,16 @@ public class GlobalExceptionHandler {
 
     /**
      * Handle RateLimitExceededException and its subclasses.
+     * Adds the RateLimit and Retry-After headers when the limiter reported its status.
      */
     @ExceptionHandler(RateLimitExceededException.class)
     @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
     public ResponseEntity<ErrorResponse> handleRateLimitExceededException(RateLimitExceededException ex) {
         log.error(ex.getMessage());
+        RateLimitStatus status = ex.getRateLimitStatus();
         return ResponseEntity
                 .status(HttpStatus.TOO_MANY_REQUESTS)
+                .headers(status != null ? status.toHeaders() : null)
                 .body(new ErrorResponse("Rate limit exceeded. Please try again later."));
     }
 
@@ -1,11 +1,15 @@
 package com.example.mapsbridge.exception.rate;
 
+import com.example.mapsbridge.dto.RateLimitStatus;
+
 /**
  * Exception thrown when a rate limit is exceeded.
  * This is the base class for all rate limiting exceptions.
  */
 public class RateLimitExceededException extends RuntimeException {
 
+    private transient RateLimitStatus rateLimitStatus;
+
     public RateLimitExceededException() {
         super("Rate limit exceeded");
     }
@@ -17,4 +21,24 @@ public class RateLimitExceededException extends RuntimeException {
     public RateLimitExceededException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * Attach the status of the limiter that rejected the request, so it can be sent as headers.
+     *
+     * @param rateLimitStatus the status
+     * @return this exception
+     */
+    public RateLimitExceededException withRateLimitStatus(RateLimitStatus rateLimitStatus) {
+        this.rateLimitStatus = rateLimitStatus;
+        return this;
+    }
+
+    /**
+     * Get the status of the limiter that rejected the request.
+     *
+     * @return the status, or null if the limiter does not report one
+     */
+    public RateLimitStatus getRateLimitStatus() {
+        return rateLimitStatus;
+    }
 }
\ No newline at end of file
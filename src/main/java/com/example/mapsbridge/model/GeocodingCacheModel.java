@@ -0,0 +1,64 @@
+package com.example.mapsbridge.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity representing a persisted geocoding result (place ID lookup, forward geocode query
+ * or reverse geocode grid cell), so geocoding knowledge survives redeploys.
+ */
+@Entity
+@Table(name = "geocoding_cache",
+        uniqueConstraints = @UniqueConstraint(name = "uk_geocoding_cache_lookup", columnNames = {"lookup_type", "lookup_key"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GeocodingCacheModel {
+
+    /**
+     * The kind of geocoding lookup a cache entry was produced by.
+     */
+    public enum LookupType {
+        PLACE_ID,
+        FORWARD,
+        REVERSE
+    }
+
+    /**
+     * Longer keys are stored as a hash, see {@code PersistentGeocodingCache}.
+     */
+    public static final int LOOKUP_KEY_LENGTH = 512;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "lookup_type", nullable = false, length = 16)
+    private LookupType lookupType;
+
+    @Column(name = "lookup_key", nullable = false, length = LOOKUP_KEY_LENGTH)
+    private String lookupKey;
+
+    @Column(nullable = false)
+    private double latitude;
+
+    @Column(nullable = false)
+    private double longitude;
+
+    @Column(length = 1024)
+    private String address;
+
+    @Column(name = "place_name", length = 512)
+    private String placeName;
+
+    @Column(name = "fetched_at", nullable = false)
+    private LocalDateTime fetchedAt;
+}
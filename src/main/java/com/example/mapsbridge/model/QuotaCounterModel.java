@@ -0,0 +1,48 @@
+package com.example.mapsbridge.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing the cluster-wide usage of one quota identifier within one quota window,
+ * shared by all nodes so horizontal scaling does not multiply the quotas.
+ */
+@Entity
+@Table(name = "quota_counter", indexes = {
+        @Index(name = "idx_quota_counter_window_start", columnList = "window_start")
+})
+@IdClass(QuotaCounterModel.Key.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuotaCounterModel {
+
+    /**
+     * Composite primary key of a quota counter.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String quotaKey;
+        private LocalDateTime windowStart;
+    }
+
+    @Id
+    @Column(name = "quota_key", nullable = false, length = 512)
+    private String quotaKey;
+
+    @Id
+    @Column(name = "window_start", nullable = false)
+    private LocalDateTime windowStart;
+
+    @Column(nullable = false)
+    private long used;
+}
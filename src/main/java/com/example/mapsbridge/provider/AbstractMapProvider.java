@@ -1,17 +1,23 @@
 package com.example.mapsbridge.provider;
 
+import com.example.mapsbridge.config.metrics.Outcome;
 import com.example.mapsbridge.config.metrics.tracker.MapProviderTracker;
 import com.example.mapsbridge.dto.LocationResult;
 import com.example.mapsbridge.exception.InvalidCoordinateException;
+import com.example.mapsbridge.provider.cache.ResolvedUrlCache;
 import com.example.mapsbridge.provider.extractor.CoordinateExtractor;
+import com.example.mapsbridge.provider.utils.RedirectResolver;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.OkHttpClient;
-import okhttp3.Request;
-import okhttp3.Response;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 /**
@@ -35,30 +41,57 @@ public abstract class AbstractMapProvider implements MapProvider {
 
     protected List<? extends CoordinateExtractor> extractors;
 
+    /**
+     * The extractors that need network calls, run only once the parsing extractors found nothing.
+     */
+    protected List<? extends CoordinateExtractor> networkBoundExtractors;
+
+    /**
+     * Whether an extractor fetches the page itself, so the redirect walk may stop before a page
+     * it could only get with a GET.
+     */
+    private final boolean fetchesPageContent;
+
     /**
      * Metrics for tracking map provider and extractor usage.
      */
     protected MapProviderTracker metrics;
 
+    /**
+     * Cache of already resolved short links, consulted before following redirects.
+     */
+    protected ResolvedUrlCache resolvedUrlCache;
+
+    /**
+     * Walks the redirects of short links, stopping at the first URL the parsing extractors can read.
+     */
+    protected RedirectResolver redirectResolver;
+
     /**
      * Constructor with OkHttpClient injection.
      *
-     * @param httpClient  The OkHttpClient to use for HTTP requests
-     * @param urlTemplate The URL template for generating map links
-     * @param urlPattern  The pattern to match URLs from this provider
-     * @param extractors  The list of coordinate extractors
-     * @param metrics     The metrics for tracking map provider and extractor usage
+     * @param httpClient       The OkHttpClient to use for HTTP requests
+     * @param urlTemplate      The URL template for generating map links
+     * @param urlPattern       The pattern to match URLs from this provider
+     * @param extractors       The list of coordinate extractors
+     * @param metrics          The metrics for tracking map provider and extractor usage
+     * @param resolvedUrlCache The cache of already resolved short links
      */
     public AbstractMapProvider(OkHttpClient httpClient,
                                String urlTemplate,
                                Pattern urlPattern,
                                List<? extends CoordinateExtractor> extractors,
-                               MapProviderTracker metrics) {
+                               MapProviderTracker metrics,
+                               ResolvedUrlCache resolvedUrlCache) {
         this.httpClient = httpClient;
         this.urlTemplate = urlTemplate;
         this.urlPattern = urlPattern;
         this.extractors = extractors;
+        this.networkBoundExtractors = extractors.stream().filter(CoordinateExtractor::isNetworkBound).toList();
+        this.fetchesPageContent = extractors.stream().anyMatch(CoordinateExtractor::fetchesPageContent);
         this.metrics = metrics;
+        this.resolvedUrlCache = resolvedUrlCache;
+        this.redirectResolver = new RedirectResolver(httpClient, this::isParsableUrl);
     }
 
     @Override
@@ -97,56 +130,248 @@ public abstract class AbstractMapProvider implements MapProvider {
             return null;
         }
 
-        String finalUrl = followRedirects(url);
+        ParsedUrls parsedUrls = new ParsedUrls();
+        Optional<LocationResult> parsed = parsedUrls.parse(url);
+        if (parsed.isPresent()) {
+            log.debug("URL {} can be parsed, not following redirects", url);
+            return withMapSource(parsed.get());
+        }
 
-        // Apply each extractor in the chain until one returns a non-null result
-        for (CoordinateExtractor extractor : extractors) {
-            String extractorName = extractor.getClass().getSimpleName();
-            LocationResult locationResult = extractor.extract(finalUrl);
+        String finalUrl = followRedirects(url, parsedUrls);
 
-            if (locationResult.hasValidCoordinates()) {
-                locationResult.setMapSource(getType());
+        return withMapSource(parsedUrls.parse(finalUrl).orElseGet(() -> runExtractors(finalUrl)));
+    }
 
-                metrics.trackExtractionSuccess(getType(), extractorName);
+    @Override
+    public CompletableFuture<LocationResult> extractLocationAsync(String url) {
+        if (!isProviderUrl(url)) {
+            return CompletableFuture.completedFuture(new LocationResult());
+        }
+
+        log.info("URL provider is {}", getType());
+
+        ParsedUrls parsedUrls = new ParsedUrls();
+        Optional<LocationResult> parsed = parsedUrls.parse(url);
+        if (parsed.isPresent()) {
+            log.debug("URL {} can be parsed, not following redirects", url);
+            return CompletableFuture.completedFuture(withMapSource(parsed.get()));
+        }
+
+        return followRedirectsAsync(url, parsedUrls)
+                .thenCompose(finalUrl -> parsedUrls.parse(finalUrl)
+                        .map(CompletableFuture::completedFuture)
+                        .orElseGet(() -> runExtractorsAsync(finalUrl)))
+                .thenApply(this::withMapSource);
+    }
+
+    private LocationResult withMapSource(LocationResult locationResult) {
+        if (locationResult != null && locationResult.hasValidCoordinates()) {
+            locationResult.setMapSource(getType());
+            return locationResult;
+        }
 
-                log.info("Extracted location using {}: {}", extractorName, locationResult);
+        return new LocationResult();
+    }
+
+    /**
+     * Run the network-bound extractors against the resolved URL, once the parsing extractors
+     * found nothing in it.
+     * By default each extractor is applied in order until one returns valid coordinates.
+     *
+     * @param finalUrl The URL after following redirects
+     * @return The first result with valid coordinates, or null if no extractor succeeded
+     */
+    protected LocationResult runExtractors(String finalUrl) {
+        return runSequentially(networkBoundExtractors, finalUrl);
+    }
+
+    /**
+     * Apply the given extractors in order until one returns valid coordinates.
+     *
+     * @param chain    The extractors to apply, highest priority first
+     * @param finalUrl The URL after following redirects
+     * @return The first result with valid coordinates, or null if no extractor succeeded
+     */
+    protected LocationResult runSequentially(List<? extends CoordinateExtractor> chain, String finalUrl) {
+        for (CoordinateExtractor extractor : chain) {
+            LocationResult locationResult = applyExtractor(extractor, finalUrl);
+            if (locationResult.hasValidCoordinates()) {
                 return locationResult;
-            } else {
-                metrics.trackExtractionFailure(getType(), extractorName);
             }
         }
+        return null;
+    }
+
+    /**
+     * Non-blocking variant of {@link #runExtractors(String)}: each extractor is started only
+     * after the previous one completed without valid coordinates.
+     *
+     * @param finalUrl The URL after following redirects
+     * @return Future completing with the first result with valid coordinates, or null
+     */
+    protected CompletableFuture<LocationResult> runExtractorsAsync(String finalUrl) {
+        return runSequentiallyAsync(networkBoundExtractors, 0, finalUrl);
+    }
+
+    private CompletableFuture<LocationResult> runSequentiallyAsync(List<? extends CoordinateExtractor> chain,
+                                                                   int index,
+                                                                   String finalUrl) {
+        if (index >= chain.size()) {
+            return CompletableFuture.completedFuture(null);
+        }
 
-        return new LocationResult();
+        CoordinateExtractor extractor = chain.get(index);
+        long startNanos = System.nanoTime();
+        return extractor.extractAsync(finalUrl)
+                .whenComplete((locationResult, e) -> {
+                    if (e != null) {
+                        metrics.recordExtraction(getType(), extractor.getClass(), Outcome.ERROR, startNanos);
+                    }
+                })
+                .thenCompose(locationResult -> trackExtraction(extractor, locationResult, startNanos).hasValidCoordinates()
+                        ? CompletableFuture.completedFuture(locationResult)
+                        : runSequentiallyAsync(chain, index + 1, finalUrl));
     }
 
     /**
-     * Follow redirects to get the final URL.
+     * Apply a single extractor and track whether it succeeded and how long it took.
      *
-     * @param shortUrl The initial URL
-     * @return The final URL after following redirects, or the original URL if no redirects
+     * @param extractor The extractor to apply
+     * @param finalUrl  The URL after following redirects
+     * @return The extractor result, never null
      */
-    protected String followRedirects(String shortUrl) {
+    protected LocationResult applyExtractor(CoordinateExtractor extractor, String finalUrl) {
+        long startNanos = System.nanoTime();
+        LocationResult locationResult;
         try {
-            // Create a request with explicit redirect handling
-            Request request = new Request.Builder()
-                    .url(shortUrl)
-                    .header("User-Agent", "Mozilla/5.0 (compatible; MapsBot/1.0)")
-                    .build();
-
-            try (Response response = httpClient.newCall(request).execute()) {
-                if (response.isSuccessful()) {
-                    String finalUrl = response.request().url().toString();
-                    log.debug("Followed redirects from {} to {}", shortUrl, finalUrl);
-                    return finalUrl;
-                } else {
-                    log.warn("HTTP request failed with code {} for URL: {}", response.code(), shortUrl);
-                    return shortUrl;
+            locationResult = extractor.extract(finalUrl);
+        } catch (RuntimeException e) {
+            metrics.recordExtraction(getType(), extractor.getClass(), Outcome.ERROR, startNanos);
+            throw e;
+        }
+        return trackExtraction(extractor, locationResult, startNanos);
+    }
+
+    private LocationResult trackExtraction(CoordinateExtractor extractor, LocationResult locationResult, long startNanos) {
+        String extractorName = extractor.getClass().getSimpleName();
+
+        if (locationResult.hasValidCoordinates()) {
+            metrics.trackExtractionSuccess(getType(), extractor.getClass());
+            metrics.recordExtraction(getType(), extractor.getClass(), Outcome.SUCCESS, startNanos);
+            log.info("Extracted location using {}: {}", extractorName, locationResult);
+        } else {
+            metrics.trackExtractionFailure(getType(), extractor.getClass());
+            metrics.recordExtraction(getType(), extractor.getClass(), Outcome.FAILURE, startNanos);
+        }
+        return locationResult;
+    }
+
+    /**
+     * Apply the parsing (not network-bound) extractors to the URL itself. A URL they can read
+     * needs no further redirects, and its result is used as is.
+     *
+     * @param url The URL to parse
+     * @return The first result with valid coordinates, or empty if no parsing extractor found any
+     */
+    protected Optional<LocationResult> parseUrl(String url) {
+        for (CoordinateExtractor extractor : extractors) {
+            if (extractor.isNetworkBound()) {
+                continue;
+            }
+            long startNanos = System.nanoTime();
+            try {
+                LocationResult locationResult = extractor.extract(url);
+                if (locationResult.hasValidCoordinates()) {
+                    return Optional.of(trackExtraction(extractor, locationResult, startNanos));
                 }
+            } catch (RuntimeException e) {
+                log.debug("Extractor {} failed to parse URL {}: {}", extractor.getClass().getSimpleName(), url, e.getMessage());
             }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Whether the parsing extractors can read coordinates from the URL itself.
+     *
+     * @param url The URL to check
+     * @return true if a parsing extractor finds valid coordinates in the URL
+     */
+    protected boolean isParsableUrl(String url) {
+        return parseUrl(url).isPresent();
+    }
+
+    /**
+     * Follow redirects to get the final URL.
+     * Previously resolved URLs are served from the {@link ResolvedUrlCache} without any network
+     * call. Otherwise the redirect hops are walked without downloading any page, stopping at the
+     * first URL the parsing extractors can read, see {@link RedirectResolver}. Providers with an
+     * extractor fetching the page also stop at a hop on a host rejecting HEAD, so the page is fetched
+     * once by that extractor; such a hop is not cached, as it may still redirect.
+     *
+     * @param shortUrl   The initial URL, which the parsing extractors cannot read
+     * @param parsedUrls The parse results of this extraction, extended with those of the hops
+     * @return The final URL after following redirects, or the original URL if no redirects
+     */
+    private String followRedirects(String shortUrl, ParsedUrls parsedUrls) {
+        long startNanos = System.nanoTime();
+        Optional<String> cachedUrl = resolvedUrlCache.get(shortUrl);
+        if (cachedUrl.isPresent()) {
+            log.debug("Using cached redirect from {} to {}", shortUrl, cachedUrl.get());
+            metrics.recordRedirect(getType(), Outcome.CACHED, startNanos);
+            return cachedUrl.get();
+        }
+
+        try {
+            Optional<String> finalUrl = redirectResolver.resolve(shortUrl, parsedUrls::isResolved);
+            return onRedirectsResolved(shortUrl, finalUrl, parsedUrls, startNanos);
         } catch (Exception e) {
-            log.error("Error following redirects for URL {}: {}", shortUrl, e.getMessage(), e);
+            return onRedirectsFailed(shortUrl, e, startNanos);
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #followRedirects(String, ParsedUrls)}, using OkHttp's asynchronous calls.
+     *
+     * @param shortUrl   The initial URL, which the parsing extractors cannot read
+     * @param parsedUrls The parse results of this extraction, extended with those of the hops
+     * @return Future completing with the final URL, or the original URL if the request failed
+     */
+    private CompletableFuture<String> followRedirectsAsync(String shortUrl, ParsedUrls parsedUrls) {
+        long startNanos = System.nanoTime();
+        Optional<String> cachedUrl = resolvedUrlCache.get(shortUrl);
+        if (cachedUrl.isPresent()) {
+            log.debug("Using cached redirect from {} to {}", shortUrl, cachedUrl.get());
+            metrics.recordRedirect(getType(), Outcome.CACHED, startNanos);
+            return CompletableFuture.completedFuture(cachedUrl.get());
+        }
+
+        // The future completes on the dispatcher thread, with the logging context of the caller
+        return redirectResolver.resolveAsync(shortUrl, parsedUrls::isResolved)
+                .handle((finalUrl, e) -> e != null
+                        ? onRedirectsFailed(shortUrl, e, startNanos)
+                        : onRedirectsResolved(shortUrl, finalUrl, parsedUrls, startNanos));
+    }
+
+    private String onRedirectsResolved(String shortUrl, Optional<String> finalUrl, ParsedUrls parsedUrls,
+                                       long startNanos) {
+        if (finalUrl.isEmpty()) {
+            metrics.recordRedirect(getType(), Outcome.FAILURE, startNanos);
             return shortUrl;
         }
+
+        log.debug("Followed redirects from {} to {}", shortUrl, finalUrl.get());
+        if (!parsedUrls.isHandedOff(finalUrl.get())) {
+            resolvedUrlCache.put(shortUrl, finalUrl.get());
+        }
+        metrics.recordRedirect(getType(), Outcome.SUCCESS, startNanos);
+        return finalUrl.get();
+    }
+
+    private String onRedirectsFailed(String shortUrl, Throwable e, long startNanos) {
+        log.error("Error following redirects for URL {}: {}", shortUrl, e.getMessage(), e);
+        metrics.recordRedirect(getType(), Outcome.ERROR, startNanos);
+        return shortUrl;
     }
 
     /**
@@ -157,4 +382,36 @@ public abstract class AbstractMapProvider implements MapProvider {
             throw new InvalidCoordinateException("Invalid coordinates provided");
         }
     }
+
+    /**
+     * The parse results of the URLs seen while extracting one location, so the parsing extractors
+     * run at most once per URL, whether it is the input, a redirect hop or the final URL.
+     */
+    private final class ParsedUrls {
+
+        // Filled from the OkHttp dispatcher threads on the asynchronous path
+        private final Map<String, Optional<LocationResult>> results = new ConcurrentHashMap<>();
+        // Hops the walk stopped at for the page-fetching extractor, not known to be final
+        private final Set<String> handedOff = ConcurrentHashMap.newKeySet();
+
+        private Optional<LocationResult> parse(String url) {
+            return results.computeIfAbsent(url, AbstractMapProvider.this::parseUrl);
+        }
+
+        private boolean isResolved(String url) {
+            if (parse(url).isPresent()) {
+                return true;
+            }
+            if (fetchesPageContent && redirectResolver.rejectsHead(url)) {
+                log.debug("Host of {} rejects HEAD, leaving the page to the content extractor", url);
+                handedOff.add(url);
+                return true;
+            }
+            return false;
+        }
+
+        private boolean isHandedOff(String url) {
+            return handedOff.contains(url);
+        }
+    }
 }
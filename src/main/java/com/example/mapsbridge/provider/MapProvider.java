@@ -3,6 +3,8 @@ package com.example.mapsbridge.provider;
 import com.example.mapsbridge.dto.LocationResult;
 import com.example.mapsbridge.dto.MapType;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Interface for map providers that can generate location URLs.
  */
@@ -38,4 +40,13 @@ public interface MapProvider {
      * @return The extracted location result, or null if location couldn't be extracted
      */
     LocationResult extractLocation(String url);
+
+    /**
+     * Non-blocking variant of {@link #extractLocation(String)}: redirects are followed and
+     * network-bound extractors run without holding the calling thread.
+     *
+     * @param url The URL to extract location information from
+     * @return Future completing with the extracted location result
+     */
+    CompletableFuture<LocationResult> extractLocationAsync(String url);
 }
@@ -0,0 +1,89 @@
+package com.example.mapsbridge.provider.cache;
+
+import com.example.mapsbridge.config.metrics.tracker.MapProviderTracker;
+import com.example.mapsbridge.config.properties.CacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Bounded, TTL-evicting cache of resolved short links (short URL -> final URL).
+ * Consulted before any redirect is followed over the network, so repeatedly shared
+ * links like {@code maps.app.goo.gl/...} only cost one outbound round-trip per TTL.
+ */
+@Slf4j
+@Component
+public class ResolvedUrlCache {
+
+    private final Cache<String, String> cache;
+    private final MapProviderTracker metrics;
+
+    @Autowired
+    public ResolvedUrlCache(CacheProperties cacheProperties, MapProviderTracker metrics) {
+        this(cacheProperties.getResolvedUrl(), metrics, Ticker.systemTicker());
+    }
+
+    ResolvedUrlCache(CacheProperties.CacheSpec spec, MapProviderTracker metrics, Ticker ticker) {
+        this.metrics = metrics;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(spec.getMaxSize())
+                .expireAfterWrite(spec.getTtl())
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .evictionListener((String shortUrl, String finalUrl, RemovalCause cause) ->
+                        metrics.trackResolvedUrlCacheEviction(cause))
+                .build();
+    }
+
+    /**
+     * Look up the final URL previously resolved for the given short URL.
+     *
+     * @param shortUrl The URL as received from the user
+     * @return The cached final URL, or empty if it has not been resolved yet or has expired
+     */
+    public Optional<String> get(String shortUrl) {
+        if (StringUtils.isBlank(shortUrl)) {
+            return Optional.empty();
+        }
+
+        String finalUrl = cache.getIfPresent(shortUrl);
+        if (finalUrl == null) {
+            metrics.trackResolvedUrlCacheMiss();
+            return Optional.empty();
+        }
+
+        metrics.trackResolvedUrlCacheHit();
+        log.debug("Resolved URL cache hit for {}", shortUrl);
+        return Optional.of(finalUrl);
+    }
+
+    /**
+     * Remember the final URL a short URL resolved to.
+     *
+     * @param shortUrl The URL as received from the user
+     * @param finalUrl The URL after following all redirects
+     */
+    public void put(String shortUrl, String finalUrl) {
+        if (StringUtils.isAnyBlank(shortUrl, finalUrl)) {
+            return;
+        }
+        cache.put(shortUrl, finalUrl);
+    }
+
+    /**
+     * Get the approximate number of cached entries.
+     *
+     * @return The number of entries currently held
+     */
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+}
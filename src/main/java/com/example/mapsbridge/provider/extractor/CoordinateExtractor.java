@@ -3,6 +3,8 @@ package com.example.mapsbridge.provider.extractor;
 import com.example.mapsbridge.dto.LocationResult;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Interface for extracting coordinates from a URL.
  * Part of the Chain of Responsibility pattern for coordinate extraction.
@@ -10,4 +12,34 @@ import org.jetbrains.annotations.NotNull;
 public interface CoordinateExtractor {
     @NotNull
     LocationResult extract(String url);
+
+    /**
+     * Non-blocking variant of {@link #extract(String)}. Parsing extractors complete immediately;
+     * network-bound extractors override this so no thread waits on the network.
+     *
+     * @param url The URL to extract from
+     * @return Future completing with the extracted location, never with null
+     */
+    default CompletableFuture<LocationResult> extractAsync(String url) {
+        return CompletableFuture.completedFuture(extract(url));
+    }
+
+    /**
+     * Whether this extractor performs network I/O (page fetches, geocoding calls)
+     * rather than pure parsing of the URL.
+     *
+     * @return true if the extractor is network-bound
+     */
+    default boolean isNetworkBound() {
+        return false;
+    }
+
+    /**
+     * Whether this extractor fetches the page of the URL itself, following any redirects left.
+     *
+     * @return true if the extractor reads the page content
+     */
+    default boolean fetchesPageContent() {
+        return false;
+    }
 }
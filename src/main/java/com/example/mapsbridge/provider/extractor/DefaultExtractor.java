@@ -75,7 +75,7 @@ public abstract class DefaultExtractor implements CoordinateExtractor {
                 System.out.println("Invalid coordinate format in: " + url);
             }
         } else {
-            log.info("No coordinates found for URL: {}", url);
+            log.debug("No coordinates found for URL: {}", url);
         }
 
         return null;
@@ -0,0 +1,130 @@
+package com.example.mapsbridge.provider.extractor;
+
+import com.example.mapsbridge.config.logging.LoggingContext;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Runs a prioritized list of tasks concurrently on a bounded pool and returns the
+ * accepted result of the highest-priority task, cancelling the ones that lost.
+ * <p>
+ * Used for speculative execution of network-bound coordinate extractors: the latency of
+ * a hard link becomes the slowest hop actually needed instead of the sum of all hops.
+ * When the pool is saturated or already shut down, tasks run on the calling thread.
+ */
+@Slf4j
+@Component
+public class ParallelExtractionRunner {
+
+    private static final int QUEUE_CAPACITY = 64;
+
+    private final boolean enabled;
+    private final Duration timeout;
+    private final ExecutorService executor;
+
+    @Autowired
+    public ParallelExtractionRunner(
+            @Value("${maps.extraction.parallel.enabled:false}") boolean enabled,
+            @Value("${maps.extraction.parallel.threads:8}") int threads,
+            @Value("${maps.extraction.parallel.timeout:PT15S}") Duration timeout) {
+        this.enabled = enabled;
+        this.timeout = timeout;
+        this.executor = createExecutor(threads);
+    }
+
+    private static ExecutorService createExecutor(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "extractor-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                ParallelExtractionRunner::runOnCaller);
+    }
+
+    // Unlike CallerRunsPolicy this also runs tasks rejected after shutdown, which would otherwise
+    // be discarded and leave their futures pending until the timeout
+    private static void runOnCaller(Runnable task, ThreadPoolExecutor executor) {
+        task.run();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Whether speculative parallel extraction is switched on.
+     *
+     * @return true if enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Run all tasks concurrently and return the result of the first task, in list order,
+     * whose result is accepted. Lower-priority tasks still running at that point are cancelled.
+     *
+     * @param tasks    The tasks, highest priority first
+     * @param accepted Whether a task result counts as a success
+     * @param <T>      The result type
+     * @return The winning result, or empty if no task succeeded within the timeout
+     */
+    public <T> Optional<T> firstAccepted(List<Callable<T>> tasks, Predicate<T> accepted) {
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            futures.add(executor.submit(LoggingContext.wrap(task)));
+        }
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try {
+            for (Future<T> future : futures) {
+                Optional<T> result = await(future, deadline);
+                if (result.filter(accepted).isPresent()) {
+                    return result;
+                }
+            }
+            return Optional.empty();
+        } catch (TimeoutException e) {
+            log.warn("Parallel extraction timed out after {}", timeout);
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private <T> Optional<T> await(Future<T> future, long deadline) throws TimeoutException, InterruptedException {
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            return Optional.ofNullable(future.get(remaining, TimeUnit.NANOSECONDS));
+        } catch (ExecutionException | CancellationException e) {
+            log.debug("Parallel extraction task failed: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
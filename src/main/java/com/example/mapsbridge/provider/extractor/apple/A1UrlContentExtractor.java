@@ -3,6 +3,7 @@ package com.example.mapsbridge.provider.extractor.apple;
 import com.example.mapsbridge.dto.Coordinate;
 import com.example.mapsbridge.dto.LocationResult;
 import com.example.mapsbridge.provider.utils.HttpClientUtils;
+import com.example.mapsbridge.provider.utils.StreamingHtmlScanner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -11,12 +12,14 @@ import org.jetbrains.annotations.Nullable;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
-import java.util.regex.Matcher;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Pattern;
 
 /**
  * Extractor that fetches the URL content and extracts location information from Apple Maps HTML.
+ * The page is streamed and reading stops once the name, coordinates and short address have been found.
  */
 @Slf4j
 @Order(1)
@@ -49,8 +52,22 @@ public class A1UrlContentExtractor implements AppleCoordinateExtractor {
             Pattern.CASE_INSENSITIVE
     );
 
+    private static final List<Pattern> CONTENT_PROBES = List.of(
+            PLACE_NAME_PATTERN, LATITUDE_PATTERN, LONGITUDE_PATTERN, TITLE_PATTERN, SHORT_ADDRESS_PATTERN
+    );
+
     private final HttpClientUtils httpClientUtils;
 
+    @Override
+    public boolean isNetworkBound() {
+        return true;
+    }
+
+    @Override
+    public boolean fetchesPageContent() {
+        return true;
+    }
+
     @Override
     public @NotNull LocationResult extract(String url) {
         if (StringUtils.isBlank(url)) {
@@ -58,18 +75,47 @@ public class A1UrlContentExtractor implements AppleCoordinateExtractor {
         }
 
         try {
-            return httpClientUtils.fetchUrlContent(url)
-                    .map(content -> extractLocationFromHtml(content, url))
-                    .orElse(new LocationResult());
+            StreamingHtmlScanner scanner = newScanner();
+            if (!httpClientUtils.scanUrlContent(url, scanner)) {
+                return new LocationResult();
+            }
+            return extractLocationFromHtml(scanner);
         } catch (Exception e) {
             log.warn("Failed to extract location from Apple Maps URL content: {}", url, e);
             return new LocationResult();
         }
     }
 
-    private LocationResult extractLocationFromHtml(String htmlContent, String originalUrl) {
-        LocationInfo locationInfo = extractLocationInfo(htmlContent);
-        Coordinate coordinates = extractCoordinates(htmlContent);
+    @Override
+    public CompletableFuture<LocationResult> extractAsync(String url) {
+        if (StringUtils.isBlank(url)) {
+            return CompletableFuture.completedFuture(new LocationResult());
+        }
+
+        StreamingHtmlScanner scanner = newScanner();
+        return httpClientUtils.scanUrlContentAsync(url, scanner)
+                .thenApply(scanned -> scanned ? extractLocationFromHtml(scanner) : new LocationResult())
+                .exceptionally(e -> {
+                    log.warn("Failed to extract location from Apple Maps URL content: {}", url, e);
+                    return new LocationResult();
+                });
+    }
+
+    private static StreamingHtmlScanner newScanner() {
+        return new StreamingHtmlScanner(CONTENT_PROBES, A1UrlContentExtractor::hasAllFields);
+    }
+
+    // The page title is only a fallback for the short address
+    private static boolean hasAllFields(StreamingHtmlScanner scanner) {
+        return scanner.found(PLACE_NAME_PATTERN)
+                && scanner.found(LATITUDE_PATTERN)
+                && scanner.found(LONGITUDE_PATTERN)
+                && scanner.found(SHORT_ADDRESS_PATTERN);
+    }
+
+    private LocationResult extractLocationFromHtml(StreamingHtmlScanner scanner) {
+        LocationInfo locationInfo = extractLocationInfo(scanner);
+        Coordinate coordinates = extractCoordinates(scanner);
 
         // Don't use "Marked Location" as place name
         String placeName = "Marked Location".equals(locationInfo.placeName()) ? null : locationInfo.placeName();
@@ -81,28 +127,28 @@ public class A1UrlContentExtractor implements AppleCoordinateExtractor {
         return result;
     }
 
-    private LocationInfo extractLocationInfo(String htmlContent) {
-        String placeName = extractPlaceName(htmlContent);
-        String address = extractAddress(htmlContent);
+    private LocationInfo extractLocationInfo(StreamingHtmlScanner scanner) {
+        String placeName = extractPlaceName(scanner);
+        String address = extractAddress(scanner);
         return new LocationInfo(placeName, address);
     }
 
     @Nullable
-    private String extractPlaceName(String htmlContent) {
-        return extractWithPattern(htmlContent, PLACE_NAME_PATTERN);
+    private String extractPlaceName(StreamingHtmlScanner scanner) {
+        return extractWithPattern(scanner, PLACE_NAME_PATTERN);
     }
 
     @Nullable
-    private String extractAddress(String htmlContent) {
+    private String extractAddress(StreamingHtmlScanner scanner) {
         // First try to extract from JSON data
-        return Optional.ofNullable(extractWithPattern(htmlContent, SHORT_ADDRESS_PATTERN))
+        return Optional.ofNullable(extractWithPattern(scanner, SHORT_ADDRESS_PATTERN))
                 .filter(StringUtils::isNotBlank)
-                .or(() -> extractAddressFromTitle(htmlContent))
+                .or(() -> extractAddressFromTitle(scanner))
                 .orElse(null);
     }
 
-    private Optional<String> extractAddressFromTitle(String htmlContent) {
-        return Optional.ofNullable(extractWithPattern(htmlContent, TITLE_PATTERN))
+    private Optional<String> extractAddressFromTitle(StreamingHtmlScanner scanner) {
+        return Optional.ofNullable(extractWithPattern(scanner, TITLE_PATTERN))
                 .filter(StringUtils::isNotBlank)
                 .map(this::parseAddressFromTitle);
     }
@@ -120,9 +166,9 @@ public class A1UrlContentExtractor implements AppleCoordinateExtractor {
     }
 
     @Nullable
-    private Coordinate extractCoordinates(String htmlContent) {
-        String latStr = extractWithPattern(htmlContent, LATITUDE_PATTERN);
-        String lonStr = extractWithPattern(htmlContent, LONGITUDE_PATTERN);
+    private Coordinate extractCoordinates(StreamingHtmlScanner scanner) {
+        String latStr = extractWithPattern(scanner, LATITUDE_PATTERN);
+        String lonStr = extractWithPattern(scanner, LONGITUDE_PATTERN);
 
         if (StringUtils.isNotBlank(latStr) && StringUtils.isNotBlank(lonStr)) {
             return parseCoordinateStrings(latStr, lonStr);
@@ -150,17 +196,8 @@ public class A1UrlContentExtractor implements AppleCoordinateExtractor {
     }
 
     @Nullable
-    private String extractWithPattern(String htmlContent, Pattern pattern) {
-        Matcher matcher = pattern.matcher(htmlContent);
-        if (matcher.find()) {
-            for (int i = 1; i <= matcher.groupCount(); i++) {
-                String group = matcher.group(i);
-                if (StringUtils.isNotBlank(group)) {
-                    return decode(group);
-                }
-            }
-        }
-        return null;
+    private String extractWithPattern(StreamingHtmlScanner scanner, Pattern pattern) {
+        return decode(scanner.firstNonBlankGroup(pattern));
     }
 
     String decode(String content) {
@@ -3,6 +3,7 @@ package com.example.mapsbridge.provider.extractor.google;
 import com.example.mapsbridge.dto.Coordinate;
 import com.example.mapsbridge.dto.LocationResult;
 import com.example.mapsbridge.provider.utils.HttpClientUtils;
+import com.example.mapsbridge.provider.utils.StreamingHtmlScanner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -12,12 +13,15 @@ import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * Extractor that fetches the URL content and extracts location information from HTML meta tags.
+ * The page is streamed and reading stops once the title and coordinates have been found.
  */
 @Component
 @Order(1)
@@ -46,8 +50,22 @@ public class G1UrlContentExtractor implements GoogleCoordinateExtractor {
 
     private static final Pattern PLACE_ADDRESS_SEPARATOR = Pattern.compile("\\s*[·•]\\s*");
 
+    private static final List<Pattern> CONTENT_PROBES = List.of(
+            META_TITLE_PATTERNS[0], META_TITLE_PATTERNS[1], META_TITLE_PATTERNS[2], COORDINATE_PATTERN
+    );
+
     private final HttpClientUtils httpClientUtils;
 
+    @Override
+    public boolean isNetworkBound() {
+        return true;
+    }
+
+    @Override
+    public boolean fetchesPageContent() {
+        return true;
+    }
+
     @Override
     public @NotNull LocationResult extract(String url) {
         if (StringUtils.isBlank(url)) {
@@ -55,18 +73,45 @@ public class G1UrlContentExtractor implements GoogleCoordinateExtractor {
         }
 
         try {
-            return httpClientUtils.fetchUrlContent(url)
-                    .map(content -> extractLocationFromHtml(content, url))
-                    .orElse(new LocationResult());
+            StreamingHtmlScanner scanner = newScanner();
+            if (!httpClientUtils.scanUrlContent(url, scanner)) {
+                return new LocationResult();
+            }
+            return extractLocationFromHtml(scanner, url);
         } catch (Exception e) {
             log.warn("Failed to extract location from URL content: {}", url, e);
             return new LocationResult();
         }
     }
 
-    private LocationResult extractLocationFromHtml(String htmlContent, String originalUrl) {
-        LocationInfo locationInfo = extractLocationInfo(htmlContent);
-        Coordinate coordinates = extractCoordinates(htmlContent, originalUrl);
+    @Override
+    public CompletableFuture<LocationResult> extractAsync(String url) {
+        if (StringUtils.isBlank(url)) {
+            return CompletableFuture.completedFuture(new LocationResult());
+        }
+
+        StreamingHtmlScanner scanner = newScanner();
+        return httpClientUtils.scanUrlContentAsync(url, scanner)
+                .thenApply(scanned -> scanned ? extractLocationFromHtml(scanner, url) : new LocationResult())
+                .exceptionally(e -> {
+                    log.warn("Failed to extract location from URL content: {}", url, e);
+                    return new LocationResult();
+                });
+    }
+
+    private static StreamingHtmlScanner newScanner() {
+        return new StreamingHtmlScanner(CONTENT_PROBES, G1UrlContentExtractor::hasTitleAndCoordinates);
+    }
+
+    // The fallback title pattern only matters when the page has no title meta tag at all
+    private static boolean hasTitleAndCoordinates(StreamingHtmlScanner scanner) {
+        return (scanner.found(META_TITLE_PATTERNS[0]) || scanner.found(META_TITLE_PATTERNS[1]))
+                && scanner.found(COORDINATE_PATTERN);
+    }
+
+    private LocationResult extractLocationFromHtml(StreamingHtmlScanner scanner, String originalUrl) {
+        LocationInfo locationInfo = extractLocationInfo(scanner);
+        Coordinate coordinates = extractCoordinates(scanner, originalUrl);
 
         LocationResult result = new LocationResult(null, null, coordinates, locationInfo.address(), locationInfo.placeName());
         log.info("G1UrlContentExtractor result: coordinates={}, address='{}', placeName='{}'",
@@ -75,15 +120,15 @@ public class G1UrlContentExtractor implements GoogleCoordinateExtractor {
         return result;
     }
 
-    private LocationInfo extractLocationInfo(String htmlContent) {
-        return extractMetaTitle(htmlContent)
+    private LocationInfo extractLocationInfo(StreamingHtmlScanner scanner) {
+        return extractMetaTitle(scanner)
                 .map(this::parseLocationFromTitle)
                 .orElse(LocationInfo.empty());
     }
 
-    private Optional<String> extractMetaTitle(String htmlContent) {
+    private Optional<String> extractMetaTitle(StreamingHtmlScanner scanner) {
         return Arrays.stream(META_TITLE_PATTERNS)
-                .map(pattern -> extractWithPattern(htmlContent, pattern))
+                .map(scanner::firstNonBlankGroup)
                 .filter(StringUtils::isNotBlank)
                 .map(this::decode)
                 .findFirst();
@@ -105,49 +150,39 @@ public class G1UrlContentExtractor implements GoogleCoordinateExtractor {
     }
 
     @Nullable
-    private String extractWithPattern(String htmlContent, Pattern pattern) {
-        Matcher matcher = pattern.matcher(htmlContent);
-        if (matcher.find()) {
-            for (int i = 1; i <= matcher.groupCount(); i++) {
-                String group = matcher.group(i);
-                if (StringUtils.isNotBlank(group)) {
-                    return group;
-                }
-            }
-        }
-        return null;
-    }
-
-    @Nullable
-    private Coordinate extractCoordinates(String htmlContent, String originalUrl) {
-        return extractCoordinatesFromContent(htmlContent)
+    private Coordinate extractCoordinates(StreamingHtmlScanner scanner, String originalUrl) {
+        return extractCoordinatesFromContent(scanner)
                 .or(() -> extractCoordinatesFromUrl(originalUrl))
                 .orElse(null);
     }
 
-    private Optional<Coordinate> extractCoordinatesFromContent(String htmlContent) {
-        return extractCoordinatesFromText(htmlContent, "HTML content");
+    private Optional<Coordinate> extractCoordinatesFromContent(StreamingHtmlScanner scanner) {
+        if (!scanner.found(COORDINATE_PATTERN)) {
+            return Optional.empty();
+        }
+        return parseCoordinates(scanner.group(COORDINATE_PATTERN, 1), scanner.group(COORDINATE_PATTERN, 2), "HTML content");
     }
 
     private Optional<Coordinate> extractCoordinatesFromUrl(String url) {
-        return extractCoordinatesFromText(url, "original URL");
-    }
-
-    private Optional<Coordinate> extractCoordinatesFromText(String text, String source) {
-        Matcher matcher = COORDINATE_PATTERN.matcher(text);
-        if (matcher.find()) {
-            try {
-                double lat = Double.parseDouble(matcher.group(1));
-                double lon = Double.parseDouble(matcher.group(2));
-                Coordinate coordinate = new Coordinate(lat, lon);
-
-                if (coordinate.isValid()) {
-                    log.debug("Extracted coordinates from {}: {},{}", source, lat, lon);
-                    return Optional.of(coordinate);
-                }
-            } catch (NumberFormatException e) {
-                log.warn("Invalid coordinate format found in {}", source);
+        Matcher matcher = COORDINATE_PATTERN.matcher(url);
+        if (!matcher.find()) {
+            return Optional.empty();
+        }
+        return parseCoordinates(matcher.group(1), matcher.group(2), "original URL");
+    }
+
+    private Optional<Coordinate> parseCoordinates(String latStr, String lonStr, String source) {
+        try {
+            double lat = Double.parseDouble(latStr);
+            double lon = Double.parseDouble(lonStr);
+            Coordinate coordinate = new Coordinate(lat, lon);
+
+            if (coordinate.isValid()) {
+                log.debug("Extracted coordinates from {}: {},{}", source, lat, lon);
+                return Optional.of(coordinate);
             }
+        } catch (NumberFormatException e) {
+            log.warn("Invalid coordinate format found in {}", source);
         }
         return Optional.empty();
     }
@@ -2,15 +2,13 @@ package com.example.mapsbridge.provider.extractor.google;
 
 import com.example.mapsbridge.dto.Coordinate;
 import com.example.mapsbridge.dto.LocationResult;
+import com.example.mapsbridge.provider.url.GoogleUrlScanner;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 import static com.example.mapsbridge.provider.utils.PlaceNameDecoder.extractPlaceName;
 
 /**
@@ -36,45 +34,16 @@ import static com.example.mapsbridge.provider.utils.PlaceNameDecoder.extractPlac
 @Slf4j
 public class G2LatLon3d4dExtractor implements GoogleCoordinateExtractor {
 
-    /**
-     * Regular expression pattern to match !3d!4d coordinate format in Google Maps URLs.
-     *
-     * <p>Pattern breakdown:
-     * <ul>
-     *   <li>!3d - literal string indicating latitude parameter</li>
-     *   <li>([\\-\\d.]+) - capturing group for latitude value (supports negative numbers and decimals)</li>
-     *   <li>!4d - literal string indicating longitude parameter</li>
-     *   <li>([\\-\\d.]+) - capturing group for longitude value (supports negative numbers and decimals)</li>
-     * </ul>
-     * </p>
-     */
-    private static final Pattern PATTERN_3D4D = Pattern.compile("!3d([\\-\\d.]+)!4d([\\-\\d.]+)");
-
     @Override
     public @NotNull LocationResult extract(String url) {
         if (StringUtils.isBlank(url)) {
             return new LocationResult();
         }
 
-        Matcher matcher = PATTERN_3D4D.matcher(url);
-        double lastLat = 0.0;
-        double lastLon = 0.0;
-        boolean found = false;
-
-        // Find the last occurrence of the pattern in the URL
-        while (matcher.find()) {
-            try {
-                lastLat = Double.parseDouble(matcher.group(1));
-                lastLon = Double.parseDouble(matcher.group(2));
-                found = true;
-            } catch (NumberFormatException e) {
-                log.warn("Invalid coordinate format in !3d!4d pattern: {}", url);
-            }
-        }
-
-        if (found) {
-            log.debug("Extracted coordinates from !3d!4d pattern: {},{}", lastLat, lastLon);
-            Coordinate coordinate = new Coordinate(lastLat, lastLon);
+        // The scanner keeps the last !3d!4d occurrence that parses
+        Coordinate coordinate = GoogleUrlScanner.scan(url).dataCoordinate();
+        if (coordinate != null) {
+            log.debug("Extracted coordinates from !3d!4d pattern: {},{}", coordinate.getLat(), coordinate.getLon());
 
             String placeName = extractPlaceName(url);
 
@@ -2,6 +2,7 @@ package com.example.mapsbridge.provider.extractor.google;
 
 import com.example.mapsbridge.dto.Coordinate;
 import com.example.mapsbridge.dto.LocationResult;
+import com.example.mapsbridge.provider.url.GoogleUrlScanner;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
@@ -9,9 +10,6 @@ import org.jetbrains.annotations.Nullable;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 import static com.example.mapsbridge.provider.utils.PlaceNameDecoder.extractPlaceName;
 
 /**
@@ -40,12 +38,6 @@ import static com.example.mapsbridge.provider.utils.PlaceNameDecoder.extractPlac
 @Slf4j
 public class G3AtSymbolExtractor implements GoogleCoordinateExtractor {
 
-    /**
-     * Regular expression pattern to match coordinates in the format @latitude,longitude.
-     * Supports both positive and negative decimal numbers.
-     */
-    private static final Pattern COORDINATE_PATTERN = Pattern.compile("@([\\-\\d.]+),([\\-\\d.]+)");
-
     @Override
     public @NotNull LocationResult extract(String url) {
         if (StringUtils.isBlank(url)) {
@@ -63,19 +55,10 @@ public class G3AtSymbolExtractor implements GoogleCoordinateExtractor {
 
     @Nullable
     private Coordinate extractCoordinate(String url) {
-        Matcher matcher = COORDINATE_PATTERN.matcher(url);
-        if (!matcher.find()) {
-            return null;
-        }
-
-        try {
-            double lat = Double.parseDouble(matcher.group(1));
-            double lon = Double.parseDouble(matcher.group(2));
-            log.debug("Extracted coordinates from @ pattern: {},{}", lat, lon);
-            return new Coordinate(lat, lon);
-        } catch (NumberFormatException e) {
-            log.warn("Invalid coordinate format in @ pattern: {}", url);
-            return null;
+        Coordinate coordinate = GoogleUrlScanner.scan(url).atCoordinate();
+        if (coordinate != null) {
+            log.debug("Extracted coordinates from @ pattern: {},{}", coordinate.getLat(), coordinate.getLon());
         }
+        return coordinate;
     }
 }
\ No newline at end of file
@@ -2,15 +2,13 @@ package com.example.mapsbridge.provider.extractor.google;
 
 import com.example.mapsbridge.dto.Coordinate;
 import com.example.mapsbridge.dto.LocationResult;
+import com.example.mapsbridge.provider.url.GoogleUrlScanner;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 /**
  * Extractor that handles /search/LAT,LON URLs in Google Maps.
  */
@@ -19,26 +17,16 @@ import java.util.regex.Pattern;
 @Slf4j
 public class G5SearchPatternExtractor implements GoogleCoordinateExtractor {
 
-    private static final Pattern SEARCH_PATTERN = Pattern.compile("/search/([-+]?\\d+\\.\\d+),([-+]?\\d+\\.\\d+)");
-
     @Override
     public @NotNull LocationResult extract(String url) {
         if (StringUtils.isBlank(url)) {
             return new LocationResult();
         }
 
-        Matcher matcher = SEARCH_PATTERN.matcher(url);
-        if (matcher.find()) {
-            try {
-                double lat = Double.parseDouble(matcher.group(1));
-                double lon = Double.parseDouble(matcher.group(2));
-                log.debug("Extracted coordinates from /search/ pattern: {},{}", lat, lon);
-                Coordinate coordinate = new Coordinate(lat, lon);
-                
-                return LocationResult.fromCoordinates(coordinate);
-            } catch (NumberFormatException e) {
-                log.warn("Invalid coordinate format in /search/ pattern: {}", url);
-            }
+        Coordinate coordinate = GoogleUrlScanner.scan(url).searchCoordinate();
+        if (coordinate != null) {
+            log.debug("Extracted coordinates from /search/ pattern: {},{}", coordinate.getLat(), coordinate.getLon());
+            return LocationResult.fromCoordinates(coordinate);
         }
 
         return new LocationResult();
@@ -10,6 +10,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Extractor that extracts place IDs from Google Maps URLs and resolves them to coordinates.
  * This is part of the Chain of Responsibility pattern for coordinate extraction.
@@ -36,6 +38,11 @@ public class G6PlaceIdExtractor implements GoogleCoordinateExtractor {
         this.urlPatternExtractor = urlPatternExtractor;
     }
 
+    @Override
+    public boolean isNetworkBound() {
+        return true;
+    }
+
     @Override
     public @NotNull LocationResult extract(String url) {
         if (StringUtils.isBlank(url)) {
@@ -51,6 +58,26 @@ public class G6PlaceIdExtractor implements GoogleCoordinateExtractor {
         }
     }
 
+    @Override
+    public CompletableFuture<LocationResult> extractAsync(String url) {
+        if (StringUtils.isBlank(url)) {
+            return CompletableFuture.completedFuture(new LocationResult());
+        }
+
+        log.debug("Processing URL for place ID extraction: {}", url);
+        return urlPatternExtractor.findPlaceId(url)
+                .map(placeId -> {
+                    log.debug("Found place ID: {}, attempting to resolve", placeId);
+                    return geocodingService.getLocationFromPlaceIdAsync(placeId)
+                            .thenApply(this::toLocationResult);
+                })
+                .orElseGet(() -> CompletableFuture.completedFuture(new LocationResult()))
+                .exceptionally(e -> {
+                    log.error("Error extracting place ID from URL: {}", e.getMessage());
+                    return new LocationResult();
+                });
+    }
+
     /**
      * Extracts place ID from URL and resolves it to location information.
      *
@@ -72,8 +99,10 @@ public class G6PlaceIdExtractor implements GoogleCoordinateExtractor {
     private LocationResult resolveLocationFromPlaceId(String placeId) {
         log.debug("Found place ID: {}, attempting to resolve", placeId);
 
-        LocationResult result = geocodingService.getLocationFromPlaceId(placeId);
+        return toLocationResult(geocodingService.getLocationFromPlaceId(placeId));
+    }
 
+    private LocationResult toLocationResult(LocationResult result) {
         if (isValidLocationResult(result)) {
             log.debug("Successfully resolved place ID {}", result);
             return result;
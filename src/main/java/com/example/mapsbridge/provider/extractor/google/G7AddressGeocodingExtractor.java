@@ -10,6 +10,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Final fallback extractor that geocodes address queries from Google Maps URLs.
  * This should be the last extractor in the chain, used when no coordinates or place IDs are found.
@@ -31,6 +33,11 @@ public class G7AddressGeocodingExtractor implements GoogleCoordinateExtractor {
         this.urlPatternExtractor = urlPatternExtractor;
     }
 
+    @Override
+    public boolean isNetworkBound() {
+        return true;
+    }
+
     @Override
     public @NotNull LocationResult extract(String url) {
         if (StringUtils.isBlank(url)) {
@@ -49,6 +56,26 @@ public class G7AddressGeocodingExtractor implements GoogleCoordinateExtractor {
         }
     }
 
+    @Override
+    public CompletableFuture<LocationResult> extractAsync(String url) {
+        if (StringUtils.isBlank(url)) {
+            return CompletableFuture.completedFuture(new LocationResult());
+        }
+
+        log.debug("Processing URL for address geocoding: {}", url);
+        return urlPatternExtractor.findAddressQuery(url)
+                .map(query -> {
+                    log.debug("Found address query: {}, attempting to geocode", query);
+                    return geocodingService.geocodeQueryAsync(query)
+                            .thenApply(result -> toLocationResult(query, result));
+                })
+                .orElseGet(() -> CompletableFuture.completedFuture(new LocationResult()))
+                .exceptionally(e -> {
+                    log.error("Error geocoding address from URL: {}", e.getMessage());
+                    return new LocationResult();
+                });
+    }
+
     /**
      * Geocodes an address query to location information using the geocoding service.
      *
@@ -57,8 +84,10 @@ public class G7AddressGeocodingExtractor implements GoogleCoordinateExtractor {
      */
     private LocationResult geocodeAddress(String query) {
         log.debug("Found address query: {}, attempting to geocode", query);
-        LocationResult result = geocodingService.geocodeQuery(query);
+        return toLocationResult(query, geocodingService.geocodeQuery(query));
+    }
 
+    private LocationResult toLocationResult(String query, LocationResult result) {
         if (result != null && result.hasValidCoordinates()) {
             // Set the original query as the address in the result
             result.setAddress(query);
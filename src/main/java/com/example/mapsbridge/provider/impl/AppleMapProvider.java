@@ -4,6 +4,7 @@ import com.example.mapsbridge.config.metrics.tracker.MapProviderTracker;
 import com.example.mapsbridge.dto.LocationResult;
 import com.example.mapsbridge.dto.MapType;
 import com.example.mapsbridge.provider.AbstractMapProvider;
+import com.example.mapsbridge.provider.cache.ResolvedUrlCache;
 import com.example.mapsbridge.provider.extractor.apple.AppleCoordinateExtractor;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.OkHttpClient;
@@ -42,8 +43,9 @@ public class AppleMapProvider extends AbstractMapProvider {
             OkHttpClient httpClient,
             @Value("${maps.apple.url}") String urlTemplate,
             List<AppleCoordinateExtractor> extractors,
-            MapProviderTracker mapProviderTracker) {
-        super(httpClient, urlTemplate, URL_PATTERN, extractors, mapProviderTracker);
+            MapProviderTracker mapProviderTracker,
+            ResolvedUrlCache resolvedUrlCache) {
+        super(httpClient, urlTemplate, URL_PATTERN, extractors, mapProviderTracker, resolvedUrlCache);
     }
 
     @Override
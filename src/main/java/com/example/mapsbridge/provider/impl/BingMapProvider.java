@@ -3,6 +3,7 @@ package com.example.mapsbridge.provider.impl;
 import com.example.mapsbridge.config.metrics.tracker.MapProviderTracker;
 import com.example.mapsbridge.dto.MapType;
 import com.example.mapsbridge.provider.AbstractMapProvider;
+import com.example.mapsbridge.provider.cache.ResolvedUrlCache;
 import com.example.mapsbridge.provider.extractor.bing.BingCoordinateExtractor;
 import okhttp3.OkHttpClient;
 import org.springframework.beans.factory.annotation.Value;
@@ -29,8 +30,9 @@ public class BingMapProvider extends AbstractMapProvider {
             OkHttpClient httpClient,
             @Value("${maps.bing.url:https://www.bing.com/maps?q={lat},{lon}}") String urlTemplate,
             List<BingCoordinateExtractor> extractors,
-            MapProviderTracker mapProviderTracker) {
-        super(httpClient, urlTemplate, URL_PATTERN, extractors, mapProviderTracker);
+            MapProviderTracker mapProviderTracker,
+            ResolvedUrlCache resolvedUrlCache) {
+        super(httpClient, urlTemplate, URL_PATTERN, extractors, mapProviderTracker, resolvedUrlCache);
     }
 
     @Override
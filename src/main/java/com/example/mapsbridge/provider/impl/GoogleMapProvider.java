@@ -1,8 +1,11 @@
 package com.example.mapsbridge.provider.impl;
 
 import com.example.mapsbridge.config.metrics.tracker.MapProviderTracker;
+import com.example.mapsbridge.dto.LocationResult;
 import com.example.mapsbridge.dto.MapType;
 import com.example.mapsbridge.provider.AbstractMapProvider;
+import com.example.mapsbridge.provider.cache.ResolvedUrlCache;
+import com.example.mapsbridge.provider.extractor.ParallelExtractionRunner;
 import com.example.mapsbridge.provider.extractor.google.GoogleCoordinateExtractor;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.OkHttpClient;
@@ -11,11 +14,16 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.regex.Pattern;
 
 /**
  * Google Maps provider implementation.
  * Uses Chain of Responsibility pattern for coordinate extraction.
+ * <p>
+ * With {@code maps.extraction.parallel.enabled} the chain runs speculatively: the pure URL-parsing
+ * extractors run first, then all network-bound extractors run concurrently and the one with the
+ * highest {@code @Order} that succeeds wins.
  */
 @Service
 @Slf4j
@@ -23,20 +31,26 @@ public class GoogleMapProvider extends AbstractMapProvider {
 
     private static final Pattern URL_PATTERN = Pattern.compile("https?://(www\\.)?google\\.com/maps.*|https?://maps\\.google\\.com.*|https?://maps\\.app\\.goo\\.gl/.*|https?://goo\\.gl/maps/.*");
 
+    private final ParallelExtractionRunner parallelExtractionRunner;
+
     /**
      * Constructor with dependency injection.
      *
      * @param httpClient  The OkHttpClient for HTTP requests
      * @param urlTemplate The URL template from configuration
      * @param extractors  The list of coordinate extractors
+     * @param parallelExtractionRunner The runner used for speculative parallel extraction
      */
     @Autowired
     public GoogleMapProvider(
             OkHttpClient httpClient,
             @Value("${maps.google.url:https://www.google.com/maps?q={lat},{lon}}") String urlTemplate,
             List<GoogleCoordinateExtractor> extractors,
-            MapProviderTracker mapProviderTracker) {
-        super(httpClient, urlTemplate, URL_PATTERN, extractors, mapProviderTracker);
+            MapProviderTracker mapProviderTracker,
+            ResolvedUrlCache resolvedUrlCache,
+            ParallelExtractionRunner parallelExtractionRunner) {
+        super(httpClient, urlTemplate, URL_PATTERN, extractors, mapProviderTracker, resolvedUrlCache);
+        this.parallelExtractionRunner = parallelExtractionRunner;
     }
 
     @Override
@@ -44,4 +58,18 @@ public class GoogleMapProvider extends AbstractMapProvider {
         return MapType.GOOGLE;
     }
 
+    @Override
+    protected LocationResult runExtractors(String finalUrl) {
+        if (!parallelExtractionRunner.isEnabled()) {
+            return super.runExtractors(finalUrl);
+        }
+
+        // The parsing extractors already found nothing in the URL
+        List<Callable<LocationResult>> networkTasks = networkBoundExtractors.stream()
+                .<Callable<LocationResult>>map(extractor -> () -> applyExtractor(extractor, finalUrl))
+                .toList();
+        return parallelExtractionRunner.firstAccepted(networkTasks, LocationResult::hasValidCoordinates)
+                .orElse(null);
+    }
+
 }
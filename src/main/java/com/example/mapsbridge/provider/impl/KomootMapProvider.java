@@ -3,6 +3,7 @@ package com.example.mapsbridge.provider.impl;
 import com.example.mapsbridge.config.metrics.tracker.MapProviderTracker;
 import com.example.mapsbridge.dto.MapType;
 import com.example.mapsbridge.provider.AbstractMapProvider;
+import com.example.mapsbridge.provider.cache.ResolvedUrlCache;
 import com.example.mapsbridge.provider.extractor.komoot.KomootCoordinateExtractor;
 import okhttp3.OkHttpClient;
 import org.springframework.beans.factory.annotation.Value;
@@ -29,8 +30,9 @@ public class KomootMapProvider extends AbstractMapProvider {
             OkHttpClient httpClient,
             @Value("${maps.komoot.url}") String urlTemplate,
             List<KomootCoordinateExtractor> extractors,
-            MapProviderTracker mapProviderTracker) {
-        super(httpClient, urlTemplate, URL_PATTERN, extractors, mapProviderTracker);
+            MapProviderTracker mapProviderTracker,
+            ResolvedUrlCache resolvedUrlCache) {
+        super(httpClient, urlTemplate, URL_PATTERN, extractors, mapProviderTracker, resolvedUrlCache);
     }
 
     @Override
@@ -6,6 +6,7 @@ import com.example.mapsbridge.config.metrics.tracker.MapProviderTracker;
 import com.example.mapsbridge.dto.LocationResult;
 import com.example.mapsbridge.dto.MapType;
 import com.example.mapsbridge.provider.AbstractMapProvider;
+import com.example.mapsbridge.provider.cache.ResolvedUrlCache;
 import com.example.mapsbridge.provider.extractor.waze.WazeCoordinateExtractor;
 import okhttp3.OkHttpClient;
 import org.springframework.beans.factory.annotation.Value;
@@ -35,8 +36,9 @@ public class WazeMapProvider extends AbstractMapProvider {
             @Value("${maps.waze.url}") String urlTemplate,
             @Value("${maps.waze.shortcut.url}") String shortcutUrlTemplate,
             List<WazeCoordinateExtractor> extractors,
-            MapProviderTracker mapProviderTracker) {
-        super(webClient, urlTemplate, URL_PATTERN, extractors, mapProviderTracker);
+            MapProviderTracker mapProviderTracker,
+            ResolvedUrlCache resolvedUrlCache) {
+        super(webClient, urlTemplate, URL_PATTERN, extractors, mapProviderTracker, resolvedUrlCache);
         this.shortcutUrlTemplate = shortcutUrlTemplate;
     }
 
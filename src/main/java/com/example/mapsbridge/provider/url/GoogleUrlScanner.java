@@ -0,0 +1,320 @@
+package com.example.mapsbridge.provider.url;
+
+import com.example.mapsbridge.dto.Coordinate;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Single-pass scanner for Google Maps URLs.
+ *
+ * <p>Finds every coordinate and place form the Google extractors look for in one walk over the
+ * URL, instead of one regular expression scan per extractor:
+ * <ul>
+ *   <li>{@code !3dLAT!4dLON} data segments (last valid occurrence, see G2)</li>
+ *   <li>{@code @LAT,LON} segments (first occurrence, see G3)</li>
+ *   <li>{@code q=LAT,LON} parameters, URL-decoded, with dot or comma decimals (see G4)</li>
+ *   <li>{@code /search/LAT,LON} paths (see G5)</li>
+ *   <li>{@code place_id=} parameters and {@code !1s} data segments (see {@link UrlPatternExtractor#findPlaceId})</li>
+ *   <li>{@code q=} address queries (see {@link UrlPatternExtractor#findAddressQuery})</li>
+ * </ul>
+ *
+ * <p>Each extractor scans the URL for its own token. A scan is a single linear pass, so even
+ * repeated per extractor it does less work than the regular expressions it replaced.
+ */
+@Slf4j
+public final class GoogleUrlScanner {
+
+    private static final String DATA_LAT = "!3d";
+    private static final String DATA_LON = "!4d";
+    private static final String DATA_PLACE_ID = "!1s";
+    private static final String SEARCH = "/search/";
+    private static final String PLACE_ID_PARAM = "place_id=";
+    private static final String QUERY_PARAM = "q=";
+    private static final String ENCODED_EQUALS = "%3D";
+
+    private GoogleUrlScanner() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Scan a URL for all Google coordinate and place tokens.
+     *
+     * @param url The URL to scan
+     * @return The tokens found in the URL
+     */
+    public static GoogleUrlTokens scan(String url) {
+        if (url == null) {
+            return GoogleUrlTokens.EMPTY;
+        }
+
+        int length = url.length();
+        // G4 falls back to the raw URL when any escape in it is malformed, decoding nothing
+        boolean decodable = hasValidEscapes(url);
+        Coordinate data = null;
+        Coordinate at = null;
+        boolean atFound = false;
+        Coordinate query = null;
+        Coordinate search = null;
+        String placeIdParam = null;
+        String placeIdData = null;
+        String addressQuery = null;
+
+        for (int i = 0; i < length; i++) {
+            switch (url.charAt(i)) {
+                case '!' -> {
+                    if (url.startsWith(DATA_LAT, i)) {
+                        Coordinate candidate = dataCoordinateAt(url, i + DATA_LAT.length());
+                        if (candidate != null) {
+                            data = candidate;
+                        }
+                    } else if (placeIdData == null && url.startsWith(DATA_PLACE_ID, i)) {
+                        placeIdData = placeIdAt(url, i + DATA_PLACE_ID.length(), true);
+                    }
+                }
+                case '@' -> {
+                    if (!atFound) {
+                        int latEnd = numberRunEnd(url, i + 1);
+                        if (latEnd > i + 1 && latEnd < length && url.charAt(latEnd) == ',') {
+                            int lonEnd = numberRunEnd(url, latEnd + 1);
+                            if (lonEnd > latEnd + 1) {
+                                // First structural match wins even if it does not parse, like G3
+                                atFound = true;
+                                at = parse(url.substring(i + 1, latEnd), url.substring(latEnd + 1, lonEnd));
+                            }
+                        }
+                    }
+                }
+                case 'q' -> {
+                    if (url.startsWith(QUERY_PARAM, i)) {
+                        int valueStart = i + QUERY_PARAM.length();
+                        if (addressQuery == null) {
+                            addressQuery = addressQueryAt(url, valueStart);
+                        }
+                        if (query == null) {
+                            query = queryCoordinateAt(url, valueStart, decodable);
+                        }
+                    } else if (query == null && decodable && url.regionMatches(true, i + 1, ENCODED_EQUALS, 0, ENCODED_EQUALS.length())) {
+                        // q%3D decodes to q=, which the decoded-URL semantics of G4 also match
+                        query = queryCoordinateAt(url, i + 1 + ENCODED_EQUALS.length(), true);
+                    }
+                }
+                case '/' -> {
+                    if (search == null && url.startsWith(SEARCH, i)) {
+                        search = searchCoordinateAt(url, i + SEARCH.length());
+                    }
+                }
+                case 'p' -> {
+                    if (placeIdParam == null && url.startsWith(PLACE_ID_PARAM, i)) {
+                        placeIdParam = placeIdAt(url, i + PLACE_ID_PARAM.length(), false);
+                    }
+                }
+                default -> {
+                    // not a token start
+                }
+            }
+        }
+
+        String placeId = placeIdParam != null ? placeIdParam : placeIdData;
+        return new GoogleUrlTokens(data, at, query, search, placeId, addressQuery);
+    }
+
+    // !3dLAT!4dLON, both [-0-9.]+
+    @Nullable
+    private static Coordinate dataCoordinateAt(String url, int start) {
+        int latEnd = numberRunEnd(url, start);
+        if (latEnd == start || !url.startsWith(DATA_LON, latEnd)) {
+            return null;
+        }
+        int lonStart = latEnd + DATA_LON.length();
+        int lonEnd = numberRunEnd(url, lonStart);
+        if (lonEnd == lonStart) {
+            return null;
+        }
+        return parse(url.substring(start, latEnd), url.substring(lonStart, lonEnd));
+    }
+
+    // /search/LAT,LON, both [-+]?\d+\.\d+
+    @Nullable
+    private static Coordinate searchCoordinateAt(String url, int start) {
+        int latEnd = decimalEnd(url, start);
+        if (latEnd < 0 || latEnd >= url.length() || url.charAt(latEnd) != ',') {
+            return null;
+        }
+        int lonEnd = decimalEnd(url, latEnd + 1);
+        if (lonEnd < 0) {
+            return null;
+        }
+        return parse(url.substring(start, latEnd), url.substring(latEnd + 1, lonEnd));
+    }
+
+    // q=LAT,LON on the decoded value, both -?\d+[.,]?\d* (same backtracking as the G4 expression)
+    @Nullable
+    private static Coordinate queryCoordinateAt(String url, int start, boolean decode) {
+        // Cheap reject of q=New+York style values before decoding anything
+        if (start >= url.length() || !(isDigit(url.charAt(start)) || url.charAt(start) == '-' || url.charAt(start) == '%')) {
+            return null;
+        }
+        String value = decodeValue(url, start, decode);
+
+        int latDigitsEnd = signedDigitsEnd(value, 0);
+        if (latDigitsEnd < 0) {
+            return null;
+        }
+
+        // Preferred: digits, decimal separator, digits, then the comma; otherwise digits then the comma
+        int withFraction = -1;
+        if (latDigitsEnd < value.length() && isDecimalSeparator(value.charAt(latDigitsEnd))) {
+            int fractionEnd = digitsEnd(value, latDigitsEnd + 1);
+            if (fractionEnd < value.length() && value.charAt(fractionEnd) == ',') {
+                withFraction = fractionEnd;
+            }
+        }
+        int withoutFraction = latDigitsEnd < value.length() && value.charAt(latDigitsEnd) == ',' ? latDigitsEnd : -1;
+
+        Coordinate coordinate = withFraction >= 0 ? queryCoordinateWithLatEnd(value, withFraction) : null;
+        if (coordinate == null && withoutFraction >= 0) {
+            coordinate = queryCoordinateWithLatEnd(value, withoutFraction);
+        }
+        return coordinate;
+    }
+
+    @Nullable
+    private static Coordinate queryCoordinateWithLatEnd(String value, int latEnd) {
+        int lonStart = latEnd + 1;
+        int lonEnd = signedDigitsEnd(value, lonStart);
+        if (lonEnd < 0) {
+            return null;
+        }
+        if (lonEnd < value.length() && isDecimalSeparator(value.charAt(lonEnd))) {
+            lonEnd = digitsEnd(value, lonEnd + 1);
+        }
+        return parse(value.substring(0, latEnd).replace(',', '.'),
+                value.substring(lonStart, lonEnd).replace(',', '.'));
+    }
+
+    // q=([^&]+), URL-decoded
+    @Nullable
+    private static String addressQueryAt(String url, int start) {
+        int end = url.indexOf('&', start);
+        if (end < 0) {
+            end = url.length();
+        }
+        if (end == start) {
+            return null;
+        }
+
+        String query = url.substring(start, end);
+        try {
+            return URLDecoder.decode(query, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            log.warn("Error decoding query: {}", query, e);
+            return query.replace("+", " ");
+        }
+    }
+
+    // [\w-]+ for place_id=, [\w-:]+ for !1s
+    @Nullable
+    private static String placeIdAt(String url, int start, boolean allowColon) {
+        int end = start;
+        while (end < url.length()) {
+            char c = url.charAt(end);
+            if (isWordChar(c) || c == '-' || (allowColon && c == ':')) {
+                end++;
+            } else {
+                break;
+            }
+        }
+        return end > start ? url.substring(start, end) : null;
+    }
+
+    /**
+     * Decode the parameter value starting at the given index, up to the next {@code &}.
+     * Only the value is decoded rather than the whole URL; no number can span an {@code &}.
+     */
+    private static String decodeValue(String url, int start, boolean decode) {
+        int end = url.indexOf('&', start);
+        String value = url.substring(start, end < 0 ? url.length() : end);
+        if (!decode || (value.indexOf('%') < 0 && value.indexOf('+') < 0)) {
+            return value;
+        }
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    // URLDecoder rejects a % that is not followed by two hex digits
+    private static boolean hasValidEscapes(String url) {
+        for (int i = url.indexOf('%'); i >= 0; i = url.indexOf('%', i + 3)) {
+            if (i + 2 >= url.length() || !isHexDigit(url.charAt(i + 1)) || !isHexDigit(url.charAt(i + 2))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Nullable
+    private static Coordinate parse(String lat, String lon) {
+        try {
+            return new Coordinate(Double.parseDouble(lat), Double.parseDouble(lon));
+        } catch (NumberFormatException e) {
+            log.debug("Invalid coordinate format: {},{}", lat, lon);
+            return null;
+        }
+    }
+
+    private static int numberRunEnd(String s, int start) {
+        int end = start;
+        while (end < s.length()) {
+            char c = s.charAt(end);
+            if (isDigit(c) || c == '-' || c == '.') {
+                end++;
+            } else {
+                break;
+            }
+        }
+        return end;
+    }
+
+    private static int digitsEnd(String s, int start) {
+        int end = start;
+        while (end < s.length() && isDigit(s.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    // -?\d+ ; returns -1 if there are no digits
+    private static int signedDigitsEnd(String s, int start) {
+        int digitsStart = start < s.length() && s.charAt(start) == '-' ? start + 1 : start;
+        int end = digitsEnd(s, digitsStart);
+        return end > digitsStart ? end : -1;
+    }
+
+    // [-+]?\d+\.\d+ ; returns -1 if not matched
+    private static int decimalEnd(String s, int start) {
+        int digitsStart = start < s.length() && (s.charAt(start) == '-' || s.charAt(start) == '+') ? start + 1 : start;
+        int integerEnd = digitsEnd(s, digitsStart);
+        if (integerEnd == digitsStart || integerEnd >= s.length() || s.charAt(integerEnd) != '.') {
+            return -1;
+        }
+        int fractionEnd = digitsEnd(s, integerEnd + 1);
+        return fractionEnd > integerEnd + 1 ? fractionEnd : -1;
+    }
+
+    private static boolean isDecimalSeparator(char c) {
+        return c == '.' || c == ',';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHexDigit(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    private static boolean isWordChar(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.mapsbridge.provider.url;
+
+import com.example.mapsbridge.dto.Coordinate;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Coordinate and place tokens found in a Google Maps URL by {@link GoogleUrlScanner}.
+ * Coordinate accessors return fresh copies, as {@link Coordinate} is mutable.
+ *
+ * @param dataCoordinate   The last valid {@code !3dLAT!4dLON} coordinate
+ * @param atCoordinate     The first {@code @LAT,LON} coordinate
+ * @param queryCoordinate  The first {@code q=LAT,LON} coordinate
+ * @param searchCoordinate The first {@code /search/LAT,LON} coordinate
+ * @param placeId          The place ID from {@code place_id=} or else the first {@code !1s} segment
+ * @param addressQuery     The first decoded {@code q=} value
+ */
+public record GoogleUrlTokens(@Nullable Coordinate dataCoordinate,
+                              @Nullable Coordinate atCoordinate,
+                              @Nullable Coordinate queryCoordinate,
+                              @Nullable Coordinate searchCoordinate,
+                              @Nullable String placeId,
+                              @Nullable String addressQuery) {
+
+    static final GoogleUrlTokens EMPTY = new GoogleUrlTokens(null, null, null, null, null, null);
+
+    @Override
+    public Coordinate dataCoordinate() {
+        return copy(dataCoordinate);
+    }
+
+    @Override
+    public Coordinate atCoordinate() {
+        return copy(atCoordinate);
+    }
+
+    @Override
+    public Coordinate queryCoordinate() {
+        return copy(queryCoordinate);
+    }
+
+    @Override
+    public Coordinate searchCoordinate() {
+        return copy(searchCoordinate);
+    }
+
+    private static Coordinate copy(Coordinate coordinate) {
+        return coordinate == null ? null : new Coordinate(coordinate.getLat(), coordinate.getLon());
+    }
+}
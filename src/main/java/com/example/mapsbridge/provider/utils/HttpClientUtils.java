@@ -1,53 +1,140 @@
 package com.example.mapsbridge.provider.utils;
 
-import lombok.AllArgsConstructor;
+import com.example.mapsbridge.config.logging.LoggingContext;
+import com.example.mapsbridge.config.metrics.Outcome;
+import com.example.mapsbridge.config.metrics.tracker.MapProviderTracker;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
 import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.util.Optional;
+import java.io.Reader;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Component
-@AllArgsConstructor
 public class HttpClientUtils {
+    private static final int READ_BUFFER_SIZE = 8 * 1024;
+
     private final OkHttpClient httpClient;
+    private final MapProviderTracker metrics;
 
     /**
-     * Fetches content from a URL using HTTP GET request.
+     * Constructor with dependency injection.
      *
-     * @param url The URL to fetch content from
-     * @return Optional containing the content as a string, or empty if the request failed
-     * @throws IOException If an I/O error occurs during the request
+     * @param httpClient The OkHttpClient with the timeout budget for fetching page content
+     * @param metrics    The map provider tracker
      */
-    public Optional<String> fetchUrlContent(String url) throws IOException {
+    public HttpClientUtils(@Qualifier("contentHttpClient") OkHttpClient httpClient, MapProviderTracker metrics) {
+        this.httpClient = httpClient;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Streams the content of a URL through the given scanner, reading the body only until the
+     * scanner is complete. The response is then closed, so the rest of the page is not read.
+     *
+     * @param url     The URL to fetch content from
+     * @param scanner The scanner to feed the content to
+     * @return true if the page was fetched and scanned, false if the request or the read failed
+     * @throws IOException If an I/O error occurs while executing the request
+     */
+    public boolean scanUrlContent(String url, StreamingHtmlScanner scanner) throws IOException {
         if (StringUtils.isBlank(url)) {
-            return Optional.empty();
+            return false;
         }
 
         Request request = new Request.Builder().url(url).build();
+        long startNanos = System.nanoTime();
 
         try (Response response = httpClient.newCall(request).execute()) {
-            if (!response.isSuccessful()) {
-                log.warn("HTTP request failed with status: {} for URL: {}", response.code(), url);
-                return Optional.empty();
+            boolean scanned = scanResponse(url, response, scanner);
+            metrics.recordPageFetch(scanned ? Outcome.SUCCESS : Outcome.FAILURE, startNanos);
+            return scanned;
+        } catch (IOException | RuntimeException e) {
+            metrics.recordPageFetch(Outcome.ERROR, startNanos);
+            throw e;
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #scanUrlContent(String, StreamingHtmlScanner)}. The request is
+     * enqueued on the OkHttp dispatcher and the body is scanned on its thread once headers arrive,
+     * with the logging context of the caller.
+     *
+     * @param url     The URL to fetch content from
+     * @param scanner The scanner to feed the content to
+     * @return Future completing with true if the page was fetched and scanned, false otherwise
+     */
+    public CompletableFuture<Boolean> scanUrlContentAsync(String url, StreamingHtmlScanner scanner) {
+        if (StringUtils.isBlank(url)) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        Request request = new Request.Builder().url(url).build();
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        Map<String, String> loggingContext = LoggingContext.capture();
+        long startNanos = System.nanoTime();
+
+        httpClient.newCall(request).enqueue(new Callback() {
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull Response response) {
+                LoggingContext.runWith(loggingContext, () -> {
+                    try (response) {
+                        boolean scanned = scanResponse(url, response, scanner);
+                        metrics.recordPageFetch(scanned ? Outcome.SUCCESS : Outcome.FAILURE, startNanos);
+                        future.complete(scanned);
+                    }
+                });
+            }
+
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                LoggingContext.runWith(loggingContext, () -> {
+                    metrics.recordPageFetch(Outcome.ERROR, startNanos);
+                    future.completeExceptionally(e);
+                });
             }
+        });
+        return future;
+    }
+
+    private boolean scanResponse(String url, Response response, StreamingHtmlScanner scanner) {
+        if (!response.isSuccessful()) {
+            log.warn("HTTP request failed with status: {} for URL: {}", response.code(), url);
+            return false;
+        }
 
-            return Optional.ofNullable(response.body())
-                    .map(body -> {
-                        try {
-                            String content = body.string();
-                            log.debug("Successfully fetched content from URL: {} (length: {})", url, content.length());
-                            return content;
-                        } catch (IOException e) {
-                            log.warn("Failed to read response body for URL: {}", url, e);
-                            return null;
-                        }
-                    });
+        ResponseBody body = response.body();
+        if (body == null) {
+            return false;
+        }
+
+        try {
+            Reader reader = body.charStream();
+            char[] buffer = new char[READ_BUFFER_SIZE];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                if (scanner.feed(buffer, 0, read)) {
+                    log.debug("Stopped reading URL: {} after {} chars, all fields found", url, scanner.charsRead());
+                    return true;
+                }
+            }
+            scanner.finish();
+            log.debug("Scanned content from URL: {} (length: {})", url, scanner.charsRead());
+            return true;
+        } catch (IOException e) {
+            log.warn("Failed to read response body for URL: {}", url, e);
+            return false;
         }
     }
 }
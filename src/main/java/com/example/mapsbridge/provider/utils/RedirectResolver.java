@@ -0,0 +1,253 @@
+package com.example.mapsbridge.provider.utils;
+
+import com.example.mapsbridge.config.logging.LoggingContext;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.net.ProtocolException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+
+/**
+ * Resolves the redirects of a URL by walking the hops one request at a time, without
+ * downloading any page.
+ * <p>
+ * Each hop is requested with HEAD, or with a GET that is cancelled once its headers arrived when
+ * the server rejects HEAD, and only its {@code Location} header is used. Walking stops early at
+ * the first URL the given predicate accepts, typically one the parsing extractors can already read
+ * coordinates from, so a short link costs one small round-trip instead of a full map page.
+ * <p>
+ * Hosts that rejected HEAD are remembered for a while, so their later hops go straight to GET
+ * instead of costing two requests each.
+ */
+@Slf4j
+public class RedirectResolver {
+
+    static final int MAX_HOPS = 10;
+    static final int MAX_HEAD_REJECTING_HOSTS = 1_000;
+    // A host answering HEAD with 405 once, e.g. during a deploy, is tried with HEAD again later
+    static final Duration HEAD_REJECTION_TTL = Duration.ofHours(1);
+    private static final String USER_AGENT = "Mozilla/5.0 (compatible; MapsBot/1.0)";
+
+    private final OkHttpClient httpClient;
+    private final Predicate<String> isResolved;
+    private final Cache<String, Boolean> headRejectingHosts = Caffeine.newBuilder()
+            .maximumSize(MAX_HEAD_REJECTING_HOSTS)
+            .expireAfterWrite(HEAD_REJECTION_TTL)
+            .build();
+
+    /**
+     * @param httpClient The client to send the hops with; a copy not following redirects is used
+     * @param isResolved Whether a URL needs no further hops
+     */
+    public RedirectResolver(OkHttpClient httpClient, Predicate<String> isResolved) {
+        this.httpClient = httpClient.newBuilder()
+                .followRedirects(false)
+                .followSslRedirects(false)
+                .build();
+        this.isResolved = isResolved;
+    }
+
+    /**
+     * Follow the redirects of a URL.
+     *
+     * @param url The initial URL
+     * @return The final URL, or empty if a hop answered with an error status
+     * @throws IOException If a hop failed or there were too many redirects
+     */
+    public Optional<String> resolve(String url) throws IOException {
+        return resolve(url, isResolved);
+    }
+
+    /**
+     * Follow the redirects of a URL, stopping at the first URL the given predicate accepts.
+     *
+     * @param url        The initial URL
+     * @param isResolved Whether a URL needs no further hops, instead of the one of this resolver
+     * @return The final URL, or empty if a hop answered with an error status
+     * @throws IOException If a hop failed or there were too many redirects
+     */
+    public Optional<String> resolve(String url, Predicate<String> isResolved) throws IOException {
+        HttpUrl current = HttpUrl.get(url);
+        for (int hop = 0; hop <= MAX_HOPS; hop++) {
+            Hop next = null;
+            if ("HEAD".equals(methodFor(current))) {
+                try (Response response = httpClient.newCall(request(current, "HEAD")).execute()) {
+                    next = isHeadRejected("HEAD", current, response) ? null : nextHop(current, response, isResolved);
+                }
+            }
+            if (next == null) {
+                Call call = httpClient.newCall(request(current, "GET"));
+                try (Response response = call.execute()) {
+                    next = nextHop(current, response, isResolved);
+                    // Only the headers are needed; cancelling keeps close from draining the page
+                    call.cancel();
+                }
+            }
+
+            if (next.done()) {
+                return Optional.ofNullable(next.url()).map(HttpUrl::toString);
+            }
+            current = next.url();
+        }
+        throw tooManyRedirects();
+    }
+
+    /**
+     * Non-blocking variant of {@link #resolve(String)}. Each hop is enqueued on the OkHttp
+     * dispatcher, and the future completes on its thread with the logging context of the caller.
+     *
+     * @param url The initial URL
+     * @return Future completing with the final URL, or empty if a hop answered with an error status,
+     * or completing exceptionally if a hop failed
+     */
+    public CompletableFuture<Optional<String>> resolveAsync(String url) {
+        return resolveAsync(url, isResolved);
+    }
+
+    /**
+     * Non-blocking variant of {@link #resolve(String, Predicate)}.
+     *
+     * @param url        The initial URL
+     * @param isResolved Whether a URL needs no further hops, instead of the one of this resolver
+     * @return Future completing with the final URL, or empty if a hop answered with an error status,
+     * or completing exceptionally if a hop failed
+     */
+    public CompletableFuture<Optional<String>> resolveAsync(String url, Predicate<String> isResolved) {
+        CompletableFuture<Optional<String>> future = new CompletableFuture<>();
+        try {
+            HttpUrl initialUrl = HttpUrl.get(url);
+            resolveAsync(initialUrl, 0, methodFor(initialUrl), isResolved, LoggingContext.capture(), future);
+        } catch (IllegalArgumentException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private void resolveAsync(HttpUrl current, int hop, String method, Predicate<String> isResolved,
+                              Map<String, String> loggingContext, CompletableFuture<Optional<String>> future) {
+        if (hop > MAX_HOPS) {
+            LoggingContext.runWith(loggingContext, () -> future.completeExceptionally(tooManyRedirects()));
+            return;
+        }
+
+        httpClient.newCall(request(current, method)).enqueue(new Callback() {
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull Response response) {
+                LoggingContext.runWith(loggingContext, () -> {
+                    Hop next;
+                    try (response) {
+                        next = isHeadRejected(method, current, response) ? null : nextHop(current, response, isResolved);
+                        if ("GET".equals(method)) {
+                            // Only the headers are needed; cancelling keeps close from draining the page
+                            call.cancel();
+                        }
+                    }
+
+                    if (next == null) {
+                        resolveAsync(current, hop, "GET", isResolved, loggingContext, future);
+                    } else if (next.done()) {
+                        future.complete(Optional.ofNullable(next.url()).map(HttpUrl::toString));
+                    } else {
+                        resolveAsync(next.url(), hop + 1, methodFor(next.url()), isResolved, loggingContext, future);
+                    }
+                });
+            }
+
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                LoggingContext.runWith(loggingContext, () -> future.completeExceptionally(e));
+            }
+        });
+    }
+
+    private static Request request(HttpUrl url, String method) {
+        return new Request.Builder()
+                .url(url)
+                .method(method, null)
+                .header("User-Agent", USER_AGENT)
+                .build();
+    }
+
+    /**
+     * Whether the host of the URL recently rejected HEAD, so requesting it costs a GET.
+     *
+     * @param url The URL to check
+     * @return true if a hop to the URL would be a GET
+     */
+    public boolean rejectsHead(String url) {
+        HttpUrl httpUrl = HttpUrl.parse(url);
+        return httpUrl != null && headRejectingHosts.getIfPresent(httpUrl.host()) != null;
+    }
+
+    private String methodFor(HttpUrl url) {
+        return headRejectingHosts.getIfPresent(url.host()) != null ? "GET" : "HEAD";
+    }
+
+    // Some servers do not implement HEAD; the hop is then repeated with a GET
+    private boolean isHeadRejected(String method, HttpUrl url, Response response) {
+        if (!"HEAD".equals(method) || (response.code() != 405 && response.code() != 501)) {
+            return false;
+        }
+
+        headRejectingHosts.put(url.host(), Boolean.TRUE);
+        return true;
+    }
+
+    /**
+     * Decide where to go from a hop's response. The body, if any, is left unread.
+     */
+    private static Hop nextHop(HttpUrl current, Response response, Predicate<String> isResolved) {
+        if (response.isRedirect()) {
+            String location = response.header("Location");
+            HttpUrl target = location != null ? current.resolve(location) : null;
+            if (target != null) {
+                log.debug("Redirect from {} to {}", current, target);
+                return isResolved.test(target.toString()) ? Hop.finalUrl(target) : Hop.redirect(target);
+            }
+        }
+
+        // Responses that redirect nowhere end the walk like any other response
+        if (response.isSuccessful() || response.isRedirect()) {
+            return Hop.finalUrl(response.request().url());
+        }
+
+        log.warn("HTTP request failed with code {} for URL: {}", response.code(), current);
+        return Hop.failed();
+    }
+
+    private static ProtocolException tooManyRedirects() {
+        return new ProtocolException("Too many redirects: " + (MAX_HOPS + 1));
+    }
+
+    /**
+     * The outcome of a single hop: the next URL to request, or the end of the walk with the final
+     * URL (null if the hop failed).
+     */
+    private record Hop(HttpUrl url, boolean done) {
+
+        static Hop redirect(HttpUrl url) {
+            return new Hop(url, false);
+        }
+
+        static Hop finalUrl(HttpUrl url) {
+            return new Hop(url, true);
+        }
+
+        static Hop failed() {
+            return new Hop(null, true);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.mapsbridge.provider.utils;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the first match of a set of patterns in a page that is read in chunks.
+ *
+ * <p>Chunks are appended to a sliding window, and every pattern that has not matched yet is
+ * run against the window. Only the tail of the window is kept between chunks, so memory stays
+ * bounded no matter how large the page is. Once the completion condition holds, the caller can
+ * stop reading and close the response.
+ *
+ * <p>A match must fit in {@value #OVERLAP} characters. A match that ends exactly at the end of
+ * the window is deferred to the next chunk, as it might continue there.
+ *
+ * <p>Instances are not thread-safe and are meant for a single page.
+ */
+public class StreamingHtmlScanner {
+
+    static final int OVERLAP = 8 * 1024;
+
+    private final List<Pattern> pending;
+    private final Map<Pattern, String[]> matches = new HashMap<>();
+    private final Predicate<StreamingHtmlScanner> complete;
+    private final StringBuilder window = new StringBuilder(2 * OVERLAP);
+    private long charsRead;
+
+    /**
+     * @param probes   The patterns to look for
+     * @param complete Whether enough has been found to stop reading
+     */
+    public StreamingHtmlScanner(List<Pattern> probes, Predicate<StreamingHtmlScanner> complete) {
+        this.pending = new ArrayList<>(probes);
+        this.complete = complete;
+    }
+
+    /**
+     * Scan the next chunk of the page.
+     *
+     * @return true if the completion condition holds and reading can stop
+     */
+    public boolean feed(char[] chunk, int offset, int length) {
+        window.append(chunk, offset, length);
+        charsRead += length;
+        scanWindow(false);
+
+        if (window.length() > OVERLAP) {
+            window.delete(0, window.length() - OVERLAP);
+        }
+        return isComplete();
+    }
+
+    /**
+     * Mark the end of the page, resolving matches deferred at the end of the last chunk.
+     */
+    public void finish() {
+        scanWindow(true);
+        window.setLength(0);
+    }
+
+    /**
+     * @return true if every pattern has matched or the completion condition holds
+     */
+    public boolean isComplete() {
+        return pending.isEmpty() || complete.test(this);
+    }
+
+    /**
+     * @return true if the pattern has matched, even if its groups are blank
+     */
+    public boolean found(Pattern probe) {
+        return matches.containsKey(probe);
+    }
+
+    /**
+     * @return The given group of the first match of the pattern, or null if it did not match
+     */
+    @Nullable
+    public String group(Pattern probe, int group) {
+        String[] groups = matches.get(probe);
+        return groups != null ? groups[group] : null;
+    }
+
+    /**
+     * @return The first non-blank group of the first match of the pattern, or null if none
+     */
+    @Nullable
+    public String firstNonBlankGroup(Pattern probe) {
+        String[] groups = matches.get(probe);
+        if (groups == null) {
+            return null;
+        }
+        for (int i = 1; i < groups.length; i++) {
+            if (StringUtils.isNotBlank(groups[i])) {
+                return groups[i];
+            }
+        }
+        return null;
+    }
+
+    public long charsRead() {
+        return charsRead;
+    }
+
+    private void scanWindow(boolean endOfPage) {
+        pending.removeIf(probe -> {
+            Matcher matcher = probe.matcher(window);
+            if (!matcher.find() || (!endOfPage && matcher.end() == window.length())) {
+                return false;
+            }
+
+            String[] groups = new String[matcher.groupCount() + 1];
+            for (int i = 0; i < groups.length; i++) {
+                groups[i] = matcher.group(i);
+            }
+            matches.put(probe, groups);
+            return true;
+        });
+    }
+}
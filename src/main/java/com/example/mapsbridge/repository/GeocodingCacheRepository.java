@@ -0,0 +1,24 @@
+package com.example.mapsbridge.repository;
+
+import com.example.mapsbridge.model.GeocodingCacheModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository for managing persisted geocoding results.
+ */
+@Repository
+public interface GeocodingCacheRepository extends JpaRepository<GeocodingCacheModel, UUID> {
+
+    /**
+     * Find a cached geocoding result by its lookup type and key.
+     *
+     * @param lookupType the kind of lookup
+     * @param lookupKey  the normalized lookup key (place ID, query or grid cell)
+     * @return an Optional containing the cached result if found, empty otherwise
+     */
+    Optional<GeocodingCacheModel> findByLookupTypeAndLookupKey(GeocodingCacheModel.LookupType lookupType, String lookupKey);
+}
@@ -0,0 +1,19 @@
+package com.example.mapsbridge.repository;
+
+import com.example.mapsbridge.model.QuotaCounterModel;
+
+import java.util.Map;
+
+/**
+ * Batched writes to the cluster-wide quota counters, see {@link QuotaCounterRepository}.
+ */
+public interface QuotaCounterBatchRepository {
+
+    /**
+     * Atomically add usage to many quota counters in one statement, creating them if needed.
+     *
+     * @param usages the usage to add per counter
+     * @return the cluster-wide usage after the addition, per counter
+     */
+    Map<QuotaCounterModel.Key, Long> addUsages(Map<QuotaCounterModel.Key, Long> usages);
+}
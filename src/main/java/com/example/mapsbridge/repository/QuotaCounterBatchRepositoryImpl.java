@@ -0,0 +1,61 @@
+package com.example.mapsbridge.repository;
+
+import com.example.mapsbridge.model.QuotaCounterModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Upserts all counters with a single statement over unnest arrays, instead of one per counter.
+ */
+public class QuotaCounterBatchRepositoryImpl implements QuotaCounterBatchRepository {
+
+    private static final String ADD_USAGES_SQL = """
+            INSERT INTO quota_counter (quota_key, window_start, used)
+            SELECT * FROM unnest(?, ?, ?) AS u(quota_key, window_start, used)
+            ON CONFLICT (quota_key, window_start) DO UPDATE SET used = quota_counter.used + EXCLUDED.used
+            RETURNING quota_key, window_start, used
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public QuotaCounterBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public Map<QuotaCounterModel.Key, Long> addUsages(Map<QuotaCounterModel.Key, Long> usages) {
+        Map<QuotaCounterModel.Key, Long> used = new HashMap<>();
+        if (usages.isEmpty()) {
+            return used;
+        }
+
+        String[] quotaKeys = new String[usages.size()];
+        Timestamp[] windowStarts = new Timestamp[usages.size()];
+        Long[] deltas = new Long[usages.size()];
+        int i = 0;
+        for (Map.Entry<QuotaCounterModel.Key, Long> usage : usages.entrySet()) {
+            quotaKeys[i] = usage.getKey().getQuotaKey();
+            windowStarts[i] = Timestamp.valueOf(usage.getKey().getWindowStart());
+            deltas[i++] = usage.getValue();
+        }
+
+        jdbcTemplate.query(ADD_USAGES_SQL, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("varchar", quotaKeys));
+            ps.setArray(2, connection.createArrayOf("timestamp", windowStarts));
+            ps.setArray(3, connection.createArrayOf("bigint", deltas));
+        }, rs -> {
+            used.put(new QuotaCounterModel.Key(rs.getString("quota_key"), rs.getTimestamp("window_start").toLocalDateTime()),
+                    rs.getLong("used"));
+        });
+        return used;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.mapsbridge.repository;
+
+import com.example.mapsbridge.model.QuotaCounterModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository for managing cluster-wide quota counters.
+ */
+@Repository
+public interface QuotaCounterRepository extends JpaRepository<QuotaCounterModel, QuotaCounterModel.Key>,
+        QuotaCounterBatchRepository {
+
+    /**
+     * Atomically add usage to a quota counter, creating it if needed.
+     *
+     * @param quotaKey    the quota identifier
+     * @param windowStart the start of the quota window
+     * @param delta       the usage to add, may be 0 to only read the counter
+     * @return the cluster-wide usage after the addition
+     */
+    @Transactional
+    @Query(value = """
+            INSERT INTO quota_counter (quota_key, window_start, used)
+            VALUES (:quotaKey, :windowStart, :delta)
+            ON CONFLICT (quota_key, window_start) DO UPDATE SET used = quota_counter.used + EXCLUDED.used
+            RETURNING used
+            """, nativeQuery = true)
+    long addUsage(@Param("quotaKey") String quotaKey,
+                  @Param("windowStart") LocalDateTime windowStart,
+                  @Param("delta") long delta);
+
+    @Modifying
+    @Transactional
+    int deleteByWindowStartBefore(LocalDateTime cutoff);
+}
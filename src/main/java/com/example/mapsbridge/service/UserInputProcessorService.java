@@ -8,20 +8,25 @@ import com.example.mapsbridge.exception.CoordinateExtractionException;
 import com.example.mapsbridge.exception.InvalidCoordinateException;
 import com.example.mapsbridge.exception.InvalidInputException;
 import com.example.mapsbridge.provider.MapProvider;
+import com.example.mapsbridge.service.cache.ConversionResultCache;
 import com.example.mapsbridge.service.geocoding.HybridGeocodingService;
 import com.example.mapsbridge.util.InputPatterns;
+import com.example.mapsbridge.util.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Matcher;
 
 import static com.example.mapsbridge.util.InputPatterns.URL_EXTRACTION_PATTERN;
 
 /**
  * Service for processing input and extracting coordinates.
+ * Concurrent conversions of the same input share one extraction, see {@link SingleFlight}.
  */
 @Slf4j
 @Service
@@ -30,6 +35,9 @@ public class UserInputProcessorService {
     private final List<MapProvider> mapProviders;
     private final InputSourceTracker inputSourceTracker;
     private final HybridGeocodingService geocodingService;
+    private final ConversionResultCache conversionResultCache;
+    private final SingleFlight<ConversionKey, LocationResult> conversions =
+            new SingleFlight<>(LocationResult::copy, key -> trackCoalesced());
 
     /**
      * Process input and extract location information.
@@ -46,8 +54,61 @@ public class UserInputProcessorService {
 
     public LocationResult processInput(String input, boolean skipReverseGeocode) {
         // Extract URL if input contains a URL embedded in text
-        input = extractUrlFromText(input);
+        String extractedInput = extractUrlFromText(input);
 
+        Optional<LocationResult> cached = findCached(extractedInput, skipReverseGeocode);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        return conversions.execute(new ConversionKey(extractedInput, skipReverseGeocode), () -> {
+            LocationResult locationResult = convertInput(extractedInput, skipReverseGeocode);
+            conversionResultCache.put(extractedInput, skipReverseGeocode, locationResult);
+            return locationResult;
+        });
+    }
+
+    /**
+     * Non-blocking variant of {@link #processInput(String)}. Validation errors complete the
+     * future exceptionally with the same exceptions the blocking variant throws.
+     *
+     * @param input The input string (coordinates or URL)
+     * @return Future completing with the extracted location result
+     */
+    public CompletableFuture<LocationResult> processInputAsync(String input) {
+        return processInputAsync(input, false);
+    }
+
+    public CompletableFuture<LocationResult> processInputAsync(String input, boolean skipReverseGeocode) {
+        String extractedInput = extractUrlFromText(input);
+
+        Optional<LocationResult> cached = findCached(extractedInput, skipReverseGeocode);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+
+        return conversions.executeAsync(new ConversionKey(extractedInput, skipReverseGeocode), () ->
+                convertInputAsync(extractedInput, skipReverseGeocode)
+                        .thenApply(locationResult -> {
+                            conversionResultCache.put(extractedInput, skipReverseGeocode, locationResult);
+                            return locationResult;
+                        }));
+    }
+
+    private void trackCoalesced() {
+        log.debug("Joined a conversion already in flight");
+        inputSourceTracker.trackConversionCoalesced();
+    }
+
+    private Optional<LocationResult> findCached(String input, boolean skipReverseGeocode) {
+        Optional<LocationResult> cached = conversionResultCache.get(input, skipReverseGeocode);
+        // Keep the user's own link (tracking params included) for the "original" provider entry
+        cached.filter(locationResult -> locationResult.getOriginalUrl() != null)
+                .ifPresent(locationResult -> locationResult.setOriginalUrl(input));
+        return cached;
+    }
+
+    private LocationResult convertInput(String input, boolean skipReverseGeocode) {
         if (isCoordinateInput(input)) {
             return processCoordinateInput(input, skipReverseGeocode);
         } else if (isUrlInput(input)) {
@@ -57,6 +118,20 @@ public class UserInputProcessorService {
         }
     }
 
+    private CompletableFuture<LocationResult> convertInputAsync(String input, boolean skipReverseGeocode) {
+        try {
+            if (isCoordinateInput(input)) {
+                return processCoordinateInputAsync(input, skipReverseGeocode);
+            } else if (isUrlInput(input)) {
+                return processUrlInputAsync(input, skipReverseGeocode);
+            } else {
+                throw new InvalidInputException("Input must be coordinates (lat,lon) or a valid URL");
+            }
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     private boolean isCoordinateInput(String input) {
         return InputPatterns.COORDINATE_PATTERN.matcher(input).matches();
     }
@@ -66,12 +141,7 @@ public class UserInputProcessorService {
     }
 
     private LocationResult processCoordinateInput(String input, boolean skipReverseGeocode) {
-        inputSourceTracker.trackInputType(MetricTags.COORDINATES);
-
-        Coordinate coordinate = Coordinate.fromString(input.trim());
-        if (!coordinate.isValid()) {
-            throw new InvalidCoordinateException("Invalid coordinates: " + input);
-        }
+        Coordinate coordinate = parseCoordinateInput(input);
 
         if (skipReverseGeocode) {
             return LocationResult.fromCoordinates(coordinate);
@@ -80,44 +150,103 @@ public class UserInputProcessorService {
         }
     }
 
+    private CompletableFuture<LocationResult> processCoordinateInputAsync(String input, boolean skipReverseGeocode) {
+        Coordinate coordinate = parseCoordinateInput(input);
+
+        if (skipReverseGeocode) {
+            return CompletableFuture.completedFuture(LocationResult.fromCoordinates(coordinate));
+        } else {
+            return geocodingService.reverseGeocodeAsync(coordinate);
+        }
+    }
+
+    private Coordinate parseCoordinateInput(String input) {
+        inputSourceTracker.trackInputType(MetricTags.COORDINATES);
+
+        Coordinate coordinate = Coordinate.fromString(input.trim());
+        if (!coordinate.isValid()) {
+            throw new InvalidCoordinateException("Invalid coordinates: " + input);
+        }
+        return coordinate;
+    }
+
     private LocationResult processUrlInput(String input, boolean skipReverseGeocode) {
         inputSourceTracker.trackInputType(MetricTags.URL);
 
-        LocationResult locationResult = extractLocationFromUrl(input);
-        if (locationResult == null || !locationResult.hasValidCoordinates()) {
-            throw new CoordinateExtractionException("Could not extract location information from URL: " + input);
-        }
+        LocationResult locationResult = requireCoordinates(extractLocationFromUrl(input), input);
 
-        if (StringUtils.isBlank(locationResult.getAddress()) && !skipReverseGeocode) {
+        if (needsReverseGeocode(locationResult, skipReverseGeocode)) {
             LocationResult reverseGeocode = geocodingService.reverseGeocode(locationResult.getCoordinates());
-            reverseGeocode.setMapSource(locationResult.getMapSource());
-            reverseGeocode.setOriginalUrl(input);
-            return reverseGeocode;
+            return withSource(reverseGeocode, locationResult, input);
         }
 
         locationResult.setOriginalUrl(input);
         return locationResult;
     }
 
+    private CompletableFuture<LocationResult> processUrlInputAsync(String input, boolean skipReverseGeocode) {
+        inputSourceTracker.trackInputType(MetricTags.URL);
+
+        return extractLocationFromUrlAsync(input)
+                .thenCompose(extracted -> {
+                    LocationResult locationResult = requireCoordinates(extracted, input);
+
+                    if (needsReverseGeocode(locationResult, skipReverseGeocode)) {
+                        return geocodingService.reverseGeocodeAsync(locationResult.getCoordinates())
+                                .thenApply(reverseGeocode -> withSource(reverseGeocode, locationResult, input));
+                    }
+
+                    locationResult.setOriginalUrl(input);
+                    return CompletableFuture.completedFuture(locationResult);
+                });
+    }
+
+    private LocationResult requireCoordinates(LocationResult locationResult, String input) {
+        if (locationResult == null || !locationResult.hasValidCoordinates()) {
+            throw new CoordinateExtractionException("Could not extract location information from URL: " + input);
+        }
+        return locationResult;
+    }
+
+    private boolean needsReverseGeocode(LocationResult locationResult, boolean skipReverseGeocode) {
+        return StringUtils.isBlank(locationResult.getAddress()) && !skipReverseGeocode;
+    }
+
+    private LocationResult withSource(LocationResult reverseGeocode, LocationResult extracted, String input) {
+        reverseGeocode.setMapSource(extracted.getMapSource());
+        reverseGeocode.setOriginalUrl(input);
+        return reverseGeocode;
+    }
+
     /**
      * Extract location information from a URL using the appropriate map provider.
      */
     private LocationResult extractLocationFromUrl(String url) {
+        return findProvider(url)
+                .map(provider -> validOrNull(provider.extractLocation(url)))
+                .orElse(null);
+    }
+
+    private CompletableFuture<LocationResult> extractLocationFromUrlAsync(String url) {
+        return findProvider(url)
+                .map(provider -> provider.extractLocationAsync(url).thenApply(this::validOrNull))
+                .orElseGet(() -> CompletableFuture.completedFuture(null));
+    }
+
+    private Optional<MapProvider> findProvider(String url) {
         for (MapProvider provider : mapProviders) {
             if (provider.isProviderUrl(url)) {
-                return processProviderUrlForLocation(provider, url);
+                inputSourceTracker.trackMapProviderUrl(provider.getType());
+                return Optional.of(provider);
             }
         }
 
-        inputSourceTracker.trackMapProviderUrl(MetricTags.UNKNOWN);
+        inputSourceTracker.trackUnknownMapProviderUrl();
         log.info("Could not extract location information from URL: {}", url);
-        return null;
+        return Optional.empty();
     }
 
-    private LocationResult processProviderUrlForLocation(MapProvider provider, String url) {
-        inputSourceTracker.trackMapProviderUrl(provider.getType().getName());
-
-        LocationResult locationResult = provider.extractLocation(url);
+    private LocationResult validOrNull(LocationResult locationResult) {
         return (locationResult != null && locationResult.hasValidCoordinates()) ? locationResult : null;
     }
 
@@ -142,4 +271,7 @@ public class UserInputProcessorService {
         // Return original text if no URL is found
         return text;
     }
+
+    private record ConversionKey(String input, boolean skipReverseGeocode) {
+    }
 }
@@ -0,0 +1,112 @@
+package com.example.mapsbridge.service.cache;
+
+import com.example.mapsbridge.config.properties.CacheProperties;
+import com.example.mapsbridge.model.ApiKeyModel;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-evicting cache of API key lookups, so authenticating an SDK request is a hash
+ * lookup instead of a database round-trip.
+ * <p>
+ * Unknown keys are cached too, so scanning for keys does not reach the database for repeated
+ * guesses. They are kept in a separate, smaller cache with a shorter TTL, so a scan cannot
+ * evict the valid keys. Keys are invalidated locally when they are rotated; other nodes see
+ * the change once the entry expires, so the TTL is kept short.
+ */
+@Slf4j
+@Component
+public class ApiKeyCache {
+
+    /**
+     * The parts of an API key needed to authenticate a request with it.
+     *
+     * @param id     The ID of the API key
+     * @param email  The email the key belongs to
+     * @param active Whether the key is active
+     */
+    public record CachedApiKey(UUID id, String email, boolean active) {
+
+        static CachedApiKey of(ApiKeyModel apiKey) {
+            return new CachedApiKey(apiKey.getId(), apiKey.getEmail(), apiKey.isActive());
+        }
+    }
+
+    private final Cache<String, CachedApiKey> cache;
+    private final Cache<String, Boolean> unknownKeys;
+
+    @Autowired
+    public ApiKeyCache(CacheProperties cacheProperties) {
+        this(cacheProperties.getApiKey(), cacheProperties.getUnknownApiKey(), Ticker.systemTicker());
+    }
+
+    ApiKeyCache(CacheProperties.CacheSpec spec, CacheProperties.CacheSpec unknownSpec, Ticker ticker) {
+        this.cache = build(spec, ticker);
+        this.unknownKeys = build(unknownSpec, ticker);
+    }
+
+    private static <V> Cache<String, V> build(CacheProperties.CacheSpec spec, Ticker ticker) {
+        return Caffeine.newBuilder()
+                .maximumSize(spec.getMaxSize())
+                .expireAfterWrite(spec.getTtl())
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    /**
+     * Get an API key, loading it on a miss. Exceptions of the loader are not cached.
+     *
+     * @param apiKey The API key string
+     * @param loader Looks the API key up in the database
+     * @return The API key, or empty if it does not exist
+     */
+    public Optional<CachedApiKey> get(String apiKey, Function<String, Optional<ApiKeyModel>> loader) {
+        if (unknownKeys.getIfPresent(apiKey) != null) {
+            return Optional.empty();
+        }
+
+        // A null from the loader is not stored, so unknown keys only take space in their own cache
+        CachedApiKey cached = cache.get(apiKey, key -> loader.apply(key).map(CachedApiKey::of).orElse(null));
+        if (cached == null) {
+            unknownKeys.put(apiKey, Boolean.TRUE);
+        }
+        return Optional.ofNullable(cached);
+    }
+
+    /**
+     * Invalidate a single API key.
+     *
+     * @param apiKey The API key string
+     */
+    public void invalidate(String apiKey) {
+        cache.invalidate(apiKey);
+        unknownKeys.invalidate(apiKey);
+    }
+
+    /**
+     * Invalidate every API key of an email.
+     *
+     * @param email The email the keys belong to
+     */
+    public void invalidateEmail(String email) {
+        if (cache.asMap().values().removeIf(key -> email.equals(key.email()))) {
+            log.debug("Invalidated cached API keys for email: {}", email);
+        }
+    }
+
+    /**
+     * @return The estimated number of cached lookups, of known and unknown keys
+     */
+    public long size() {
+        return cache.estimatedSize() + unknownKeys.estimatedSize();
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.mapsbridge.service.cache;
+
+import com.example.mapsbridge.config.metrics.tracker.InputSourceTracker;
+import com.example.mapsbridge.config.properties.CacheProperties;
+import com.example.mapsbridge.dto.Coordinate;
+import com.example.mapsbridge.dto.LocationResult;
+import com.example.mapsbridge.util.InputPatterns;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded, TTL-evicting cache of full conversion results, keyed on a normalized form
+ * of the user input. Repeated conversions of the same link or coordinates skip URL
+ * extraction, the extractor chain and reverse geocoding entirely.
+ * <p>
+ * Entries are copied on the way in and out, as {@link LocationResult} is mutable.
+ */
+@Slf4j
+@Component
+public class ConversionResultCache {
+
+    /**
+     * Number of decimal places coordinates are rounded to before keying (~0.1m).
+     */
+    private static final int COORDINATE_SCALE = 6;
+
+    /**
+     * Query parameters that only carry sharing/analytics context and never affect the location.
+     */
+    private static final Set<String> TRACKING_PARAMS = Set.of(
+            "fbclid", "gclid", "igshid", "mc_cid", "mc_eid", "g_st", "g_ep", "si", "ref", "ref_src");
+
+    private static final String TRACKING_PARAM_PREFIX = "utm_";
+
+    private final Cache<Key, LocationResult> cache;
+    private final InputSourceTracker metrics;
+
+    @Autowired
+    public ConversionResultCache(CacheProperties cacheProperties, InputSourceTracker metrics) {
+        this(cacheProperties.getConversionResult(), metrics, Ticker.systemTicker());
+    }
+
+    ConversionResultCache(CacheProperties.CacheSpec spec, InputSourceTracker metrics, Ticker ticker) {
+        this.metrics = metrics;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(spec.getMaxSize())
+                .expireAfterWrite(spec.getTtl())
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .evictionListener((Key key, LocationResult result, RemovalCause cause) ->
+                        metrics.trackConversionCacheEviction(cause))
+                .build();
+    }
+
+    /**
+     * Look up the result of a previous conversion of an equivalent input.
+     *
+     * @param input              The input string (coordinates or URL)
+     * @param skipReverseGeocode Whether the caller skips reverse geocoding
+     * @return A copy of the cached result, or empty if there is none
+     */
+    public Optional<LocationResult> get(String input, boolean skipReverseGeocode) {
+        String normalized = normalize(input);
+        if (normalized == null) {
+            return Optional.empty();
+        }
+
+        LocationResult result = cache.getIfPresent(new Key(normalized, skipReverseGeocode));
+        if (result == null) {
+            metrics.trackConversionCacheMiss();
+            return Optional.empty();
+        }
+
+        metrics.trackConversionCacheHit();
+        log.debug("Conversion cache hit for {}", normalized);
+        return Optional.of(result.copy());
+    }
+
+    /**
+     * Remember the result of converting the given input.
+     *
+     * @param input              The input string (coordinates or URL)
+     * @param skipReverseGeocode Whether the caller skipped reverse geocoding
+     * @param result             The conversion result
+     */
+    public void put(String input, boolean skipReverseGeocode, LocationResult result) {
+        String normalized = normalize(input);
+        if (normalized == null || result == null || !result.hasValidCoordinates()) {
+            return;
+        }
+        cache.put(new Key(normalized, skipReverseGeocode), result.copy());
+    }
+
+    /**
+     * Get the approximate number of cached entries.
+     *
+     * @return The number of entries currently held
+     */
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Normalize user input into a cache key: whitespace trimmed, coordinates rounded,
+     * URL scheme/host lower-cased and tracking parameters stripped.
+     *
+     * @param input The input string
+     * @return The normalized key, or null if the input should not be cached
+     */
+    static String normalize(String input) {
+        if (StringUtils.isBlank(input)) {
+            return null;
+        }
+
+        String trimmed = input.trim();
+        if (InputPatterns.COORDINATE_PATTERN.matcher(trimmed).matches()) {
+            return normalizeCoordinates(trimmed);
+        }
+        if (InputPatterns.URL_PATTERN.matcher(trimmed).matches()) {
+            return normalizeUrl(trimmed);
+        }
+        return null;
+    }
+
+    private static String normalizeCoordinates(String input) {
+        try {
+            Coordinate coordinate = Coordinate.fromString(input);
+            return "coordinates:" + round(coordinate.getLat()) + "," + round(coordinate.getLon());
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String round(double value) {
+        return BigDecimal.valueOf(value)
+                .setScale(COORDINATE_SCALE, RoundingMode.HALF_UP)
+                .stripTrailingZeros()
+                .toPlainString();
+    }
+
+    private static String normalizeUrl(String url) {
+        String fragment = "";
+        int hashIndex = url.indexOf('#');
+        if (hashIndex >= 0) {
+            fragment = url.substring(hashIndex);
+            url = url.substring(0, hashIndex);
+        }
+
+        String query = "";
+        int queryIndex = url.indexOf('?');
+        if (queryIndex >= 0) {
+            query = url.substring(queryIndex + 1);
+            url = url.substring(0, queryIndex);
+        }
+
+        // Scheme and host are case-insensitive, the path is not
+        int pathIndex = url.indexOf('/', url.indexOf("://") + 3);
+        String base = pathIndex >= 0
+                ? url.substring(0, pathIndex).toLowerCase(Locale.ROOT) + url.substring(pathIndex)
+                : url.toLowerCase(Locale.ROOT);
+
+        String filteredQuery = Arrays.stream(query.split("&"))
+                .filter(StringUtils::isNotEmpty)
+                .filter(param -> !isTrackingParam(param))
+                .collect(Collectors.joining("&"));
+
+        return "url:" + base + (filteredQuery.isEmpty() ? "" : "?" + filteredQuery) + fragment;
+    }
+
+    private static boolean isTrackingParam(String param) {
+        int equalsIndex = param.indexOf('=');
+        String name = (equalsIndex >= 0 ? param.substring(0, equalsIndex) : param).toLowerCase(Locale.ROOT);
+        return name.startsWith(TRACKING_PARAM_PREFIX) || TRACKING_PARAMS.contains(name);
+    }
+
+    private record Key(String normalizedInput, boolean skipReverseGeocode) {
+    }
+}
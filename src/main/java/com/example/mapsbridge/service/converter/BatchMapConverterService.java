@@ -0,0 +1,263 @@
+package com.example.mapsbridge.service.converter;
+
+import com.example.mapsbridge.config.logging.LoggingContext;
+import com.example.mapsbridge.dto.RateLimitStatus;
+import com.example.mapsbridge.dto.request.BatchConvertRequest;
+import com.example.mapsbridge.dto.request.ConvertRequest;
+import com.example.mapsbridge.dto.response.BatchConvertItem;
+import com.example.mapsbridge.dto.response.BatchConvertResponse;
+import com.example.mapsbridge.dto.response.WebConvertResponse;
+import com.example.mapsbridge.exception.InvalidInputException;
+import com.example.mapsbridge.exception.rate.EmailRateLimitExceededException;
+import com.example.mapsbridge.exception.rate.RateLimitExceededException;
+import com.example.mapsbridge.service.ratelimit.MapConverterRateLimiterService;
+import com.example.mapsbridge.service.ratelimit.TieredRateLimiter;
+import com.example.mapsbridge.service.ratelimit.TieredRateLimiter.IdentifierType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Service for converting many inputs in one request.
+ * <p>
+ * Identical inputs are converted once. The distinct inputs are converted concurrently on
+ * virtual threads, each through {@link MapConverterService#convert}, so every conversion is
+ * charged to the caller's daily quota like a single request. Each batch has its own window of
+ * conversions in flight, so one large batch cannot starve the batches of other callers.
+ * Repeated inputs are charged too, one unit per item, and only the items over quota fail.
+ * A failing input does not fail the batch; its error is reported in its own item.
+ * <p>
+ * Inputs too many for one request are streamed instead: lines are read only as fast as results
+ * are written back, with a bounded number of conversions in flight, so memory does not grow
+ * with the size of the input.
+ */
+@Slf4j
+@Service
+public class BatchMapConverterService {
+
+    private static final String RATE_LIMIT_MESSAGE = "Rate limit exceeded. Please try again later.";
+    private static final String TIMEOUT_MESSAGE = "Conversion timed out";
+    private static final String FAILURE_MESSAGE = "Conversion failed";
+
+    private final MapConverterService<WebConvertResponse> mapConverterService;
+    private final MapConverterRateLimiterService rateLimiterService;
+    // Combined multi-tier limiter, null when the daily quotas are checked by the service
+    private final TieredRateLimiter tieredRateLimiter;
+    private final int maxSize;
+    private final int concurrency;
+    private final int streamConcurrency;
+    private final Duration timeout;
+    private final ExecutorService executor;
+
+    @Autowired
+    public BatchMapConverterService(
+            MapConverterService<WebConvertResponse> mapConverterService,
+            MapConverterRateLimiterService rateLimiterService,
+            @Nullable TieredRateLimiter tieredRateLimiter,
+            @Value("${maps.batch.max-size:100}") int maxSize,
+            @Value("${maps.batch.concurrency:8}") int concurrency,
+            @Value("${maps.batch.timeout:PT60S}") Duration timeout,
+            @Value("${maps.batch.stream-concurrency:32}") int streamConcurrency) {
+        this.mapConverterService = mapConverterService;
+        this.rateLimiterService = rateLimiterService;
+        this.tieredRateLimiter = tieredRateLimiter;
+        this.maxSize = maxSize;
+        this.concurrency = concurrency;
+        this.streamConcurrency = streamConcurrency;
+        this.timeout = timeout;
+        // Conversions mostly wait on the network; the per-batch window bounds the work, not the pool
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("batch-convert-", 0).factory());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Convert all inputs of the request.
+     *
+     * @param request The request containing the inputs to convert
+     * @return One item per input, in request order, with either the conversion result or the error
+     * @throws InvalidInputException if the batch has more inputs than allowed
+     */
+    public BatchConvertResponse convert(BatchConvertRequest request) {
+        List<String> inputs = request.getInputs().stream().map(String::trim).toList();
+        if (inputs.size() > maxSize) {
+            throw new InvalidInputException("Batch size " + inputs.size() + " exceeds the maximum of " + maxSize);
+        }
+
+        Map<String, Future<WebConvertResponse>> conversions = new LinkedHashMap<>();
+        Map<Integer, BatchConvertItem> overQuota = new HashMap<>();
+        Semaphore window = new Semaphore(concurrency);
+        for (int i = 0; i < inputs.size(); i++) {
+            String input = inputs.get(i);
+            if (!conversions.containsKey(input)) {
+                conversions.put(input, submit(input, window));
+            } else {
+                int index = i;
+                chargeRepeatedInput(input).ifPresent(item -> overQuota.put(index, item));
+            }
+        }
+        log.info("Converting batch of {} inputs ({} distinct)", inputs.size(), conversions.size());
+
+        Map<String, BatchConvertItem> items = awaitAll(conversions);
+        List<BatchConvertItem> results = new ArrayList<>(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            BatchConvertItem item = overQuota.get(i);
+            results.add(item != null ? item : items.get(inputs.get(i)));
+        }
+        int succeeded = (int) results.stream().filter(BatchConvertItem::isSuccessful).count();
+        return new BatchConvertResponse(results, succeeded, results.size() - succeeded);
+    }
+
+    /**
+     * Convert newline-delimited inputs, emitting each result as soon as it completes.
+     * Blank lines are skipped. Identical inputs are not deduplicated, since the stream is unbounded.
+     *
+     * @param body The newline-delimited inputs, closed when the stream terminates
+     * @return One item per non-blank line, in completion order
+     */
+    public Flux<BatchConvertItem> convertStream(InputStream body) {
+        // Conversions are started from the reading thread; the quota aspect reads the caller from the logging context
+        Map<String, String> loggingContext = LoggingContext.capture();
+        return readLines(body)
+                .map(String::trim)
+                .filter(input -> !input.isEmpty())
+                .flatMap(input -> convertStreamed(input, loggingContext), streamConcurrency);
+    }
+
+    private static Flux<String> readLines(InputStream body) {
+        return Flux.using(
+                        () -> new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)),
+                        reader -> Flux.fromStream(reader.lines()),
+                        reader -> closeQuietly(reader))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<BatchConvertItem> convertStreamed(String input, Map<String, String> loggingContext) {
+        return Mono.fromFuture(() -> LoggingContext.supplyWith(loggingContext,
+                        () -> mapConverterService.convertAsync(new ConvertRequest(input))))
+                .map(response -> BatchConvertItem.success(input, response))
+                .onErrorResume(e -> Mono.just(BatchConvertItem.failure(input, errorMessage(input, unwrap(e)))));
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static void closeQuietly(BufferedReader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            log.debug("Failed to close streamed input: {}", e.getMessage());
+        }
+    }
+
+    private Future<WebConvertResponse> submit(String input, Semaphore window) {
+        // The quota aspect reads the caller from the logging context, which must follow the task
+        return executor.submit(LoggingContext.wrap(() -> {
+            // Interrupted by the cancellation in awaitAll once the batch runs out of time
+            window.acquire();
+            try {
+                return mapConverterService.convert(new ConvertRequest(input));
+            } finally {
+                window.release();
+            }
+        }));
+    }
+
+    /**
+     * Charge a repeated input to the caller's quota, the way the quota aspect charges a conversion.
+     *
+     * @param input The repeated input
+     * @return A failed item if the caller is over quota, otherwise empty
+     */
+    private Optional<BatchConvertItem> chargeRepeatedInput(String input) {
+        String email = LoggingContext.getEmail();
+        if (!StringUtils.hasText(email)) {
+            return Optional.empty();
+        }
+
+        try {
+            if (tieredRateLimiter != null) {
+                RateLimitStatus status = tieredRateLimiter.tryAcquire(IdentifierType.EMAIL, email);
+                if (!status.allowed()) {
+                    throw new EmailRateLimitExceededException(email).withRateLimitStatus(status);
+                }
+            } else {
+                rateLimiterService.checkDailyQuotaForEmail(email);
+            }
+            return Optional.empty();
+        } catch (RateLimitExceededException e) {
+            return Optional.of(BatchConvertItem.failure(input, errorMessage(input, e)));
+        }
+    }
+
+    private Map<String, BatchConvertItem> awaitAll(Map<String, Future<WebConvertResponse>> conversions) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Map<String, BatchConvertItem> items = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, Future<WebConvertResponse>> conversion : conversions.entrySet()) {
+                items.put(conversion.getKey(), await(conversion.getKey(), conversion.getValue(), deadline));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            conversions.values().forEach(future -> future.cancel(true));
+        }
+
+        conversions.keySet().forEach(input -> items.putIfAbsent(input, BatchConvertItem.failure(input, FAILURE_MESSAGE)));
+        return items;
+    }
+
+    private BatchConvertItem await(String input, Future<WebConvertResponse> future, long deadline) throws InterruptedException {
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            return BatchConvertItem.success(input, future.get(remaining, TimeUnit.NANOSECONDS));
+        } catch (TimeoutException | CancellationException e) {
+            log.warn("Batch conversion of input {} timed out", input);
+            return BatchConvertItem.failure(input, TIMEOUT_MESSAGE);
+        } catch (ExecutionException e) {
+            return BatchConvertItem.failure(input, errorMessage(input, e.getCause()));
+        }
+    }
+
+    private static String errorMessage(String input, Throwable error) {
+        if (error instanceof RateLimitExceededException) {
+            log.warn("Rate limit exceeded for batch input {}", input);
+            return RATE_LIMIT_MESSAGE;
+        }
+        log.warn("Batch conversion of input {} failed: {}", input, error.getMessage());
+        return error.getMessage() != null ? error.getMessage() : FAILURE_MESSAGE;
+    }
+}
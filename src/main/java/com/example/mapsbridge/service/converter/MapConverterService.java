@@ -2,6 +2,8 @@ package com.example.mapsbridge.service.converter;
 
 import com.example.mapsbridge.dto.request.ConvertRequest;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Interface for converting map URLs and coordinates.
  */
@@ -14,4 +16,15 @@ public interface MapConverterService<T> {
      * @return A response containing the extracted coordinates and links to all supported map providers
      */
     T convert(ConvertRequest request);
+
+    /**
+     * Non-blocking variant of {@link #convert(ConvertRequest)}.
+     * Implementations that cannot convert without blocking run the blocking conversion.
+     *
+     * @param request The request containing input to convert (coordinates or URL)
+     * @return Future completing with the same response the blocking call would return
+     */
+    default CompletableFuture<T> convertAsync(ConvertRequest request) {
+        return CompletableFuture.completedFuture(convert(request));
+    }
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
 package com.example.mapsbridge.service.converter;
 
+import com.example.mapsbridge.config.logging.LoggingContext;
+import com.example.mapsbridge.config.metrics.Outcome;
+import com.example.mapsbridge.config.metrics.tracker.InputSourceTracker;
 import com.example.mapsbridge.dto.LocationResult;
 import com.example.mapsbridge.dto.MapType;
 import com.example.mapsbridge.dto.request.ConvertRequest;
@@ -13,6 +16,7 @@ import org.springframework.stereotype.Service;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service for converting map URLs and coordinates.
@@ -25,6 +29,7 @@ public class MapConverterServiceImpl implements MapConverterService<WebConvertRe
 
     private final List<MapProvider> mapProviders;
     private final UserInputProcessorService userInputProcessorService;
+    private final InputSourceTracker inputSourceTracker;
 
     /**
      * Convert a map URL or coordinates to links for all supported map providers.
@@ -34,9 +39,37 @@ public class MapConverterServiceImpl implements MapConverterService<WebConvertRe
      */
     @Override
     public WebConvertResponse convert(ConvertRequest request) {
+        String endpoint = LoggingContext.getEndpointType();
+        long startNanos = System.nanoTime();
+        try {
+            String input = request.getInput().trim();
+            LocationResult locationResult = userInputProcessorService.processInput(input);
+            WebConvertResponse response = getWebConvertResponse(locationResult);
+            inputSourceTracker.recordConversion(endpoint, locationResult.getMapSource(), Outcome.SUCCESS, startNanos);
+            return response;
+        } catch (RuntimeException e) {
+            inputSourceTracker.recordConversion(endpoint, null, Outcome.ERROR, startNanos);
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<WebConvertResponse> convertAsync(ConvertRequest request) {
+        // Read on the calling thread, the stages may complete on another one
+        String endpoint = LoggingContext.getEndpointType();
+        long startNanos = System.nanoTime();
         String input = request.getInput().trim();
-        LocationResult locationResult = userInputProcessorService.processInput(input);
-        return getWebConvertResponse(locationResult);
+        return userInputProcessorService.processInputAsync(input)
+                .thenApply(locationResult -> {
+                    WebConvertResponse response = getWebConvertResponse(locationResult);
+                    inputSourceTracker.recordConversion(endpoint, locationResult.getMapSource(), Outcome.SUCCESS, startNanos);
+                    return response;
+                })
+                .whenComplete((response, e) -> {
+                    if (e != null) {
+                        inputSourceTracker.recordConversion(endpoint, null, Outcome.ERROR, startNanos);
+                    }
+                });
     }
 
     private WebConvertResponse getWebConvertResponse(LocationResult locationResult) {
@@ -49,6 +82,8 @@ public class MapConverterServiceImpl implements MapConverterService<WebConvertRe
     }
 
     private Map<MapType, String> generateMapLinks(LocationResult locationResult) {
+        long startNanos = System.nanoTime();
+        Outcome outcome = Outcome.SUCCESS;
         Map<MapType, String> links = new HashMap<>();
         for (MapProvider provider : mapProviders) {
             if (provider.getType().equals(locationResult.getMapSource())) {
@@ -61,8 +96,10 @@ public class MapConverterServiceImpl implements MapConverterService<WebConvertRe
             } catch (Exception e) {
                 log.error("Error generating URL for provider {}: {}",
                         provider.getType().getName(), e.getMessage());
+                outcome = Outcome.FAILURE;
             }
         }
+        inputSourceTracker.recordLinkGeneration("web", outcome, startNanos);
         return links;
     }
 
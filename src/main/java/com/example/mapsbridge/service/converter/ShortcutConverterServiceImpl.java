@@ -1,5 +1,8 @@
 package com.example.mapsbridge.service.converter;
 
+import com.example.mapsbridge.config.logging.LoggingContext;
+import com.example.mapsbridge.config.metrics.Outcome;
+import com.example.mapsbridge.config.metrics.tracker.InputSourceTracker;
 import com.example.mapsbridge.config.properties.ShortcutProperties;
 import com.example.mapsbridge.dto.LocationResult;
 import com.example.mapsbridge.dto.MapType;
@@ -31,6 +34,7 @@ public class ShortcutConverterServiceImpl implements MapConverterService<Shortcu
     private final List<MapProvider> mapProviders;
     private final UserInputProcessorService userInputProcessorService;
     private final ShortcutProperties shortcutProperties;
+    private final InputSourceTracker inputSourceTracker;
 
     /**
      * Convert a map URL or coordinates to links for all supported map providers.
@@ -40,16 +44,22 @@ public class ShortcutConverterServiceImpl implements MapConverterService<Shortcu
      */
     @Override
     public ShortcutBaseResponse convert(ConvertRequest request) {
+        String endpoint = LoggingContext.getEndpointType();
+        long startNanos = System.nanoTime();
         try {
             String input = request.getInput().trim();
             if (StringUtils.isBlank(input)) {
+                inputSourceTracker.recordConversion(endpoint, null, Outcome.FAILURE, startNanos);
                 return createBadResponse();
             }
             // Skip reverse geocoding for shortcut endpoint
             LocationResult locationResult = userInputProcessorService.processInput(input, true);
-            return getWebConvertResponse(locationResult);
+            ShortcutBaseResponse response = getWebConvertResponse(locationResult);
+            inputSourceTracker.recordConversion(endpoint, locationResult.getMapSource(), Outcome.SUCCESS, startNanos);
+            return response;
         } catch (Exception e) {
             log.error("Error converting input: {}", request, e);
+            inputSourceTracker.recordConversion(endpoint, null, Outcome.ERROR, startNanos);
             return createBadResponse();
         }
     }
@@ -72,6 +82,8 @@ public class ShortcutConverterServiceImpl implements MapConverterService<Shortcu
     }
 
     private Map<MapType, String> generateMapLinks(LocationResult locationResult) {
+        long startNanos = System.nanoTime();
+        Outcome outcome = Outcome.SUCCESS;
         Map<MapType, String> links = new HashMap<>();
         for (MapProvider provider : mapProviders) {
             if (provider.getType().equals(locationResult.getMapSource())) {
@@ -83,8 +95,10 @@ public class ShortcutConverterServiceImpl implements MapConverterService<Shortcu
             } catch (Exception e) {
                 log.error("Error generating URL for provider {}: {}",
                         provider.getType().getName(), e.getMessage());
+                outcome = Outcome.FAILURE;
             }
         }
+        inputSourceTracker.recordLinkGeneration("shortcut", outcome, startNanos);
         // Apply the configured order to the map
         return shortcutProperties.getMapProviders().createOrderedMap(links);
     }
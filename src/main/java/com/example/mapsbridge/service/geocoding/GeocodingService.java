@@ -3,6 +3,8 @@ package com.example.mapsbridge.service.geocoding;
 import com.example.mapsbridge.dto.Coordinate;
 import com.example.mapsbridge.dto.LocationResult;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Interface for geocoding services.
  * Provides methods to convert between coordinates and location names.
@@ -32,6 +34,30 @@ public interface GeocodingService {
      */
     LocationResult geocodeQuery(String query);
 
+    /**
+     * Non-blocking variant of {@link #reverseGeocode(Coordinate)}.
+     *
+     * @param coordinate The coordinates to reverse geocode
+     * @return Future completing with the same result the blocking call would return
+     */
+    CompletableFuture<LocationResult> reverseGeocodeAsync(Coordinate coordinate);
+
+    /**
+     * Non-blocking variant of {@link #getLocationFromPlaceId(String)}.
+     *
+     * @param placeId The place ID to lookup
+     * @return Future completing with the same result the blocking call would return, possibly null
+     */
+    CompletableFuture<LocationResult> getLocationFromPlaceIdAsync(String placeId);
+
+    /**
+     * Non-blocking variant of {@link #geocodeQuery(String)}.
+     *
+     * @param query The address or place query to geocode
+     * @return Future completing with the same result the blocking call would return, possibly null
+     */
+    CompletableFuture<LocationResult> geocodeQueryAsync(String query);
+
     /**
      * Checks if this geocoding service is enabled.
      *
@@ -5,6 +5,7 @@ import com.example.mapsbridge.dto.Coordinate;
 import com.example.mapsbridge.dto.LocationResult;
 import com.google.maps.GeoApiContext;
 import com.google.maps.GeocodingApi;
+import com.google.maps.PendingResult;
 import com.google.maps.PlaceDetailsRequest;
 import com.google.maps.PlacesApi;
 import com.google.maps.model.GeocodingResult;
@@ -16,10 +17,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Google implementation of the GeocodingService.
  * Provides geocoding services using Google Maps API for place ID lookups,
  * reverse geocoding, and address queries.
+ * <p>
+ * The async variants use the SDK's callback API instead of {@code await()}, so no thread waits
+ * for Google to answer.
  */
 @Slf4j
 @Service
@@ -91,6 +97,58 @@ public class GoogleGeocodingServiceImpl implements GeocodingService {
         }
     }
 
+    @Override
+    public CompletableFuture<LocationResult> reverseGeocodeAsync(Coordinate coordinate) {
+        if (!isValidRequest(coordinate)) {
+            return CompletableFuture.completedFuture(LocationResult.fromCoordinates(coordinate));
+        }
+
+        LatLng latLng = new LatLng(coordinate.getLat(), coordinate.getLon());
+        return toFuture(GeocodingApi.reverseGeocode(geoApiContext, latLng))
+                .thenApply(results -> {
+                    geocodingTracker.trackReverseGeocode("google");
+                    return processReverseGeocodingResults(results, coordinate);
+                })
+                .exceptionally(e -> {
+                    log.warn("Error during reverse geocoding for coordinate {}: {}", coordinate, e.getMessage());
+                    return LocationResult.fromCoordinates(coordinate);
+                });
+    }
+
+    @Override
+    public CompletableFuture<LocationResult> getLocationFromPlaceIdAsync(String placeId) {
+        if (!isValidPlaceIdRequest(placeId)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return toFuture(PlacesApi.placeDetails(geoApiContext, placeId))
+                .thenApply(placeDetails -> {
+                    geocodingTracker.trackPlaceIdLookup("google");
+                    return processPlaceDetails(placeDetails);
+                })
+                .exceptionallyCompose(e -> {
+                    log.error("Error getting location from place ID {}: {}", placeId, e.getMessage());
+                    return handlePlaceIdFallbackAsync(placeId);
+                });
+    }
+
+    @Override
+    public CompletableFuture<LocationResult> geocodeQueryAsync(String query) {
+        if (!isValidGeocodingQuery(query)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return toFuture(GeocodingApi.geocode(geoApiContext, query))
+                .thenApply(results -> {
+                    geocodingTracker.trackForwardGeocode("google");
+                    return processGeocodingResults(results);
+                })
+                .exceptionally(e -> {
+                    log.warn("Error during forward geocoding for query '{}': {}", query, e.getMessage());
+                    return null;
+                });
+    }
+
     @Override
     public boolean isEnabled() {
         return googleApiEnabled;
@@ -152,6 +210,22 @@ public class GoogleGeocodingServiceImpl implements GeocodingService {
                 .await();
     }
 
+    private static <T> CompletableFuture<T> toFuture(PendingResult<T> pendingResult) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        pendingResult.setCallback(new PendingResult.Callback<>() {
+            @Override
+            public void onResult(T result) {
+                future.complete(result);
+            }
+
+            @Override
+            public void onFailure(Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
     // Private result processing methods
     private LocationResult processReverseGeocodingResults(GeocodingResult[] results, Coordinate coordinate) {
         if (results != null && results.length > 0) {
@@ -191,6 +265,19 @@ public class GoogleGeocodingServiceImpl implements GeocodingService {
         }
     }
 
+    private CompletableFuture<LocationResult> handlePlaceIdFallbackAsync(String placeId) {
+        return toFuture(PlacesApi.placeDetails(geoApiContext, placeId).fields(PlaceDetailsRequest.FieldMask.GEOMETRY))
+                .thenApply(placeDetails -> {
+                    geocodingTracker.trackPlaceIdLookup("google");
+                    Coordinate coordinate = extractCoordinatesFromPlaceDetails(placeDetails);
+                    return coordinate != null ? LocationResult.fromCoordinates(coordinate) : null;
+                })
+                .exceptionally(e -> {
+                    log.debug("Place ID fallback also failed for {}: {}", placeId, e.getMessage());
+                    return null;
+                });
+    }
+
     // Private utility methods
     private boolean hasValidGeometry(PlaceDetails placeDetails) {
         return placeDetails != null &&
@@ -1,8 +1,14 @@
 
 package com.example.mapsbridge.service.geocoding;
 
+import com.example.mapsbridge.config.metrics.tracker.GeocodingTracker;
 import com.example.mapsbridge.dto.Coordinate;
 import com.example.mapsbridge.dto.LocationResult;
+import com.example.mapsbridge.model.GeocodingCacheModel.LookupType;
+import com.example.mapsbridge.service.geocoding.cache.GeocodeResultCache;
+import com.example.mapsbridge.service.geocoding.cache.PersistentGeocodingCache;
+import com.example.mapsbridge.service.geocoding.cache.ReverseGeocodeCache;
+import com.example.mapsbridge.util.SingleFlight;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
@@ -11,12 +17,22 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Hybrid geocoding service that combines Radar.io and Google Maps API.
  * - Uses Radar for reverse geocoding (coordinates to address)
  * - Uses Google for place ID lookups
  * - Uses both services with fallback for address queries
+ * <p>
+ * Results are looked up in the in-memory caches first ({@link ReverseGeocodeCache} for reverse
+ * lookups, {@link GeocodeResultCache} for place ID and forward lookups), then in the {@link PersistentGeocodingCache},
+ * before any paid API is called. The async variants follow the same order without blocking the
+ * caller: the database read runs on the persistent cache's read pool, see
+ * {@link PersistentGeocodingCache#findAsync}, and the API calls are non-blocking.
+ * <p>
+ * Concurrent in-memory misses for the same lookup share one database read and at most one
+ * API call, see {@link SingleFlight}.
  */
 @Service
 @Slf4j
@@ -24,41 +40,101 @@ public class HybridGeocodingService implements GeocodingService {
 
     private final GoogleGeocodingServiceImpl googleService;
     private final RadarGeocodingService radarService;
+    private final ReverseGeocodeCache reverseGeocodeCache;
+    private final GeocodeResultCache resultCache;
+    private final PersistentGeocodingCache persistentCache;
     private final Counter hybridServiceCounter;
+    private final SingleFlight<Lookup, LocationResult> lookups;
 
     @Autowired
     public HybridGeocodingService(
             GoogleGeocodingServiceImpl googleService,
             RadarGeocodingService radarService,
+            ReverseGeocodeCache reverseGeocodeCache,
+            GeocodeResultCache resultCache,
+            PersistentGeocodingCache persistentCache,
             Counter.Builder geocodingCounterBuilder,
-            MeterRegistry meterRegistry) {
+            MeterRegistry meterRegistry,
+            GeocodingTracker geocodingTracker) {
 
         this.googleService = googleService;
         this.radarService = radarService;
+        this.reverseGeocodeCache = reverseGeocodeCache;
+        this.resultCache = resultCache;
+        this.persistentCache = persistentCache;
 
         // Initialize counter
         this.hybridServiceCounter = geocodingCounterBuilder
                 .tag("service", "hybrid")
                 .register(meterRegistry);
+
+        this.lookups = new SingleFlight<>(LocationResult::copy,
+                lookup -> geocodingTracker.trackCoalesced(lookup.type()));
     }
 
     /**
      * Reverse geocodes coordinates to get a location name.
      * Primarily uses Radar.io for this operation with Google as fallback.
+     * Results are cached per grid cell, see {@link ReverseGeocodeCache}.
      */
     @Override
-//    @Cacheable("reverse-geocode")
     public LocationResult reverseGeocode(Coordinate coordinate) {
         if (coordinate == null || !coordinate.isValid()) {
             return LocationResult.fromCoordinates(coordinate);
         }
 
-        hybridServiceCounter.increment();
-        log.info("Reverse geocoding coordinates: {},{}", coordinate.getLat(), coordinate.getLon());
+        Optional<LocationResult> cached = reverseGeocodeCache.get(coordinate);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
 
-        return tryRadarReverseGeocode(coordinate)
-                .orElseGet(() -> tryGoogleReverseGeocode(coordinate)
-                        .orElse(LocationResult.fromCoordinates(coordinate)));
+        return lookups.execute(Lookup.reverse(coordinate), () -> {
+            Optional<LocationResult> persisted = findPersistedReverseGeocode(coordinate);
+            if (persisted.isPresent()) {
+                return persisted.get();
+            }
+
+            hybridServiceCounter.increment();
+            log.info("Reverse geocoding coordinates: {},{}", coordinate.getLat(), coordinate.getLon());
+
+            LocationResult result = tryRadarReverseGeocode(coordinate)
+                    .orElseGet(() -> tryGoogleReverseGeocode(coordinate)
+                            .orElse(LocationResult.fromCoordinates(coordinate)));
+            cacheReverseGeocode(coordinate, result);
+            return result;
+        });
+    }
+
+    @Override
+    public CompletableFuture<LocationResult> reverseGeocodeAsync(Coordinate coordinate) {
+        if (coordinate == null || !coordinate.isValid()) {
+            return CompletableFuture.completedFuture(LocationResult.fromCoordinates(coordinate));
+        }
+
+        Optional<LocationResult> cached = reverseGeocodeCache.get(coordinate);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+
+        return lookups.executeAsync(Lookup.reverse(coordinate), () -> findPersistedReverseGeocodeAsync(coordinate)
+                .thenCompose(persisted -> {
+                    if (persisted.isPresent()) {
+                        return CompletableFuture.completedFuture(persisted.get());
+                    }
+
+                    hybridServiceCounter.increment();
+                    log.info("Reverse geocoding coordinates: {},{}", coordinate.getLat(), coordinate.getLon());
+
+                    return tryRadarReverseGeocodeAsync(coordinate)
+                            .thenCompose(radarResult -> radarResult.isPresent()
+                                    ? CompletableFuture.completedFuture(radarResult.get())
+                                    : tryGoogleReverseGeocodeAsync(coordinate)
+                                    .thenApply(googleResult -> googleResult.orElse(LocationResult.fromCoordinates(coordinate))))
+                            .thenApply(result -> {
+                                cacheReverseGeocode(coordinate, result);
+                                return result;
+                            });
+                }));
     }
 
     /**
@@ -66,23 +142,72 @@ public class HybridGeocodingService implements GeocodingService {
      * Only Google supports place IDs, so this always uses Google Maps API.
      */
     @Override
-//    @Cacheable("place-id-lookup")
     public LocationResult getLocationFromPlaceId(String placeId) {
         if (StringUtils.isBlank(placeId)) {
             return null;
         }
 
-        hybridServiceCounter.increment();
-        log.debug("Looking up place ID: {}", placeId);
+        Optional<LocationResult> cached = resultCache.get(LookupType.PLACE_ID, placeId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        return lookups.execute(new Lookup(LookupType.PLACE_ID, placeId), () -> {
+            Optional<LocationResult> persisted = findPersistedResult(LookupType.PLACE_ID, placeId);
+            if (persisted.isPresent()) {
+                return persisted.get();
+            }
+
+            hybridServiceCounter.increment();
+            log.debug("Looking up place ID: {}", placeId);
+
+            if (!googleService.isEnabled()) {
+                log.warn("Google Maps API is not enabled, cannot lookup place ID: {}", placeId);
+                return null;
+            }
+
+            LocationResult result = tryGooglePlaceIdLookup(placeId)
+                    .map(this::enrichWithRadarLocationName)
+                    .orElse(null);
+            cacheResult(LookupType.PLACE_ID, placeId, result);
+            return result;
+        });
+    }
 
-        if (!googleService.isEnabled()) {
-            log.warn("Google Maps API is not enabled, cannot lookup place ID: {}", placeId);
-            return null;
+    @Override
+    public CompletableFuture<LocationResult> getLocationFromPlaceIdAsync(String placeId) {
+        if (StringUtils.isBlank(placeId)) {
+            return CompletableFuture.completedFuture(null);
         }
 
-        return tryGooglePlaceIdLookup(placeId)
-                .map(this::enrichWithRadarLocationName)
-                .orElse(null);
+        Optional<LocationResult> cached = resultCache.get(LookupType.PLACE_ID, placeId);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+
+        return lookups.executeAsync(new Lookup(LookupType.PLACE_ID, placeId), () -> findPersistedResultAsync(LookupType.PLACE_ID, placeId)
+                .thenCompose(persisted -> {
+                    if (persisted.isPresent()) {
+                        return CompletableFuture.completedFuture(persisted.get());
+                    }
+
+                    hybridServiceCounter.increment();
+                    log.debug("Looking up place ID: {}", placeId);
+
+                    if (!googleService.isEnabled()) {
+                        log.warn("Google Maps API is not enabled, cannot lookup place ID: {}", placeId);
+                        return CompletableFuture.completedFuture(null);
+                    }
+
+                    return googleService.getLocationFromPlaceIdAsync(placeId)
+                            .thenCompose(googleResult -> googleResult != null && googleResult.hasValidCoordinates()
+                                    ? enrichWithRadarLocationNameAsync(googleResult)
+                                    : CompletableFuture.completedFuture(null))
+                            .thenApply(result -> {
+                                cacheResult(LookupType.PLACE_ID, placeId, result);
+                                return result;
+                            });
+                }));
     }
 
     /**
@@ -90,18 +215,62 @@ public class HybridGeocodingService implements GeocodingService {
      * Tries Radar first, then falls back to Google.
      */
     @Override
-//    @Cacheable("forward-geocode")
     public LocationResult geocodeQuery(String query) {
         if (StringUtils.isBlank(query)) {
             return null;
         }
 
-        hybridServiceCounter.increment();
-        log.debug("Forward geocoding query: {}", query);
+        Optional<LocationResult> cached = resultCache.get(LookupType.FORWARD, query);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
 
-        return tryGoogleForwardGeocode(query)
-                .orElseGet(() -> tryRadarForwardGeocode(query)
-                        .orElse(null));
+        return lookups.execute(new Lookup(LookupType.FORWARD, query), () -> {
+            Optional<LocationResult> persisted = findPersistedResult(LookupType.FORWARD, query);
+            if (persisted.isPresent()) {
+                return persisted.get();
+            }
+
+            hybridServiceCounter.increment();
+            log.debug("Forward geocoding query: {}", query);
+
+            LocationResult result = tryGoogleForwardGeocode(query)
+                    .orElseGet(() -> tryRadarForwardGeocode(query)
+                            .orElse(null));
+            cacheResult(LookupType.FORWARD, query, result);
+            return result;
+        });
+    }
+
+    @Override
+    public CompletableFuture<LocationResult> geocodeQueryAsync(String query) {
+        if (StringUtils.isBlank(query)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        Optional<LocationResult> cached = resultCache.get(LookupType.FORWARD, query);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+
+        return lookups.executeAsync(new Lookup(LookupType.FORWARD, query), () -> findPersistedResultAsync(LookupType.FORWARD, query)
+                .thenCompose(persisted -> {
+                    if (persisted.isPresent()) {
+                        return CompletableFuture.completedFuture(persisted.get());
+                    }
+
+                    hybridServiceCounter.increment();
+                    log.debug("Forward geocoding query: {}", query);
+
+                    return tryGoogleForwardGeocodeAsync(query)
+                            .thenCompose(googleResult -> googleResult.isPresent()
+                                    ? CompletableFuture.completedFuture(googleResult.get())
+                                    : tryRadarForwardGeocodeAsync(query).thenApply(radarResult -> radarResult.orElse(null)))
+                            .thenApply(result -> {
+                                cacheResult(LookupType.FORWARD, query, result);
+                                return result;
+                            });
+                }));
     }
 
     @Override
@@ -111,17 +280,64 @@ public class HybridGeocodingService implements GeocodingService {
 
     // Private helper methods
 
+    private Optional<LocationResult> findPersistedReverseGeocode(Coordinate coordinate) {
+        return restorePersistedReverseGeocode(coordinate,
+                persistentCache.find(LookupType.REVERSE, reverseGeocodeCache.cellKey(coordinate)));
+    }
+
+    private CompletableFuture<Optional<LocationResult>> findPersistedReverseGeocodeAsync(Coordinate coordinate) {
+        return persistentCache.findAsync(LookupType.REVERSE, reverseGeocodeCache.cellKey(coordinate))
+                .thenApply(persisted -> restorePersistedReverseGeocode(coordinate, persisted));
+    }
+
+    private Optional<LocationResult> restorePersistedReverseGeocode(Coordinate coordinate, Optional<LocationResult> persisted) {
+        persisted.ifPresent(result -> {
+            result.setCoordinates(coordinate);
+            reverseGeocodeCache.put(coordinate, result);
+        });
+        return persisted;
+    }
+
+    private void cacheReverseGeocode(Coordinate coordinate, LocationResult result) {
+        reverseGeocodeCache.put(coordinate, result);
+        persistentCache.store(LookupType.REVERSE, reverseGeocodeCache.cellKey(coordinate), result);
+    }
+
+    private Optional<LocationResult> findPersistedResult(LookupType lookupType, String lookupKey) {
+        return restorePersistedResult(lookupType, lookupKey, persistentCache.find(lookupType, lookupKey));
+    }
+
+    private CompletableFuture<Optional<LocationResult>> findPersistedResultAsync(LookupType lookupType, String lookupKey) {
+        return persistentCache.findAsync(lookupType, lookupKey)
+                .thenApply(persisted -> restorePersistedResult(lookupType, lookupKey, persisted));
+    }
+
+    private Optional<LocationResult> restorePersistedResult(LookupType lookupType, String lookupKey,
+                                                            Optional<LocationResult> persisted) {
+        persisted.ifPresent(result -> resultCache.put(lookupType, lookupKey, result));
+        return persisted;
+    }
+
+    private void cacheResult(LookupType lookupType, String lookupKey, LocationResult result) {
+        resultCache.put(lookupType, lookupKey, result);
+        persistentCache.store(lookupType, lookupKey, result);
+    }
+
     private Optional<LocationResult> tryRadarReverseGeocode(Coordinate coordinate) {
         if (!radarService.isEnabled()) {
             return Optional.empty();
         }
 
-        LocationResult result = radarService.reverseGeocode(coordinate);
-        if (isValidLocationResult(result)) {
-            log.debug("Successfully reverse geocoded with Radar.io: {}", result.getAddress());
-            return Optional.of(result);
+        return acceptReverseGeocode("Radar.io", radarService.reverseGeocode(coordinate));
+    }
+
+    private CompletableFuture<Optional<LocationResult>> tryRadarReverseGeocodeAsync(Coordinate coordinate) {
+        if (!radarService.isEnabled()) {
+            return CompletableFuture.completedFuture(Optional.empty());
         }
-        return Optional.empty();
+
+        return radarService.reverseGeocodeAsync(coordinate)
+                .handle((result, e) -> e == null ? acceptReverseGeocode("Radar.io", result) : failedLookup("Radar.io", e));
     }
 
     private Optional<LocationResult> tryGoogleReverseGeocode(Coordinate coordinate) {
@@ -129,9 +345,21 @@ public class HybridGeocodingService implements GeocodingService {
             return Optional.empty();
         }
 
-        LocationResult result = googleService.reverseGeocode(coordinate);
+        return acceptReverseGeocode("Google", googleService.reverseGeocode(coordinate));
+    }
+
+    private CompletableFuture<Optional<LocationResult>> tryGoogleReverseGeocodeAsync(Coordinate coordinate) {
+        if (!googleService.isEnabled()) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+
+        return googleService.reverseGeocodeAsync(coordinate)
+                .handle((result, e) -> e == null ? acceptReverseGeocode("Google", result) : failedLookup("Google", e));
+    }
+
+    private Optional<LocationResult> acceptReverseGeocode(String service, LocationResult result) {
         if (isValidLocationResult(result)) {
-            log.debug("Successfully reverse geocoded with Google: {}", result.getAddress());
+            log.debug("Successfully reverse geocoded with {}: {}", service, result.getAddress());
             return Optional.of(result);
         }
         return Optional.empty();
@@ -153,17 +381,33 @@ public class HybridGeocodingService implements GeocodingService {
                 .orElse(googleResult);
     }
 
+    private CompletableFuture<LocationResult> enrichWithRadarLocationNameAsync(LocationResult googleResult) {
+        if (googleResult.getAddress() != null || !radarService.isEnabled()) {
+            return CompletableFuture.completedFuture(googleResult);
+        }
+
+        return tryRadarReverseGeocodeAsync(googleResult.getCoordinates())
+                .thenApply(radarResult -> radarResult
+                        .map(result -> LocationResult.fromCoordinatesAndName(
+                                googleResult.getCoordinates(), result.getAddress()))
+                        .orElse(googleResult));
+    }
+
     private Optional<LocationResult> tryRadarForwardGeocode(String query) {
         if (!radarService.isEnabled()) {
             return Optional.empty();
         }
 
-        LocationResult result = radarService.geocodeQuery(query);
-        if (result != null && result.hasValidCoordinates()) {
-            logForwardGeocodeSuccess("Radar.io", result);
-            return Optional.of(result);
+        return acceptForwardGeocode("Radar.io", radarService.geocodeQuery(query));
+    }
+
+    private CompletableFuture<Optional<LocationResult>> tryRadarForwardGeocodeAsync(String query) {
+        if (!radarService.isEnabled()) {
+            return CompletableFuture.completedFuture(Optional.empty());
         }
-        return Optional.empty();
+
+        return radarService.geocodeQueryAsync(query)
+                .handle((result, e) -> e == null ? acceptForwardGeocode("Radar.io", result) : failedLookup("Radar.io", e));
     }
 
     private Optional<LocationResult> tryGoogleForwardGeocode(String query) {
@@ -171,14 +415,31 @@ public class HybridGeocodingService implements GeocodingService {
             return Optional.empty();
         }
 
-        LocationResult result = googleService.geocodeQuery(query);
+        return acceptForwardGeocode("Google", googleService.geocodeQuery(query));
+    }
+
+    private CompletableFuture<Optional<LocationResult>> tryGoogleForwardGeocodeAsync(String query) {
+        if (!googleService.isEnabled()) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+
+        return googleService.geocodeQueryAsync(query)
+                .handle((result, e) -> e == null ? acceptForwardGeocode("Google", result) : failedLookup("Google", e));
+    }
+
+    private Optional<LocationResult> acceptForwardGeocode(String service, LocationResult result) {
         if (result != null && result.hasValidCoordinates()) {
-            logForwardGeocodeSuccess("Google", result);
+            logForwardGeocodeSuccess(service, result);
             return Optional.of(result);
         }
         return Optional.empty();
     }
 
+    private Optional<LocationResult> failedLookup(String service, Throwable e) {
+        log.warn("Async geocoding with {} failed: {}", service, e.getMessage());
+        return Optional.empty();
+    }
+
     private boolean isValidLocationResult(LocationResult result) {
         return result != null && result.getAddress() != null;
     }
@@ -190,4 +451,13 @@ public class HybridGeocodingService implements GeocodingService {
                 result.getCoordinates().getLon(),
                 result.getAddress());
     }
-}
\ No newline at end of file
+
+    /**
+     * Identifies a lookup for coalescing; reverse lookups are keyed on the exact coordinates.
+     */
+    private record Lookup(LookupType type, String value) {
+        static Lookup reverse(Coordinate coordinate) {
+            return new Lookup(LookupType.REVERSE, coordinate.getLat() + "," + coordinate.getLon());
+        }
+    }
+}
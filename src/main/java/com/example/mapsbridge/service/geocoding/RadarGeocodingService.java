@@ -13,9 +13,12 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Radar.io implementation of the GeocodingService.
@@ -26,6 +29,9 @@ import java.util.Optional;
  * - Forward geocoding (address to coordinates)
  * - Metrics collection for monitoring
  * - Proper error handling and fallback behavior
+ * <p>
+ * The async variants never block: responses are parsed when the WebClient delivers them, and
+ * continuations run on the bounded elastic scheduler rather than on the Netty event loop.
  */
 @Service
 @Slf4j
@@ -33,7 +39,6 @@ public class RadarGeocodingService implements GeocodingService {
 
     // Configuration constants
     private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(3);
-    private static final String RADAR_API_BASE_URL = "https://api.radar.io/v1";
     private static final String REVERSE_GEOCODE_ENDPOINT = "/geocode/reverse";
     private static final String FORWARD_GEOCODE_ENDPOINT = "/geocode/forward";
 
@@ -52,6 +57,7 @@ public class RadarGeocodingService implements GeocodingService {
     public RadarGeocodingService(
             @Value("${radar.api.key:}") String radarApiKey,
             @Value("${radar.api.enabled:false}") boolean radarApiEnabled,
+            @Value("${radar.api.base-url:https://api.radar.io/v1}") String radarApiBaseUrl,
             GeocodingTracker geocodingTracker) {
 
         this.radarApiEnabled = radarApiEnabled;
@@ -59,7 +65,7 @@ public class RadarGeocodingService implements GeocodingService {
         this.objectMapper = new ObjectMapper();
 
         // Create WebClient with proper configuration
-        this.webClient = createWebClient(radarApiKey);
+        this.webClient = createWebClient(radarApiBaseUrl, radarApiKey);
     }
 
     @Override
@@ -104,6 +110,53 @@ public class RadarGeocodingService implements GeocodingService {
         }
     }
 
+    @Override
+    public CompletableFuture<LocationResult> reverseGeocodeAsync(Coordinate coordinate) {
+        if (!isValidRequest(coordinate)) {
+            log.debug("Radar API disabled or invalid coordinates: {}", coordinate);
+            return CompletableFuture.completedFuture(LocationResult.fromCoordinates(coordinate));
+        }
+
+        return reverseGeocodeRequest(coordinate)
+                .map(responseBody -> {
+                    geocodingTracker.trackReverseGeocode("radar");
+                    return parseReverseGeocodeResponse(coordinate, responseBody);
+                })
+                .defaultIfEmpty(LocationResult.fromCoordinates(coordinate))
+                .onErrorResume(e -> {
+                    log.error("Error reverse geocoding with Radar API for coordinates {},{}: {}",
+                            coordinate.getLat(), coordinate.getLon(), e.getMessage());
+                    return Mono.just(LocationResult.fromCoordinates(coordinate));
+                })
+                .publishOn(Schedulers.boundedElastic())
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<LocationResult> getLocationFromPlaceIdAsync(String placeId) {
+        return CompletableFuture.completedFuture(getLocationFromPlaceId(placeId));
+    }
+
+    @Override
+    public CompletableFuture<LocationResult> geocodeQueryAsync(String query) {
+        if (!isValidQuery(query)) {
+            log.debug("Radar API disabled or invalid query: {}", query);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return forwardGeocodeRequest(query)
+                .mapNotNull(responseBody -> {
+                    geocodingTracker.trackForwardGeocode("radar");
+                    return parseForwardGeocodeResponse(responseBody);
+                })
+                .onErrorResume(e -> {
+                    log.error("Error forward geocoding with Radar API for query '{}': {}", query, e.getMessage());
+                    return Mono.empty();
+                })
+                .publishOn(Schedulers.boundedElastic())
+                .toFuture();
+    }
+
     @Override
     public boolean isEnabled() {
         return radarApiEnabled;
@@ -114,9 +167,9 @@ public class RadarGeocodingService implements GeocodingService {
     /**
      * Creates a properly configured WebClient for Radar API requests.
      */
-    private WebClient createWebClient(String apiKey) {
+    private WebClient createWebClient(String baseUrl, String apiKey) {
         return WebClient.builder()
-                .baseUrl(RADAR_API_BASE_URL)
+                .baseUrl(baseUrl)
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader("Authorization", apiKey)
                 .build();
@@ -140,6 +193,13 @@ public class RadarGeocodingService implements GeocodingService {
      * Performs the HTTP request for reverse geocoding.
      */
     private String performReverseGeocodeRequest(Coordinate coordinate) {
+        return reverseGeocodeRequest(coordinate).block();
+    }
+
+    /**
+     * Builds the HTTP request for reverse geocoding.
+     */
+    private Mono<String> reverseGeocodeRequest(Coordinate coordinate) {
         String uriString = UriComponentsBuilder.fromPath(REVERSE_GEOCODE_ENDPOINT)
                 .queryParam("coordinates", coordinate.getLat() + "," + coordinate.getLon())
                 .build().toUriString();
@@ -150,14 +210,20 @@ public class RadarGeocodingService implements GeocodingService {
                 .uri(uriString)
                 .retrieve()
                 .bodyToMono(String.class)
-                .timeout(REQUEST_TIMEOUT)
-                .block();
+                .timeout(REQUEST_TIMEOUT);
     }
 
     /**
      * Performs the HTTP request for forward geocoding.
      */
     private String performForwardGeocodeRequest(String query) {
+        return forwardGeocodeRequest(query).block();
+    }
+
+    /**
+     * Builds the HTTP request for forward geocoding.
+     */
+    private Mono<String> forwardGeocodeRequest(String query) {
         String uriString = UriComponentsBuilder.fromPath(FORWARD_GEOCODE_ENDPOINT)
                 .queryParam("query", query)
                 .build().toUriString();
@@ -168,8 +234,7 @@ public class RadarGeocodingService implements GeocodingService {
                 .uri(uriString)
                 .retrieve()
                 .bodyToMono(String.class)
-                .timeout(REQUEST_TIMEOUT)
-                .block();
+                .timeout(REQUEST_TIMEOUT);
     }
 
     /**
@@ -0,0 +1,85 @@
+package com.example.mapsbridge.service.geocoding.cache;
+
+import com.example.mapsbridge.config.properties.CacheProperties;
+import com.example.mapsbridge.dto.LocationResult;
+import com.example.mapsbridge.model.GeocodingCacheModel.LookupType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * In-memory first tier for place ID and forward geocoding results, in front of the
+ * {@link PersistentGeocodingCache}, so repeated lookups are answered without a database query.
+ * Keys are normalized the same way as in the persistent tier.
+ */
+@Component
+public class GeocodeResultCache {
+
+    private final Cache<Key, LocationResult> cache;
+
+    @Autowired
+    public GeocodeResultCache(CacheProperties cacheProperties) {
+        this(cacheProperties.getGeocodeResult(), Ticker.systemTicker());
+    }
+
+    GeocodeResultCache(CacheProperties.CacheSpec spec, Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(spec.getMaxSize())
+                .expireAfterWrite(spec.getTtl())
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    /**
+     * Look up a cached geocoding result.
+     *
+     * @param lookupType The kind of lookup
+     * @param lookupKey  The lookup key (place ID or query)
+     * @return A copy of the cached result, or empty if unknown
+     */
+    public Optional<LocationResult> get(LookupType lookupType, String lookupKey) {
+        if (StringUtils.isBlank(lookupKey)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.getIfPresent(keyOf(lookupType, lookupKey))).map(LocationResult::copy);
+    }
+
+    /**
+     * Remember a geocoding result. Incomplete results (no valid coordinates or no address)
+     * are not cached, so degraded fallbacks are retried next time.
+     *
+     * @param lookupType The kind of lookup
+     * @param lookupKey  The lookup key (place ID or query)
+     * @param result     The geocoding result
+     */
+    public void put(LookupType lookupType, String lookupKey, LocationResult result) {
+        if (StringUtils.isBlank(lookupKey) || result == null
+                || !result.hasValidCoordinates() || !result.hasValidAddress()) {
+            return;
+        }
+        cache.put(keyOf(lookupType, lookupKey), result.copy());
+    }
+
+    /**
+     * Get the approximate number of cached results.
+     *
+     * @return The number of entries currently held
+     */
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private static Key keyOf(LookupType lookupType, String lookupKey) {
+        return new Key(lookupType, PersistentGeocodingCache.normalizeLookupKey(lookupType, lookupKey));
+    }
+
+    private record Key(LookupType lookupType, String lookupKey) {
+    }
+}
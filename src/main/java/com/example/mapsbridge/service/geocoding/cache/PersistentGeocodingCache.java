@@ -0,0 +1,285 @@
+package com.example.mapsbridge.service.geocoding.cache;
+
+import com.example.mapsbridge.config.logging.LoggingContext;
+import com.example.mapsbridge.config.metrics.tracker.GeocodingTracker;
+import com.example.mapsbridge.config.properties.CacheProperties;
+import com.example.mapsbridge.dto.Coordinate;
+import com.example.mapsbridge.dto.LocationResult;
+import com.example.mapsbridge.model.GeocodingCacheModel;
+import com.example.mapsbridge.model.GeocodingCacheModel.LookupType;
+import com.example.mapsbridge.repository.GeocodingCacheRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Database-backed second tier for geocoding results. Reads happen on the request thread
+ * (one indexed lookup instead of a paid API call), except for {@link #findAsync}, which reads
+ * on a small bounded pool so non-blocking callers never wait on the database. Writes are queued
+ * to a single background writer so they never delay the response. When a queue is full, async
+ * reads count as a miss and writes are dropped.
+ * <p>
+ * Database failures are logged and treated as a miss, geocoding keeps working without the cache.
+ * Keys longer than the lookup key column (long free-text queries) are stored as a SHA-256 hash.
+ */
+@Slf4j
+@Component
+public class PersistentGeocodingCache {
+
+    private static final int WRITE_QUEUE_CAPACITY = 1_000;
+    private static final int READ_THREADS = 4;
+    private static final int READ_QUEUE_CAPACITY = 256;
+    private static final int MAX_KEY_LENGTH = GeocodingCacheModel.LOOKUP_KEY_LENGTH;
+    private static final String HASHED_KEY_PREFIX = "sha256:";
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
+    private final GeocodingCacheRepository repository;
+    private final GeocodingTracker metrics;
+    private final CacheProperties.PersistentCacheSpec spec;
+    private final Clock clock;
+    private final Executor readExecutor;
+    private final Executor writeExecutor;
+
+    @Autowired
+    public PersistentGeocodingCache(GeocodingCacheRepository repository,
+                                    GeocodingTracker metrics,
+                                    CacheProperties cacheProperties) {
+        this(repository, metrics, cacheProperties.getGeocodingPersistent(), Clock.systemUTC(),
+                createReadExecutor(), createWriteExecutor());
+    }
+
+    PersistentGeocodingCache(GeocodingCacheRepository repository,
+                             GeocodingTracker metrics,
+                             CacheProperties.PersistentCacheSpec spec,
+                             Clock clock,
+                             Executor readExecutor,
+                             Executor writeExecutor) {
+        this.repository = repository;
+        this.metrics = metrics;
+        this.spec = spec;
+        this.clock = clock;
+        this.readExecutor = readExecutor;
+        this.writeExecutor = writeExecutor;
+    }
+
+    private static ExecutorService createReadExecutor() {
+        AtomicInteger counter = new AtomicInteger();
+        // Rejections surface as RejectedExecutionException and are handled in findAsync
+        return new ThreadPoolExecutor(READ_THREADS, READ_THREADS, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(READ_QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "geocoding-cache-reader-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    private static ExecutorService createWriteExecutor() {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(WRITE_QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "geocoding-cache-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (task, executor) -> {
+                    if (executor.isShutdown()) {
+                        log.debug("Geocoding cache writer is shut down, dropping write");
+                    } else {
+                        log.warn("Geocoding cache write queue is full, dropping write");
+                    }
+                });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (readExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+        if (writeExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * Find a fresh persisted result for the given lookup.
+     *
+     * @param lookupType The kind of lookup
+     * @param lookupKey  The lookup key (place ID, query or grid cell)
+     * @return The persisted result, or empty if unknown, stale or the cache is disabled
+     */
+    public Optional<LocationResult> find(LookupType lookupType, String lookupKey) {
+        if (!spec.isEnabled() || StringUtils.isBlank(lookupKey)) {
+            return Optional.empty();
+        }
+
+        String key = normalizeKey(lookupType, lookupKey);
+        try {
+            Optional<GeocodingCacheModel> entry = repository.findByLookupTypeAndLookupKey(lookupType, key);
+            if (entry.isEmpty()) {
+                track(lookupType, "miss");
+                return Optional.empty();
+            }
+            if (isStale(entry.get())) {
+                track(lookupType, "stale");
+                return Optional.empty();
+            }
+
+            track(lookupType, "hit");
+            log.debug("Persistent geocoding cache hit for {} {}", lookupType, key);
+            return Optional.of(toLocationResult(entry.get()));
+        } catch (DataAccessException e) {
+            track(lookupType, "error");
+            log.warn("Error reading persistent geocoding cache for {} {}: {}", lookupType, key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Find a fresh persisted result for the given lookup without blocking the calling thread.
+     * The database read runs on the cache's own read pool; when that pool is saturated the
+     * lookup counts as a miss.
+     *
+     * @param lookupType The kind of lookup
+     * @param lookupKey  The lookup key (place ID, query or grid cell)
+     * @return A future with the persisted result, or empty if unknown, stale or the cache is disabled
+     */
+    public CompletableFuture<Optional<LocationResult>> findAsync(LookupType lookupType, String lookupKey) {
+        if (!spec.isEnabled() || StringUtils.isBlank(lookupKey)) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+
+        Map<String, String> loggingContext = LoggingContext.capture();
+        try {
+            return CompletableFuture.supplyAsync(
+                    () -> LoggingContext.supplyWith(loggingContext, () -> find(lookupType, lookupKey)), readExecutor);
+        } catch (RejectedExecutionException e) {
+            track(lookupType, "rejected");
+            log.debug("Geocoding cache read pool is saturated, skipping lookup for {}", lookupType);
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+    }
+
+    /**
+     * Persist a geocoding result in the background, replacing any previous entry for the
+     * same lookup. Incomplete results (no valid coordinates or no address) are ignored,
+     * so degraded fallbacks are retried against the APIs next time.
+     *
+     * @param lookupType The kind of lookup
+     * @param lookupKey  The lookup key (place ID, query or grid cell)
+     * @param result     The geocoding result
+     */
+    public void store(LookupType lookupType, String lookupKey, LocationResult result) {
+        if (!spec.isEnabled() || StringUtils.isBlank(lookupKey) || result == null
+                || !result.hasValidCoordinates() || !result.hasValidAddress()) {
+            return;
+        }
+
+        String key = normalizeKey(lookupType, lookupKey);
+        LocationResult snapshot = result.copy();
+        writeExecutor.execute(() -> write(lookupType, key, snapshot));
+    }
+
+    private void write(LookupType lookupType, String key, LocationResult result) {
+        try {
+            GeocodingCacheModel entry = repository.findByLookupTypeAndLookupKey(lookupType, key)
+                    .orElseGet(() -> GeocodingCacheModel.builder()
+                            .lookupType(lookupType)
+                            .lookupKey(key)
+                            .build());
+
+            entry.setLatitude(result.getCoordinates().getLat());
+            entry.setLongitude(result.getCoordinates().getLon());
+            entry.setAddress(result.getAddress());
+            entry.setPlaceName(result.getPlaceName());
+            entry.setFetchedAt(LocalDateTime.now(clock));
+            repository.save(entry);
+
+            track(lookupType, "write");
+        } catch (DataAccessException e) {
+            track(lookupType, "error");
+            if (isDuplicateKey(e)) {
+                // A concurrent insert of the same lookup, the other write wins
+                log.debug("Geocoding result for {} {} was persisted concurrently", lookupType, key);
+            } else {
+                log.warn("Could not persist geocoding result for {} {}: {}", lookupType, key, e.getMessage());
+            }
+        }
+    }
+
+    private static boolean isDuplicateKey(DataAccessException e) {
+        if (e instanceof DuplicateKeyException) {
+            return true;
+        }
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && UNIQUE_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isStale(GeocodingCacheModel entry) {
+        return entry.getFetchedAt() == null
+                || entry.getFetchedAt().plus(spec.getTtl()).isBefore(LocalDateTime.now(clock));
+    }
+
+    private LocationResult toLocationResult(GeocodingCacheModel entry) {
+        return new LocationResult(null, null,
+                new Coordinate(entry.getLatitude(), entry.getLongitude()),
+                entry.getAddress(),
+                entry.getPlaceName());
+    }
+
+    private String normalizeKey(LookupType lookupType, String lookupKey) {
+        String key = normalizeLookupKey(lookupType, lookupKey);
+        return key.length() > MAX_KEY_LENGTH ? hash(key) : key;
+    }
+
+    static String normalizeLookupKey(LookupType lookupType, String lookupKey) {
+        String key = lookupKey.trim();
+        // Place IDs are case-sensitive, free-text queries are not
+        if (lookupType == LookupType.FORWARD) {
+            key = key.toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+        }
+        return key;
+    }
+
+    private static String hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HASHED_KEY_PREFIX + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // Every JVM ships SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void track(LookupType lookupType, String result) {
+        metrics.trackPersistentCache(lookupType, result);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.mapsbridge.service.geocoding.cache;
+
+import com.example.mapsbridge.config.metrics.tracker.GeocodingTracker;
+import com.example.mapsbridge.config.properties.CacheProperties;
+import com.example.mapsbridge.dto.Coordinate;
+import com.example.mapsbridge.dto.LocationResult;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Reverse geocoding cache keyed by a fixed-precision grid cell rather than the exact
+ * coordinate. Any coordinate falling inside an already resolved cell is answered with
+ * that cell's address, so clustered lookups around popular places skip Radar/Google.
+ */
+@Slf4j
+@Component
+public class ReverseGeocodeCache {
+
+    private static final int MAX_PRECISION = 7;
+
+    private final Cache<Cell, CachedAddress> cache;
+    private final GeocodingTracker metrics;
+    private final int precision;
+    private final double scale;
+
+    @Autowired
+    public ReverseGeocodeCache(CacheProperties cacheProperties, GeocodingTracker metrics) {
+        this(cacheProperties.getReverseGeocode(), metrics, Ticker.systemTicker());
+    }
+
+    ReverseGeocodeCache(CacheProperties.SpatialCacheSpec spec, GeocodingTracker metrics, Ticker ticker) {
+        if (spec.getPrecision() < 0 || spec.getPrecision() > MAX_PRECISION) {
+            throw new IllegalArgumentException("Reverse geocode cache precision must be between 0 and "
+                    + MAX_PRECISION + ", got " + spec.getPrecision());
+        }
+
+        this.metrics = metrics;
+        this.precision = spec.getPrecision();
+        this.scale = Math.pow(10, precision);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(spec.getMaxSize())
+                .expireAfterWrite(spec.getTtl())
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .evictionListener((Cell cell, CachedAddress address, RemovalCause cause) ->
+                        metrics.trackReverseGeocodeCacheEviction(cause))
+                .build();
+    }
+
+    /**
+     * Look up the address of the grid cell containing the given coordinate.
+     *
+     * @param coordinate The coordinate to reverse geocode
+     * @return A result carrying the requested coordinate and the cell's address, or empty if the cell is unknown
+     */
+    public Optional<LocationResult> get(Coordinate coordinate) {
+        if (coordinate == null || !coordinate.isValid()) {
+            return Optional.empty();
+        }
+
+        CachedAddress address = cache.getIfPresent(cellOf(coordinate));
+        if (address == null) {
+            metrics.trackReverseGeocodeCacheMiss();
+            return Optional.empty();
+        }
+
+        metrics.trackReverseGeocodeCacheHit();
+        log.debug("Reverse geocode cache hit for {}: {}", coordinate, address.address());
+
+        LocationResult result = LocationResult.fromCoordinatesAndName(
+                new Coordinate(coordinate.getLat(), coordinate.getLon()), address.address());
+        result.setPlaceName(address.placeName());
+        return Optional.of(result);
+    }
+
+    /**
+     * Remember the address resolved for the grid cell containing the given coordinate.
+     * Results without an address are not cached, so a failed lookup is retried next time.
+     *
+     * @param coordinate The coordinate that was reverse geocoded
+     * @param result     The reverse geocoding result
+     */
+    public void put(Coordinate coordinate, LocationResult result) {
+        if (coordinate == null || !coordinate.isValid() || result == null || !result.hasValidAddress()) {
+            return;
+        }
+        cache.put(cellOf(coordinate), new CachedAddress(result.getAddress(), result.getPlaceName()));
+    }
+
+    /**
+     * Get the approximate number of cached cells.
+     *
+     * @return The number of entries currently held
+     */
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Get a stable string key for the grid cell containing the given coordinate,
+     * e.g. for storing the cell in a persistent tier.
+     *
+     * @param coordinate The coordinate
+     * @return The cell key, including the grid precision
+     */
+    public String cellKey(Coordinate coordinate) {
+        Cell cell = cellOf(coordinate);
+        return precision + ":" + cell.latIndex() + ":" + cell.lonIndex();
+    }
+
+    private Cell cellOf(Coordinate coordinate) {
+        return new Cell(
+                (long) Math.floor(coordinate.getLat() * scale),
+                (long) Math.floor(coordinate.getLon() * scale));
+    }
+
+    private record Cell(long latIndex, long lonIndex) {
+    }
+
+    private record CachedAddress(String address, String placeName) {
+    }
+}
@@ -10,12 +10,15 @@ import com.example.mapsbridge.repository.ApiKeyRepository;
 import com.example.mapsbridge.repository.EmailConfirmTokenRepository;
 import com.example.mapsbridge.service.EmailConfirmationService;
 import com.example.mapsbridge.service.MailtrapService;
+import com.example.mapsbridge.service.cache.ApiKeyCache;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
@@ -35,6 +38,7 @@ public class EmailConfirmationServiceImpl implements EmailConfirmationService {
     private final EmailConfirmTokenRepository tokenRepository;
     private final ApiKeyRepository apiKeyRepository;
     private final MailtrapService mailtrapService;
+    private final ApiKeyCache apiKeyCache;
 
     @Value("${app.token.expiration-minutes:15}")
     private int tokenExpirationMinutes;
@@ -48,10 +52,12 @@ public class EmailConfirmationServiceImpl implements EmailConfirmationService {
     public EmailConfirmationServiceImpl(
             EmailConfirmTokenRepository tokenRepository,
             ApiKeyRepository apiKeyRepository,
-            MailtrapService mailtrapService) {
+            MailtrapService mailtrapService,
+            ApiKeyCache apiKeyCache) {
         this.tokenRepository = tokenRepository;
         this.apiKeyRepository = apiKeyRepository;
         this.mailtrapService = mailtrapService;
+        this.apiKeyCache = apiKeyCache;
     }
 
     @Override
@@ -136,6 +142,8 @@ public class EmailConfirmationServiceImpl implements EmailConfirmationService {
                 .build();
 
         apiKeyRepository.save(newApiKey);
+        // In case a lookup of the new key was cached as not found
+        afterCommit(() -> apiKeyCache.invalidate(apiKey));
 
         return ApiKeyResponseDto.builder()
                 .apiKey(apiKey)
@@ -145,6 +153,24 @@ public class EmailConfirmationServiceImpl implements EmailConfirmationService {
     private void removeOldKeys(String email) {
         int numberOfRemovedEntries = apiKeyRepository.removeByEmail(email);
         log.info("Removed {} existing API keys for email: {}", numberOfRemovedEntries, email);
+        afterCommit(() -> apiKeyCache.invalidateEmail(email));
+    }
+
+    /**
+     * Runs the action once the current transaction commits, so a concurrent request cannot cache
+     * the state from before it; runs it right away outside a transaction.
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     private String handleEmailConfirmation(String token) {
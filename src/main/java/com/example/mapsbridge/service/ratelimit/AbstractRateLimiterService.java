@@ -5,9 +5,9 @@ import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.lang.Nullable;
 
 import java.time.LocalDateTime;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
@@ -17,6 +17,11 @@ import static java.time.ZoneOffset.UTC;
 /**
  * Abstract base class for rate limiting services.
  * Provides common functionality for different types of rate limiting.
+ * <p>
+ * By default every identifier gets its own Resilience4j rate limiter. When a {@link GcraRateLimiter}
+ * is given ({@code app.rate-limiter.engine=gcra}), it is used instead with the same configurations;
+ * it expires idle identifiers itself, so the local maps and the cleanup methods are not used.
+ * A service given a {@link DistributedQuotaLimiter} enforces its quotas cluster-wide with it instead.
  */
 @Slf4j
 public abstract class AbstractRateLimiterService {
@@ -26,6 +31,12 @@ public abstract class AbstractRateLimiterService {
     // Limiter name prefix used to make identifiers unique across different rate limiter services
     protected final String limiterNamePrefix;
 
+    // Alternative lock-free engine, null when the Resilience4j limiters are used
+    protected final GcraRateLimiter gcraRateLimiter;
+
+    // Cluster-wide quota engine, null when quotas are enforced per node
+    protected final DistributedQuotaLimiter distributedQuotaLimiter;
+
     // Maps to track which rate limiter is used for which identifier
     protected final Map<String, RateLimiter> ipRateLimiters = new ConcurrentHashMap<>();
     protected final Map<String, RateLimiter> emailRateLimiters = new ConcurrentHashMap<>();
@@ -36,9 +47,13 @@ public abstract class AbstractRateLimiterService {
     protected final Map<String, LocalDateTime> emailLastAccessTimes = new ConcurrentHashMap<>();
     protected final Map<String, LocalDateTime> chatIdLastAccessTimes = new ConcurrentHashMap<>();
 
-    protected AbstractRateLimiterService(RateLimiterRegistry rateLimiterRegistry, String limiterNamePrefix) {
+    protected AbstractRateLimiterService(RateLimiterRegistry rateLimiterRegistry, String limiterNamePrefix,
+                                         @Nullable GcraRateLimiter gcraRateLimiter,
+                                         @Nullable DistributedQuotaLimiter distributedQuotaLimiter) {
         this.rateLimiterRegistry = rateLimiterRegistry;
         this.limiterNamePrefix = limiterNamePrefix;
+        this.gcraRateLimiter = gcraRateLimiter;
+        this.distributedQuotaLimiter = distributedQuotaLimiter;
     }
 
     /**
@@ -147,7 +162,28 @@ public abstract class AbstractRateLimiterService {
         try {
             // Create a unique identifier by prefixing with the limiter name
             String uniqueIdentifier = StringUtils.isBlank(limiterNamePrefix) ? identifier : limiterNamePrefix + identifier;
-            
+
+            if (distributedQuotaLimiter != null) {
+                if (!distributedQuotaLimiter.tryAcquire(configName, uniqueIdentifier)) {
+                    log.warn("Rate limit exceeded for {} {}", identifierType, identifier);
+                    throw exceptionFactory.apply(identifier);
+                }
+                log.debug("Rate limit check passed for {} {}", identifierType, identifier);
+                return;
+            }
+
+            if (gcraRateLimiter != null) {
+                if (!gcraRateLimiter.tryAcquire(configName, uniqueIdentifier)) {
+                    log.warn("Rate limit exceeded for {} {}", identifierType, identifier);
+                    throw exceptionFactory.apply(identifier);
+                }
+                log.debug("Rate limit check passed for {} {}", identifierType, identifier);
+                return;
+            }
+
+            // Update last access time first, so a concurrent cleanup no longer sees the identifier as idle
+            lastAccessTimes.put(uniqueIdentifier, LocalDateTime.now(UTC));
+
             // Get or create a rate limiter for this specific identifier
             RateLimiter limiter = rateLimiters.computeIfAbsent(uniqueIdentifier,
                     k -> {
@@ -159,9 +195,6 @@ public abstract class AbstractRateLimiterService {
                         return newLimiter;
                     });
 
-            // Update last access time
-            lastAccessTimes.put(uniqueIdentifier, LocalDateTime.now(UTC));
-
             if (!limiter.acquirePermission()) {
                 log.warn("Rate limit exceeded for {} {}", identifierType, identifier);
                 throw exceptionFactory.apply(identifier);
@@ -177,6 +210,21 @@ public abstract class AbstractRateLimiterService {
         }
     }
 
+    /**
+     * Get the number of identifiers this service currently holds a rate limiter for.
+     *
+     * @return the number of live rate limiters across IP, email and chat ID
+     */
+    public long getLiveLimiterCount() {
+        if (distributedQuotaLimiter != null) {
+            return distributedQuotaLimiter.countKeys(limiterNamePrefix);
+        }
+        if (gcraRateLimiter != null) {
+            return gcraRateLimiter.countKeys(limiterNamePrefix);
+        }
+        return (long) ipRateLimiters.size() + emailRateLimiters.size() + chatIdRateLimiters.size();
+    }
+
     /**
      * Removes IP rate limiters that haven't been accessed for the specified number of hours.
      *
@@ -228,17 +276,30 @@ public abstract class AbstractRateLimiterService {
         LocalDateTime cutoffTime = LocalDateTime.now(UTC).minusHours(maxIdleHours);
         int removedCount = 0;
 
-        // Use iterator to safely remove entries during iteration
-        Iterator<Map.Entry<String, LocalDateTime>> iterator = lastAccessTimes.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Map.Entry<String, LocalDateTime> entry = iterator.next();
+        for (Map.Entry<String, LocalDateTime> entry : lastAccessTimes.entrySet()) {
             String key = entry.getKey();
             LocalDateTime lastAccess = entry.getValue();
+            if (!lastAccess.isBefore(cutoffTime)) {
+                continue;
+            }
 
-            if (lastAccess.isBefore(cutoffTime)) {
-                // Remove from both maps
-                rateLimiters.remove(key);
-                iterator.remove(); // Safe way to remove from the map we're iterating
+            // Under the map's lock for the key, so no request can pick up the limiter while it is unregistered
+            boolean[] removed = new boolean[1];
+            rateLimiters.compute(key, (k, limiter) -> {
+                LocalDateTime current = lastAccessTimes.get(k);
+                if (current != null && !current.isBefore(cutoffTime)) {
+                    // Accessed since the entry was read
+                    return limiter;
+                }
+                // Unregister first, which removes its meters and health entry with it
+                rateLimiterRegistry.remove(k);
+                if (current != null) {
+                    lastAccessTimes.remove(k, current);
+                }
+                removed[0] = true;
+                return null;
+            });
+            if (removed[0]) {
                 removedCount++;
                 log.debug("Removed {} rate limiter for key: {}, last accessed: {}",
                         identifierType, key, lastAccess);
@@ -0,0 +1,301 @@
+package com.example.mapsbridge.service.ratelimit;
+
+import com.example.mapsbridge.model.QuotaCounterModel;
+import com.example.mapsbridge.repository.QuotaCounterRepository;
+import io.github.resilience4j.core.ConfigurationNotFoundException;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.time.ZoneOffset.UTC;
+
+/**
+ * Cluster-wide quota engine sharing usage between nodes through the quota_counter table.
+ * <p>
+ * Quota windows are aligned to the epoch (daily quotas reset at midnight UTC), so all nodes agree
+ * on them. Each node keeps, per identifier, the cluster usage it last read and the permits it
+ * granted since, and decides locally without locking. A counter reads the cluster usage on its
+ * first use, and once it has granted {@code max-local-batch} permits since its last sync, the
+ * calling thread adds them to the shared counter and reads the new cluster total back before
+ * granting more; a scheduled sync reports the rest of all counters in one statement. A node can
+ * therefore only grant a batch beyond what it knows the cluster has used, which bounds the
+ * overshoot of a quota to {@code nodes * max-local-batch} permits.
+ * <p>
+ * If the database is unavailable, nodes keep deciding on what they know, as the other engines
+ * fail open too; unreported usage is retried by the next sync. Limits are read from the
+ * Resilience4j configuration of the same name.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.rate-limiter.distributed.enabled", havingValue = "true")
+public class DistributedQuotaLimiter {
+
+    private final RateLimiterRegistry rateLimiterRegistry;
+    private final QuotaCounterRepository quotaCounterRepository;
+    private final int maxLocalBatch;
+    private final long syncIntervalMillis;
+    private final Duration retention;
+    private final Clock clock;
+    private final Map<String, Limit> limits = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    // Until then the hot path does not try to reach the database again after a failure
+    private volatile long syncBackoffUntil;
+
+    @Autowired
+    public DistributedQuotaLimiter(RateLimiterRegistry rateLimiterRegistry,
+                                   QuotaCounterRepository quotaCounterRepository,
+                                   @Value("${app.rate-limiter.distributed.max-local-batch:5}") int maxLocalBatch,
+                                   @Value("${app.rate-limiter.distributed.sync-interval:PT5S}") Duration syncInterval,
+                                   @Value("${app.rate-limiter.distributed.retention:P7D}") Duration retention) {
+        this(rateLimiterRegistry, quotaCounterRepository, maxLocalBatch, syncInterval, retention, Clock.systemUTC());
+    }
+
+    DistributedQuotaLimiter(RateLimiterRegistry rateLimiterRegistry,
+                            QuotaCounterRepository quotaCounterRepository,
+                            int maxLocalBatch,
+                            Duration syncInterval,
+                            Duration retention,
+                            Clock clock) {
+        this.rateLimiterRegistry = rateLimiterRegistry;
+        this.quotaCounterRepository = quotaCounterRepository;
+        this.maxLocalBatch = Math.max(1, maxLocalBatch);
+        this.syncIntervalMillis = syncInterval.toMillis();
+        this.retention = retention;
+        this.clock = clock;
+    }
+
+    /**
+     * Try to take one permit for the key.
+     *
+     * @param configName The Resilience4j configuration holding the limit and period
+     * @param key        The identifier to limit
+     * @return true if the request is allowed
+     * @throws ConfigurationNotFoundException if there is no such configuration
+     */
+    public boolean tryAcquire(String configName, String key) {
+        Limit limit = limits.get(configName);
+        if (limit == null) {
+            limit = limits.computeIfAbsent(configName, this::createLimit);
+        }
+
+        long now = clock.millis();
+        Counter counter = counter(configName, key, limit.windowStart(now), limit.periodMillis);
+        boolean syncFailed = false;
+        if (!counter.seeded && now >= syncBackoffUntil) {
+            syncFailed = !seed(counter);
+        }
+        while (true) {
+            long unsynced = counter.unsynced.get();
+            if (counter.clusterUsed + unsynced >= limit.limitForPeriod) {
+                return false;
+            }
+            if (unsynced >= maxLocalBatch && !syncFailed && now >= syncBackoffUntil) {
+                syncFailed = !sync(counter, maxLocalBatch);
+                continue;
+            }
+            if (counter.unsynced.compareAndSet(unsynced, unsynced + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Count the keys with the given prefix that currently hold state.
+     *
+     * @param keyPrefix The key prefix, or null to count all keys
+     * @return The number of matching keys across all configurations
+     */
+    public long countKeys(String keyPrefix) {
+        if (keyPrefix == null || keyPrefix.isEmpty()) {
+            return counters.size();
+        }
+        return counters.values().stream()
+                .filter(counter -> counter.key.startsWith(keyPrefix))
+                .count();
+    }
+
+    /**
+     * Report the permits granted since the last sync to the shared counters in one statement,
+     * and drop the keys whose window has ended. On a database error the next run retries.
+     *
+     * @return The number of counters synced
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limiter.distributed.sync-interval:PT5S}")
+    public int syncAll() {
+        long now = clock.millis();
+        Map<QuotaCounterModel.Key, Counter> locked = new HashMap<>();
+        Map<QuotaCounterModel.Key, Long> deltas = new HashMap<>();
+        try {
+            for (Counter counter : counters.values()) {
+                if (counter.windowEnd <= now) {
+                    // Usage of an ended window no longer counts against anything
+                    counters.remove(counter.quotaKey, counter);
+                } else if (counter.unsynced.get() > 0 && counter.syncLock.tryLock()) {
+                    // A counter locked by a request thread is being synced by it already
+                    QuotaCounterModel.Key key = new QuotaCounterModel.Key(counter.quotaKey, windowStartOf(counter));
+                    locked.put(key, counter);
+                    deltas.put(key, counter.unsynced.get());
+                }
+            }
+            if (deltas.isEmpty()) {
+                return 0;
+            }
+
+            try {
+                Map<QuotaCounterModel.Key, Long> used = quotaCounterRepository.addUsages(deltas);
+                deltas.forEach((key, delta) -> {
+                    Counter counter = locked.get(key);
+                    // Every counter gets a row back; the fallback only keeps a delta from being reported twice
+                    apply(counter, used.getOrDefault(key, counter.clusterUsed + delta), delta);
+                });
+                log.debug("Synced {} quota counters", deltas.size());
+                return deltas.size();
+            } catch (RuntimeException e) {
+                syncBackoffUntil = clock.millis() + syncIntervalMillis;
+                log.warn("Failed to sync {} quota counters, deciding locally: {}", deltas.size(), e.getMessage());
+                return 0;
+            }
+        } finally {
+            locked.values().forEach(counter -> counter.syncLock.unlock());
+        }
+    }
+
+    /**
+     * Delete the shared counters of windows that started before the retention period.
+     */
+    @Scheduled(cron = "0 30 1 * * ?") // Run at 1:30 AM every day
+    public void purgeExpiredCounters() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(retention);
+        try {
+            int removed = quotaCounterRepository.deleteByWindowStartBefore(cutoff);
+            log.info("Removed {} quota counters of windows before {}", removed, cutoff);
+        } catch (RuntimeException e) {
+            log.warn("Failed to remove expired quota counters: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        syncAll();
+    }
+
+    private Counter counter(String configName, String key, long windowStart, long periodMillis) {
+        String quotaKey = configName + ":" + key;
+        Counter counter = counters.get(quotaKey);
+        if (counter != null && counter.windowStart == windowStart) {
+            return counter;
+        }
+        return counters.compute(quotaKey, (k, existing) ->
+                existing != null && existing.windowStart >= windowStart
+                        ? existing
+                        : new Counter(quotaKey, key, windowStart, windowStart + periodMillis));
+    }
+
+    /**
+     * Add the unsynced permits of the counter to the shared counter, unless fewer than
+     * {@code minUnsynced} are left once the lock is held, e.g. because another thread synced them.
+     *
+     * @return false if the database could not be reached
+     */
+    private boolean sync(Counter counter, long minUnsynced) {
+        // A lock rather than a monitor, so virtual threads waiting on the database do not pin their carrier
+        counter.syncLock.lock();
+        try {
+            long delta = counter.unsynced.get();
+            return delta < minUnsynced || addUsage(counter, delta);
+        } finally {
+            counter.syncLock.unlock();
+        }
+    }
+
+    /**
+     * Read the cluster usage of a new counter, so a node joining a window does not start from zero.
+     *
+     * @return false if the database could not be reached
+     */
+    private boolean seed(Counter counter) {
+        counter.syncLock.lock();
+        try {
+            return counter.seeded || addUsage(counter, counter.unsynced.get());
+        } finally {
+            counter.syncLock.unlock();
+        }
+    }
+
+    // Called with the sync lock of the counter held
+    private boolean addUsage(Counter counter, long delta) {
+        try {
+            apply(counter, quotaCounterRepository.addUsage(counter.quotaKey, windowStartOf(counter), delta), delta);
+            return true;
+        } catch (RuntimeException e) {
+            syncBackoffUntil = clock.millis() + syncIntervalMillis;
+            log.warn("Failed to sync quota counter {}, deciding locally: {}", counter.quotaKey, e.getMessage());
+            return false;
+        }
+    }
+
+    private static void apply(Counter counter, long used, long delta) {
+        // Set the total, which includes delta, before releasing delta, so it is never missed
+        counter.clusterUsed = used;
+        counter.seeded = true;
+        counter.unsynced.addAndGet(-delta);
+    }
+
+    private static LocalDateTime windowStartOf(Counter counter) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(counter.windowStart), UTC);
+    }
+
+    private Limit createLimit(String configName) {
+        RateLimiterConfig config = rateLimiterRegistry.getConfiguration(configName)
+                .orElseThrow(() -> new ConfigurationNotFoundException(configName));
+        log.debug("Created distributed quota for {}: limit={}, period={}",
+                configName, config.getLimitForPeriod(), config.getLimitRefreshPeriod());
+        return new Limit(config.getLimitForPeriod(), Math.max(1, config.getLimitRefreshPeriod().toMillis()));
+    }
+
+    private record Limit(int limitForPeriod, long periodMillis) {
+
+        private long windowStart(long now) {
+            return now - Math.floorMod(now, periodMillis);
+        }
+    }
+
+    private static final class Counter {
+
+        private final String quotaKey;
+        private final String key;
+        private final long windowStart;
+        private final long windowEnd;
+        // Permits granted by this node and not yet added to the shared counter
+        private final AtomicLong unsynced = new AtomicLong();
+        private final ReentrantLock syncLock = new ReentrantLock();
+        // Cluster usage as of the last sync, including what this node reported
+        private volatile long clusterUsed;
+        // Whether clusterUsed has been read from the shared counter at least once
+        private volatile boolean seeded;
+
+        private Counter(String quotaKey, String key, long windowStart, long windowEnd) {
+            this.quotaKey = quotaKey;
+            this.key = key;
+            this.windowStart = windowStart;
+            this.windowEnd = windowEnd;
+        }
+    }
+}
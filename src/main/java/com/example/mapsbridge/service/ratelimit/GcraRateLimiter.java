@@ -0,0 +1,169 @@
+package com.example.mapsbridge.service.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.github.resilience4j.core.ConfigurationNotFoundException;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free rate limiter engine based on the generic cell rate algorithm (GCRA).
+ * <p>
+ * The whole state of a key is one {@code long}, its theoretical arrival time (TAT): the instant
+ * at which its bucket would be full again. A request is allowed when pushing the TAT one
+ * emission interval ({@code period / limit}) further keeps it within one period of now, and is
+ * recorded with a single compare-and-set. This allows bursts of up to {@code limit} requests
+ * and the same long-run rate as the Resilience4j limiter with the same configuration.
+ * <p>
+ * A key whose TAT has passed is indistinguishable from a key never seen, so idle keys are
+ * dropped by {@link #sweep()}, run by the rate limiter cleanup task once per sweep interval,
+ * without losing any limiting state. Limits are read from the Resilience4j configuration of the same name.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.rate-limiter.engine", havingValue = "gcra")
+public class GcraRateLimiter {
+
+    /**
+     * Marks a state removed by the sweep; a request seeing it retries with a fresh state.
+     */
+    private static final long EXPIRED = Long.MIN_VALUE;
+
+    private final RateLimiterRegistry rateLimiterRegistry;
+    private final Ticker ticker;
+    private final Map<String, Limit> limits = new ConcurrentHashMap<>();
+
+    @Autowired
+    public GcraRateLimiter(RateLimiterRegistry rateLimiterRegistry) {
+        this(rateLimiterRegistry, Ticker.systemTicker());
+    }
+
+    GcraRateLimiter(RateLimiterRegistry rateLimiterRegistry, Ticker ticker) {
+        this.rateLimiterRegistry = rateLimiterRegistry;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Try to take one permit for the key.
+     *
+     * @param configName The Resilience4j configuration holding the limit and period
+     * @param key        The identifier to limit
+     * @return true if the request is allowed
+     * @throws ConfigurationNotFoundException if there is no such configuration
+     */
+    public boolean tryAcquire(String configName, String key) {
+        Limit limit = limits.get(configName);
+        if (limit == null) {
+            limit = limits.computeIfAbsent(configName, this::createLimit);
+        }
+
+        return limit.tryAcquire(key, ticker.read());
+    }
+
+    /**
+     * Get the number of keys currently holding state.
+     *
+     * @return The number of tracked keys across all configurations
+     */
+    public int size() {
+        return limits.values().stream().mapToInt(limit -> limit.states.size()).sum();
+    }
+
+    /**
+     * Count the keys with the given prefix that currently hold state.
+     *
+     * @param keyPrefix The key prefix, or null to count all keys
+     * @return The number of matching keys across all configurations
+     */
+    public long countKeys(String keyPrefix) {
+        if (keyPrefix == null || keyPrefix.isEmpty()) {
+            return size();
+        }
+        return limits.values().stream()
+                .flatMap(limit -> limit.states.keySet().stream())
+                .filter(key -> key.startsWith(keyPrefix))
+                .count();
+    }
+
+    /**
+     * Drop the state of every key whose bucket is full again.
+     *
+     * @return The number of keys removed
+     */
+    public int sweep() {
+        long now = ticker.read();
+        int removed = limits.values().stream().mapToInt(limit -> limit.sweep(now)).sum();
+        if (removed > 0) {
+            log.debug("Removed {} idle rate limiter keys", removed);
+        }
+        return removed;
+    }
+
+    private Limit createLimit(String configName) {
+        RateLimiterConfig config = rateLimiterRegistry.getConfiguration(configName)
+                .orElseThrow(() -> new ConfigurationNotFoundException(configName));
+        long periodNanos = config.getLimitRefreshPeriod().toNanos();
+        long emissionIntervalNanos = Math.max(1, periodNanos / config.getLimitForPeriod());
+        log.debug("Created GCRA limit for {}: limit={}, period={}",
+                configName, config.getLimitForPeriod(), config.getLimitRefreshPeriod());
+        return new Limit(emissionIntervalNanos, periodNanos);
+    }
+
+    private static final class Limit {
+
+        private final long emissionIntervalNanos;
+        private final long periodNanos;
+        private final Map<String, AtomicLong> states = new ConcurrentHashMap<>();
+
+        private Limit(long emissionIntervalNanos, long periodNanos) {
+            this.emissionIntervalNanos = emissionIntervalNanos;
+            this.periodNanos = periodNanos;
+        }
+
+        private boolean tryAcquire(String key, long now) {
+            while (true) {
+                AtomicLong state = states.get(key);
+                if (state == null) {
+                    state = states.putIfAbsent(key, new AtomicLong(now + emissionIntervalNanos));
+                    if (state == null) {
+                        return true;
+                    }
+                }
+
+                long tat = state.get();
+                if (tat == EXPIRED) {
+                    states.remove(key, state);
+                    continue;
+                }
+
+                long newTat = (tat - now > 0 ? tat : now) + emissionIntervalNanos;
+                if (newTat - now > periodNanos) {
+                    return false;
+                }
+                if (state.compareAndSet(tat, newTat)) {
+                    return true;
+                }
+            }
+        }
+
+        private int sweep(long now) {
+            int removed = 0;
+            for (Map.Entry<String, AtomicLong> entry : states.entrySet()) {
+                AtomicLong state = entry.getValue();
+                long tat = state.get();
+                if (tat != EXPIRED && tat - now <= 0 && state.compareAndSet(tat, EXPIRED)) {
+                    states.remove(entry.getKey(), state);
+                    removed++;
+                }
+            }
+            return removed;
+        }
+    }
+}
@@ -7,11 +7,13 @@ import com.example.mapsbridge.exception.rate.RateLimitExceededException;
 import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
 /**
  * Service for rate limiting geocoding API calls by IP, email, or chat ID using Resilience4j.
- * Uses daily quotas for geocoding API calls.
+ * Uses daily quotas for geocoding API calls, enforced cluster-wide when
+ * {@code app.rate-limiter.distributed.enabled=true}.
  */
 @Slf4j
 @Service
@@ -22,8 +24,10 @@ public class MapConverterRateLimiterService extends AbstractRateLimiterService {
     private static final String CHAT_ID_CONFIG_NAME = "geocodingChatIdConfig";
 
     @Autowired
-    public MapConverterRateLimiterService(RateLimiterRegistry rateLimiterRegistry) {
-        super(rateLimiterRegistry, "daily_");
+    public MapConverterRateLimiterService(RateLimiterRegistry rateLimiterRegistry,
+                                          @Nullable GcraRateLimiter gcraRateLimiter,
+                                          @Nullable DistributedQuotaLimiter distributedQuotaLimiter) {
+        super(rateLimiterRegistry, "daily_", gcraRateLimiter, distributedQuotaLimiter);
     }
 
     /**
@@ -4,6 +4,7 @@ import com.example.mapsbridge.exception.rate.RateLimitExceededException;
 import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
 /**
@@ -17,8 +18,8 @@ public class RequestThrottlingService extends AbstractRateLimiterService {
     private static final String IP_CONFIG_NAME = "requestThrottlingConfig";
 
     @Autowired
-    public RequestThrottlingService(RateLimiterRegistry rateLimiterRegistry) {
-        super(rateLimiterRegistry, "throttle_");
+    public RequestThrottlingService(RateLimiterRegistry rateLimiterRegistry, @Nullable GcraRateLimiter gcraRateLimiter) {
+        super(rateLimiterRegistry, "throttle_", gcraRateLimiter, null);
     }
 
     /**
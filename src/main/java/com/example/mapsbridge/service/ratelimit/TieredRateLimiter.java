@@ -0,0 +1,276 @@
+package com.example.mapsbridge.service.ratelimit;
+
+import com.example.mapsbridge.dto.RateLimitStatus;
+import io.github.resilience4j.core.ConfigurationNotFoundException;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Multi-tier rate limiter checking all tiers of an identifier, e.g. burst, per minute and per day,
+ * in one step against one state record.
+ * <p>
+ * Each tier is a sliding window counter: windows are aligned to the epoch (daily tiers reset at
+ * midnight UTC), and the count of the previous window is weighted by how much of it the sliding
+ * window still overlaps. The counts of all tiers of an identifier live in one immutable array
+ * swapped with a compare-and-set, so a request is counted in every tier or in none.
+ * <p>
+ * The tiers of each identifier type are lists of Resilience4j configuration names, whose limit
+ * and refresh period are used. Identifiers whose windows have all passed are dropped by
+ * {@link #sweep()}, run by the rate limiter cleanup task once per sweep interval.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.rate-limiter.tiered.enabled", havingValue = "true")
+public class TieredRateLimiter {
+
+    /**
+     * The kinds of identifiers limited, each with its own tiers.
+     */
+    public enum IdentifierType {
+        IP,
+        EMAIL,
+        CHAT_ID
+    }
+
+    // Per tier: window start, count of the previous window, count of the current window
+    private static final int SLOTS = 3;
+
+    /**
+     * Marks a state removed by the sweep; a request seeing it retries with a fresh state.
+     */
+    private static final long[] EXPIRED = new long[0];
+
+    private final Map<IdentifierType, Policy> policies = new EnumMap<>(IdentifierType.class);
+    private final Clock clock;
+
+    @Autowired
+    public TieredRateLimiter(RateLimiterRegistry rateLimiterRegistry,
+                             @Value("${app.rate-limiter.tiered.ip-tiers:requestThrottlingConfig,perMinuteConfig,geocodingIpConfig}") List<String> ipTiers,
+                             @Value("${app.rate-limiter.tiered.email-tiers:geocodingEmailConfig}") List<String> emailTiers,
+                             @Value("${app.rate-limiter.tiered.chat-id-tiers:perMinuteConfig,geocodingChatIdConfig}") List<String> chatIdTiers) {
+        this(rateLimiterRegistry,
+                Map.of(IdentifierType.IP, ipTiers, IdentifierType.EMAIL, emailTiers, IdentifierType.CHAT_ID, chatIdTiers),
+                Clock.systemUTC());
+    }
+
+    TieredRateLimiter(RateLimiterRegistry rateLimiterRegistry,
+                      Map<IdentifierType, List<String>> tierConfigNames,
+                      Clock clock) {
+        tierConfigNames.forEach((type, configNames) ->
+                policies.put(type, createPolicy(rateLimiterRegistry, type, configNames)));
+        this.clock = clock;
+    }
+
+    /**
+     * Try to take one permit for the identifier in all tiers of its type.
+     *
+     * @param type       The identifier type
+     * @param identifier The identifier to limit
+     * @return The outcome, with the remaining quota of the most restrictive tier
+     */
+    public RateLimitStatus tryAcquire(IdentifierType type, String identifier) {
+        return policies.get(type).tryAcquire(identifier, clock.millis());
+    }
+
+    /**
+     * Get the number of identifiers currently holding state.
+     *
+     * @return The number of tracked identifiers across all types
+     */
+    public int size() {
+        return policies.values().stream().mapToInt(policy -> policy.states.size()).sum();
+    }
+
+    /**
+     * Drop the state of every identifier whose windows have all passed.
+     *
+     * @return The number of identifiers removed
+     */
+    public int sweep() {
+        long now = clock.millis();
+        int removed = policies.values().stream().mapToInt(policy -> policy.sweep(now)).sum();
+        if (removed > 0) {
+            log.debug("Removed {} idle tiered rate limiter identifiers", removed);
+        }
+        return removed;
+    }
+
+    private static Policy createPolicy(RateLimiterRegistry rateLimiterRegistry, IdentifierType type,
+                                       List<String> configNames) {
+        Tier[] tiers = configNames.stream()
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .map(name -> {
+                    RateLimiterConfig config = rateLimiterRegistry.getConfiguration(name)
+                            .orElseThrow(() -> new ConfigurationNotFoundException(name));
+                    return new Tier(config.getLimitForPeriod(), Math.max(1, config.getLimitRefreshPeriod().toMillis()));
+                })
+                .toArray(Tier[]::new);
+        Policy policy = new Policy(tiers);
+        log.info("Tiered rate limits for {}: {}", type, policy.header);
+        return policy;
+    }
+
+    private record Tier(long limit, long periodMillis) {
+
+        /**
+         * Time until the sliding window count drops low enough to allow one more request.
+         */
+        private long millisUntilPermit(long previous, long current, long elapsed) {
+            if (limit <= 0) {
+                return periodMillis - elapsed;
+            }
+            if (current < limit) {
+                // Smallest e with previous * (period - e) / period + current < limit
+                long e = periodMillis - ((limit - current) * periodMillis - 1) / previous;
+                return Math.max(0, e - elapsed);
+            }
+            // Not before the next window, where the current count becomes the previous one
+            long e = periodMillis - (limit * periodMillis - 1) / current;
+            return periodMillis - elapsed + e;
+        }
+    }
+
+    private static final class Policy {
+
+        private final Tier[] tiers;
+        private final String header;
+        private final Map<String, AtomicReference<long[]>> states = new ConcurrentHashMap<>();
+
+        private Policy(Tier[] tiers) {
+            this.tiers = tiers;
+            this.header = Arrays.stream(tiers)
+                    .map(tier -> tier.limit() + ";w=" + Math.max(1, tier.periodMillis() / 1000))
+                    .collect(Collectors.joining(", "));
+        }
+
+        private RateLimitStatus tryAcquire(String identifier, long now) {
+            while (true) {
+                AtomicReference<long[]> state = states.get(identifier);
+                if (state == null) {
+                    state = states.computeIfAbsent(identifier, k -> new AtomicReference<>(new long[tiers.length * SLOTS]));
+                }
+
+                long[] current = state.get();
+                if (current == EXPIRED) {
+                    states.remove(identifier, state);
+                    continue;
+                }
+
+                long[] next = roll(current, now);
+                RateLimitStatus status = evaluate(next, now);
+                // A rejected request changes nothing, the windows are rolled again next time
+                if (!status.allowed() || state.compareAndSet(current, next)) {
+                    return status;
+                }
+            }
+        }
+
+        private long[] roll(long[] state, long now) {
+            long[] next = state.clone();
+            for (int i = 0; i < tiers.length; i++) {
+                long period = tiers[i].periodMillis();
+                long windowStart = now - Math.floorMod(now, period);
+                int slot = i * SLOTS;
+                if (windowStart - next[slot] >= 2 * period) {
+                    next[slot + 1] = 0;
+                    next[slot + 2] = 0;
+                } else if (windowStart - next[slot] >= period) {
+                    next[slot + 1] = next[slot + 2];
+                    next[slot + 2] = 0;
+                }
+                next[slot] = windowStart;
+            }
+            return next;
+        }
+
+        /**
+         * Check every tier of a rolled state and, if all allow the request, count it in place.
+         */
+        private RateLimitStatus evaluate(long[] state, long now) {
+            int restrictive = -1;
+            long restrictiveRemaining = Long.MAX_VALUE;
+            long retryAfter = 0;
+            boolean rejected = false;
+
+            for (int i = 0; i < tiers.length; i++) {
+                Tier tier = tiers[i];
+                int slot = i * SLOTS;
+                long period = tier.periodMillis();
+                long elapsed = now - state[slot];
+                // Sliding window count: the previous window weighted by how much of it still overlaps
+                long used = state[slot + 1] * (period - elapsed) / period + state[slot + 2];
+
+                if (used >= tier.limit()) {
+                    // Report the tier that keeps the client waiting longest
+                    long wait = tier.millisUntilPermit(state[slot + 1], state[slot + 2], elapsed);
+                    if (!rejected || wait > retryAfter) {
+                        retryAfter = wait;
+                        restrictive = i;
+                    }
+                    rejected = true;
+                } else if (!rejected) {
+                    long remaining = tier.limit() - used - 1;
+                    if (remaining < restrictiveRemaining) {
+                        restrictiveRemaining = remaining;
+                        restrictive = i;
+                    }
+                }
+            }
+
+            if (restrictive < 0) {
+                // No tiers configured
+                return new RateLimitStatus(true, 0, 0, Duration.ZERO, Duration.ZERO, header);
+            }
+
+            Tier tier = tiers[restrictive];
+            Duration reset = Duration.ofMillis(state[restrictive * SLOTS] + tier.periodMillis() - now);
+            if (rejected) {
+                return new RateLimitStatus(false, tier.limit(), 0, reset, Duration.ofMillis(retryAfter), header);
+            }
+
+            for (int i = 0; i < tiers.length; i++) {
+                state[i * SLOTS + 2]++;
+            }
+            return new RateLimitStatus(true, tier.limit(), restrictiveRemaining, reset, Duration.ZERO, header);
+        }
+
+        private int sweep(long now) {
+            int removed = 0;
+            for (Map.Entry<String, AtomicReference<long[]>> entry : states.entrySet()) {
+                AtomicReference<long[]> state = entry.getValue();
+                long[] current = state.get();
+                if (current != EXPIRED && isIdle(current, now) && state.compareAndSet(current, EXPIRED)) {
+                    states.remove(entry.getKey(), state);
+                    removed++;
+                }
+            }
+            return removed;
+        }
+
+        private boolean isIdle(long[] state, long now) {
+            for (int i = 0; i < tiers.length; i++) {
+                // Both counted windows are out of reach of the sliding window
+                if (now - state[i * SLOTS] < 2 * tiers[i].periodMillis()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.example.mapsbridge.exception.rate.RateLimitExceededException;
 import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
 /**
@@ -23,8 +24,8 @@ public class UserRateLimiterService extends AbstractRateLimiterService {
     private static final String CHAT_ID_CONFIG_NAME = "chatIdConfig";
 
     @Autowired
-    public UserRateLimiterService(RateLimiterRegistry rateLimiterRegistry) {
-        super(rateLimiterRegistry, "user_");
+    public UserRateLimiterService(RateLimiterRegistry rateLimiterRegistry, @Nullable GcraRateLimiter gcraRateLimiter) {
+        super(rateLimiterRegistry, "user_", gcraRateLimiter, null);
     }
 
     /**
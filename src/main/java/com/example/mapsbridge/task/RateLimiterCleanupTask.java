@@ -1,11 +1,14 @@
 package com.example.mapsbridge.task;
 
+import com.example.mapsbridge.service.ratelimit.GcraRateLimiter;
 import com.example.mapsbridge.service.ratelimit.MapConverterRateLimiterService;
 import com.example.mapsbridge.service.ratelimit.RequestThrottlingService;
+import com.example.mapsbridge.service.ratelimit.TieredRateLimiter;
 import com.example.mapsbridge.service.ratelimit.UserRateLimiterService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -19,7 +22,10 @@ public class RateLimiterCleanupTask {
     private final UserRateLimiterService userRateLimiterService;
     private final MapConverterRateLimiterService mapConverterRateLimiterService;
     private final RequestThrottlingService requestThrottlingService;
-
+    // Null unless the gcra engine is selected
+    private final GcraRateLimiter gcraRateLimiter;
+    // Null unless the tiered limiter is enabled
+    private final TieredRateLimiter tieredRateLimiter;
 
     @Value("${app.rate-limiter.cleanup.max-idle-hours:24}")
     private int maxIdleHours;
@@ -27,10 +33,34 @@ public class RateLimiterCleanupTask {
     @Autowired
     public RateLimiterCleanupTask(UserRateLimiterService userRateLimiterService,
                                   MapConverterRateLimiterService mapConverterRateLimiterService,
-                                  RequestThrottlingService requestThrottlingService) {
+                                  RequestThrottlingService requestThrottlingService,
+                                  @Nullable GcraRateLimiter gcraRateLimiter,
+                                  @Nullable TieredRateLimiter tieredRateLimiter) {
         this.userRateLimiterService = userRateLimiterService;
         this.mapConverterRateLimiterService = mapConverterRateLimiterService;
         this.requestThrottlingService = requestThrottlingService;
+        this.gcraRateLimiter = gcraRateLimiter;
+        this.tieredRateLimiter = tieredRateLimiter;
+    }
+
+    /**
+     * Drops the keys of the gcra rate limiter engine whose buckets are full again.
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limiter.gcra.sweep-interval:PT1M}")
+    public void sweepIdleGcraKeys() {
+        if (gcraRateLimiter != null) {
+            gcraRateLimiter.sweep();
+        }
+    }
+
+    /**
+     * Drops the identifiers of the tiered rate limiter whose windows have all passed.
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limiter.tiered.sweep-interval:PT1M}")
+    public void sweepIdleTieredIdentifiers() {
+        if (tieredRateLimiter != null) {
+            tieredRateLimiter.sweep();
+        }
     }
 
     @Scheduled(cron = "0 0 * * * ?") // Run at the start of every hour
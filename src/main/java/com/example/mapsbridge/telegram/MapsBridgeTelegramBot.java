@@ -2,6 +2,7 @@ package com.example.mapsbridge.telegram;
 
 import com.example.mapsbridge.config.logging.LoggingContext;
 import com.example.mapsbridge.telegram.service.ResponseFormatterService;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -12,6 +13,13 @@ import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
 import org.telegram.telegrambots.meta.api.objects.Update;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 @Slf4j
 @Component
 @ConditionalOnProperty(name = "telegram.bot.enabled", havingValue = "true", matchIfMissing = true)
@@ -19,14 +27,28 @@ public class MapsBridgeTelegramBot extends TelegramLongPollingBot {
 
     private static final String ERROR_MESSAGE_TEMPLATE = "Sorry, I couldn't process your message";
     private final ResponseFormatterService responseFormatterService;
+    /**
+     * Executor running each update on its own virtual thread, or null to handle updates
+     * one after another on the polling session's thread.
+     */
+    private final ExecutorService updateExecutor;
+    /**
+     * The last update queued per chat. Each update of a chat starts only once the previous one
+     * is handled, so replies keep the order of the messages. Entries are removed once handled.
+     */
+    private final ConcurrentMap<Long, CompletableFuture<Void>> chatQueues = new ConcurrentHashMap<>();
     @Value("${telegram.bot.username}")
     private String botUsername;
 
     public MapsBridgeTelegramBot(
             @Value("${telegram.bot.token}") String token,
-            ResponseFormatterService responseFormatterService) {
+            ResponseFormatterService responseFormatterService,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
         super(token);
         this.responseFormatterService = responseFormatterService;
+        this.updateExecutor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("telegram-update-", 0).factory())
+                : null;
     }
 
     @Override
@@ -34,6 +56,38 @@ public class MapsBridgeTelegramBot extends TelegramLongPollingBot {
         return botUsername;
     }
 
+    /**
+     * Handles a batch of polled updates. With virtual threads enabled, updates of different chats
+     * are processed concurrently, so one slow conversion does not hold back the other chats.
+     * Updates of the same chat are still processed one after another, in order.
+     */
+    @Override
+    public void onUpdatesReceived(List<Update> updates) {
+        if (updateExecutor == null) {
+            updates.forEach(this::onUpdateReceived);
+            return;
+        }
+        updates.forEach(this::dispatch);
+    }
+
+    private void dispatch(Update update) {
+        if (!update.hasMessage()) {
+            updateExecutor.execute(() -> onUpdateReceived(update));
+            return;
+        }
+
+        Long chatId = update.getMessage().getChatId();
+        // handleAsync runs the update whatever the outcome of the previous one
+        CompletableFuture<Void> queued = chatQueues.compute(chatId, (id, previous) ->
+                (previous != null ? previous : CompletableFuture.<Void>completedFuture(null))
+                        .handleAsync((result, error) -> {
+                            onUpdateReceived(update);
+                            return null;
+                        }, updateExecutor));
+        // Registered outside compute, it may run on this thread if the update is already handled
+        queued.whenComplete((result, error) -> chatQueues.remove(chatId, queued));
+    }
+
     @Override
     public void onUpdateReceived(Update update) {
         if (!hasTextMessage(update)) {
@@ -89,6 +143,13 @@ public class MapsBridgeTelegramBot extends TelegramLongPollingBot {
         execute(errorMessage);
     }
 
+    @PreDestroy
+    public void shutdownUpdateExecutor() {
+        if (updateExecutor != null) {
+            updateExecutor.shutdown();
+        }
+    }
+
     private boolean hasTextMessage(Update update) {
         return update.hasMessage() && update.getMessage().hasText();
     }
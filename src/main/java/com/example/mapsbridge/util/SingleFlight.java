@@ -0,0 +1,126 @@
+package com.example.mapsbridge.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Coalesces concurrent computations of the same key into one.
+ * <p>
+ * The first caller for a key runs the computation; callers arriving while it is in flight
+ * wait for its outcome instead of starting their own, and get the same result or exception.
+ * Nothing is remembered once the computation completes, caching stays the job of the caches.
+ * <p>
+ * Blocking and non-blocking callers share the same in-flight computations. As results may be
+ * mutable, every waiting caller gets its own copy of a snapshot taken when the computation completed.
+ *
+ * @param <K> The key type
+ * @param <V> The result type
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final UnaryOperator<V> copier;
+    private final Consumer<K> onCoalesced;
+
+    /**
+     * @param copier      Copies a result, applied to non-null results only
+     * @param onCoalesced Called with the key each time a caller joins a computation already in flight
+     */
+    public SingleFlight(UnaryOperator<V> copier, Consumer<K> onCoalesced) {
+        this.copier = copier;
+        this.onCoalesced = onCoalesced;
+    }
+
+    /**
+     * Run the computation, or wait for the one already in flight for the same key.
+     *
+     * @param key         The key identifying the computation
+     * @param computation The computation
+     * @return The result of the computation
+     */
+    public V execute(K key, Supplier<V> computation) {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, own);
+        if (existing != null) {
+            onCoalesced.accept(key);
+            return copy(join(existing));
+        }
+
+        try {
+            V value = computation.get();
+            own.complete(copy(value));
+            return value;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #execute(Object, Supplier)}.
+     *
+     * @param key         The key identifying the computation
+     * @param computation The computation, started only if none is in flight for the key
+     * @return Future completing with the result of the computation
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<CompletableFuture<V>> computation) {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, own);
+        if (existing != null) {
+            onCoalesced.accept(key);
+            return existing.thenApply(this::copy);
+        }
+
+        CompletableFuture<V> result;
+        try {
+            result = computation.get();
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        return result.whenComplete((value, error) -> {
+            inFlight.remove(key, own);
+            if (error != null) {
+                own.completeExceptionally(unwrap(error));
+            } else {
+                own.complete(copy(value));
+            }
+        });
+    }
+
+    /**
+     * @return The number of computations currently in flight
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V copy(V value) {
+        return value != null ? copier.apply(value) : null;
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // Rethrow what the leading caller got, not the wrapper
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
@@ -0,0 +1,14 @@
+-- Persisted geocoding results, see GeocodingCacheModel and PersistentGeocodingCache.
+-- Idempotent; runs on startup before Hibernate, so the table and its lookup constraint
+-- do not depend on spring.jpa.hibernate.ddl-auto.
+CREATE TABLE IF NOT EXISTS geocoding_cache (
+    id          UUID             NOT NULL PRIMARY KEY,
+    lookup_type VARCHAR(16)      NOT NULL,
+    lookup_key  VARCHAR(512)     NOT NULL,
+    latitude    DOUBLE PRECISION NOT NULL,
+    longitude   DOUBLE PRECISION NOT NULL,
+    address     VARCHAR(1024),
+    place_name  VARCHAR(512),
+    fetched_at  TIMESTAMP(6)     NOT NULL,
+    CONSTRAINT uk_geocoding_cache_lookup UNIQUE (lookup_type, lookup_key)
+);
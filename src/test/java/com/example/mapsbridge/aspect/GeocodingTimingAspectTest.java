@@ -0,0 +1,97 @@
+package com.example.mapsbridge.aspect;
+
+import com.example.mapsbridge.config.metrics.Outcome;
+import com.example.mapsbridge.config.metrics.tracker.GeocodingTracker;
+import com.example.mapsbridge.config.metrics.tracker.GeocodingTracker.Operation;
+import com.example.mapsbridge.dto.Coordinate;
+import com.example.mapsbridge.dto.LocationResult;
+import com.example.mapsbridge.service.geocoding.RadarGeocodingService;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GeocodingTimingAspectTest {
+
+    @Mock
+    private GeocodingTracker geocodingTracker;
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private RadarGeocodingService radarService;
+
+    @InjectMocks
+    private GeocodingTimingAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        when(joinPoint.getTarget()).thenReturn(radarService);
+    }
+
+    @Test
+    void shouldRecordReverseGeocodeWithAddressAsSuccess() throws Throwable {
+        // Given
+        LocationResult result = LocationResult.fromCoordinates(new Coordinate(51.97, 5.90));
+        result.setAddress("Rijnkade 1, Arnhem");
+        when(joinPoint.proceed()).thenReturn(result);
+
+        // When
+        Object returned = aspect.timeReverseGeocode(joinPoint);
+
+        // Then
+        assertSame(result, returned);
+        verify(geocodingTracker).recordOperation(eq(radarService.getClass()), eq(Operation.REVERSE_GEOCODE),
+                eq(Outcome.SUCCESS), anyLong());
+    }
+
+    @Test
+    void shouldRecordReverseGeocodeWithoutAddressAsFailure() throws Throwable {
+        // Given
+        when(joinPoint.proceed()).thenReturn(LocationResult.fromCoordinates(new Coordinate(51.97, 5.90)));
+
+        // When
+        aspect.timeReverseGeocode(joinPoint);
+
+        // Then
+        verify(geocodingTracker).recordOperation(any(), eq(Operation.REVERSE_GEOCODE), eq(Outcome.FAILURE), anyLong());
+    }
+
+    @Test
+    void shouldRecordAsyncLookupOnCompletion() throws Throwable {
+        // Given
+        CompletableFuture<LocationResult> future = new CompletableFuture<>();
+        when(joinPoint.proceed()).thenReturn(future);
+
+        // When
+        Object returned = aspect.timeForwardGeocode(joinPoint);
+
+        // Then
+        assertSame(future, returned);
+        verifyNoInteractions(geocodingTracker);
+
+        future.complete(LocationResult.fromCoordinates(new Coordinate(51.97, 5.90)));
+        verify(geocodingTracker).recordOperation(any(), eq(Operation.FORWARD_GEOCODE), eq(Outcome.SUCCESS), anyLong());
+    }
+
+    @Test
+    void shouldRecordExceptionAsErrorAndRethrow() throws Throwable {
+        // Given
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("API down"));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> aspect.timePlaceIdLookup(joinPoint));
+        verify(geocodingTracker).recordOperation(any(), eq(Operation.PLACE_ID_LOOKUP), eq(Outcome.ERROR), anyLong());
+    }
+}
@@ -3,6 +3,7 @@ package com.example.mapsbridge.aspect;
 import com.example.mapsbridge.config.logging.LoggingContext;
 import com.example.mapsbridge.config.metrics.tracker.ClientTracker;
 import com.example.mapsbridge.dto.Coordinate;
+import com.example.mapsbridge.dto.RateLimitStatus;
 import com.example.mapsbridge.dto.request.ConvertRequest;
 import com.example.mapsbridge.dto.response.WebConvertResponse;
 import com.example.mapsbridge.exception.rate.ChatIdRateLimitExceededException;
@@ -10,6 +11,7 @@ import com.example.mapsbridge.exception.rate.EmailRateLimitExceededException;
 import com.example.mapsbridge.exception.rate.IpRateLimitExceededException;
 import com.example.mapsbridge.service.converter.MapConverterService;
 import com.example.mapsbridge.service.ratelimit.MapConverterRateLimiterService;
+import com.example.mapsbridge.service.ratelimit.TieredRateLimiter;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,6 +21,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -364,4 +368,29 @@ public class MapConverterRateLimitAspectTest {
         verify(clientTracker, never()).trackShortcutRequest();
         verify(mapConverterService).convert(request);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testConvert_TieredRateLimitExceeded() {
+        // Given
+        ConvertRequest request = new ConvertRequest("1.0,2.0");
+        String ipAddress = "192.168.1.1";
+        LoggingContext.setIpAddress(ipAddress);
+
+        TieredRateLimiter tieredRateLimiter = mock(TieredRateLimiter.class);
+        RateLimitStatus status = new RateLimitStatus(false, 1, 0, Duration.ofSeconds(3), Duration.ofSeconds(3), "1;w=3");
+        when(tieredRateLimiter.tryAcquire(TieredRateLimiter.IdentifierType.IP, ipAddress)).thenReturn(status);
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(mapConverterService);
+        factory.addAspect(new MapConverterRateLimitAspect(mapConverterRateLimiterService, clientTracker, tieredRateLimiter));
+        MapConverterService<WebConvertResponse> tieredService = factory.getProxy();
+
+        // When
+        IpRateLimitExceededException exception = assertThrows(IpRateLimitExceededException.class,
+                () -> tieredService.convert(request));
+
+        // Then
+        assertEquals(status, exception.getRateLimitStatus());
+        verify(mapConverterRateLimiterService, never()).checkDailyQuotaForIp(anyString());
+        verify(mapConverterService, never()).convert(request);
+    }
+}
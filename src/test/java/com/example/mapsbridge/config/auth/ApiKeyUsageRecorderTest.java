@@ -0,0 +1,113 @@
+package com.example.mapsbridge.config.auth;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ApiKeyUsageRecorderTest {
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2025-06-01T12:00:00Z"));
+    private JdbcTemplate jdbcTemplate;
+    private ApiKeyUsageRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        Clock clock = mock(Clock.class);
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        when(clock.instant()).thenAnswer(invocation -> now.get());
+        recorder = new ApiKeyUsageRecorder(jdbcTemplate, clock);
+    }
+
+    @Test
+    void shouldWriteAllKeysWithOneStatementPerFlush() throws Exception {
+        // Given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        for (int i = 0; i < 1000; i++) {
+            recorder.recordUsage(first);
+        }
+        now.set(now.get().plusSeconds(5));
+        recorder.recordUsage(second);
+
+        // When
+        int flushed = recorder.flush();
+
+        // Then
+        assertEquals(2, flushed);
+        assertEquals(0, recorder.pendingCount());
+        ArgumentCaptor<PreparedStatementSetter> setter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        verify(jdbcTemplate, times(1)).update(startsWith("UPDATE api_keys"), setter.capture());
+
+        PreparedStatement ps = mock(PreparedStatement.class);
+        Connection connection = mock(Connection.class);
+        when(ps.getConnection()).thenReturn(connection);
+        when(connection.createArrayOf(anyString(), any())).thenReturn(mock(Array.class));
+        setter.getValue().setValues(ps);
+
+        ArgumentCaptor<Object[]> ids = ArgumentCaptor.forClass(Object[].class);
+        ArgumentCaptor<Object[]> timestamps = ArgumentCaptor.forClass(Object[].class);
+        verify(connection).createArrayOf(eq("uuid"), ids.capture());
+        verify(connection).createArrayOf(eq("timestamp"), timestamps.capture());
+        int secondIndex = ids.getValue()[0].equals(second) ? 0 : 1;
+        assertEquals(Timestamp.valueOf(LocalDateTime.of(2025, 6, 1, 12, 0, 5)), timestamps.getValue()[secondIndex]);
+        assertEquals(Timestamp.valueOf(LocalDateTime.of(2025, 6, 1, 12, 0, 0)), timestamps.getValue()[1 - secondIndex]);
+    }
+
+    @Test
+    void shouldNotTouchDatabaseWhenNothingWasRecorded() {
+        // When
+        int flushed = recorder.flush();
+
+        // Then
+        assertEquals(0, flushed);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void shouldKeepTimesForNextFlushWhenDatabaseFails() {
+        // Given
+        UUID apiKeyId = UUID.randomUUID();
+        recorder.recordUsage(apiKeyId);
+        doThrow(new DataAccessResourceFailureException("Connection refused"))
+                .when(jdbcTemplate).update(anyString(), any(PreparedStatementSetter.class));
+
+        // When
+        int flushed = recorder.flush();
+
+        // Then
+        assertEquals(0, flushed);
+        assertEquals(1, recorder.pendingCount());
+    }
+
+    @Test
+    void shouldFlushOnShutdown() {
+        // Given
+        recorder.recordUsage(UUID.randomUUID());
+
+        // When
+        recorder.shutdown();
+
+        // Then
+        verify(jdbcTemplate).update(anyString(), any(PreparedStatementSetter.class));
+        assertEquals(0, recorder.pendingCount());
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.mapsbridge.controller;
+
+import com.example.mapsbridge.dto.Coordinate;
+import com.example.mapsbridge.dto.MapType;
+import com.example.mapsbridge.dto.request.ConvertRequest;
+import com.example.mapsbridge.dto.response.WebConvertResponse;
+import com.example.mapsbridge.exception.InvalidInputException;
+import com.example.mapsbridge.service.converter.MapConverterService;
+import com.example.mapsbridge.setup.TestAuthUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@MockitoSettings(strictness = Strictness.LENIENT)
+@Execution(ExecutionMode.SAME_THREAD)
+class SdkMapConverterControllerTest {
+
+    @MockitoBean
+    private MapConverterService<WebConvertResponse> mapConverterService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testConvertAsyncWithApiKey() throws Exception {
+        // Given
+        ConvertRequest request = new ConvertRequest("40.6892,-74.0445");
+
+        WebConvertResponse response = new WebConvertResponse();
+        response.setCoordinates(new Coordinate(40.6892, -74.0445));
+        response.setLinks(Map.of(MapType.APPLE, "https://maps.apple.com/?ll=40.6892,-74.0445"));
+
+        when(mapConverterService.convertAsync(any(ConvertRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/sdk/location/convert/async")
+                        .headers(TestAuthUtils.createMasterAuthHeaders())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then the ASYNC re-dispatch is not rejected by security
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.coordinates.lon").value(-74.0445))
+                .andExpect(jsonPath("$.links.apple").value("https://maps.apple.com/?ll=40.6892,-74.0445"));
+    }
+
+    @Test
+    void testConvertAsyncWithoutApiKey() throws Exception {
+        // Given
+        ConvertRequest request = new ConvertRequest("40.6892,-74.0445");
+
+        // When/Then
+        mockMvc.perform(post("/api/sdk/location/convert/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isForbidden())
+                .andExpect(request().asyncNotStarted());
+
+        verify(mapConverterService, never()).convertAsync(any(ConvertRequest.class));
+    }
+
+    @Test
+    void testConvertAsyncFailure() throws Exception {
+        // Given
+        ConvertRequest request = new ConvertRequest("https://maps.app.goo.gl/unknown");
+
+        when(mapConverterService.convertAsync(any(ConvertRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new InvalidInputException("Unsupported map link")));
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/sdk/location/convert/async")
+                        .headers(TestAuthUtils.createMasterAuthHeaders())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported map link"));
+    }
+}
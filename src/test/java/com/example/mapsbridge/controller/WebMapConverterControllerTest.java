@@ -19,14 +19,19 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -130,4 +135,63 @@ class WebMapConverterControllerTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testConvertAsync() throws Exception {
+        // Given
+        ConvertRequest request = new ConvertRequest("40.6892,-74.0445");
+
+        WebConvertResponse response = new WebConvertResponse();
+        response.setCoordinates(new Coordinate(40.6892, -74.0445));
+        response.setLinks(Map.of(MapType.GOOGLE, "https://www.google.com/maps?q=40.6892,-74.0445"));
+
+        when(mapConverterService.convertAsync(any(ConvertRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/web/location/convert/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.coordinates.lat").value(40.6892))
+                .andExpect(jsonPath("$.links.google").value("https://www.google.com/maps?q=40.6892,-74.0445"));
+    }
+
+    @Test
+    void testConvertAsyncInvalidInput() throws Exception {
+        // Given
+        ConvertRequest request = new ConvertRequest("invalid input");
+
+        when(mapConverterService.convertAsync(any(ConvertRequest.class))).thenReturn(CompletableFuture.failedFuture(
+                new CompletionException(new IllegalArgumentException("Input must be coordinates or a valid URL"))));
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/web/location/convert/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Input must be coordinates or a valid URL"));
+    }
+
+    @Test
+    void testConvertAsyncEmptyInput() throws Exception {
+        // Given
+        ConvertRequest request = new ConvertRequest("");
+
+        // When/Then
+        mockMvc.perform(post("/api/web/location/convert/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.mapsbridge.load;
+
+import com.example.mapsbridge.load.UpstreamStub.StubResponse;
+import com.example.mapsbridge.setup.TestAuthUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.maps.GeoApiContext;
+import com.google.maps.OkHttpRequestHandler;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Load test harness: starts the app against local stand-ins for the map pages and short links,
+ * Radar and the Google APIs, drives the convert endpoints at a fixed rate and reports throughput,
+ * latency percentiles and the allocation rate. Nothing leaves the machine, so it can be run before
+ * every release without spending API quota. The Telegram bot stays disabled, as the driven
+ * endpoints never reach it.
+ * <p>
+ * Excluded from the default build, run with {@code ./gradlew loadTest}. Tune it with
+ * {@code -Dload.rps=200 -Dload.warmup=PT10S -Dload.duration=PT60S}, the stubs with
+ * {@code -Dload.stub.latency=PT0.1S -Dload.stub.error-rate=0.01} (or per stub, e.g.
+ * {@code -Dload.stub.radar.latency=PT0.3S}), and the app with any of its own properties, e.g.
+ * {@code -Dapp.cache.conversion-result.max-size=0}. The report is printed and written to
+ * {@code build/reports/load/load-report.json}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ConversionLoadTest {
+
+    private static final String GOOGLE_API_KEY = "AIzaLoadTestKey";
+    private static final List<String> EXPANDED_GOOGLE_URLS = List.of(
+            "https://www.google.com/maps/place/Foodhall+Arnhem/@51.9774178,5.9042947,18z/data=!3m1!4b1!4m6!3m5!1s0x47c7a59e06802b89:0xadfd07d7242c2cd1!8m2!3d51.9779268!4d5.9055642!16s%2Fg%2F11h5x3nlff?entry=ttu",
+            "https://www.google.com/maps/place/Lech-Stau+Kaufring/@48.1139244,10.8624105,17z?entry=ttu",
+            "https://maps.google.com/maps?q=51.9740939,5.9016994&entry=gps",
+            "https://www.google.com/maps/place/?q=place_id:ChIJN1t_tDeuEmsRUsoyG83frY4");
+    private static final String EXPANDED_WAZE_URL = "https://www.waze.com/live-map/directions?to=ll.48.0981%2C10.8554";
+
+    private static final UpstreamStub MAP_PAGES = mapPagesStub().start();
+    private static final UpstreamStub RADAR = new UpstreamStub("radar")
+            .route("/v1/geocode/", json("/load/radar-geocode.json"))
+            .start();
+    private static final UpstreamStub GOOGLE_APIS = new UpstreamStub("google-apis")
+            .route("/maps.googleapis.com/maps/api/geocode/json", json("/load/google-geocode.json"))
+            .route("/maps.googleapis.com/maps/api/place/details/json", json("/load/google-place-details.json"))
+            .start();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) {
+        registry.add("radar.api.enabled", () -> "true");
+        registry.add("radar.api.key", () -> "load-test");
+        registry.add("radar.api.base-url", () -> RADAR.baseUrl() + "/v1");
+        registry.add("google.api.enabled", () -> "true");
+        registry.add("google.api.key", () -> GOOGLE_API_KEY);
+
+        // Every request comes from one IP and the master token, quotas would stop the run within seconds
+        for (String config : List.of("requestThrottlingConfig", "perMinuteConfig", "geocodingIpConfig",
+                "geocodingEmailConfig", "geocodingChatIdConfig")) {
+            registry.add("resilience4j.ratelimiter.configs." + config + ".limit-for-period", () -> Integer.MAX_VALUE);
+        }
+
+        // The test profile logs at debug level, which would be most of what is measured
+        registry.add("logging.level.com.example.mapsbridge", () -> "WARN");
+        registry.add("logging.level.org.springframework.security", () -> "WARN");
+        registry.add("logging.level.org.springframework.web", () -> "WARN");
+    }
+
+    @AfterAll
+    static void stopStubs() {
+        MAP_PAGES.close();
+        RADAR.close();
+        GOOGLE_APIS.close();
+    }
+
+    @Test
+    void driveConvertEndpoints() throws Exception {
+        // given
+        LoadDriver driver = new LoadDriver(
+                URI.create("http://localhost:" + port),
+                Map.of("X-API-Key", TestAuthUtils.TEST_MASTER_TOKEN),
+                Arrays.asList(System.getProperty("load.endpoints",
+                        "/api/web/location/convert,/api/sdk/location/convert,/api/shortcut/location/convert").split(",")),
+                corpusInputs(),
+                Integer.getInteger("load.rps", 50),
+                Duration.parse(System.getProperty("load.warmup", "PT10S")),
+                Duration.parse(System.getProperty("load.duration", "PT60S")));
+
+        // when
+        LoadReport report = driver.run();
+
+        // then
+        System.out.print(report.toTable());
+        for (UpstreamStub stub : List.of(MAP_PAGES, RADAR, GOOGLE_APIS)) {
+            System.out.printf("Stub %s: %d requests, %d injected errors%n", stub.name(), stub.requests(), stub.injectedErrors());
+        }
+        report.writeJson(Path.of(System.getProperty("load.report", "build/reports/load/load-report.json")));
+        assertTrue(report.total().throughputPerSec() > 0, "No request was answered");
+    }
+
+    private static UpstreamStub mapPagesStub() {
+        byte[] googlePage = UpstreamStub.recorded("/load/google-place.html");
+        byte[] applePage = UpstreamStub.recorded("/load/apple-place.html");
+        byte[] emptyPage = "<!DOCTYPE html><html><head></head><body></body></html>".getBytes();
+
+        UpstreamStub.Route googleShortLink = exchange -> StubResponse.redirect(EXPANDED_GOOGLE_URLS.get(
+                Math.floorMod(exchange.getRequestURI().getPath().hashCode(), EXPANDED_GOOGLE_URLS.size())));
+        UpstreamStub.Route googlePageRoute = exchange -> StubResponse.ok("text/html; charset=utf-8", googlePage);
+        UpstreamStub.Route wazeShortLink = exchange -> StubResponse.redirect(EXPANDED_WAZE_URL);
+
+        // Paths are prefixed with the upstream host, see StubRoutingInterceptor
+        return new UpstreamStub("map-pages")
+                .route("/maps.app.goo.gl/", googleShortLink)
+                .route("/goo.gl/", googleShortLink)
+                .route("/www.google.com/", googlePageRoute)
+                .route("/google.com/", googlePageRoute)
+                .route("/maps.google.com/", googlePageRoute)
+                .route("/maps.apple.com/", exchange -> StubResponse.ok("text/html; charset=utf-8", applePage))
+                .route("/waze.com/ul/h", wazeShortLink)
+                .route("/www.waze.com/ul/h", wazeShortLink)
+                .route("/", exchange -> StubResponse.ok("text/html; charset=utf-8", emptyPage));
+    }
+
+    private static UpstreamStub.Route json(String resource) {
+        byte[] body = UpstreamStub.recorded(resource);
+        return exchange -> StubResponse.ok("application/json; charset=utf-8", body);
+    }
+
+    private static List<String> corpusInputs() throws IOException {
+        try (InputStream inputStream = ConversionLoadTest.class.getResourceAsStream("/postman/postman-validation.json")) {
+            List<String> inputs = new ArrayList<>();
+            for (JsonNode testCase : new ObjectMapper().readTree(inputStream)) {
+                inputs.add(testCase.path("input").asText());
+            }
+            return inputs;
+        }
+    }
+
+    @TestConfiguration
+    static class StubUpstreamConfig {
+
+        /**
+         * Route the app's OkHttp clients through the map page stub, keeping their pool and timeouts.
+         */
+        @Bean
+        static BeanPostProcessor stubRoutingHttpClient() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof OkHttpClient httpClient) {
+                        return httpClient.newBuilder()
+                                .followRedirects(false)
+                                .followSslRedirects(false)
+                                .addInterceptor(new StubRoutingInterceptor(MAP_PAGES.baseUrl()))
+                                .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        /**
+         * Route the Google client library through the Google APIs stub, with the production timeouts and retries.
+         */
+        @Bean
+        @Primary
+        GeoApiContext stubGeoApiContext() {
+            OkHttpRequestHandler.Builder requestHandler = new OkHttpRequestHandler.Builder();
+            requestHandler.okHttpClientBuilder()
+                    .addInterceptor(new StubRoutingInterceptor(GOOGLE_APIS.baseUrl()));
+            return new GeoApiContext.Builder(requestHandler)
+                    .apiKey(GOOGLE_API_KEY)
+                    .connectTimeout(2, TimeUnit.SECONDS)
+                    .readTimeout(2, TimeUnit.SECONDS)
+                    .writeTimeout(2, TimeUnit.SECONDS)
+                    .maxRetries(2)
+                    .build();
+        }
+    }
+}
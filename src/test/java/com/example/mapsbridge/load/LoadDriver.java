@@ -0,0 +1,193 @@
+package com.example.mapsbridge.load;
+
+import com.example.mapsbridge.load.LoadReport.EndpointStats;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator: requests are sent on a fixed schedule at the target rate, whether or
+ * not earlier ones have been answered, so a slow app builds up a backlog instead of slowing the
+ * driver down. The endpoints take turns and each cycles through the inputs.
+ */
+@Slf4j
+class LoadDriver {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final Map<String, String> headers;
+    private final List<String> endpoints;
+    private final List<String> inputs;
+    private final int targetRps;
+    private final Duration warmup;
+    private final Duration duration;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    LoadDriver(URI baseUri, Map<String, String> headers, List<String> endpoints, List<String> inputs,
+               int targetRps, Duration warmup, Duration duration) {
+        this.baseUri = baseUri;
+        this.headers = headers;
+        this.endpoints = endpoints;
+        this.inputs = inputs;
+        this.targetRps = targetRps;
+        this.warmup = warmup;
+        this.duration = duration;
+    }
+
+    /**
+     * Run the warm-up and the measured window, then wait for the last requests to be answered.
+     *
+     * @return The report over the measured window
+     * @throws InterruptedException If interrupted while running
+     */
+    LoadReport run() throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / targetRps;
+        long warmupRequests = warmup.toNanos() / intervalNanos;
+        long measuredRequests = duration.toNanos() / intervalNanos;
+        List<Recorder> recorders = endpoints.stream()
+                .map(endpoint -> new Recorder(endpoint, (int) (measuredRequests / endpoints.size() + 1)))
+                .toList();
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+
+        log.info("Driving {} at {} rps, {} warm-up and {} measured", endpoints, targetRps, warmup, duration);
+        long start = System.nanoTime();
+        long allocatedAtStart = 0;
+        for (long i = 0; i < warmupRequests + measuredRequests; i++) {
+            long scheduledAt = start + i * intervalNanos;
+            LockSupport.parkNanos(scheduledAt - System.nanoTime());
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (i == warmupRequests) {
+                allocatedAtStart = allocatedBytes();
+            }
+
+            Recorder recorder = recorders.get((int) (i % endpoints.size()));
+            String input = inputs.get((int) ((i / endpoints.size()) % inputs.size()));
+            CompletableFuture<?> response = send(recorder.endpoint(), input);
+            if (i >= warmupRequests) {
+                recorder.scheduled.increment();
+                inFlight.add(response.whenComplete((result, e) -> recorder.record(scheduledAt, result, e)));
+            }
+        }
+
+        awaitAll(inFlight);
+        double measuredSeconds = (System.nanoTime() - start - warmupRequests * intervalNanos) / 1e9;
+        double allocationMbPerSecond = (allocatedBytes() - allocatedAtStart) / measuredSeconds / (1024 * 1024);
+
+        List<EndpointStats> stats = recorders.stream().map(recorder -> recorder.stats(measuredSeconds)).toList();
+        return new LoadReport(targetRps, measuredSeconds, allocationMbPerSecond, stats,
+                Recorder.merge(recorders).stats(measuredSeconds));
+    }
+
+    private CompletableFuture<HttpResponse<Void>> send(String endpoint, String input) {
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(baseUri.resolve(endpoint))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(Map.of("input", input))));
+            headers.forEach(request::header);
+            return httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.discarding());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static void awaitAll(List<CompletableFuture<?>> inFlight) throws InterruptedException {
+        try {
+            CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new))
+                    .exceptionally(e -> null)
+                    .get(REQUEST_TIMEOUT.toSeconds() + 5, TimeUnit.SECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            log.warn("Not every request was answered: {}", e.toString());
+        }
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getTotalThreadAllocatedBytes();
+    }
+
+    /**
+     * Latencies and failures of one endpoint.
+     */
+    private static final class Recorder {
+
+        private final String endpoint;
+        private final long[] latencies;
+        private final AtomicInteger count = new AtomicInteger();
+        private final LongAdder scheduled = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        private Recorder(String endpoint, int capacity) {
+            this.endpoint = endpoint;
+            this.latencies = new long[capacity];
+        }
+
+        String endpoint() {
+            return endpoint;
+        }
+
+        void record(long scheduledAt, Object result, Throwable e) {
+            if (e != null || !(result instanceof HttpResponse<?> response) || response.statusCode() / 100 != 2) {
+                failures.increment();
+            }
+            if (e == null) {
+                int index = count.getAndIncrement();
+                if (index < latencies.length) {
+                    latencies[index] = System.nanoTime() - scheduledAt;
+                }
+            }
+        }
+
+        EndpointStats stats(double measuredSeconds) {
+            long[] sorted = Arrays.copyOf(latencies, Math.min(count.get(), latencies.length));
+            Arrays.sort(sorted);
+            return new EndpointStats(endpoint, scheduled.sum(), failures.sum(), sorted.length / measuredSeconds,
+                    percentileMillis(sorted, 0.5), percentileMillis(sorted, 0.99), percentileMillis(sorted, 0.999));
+        }
+
+        static Recorder merge(List<Recorder> recorders) {
+            int total = recorders.stream().mapToInt(recorder -> Math.min(recorder.count.get(), recorder.latencies.length)).sum();
+            Recorder merged = new Recorder("total", total);
+            for (Recorder recorder : recorders) {
+                int answered = Math.min(recorder.count.get(), recorder.latencies.length);
+                System.arraycopy(recorder.latencies, 0, merged.latencies, merged.count.getAndAdd(answered), answered);
+                merged.scheduled.add(recorder.scheduled.sum());
+                merged.failures.add(recorder.failures.sum());
+            }
+            return merged;
+        }
+
+        private static double percentileMillis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
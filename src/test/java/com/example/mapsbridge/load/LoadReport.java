@@ -0,0 +1,73 @@
+package com.example.mapsbridge.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Outcome of a load test run, per endpoint and in total.
+ *
+ * @param targetRps            The requests per second the driver aimed for
+ * @param measuredSeconds      The length of the measured window, after warm-up
+ * @param allocationMbPerSecond The heap allocation rate of the whole JVM (app, stubs and driver) in MB/s
+ * @param endpoints            The statistics per endpoint
+ * @param total                The statistics over all endpoints
+ */
+record LoadReport(int targetRps, double measuredSeconds, double allocationMbPerSecond,
+                  List<EndpointStats> endpoints, EndpointStats total) {
+
+    /**
+     * Statistics of one endpoint. Latencies are measured from the time a request was scheduled,
+     * not sent, so a stalled app cannot hide its queueing delay.
+     *
+     * @param endpoint         The endpoint path
+     * @param requests         The requests scheduled in the measured window
+     * @param failures         The requests answered with a non-2xx status or not answered at all
+     * @param throughputPerSec The answered requests per second
+     * @param p50Millis        The median latency
+     * @param p99Millis        The 99th percentile latency
+     * @param p999Millis       The 99.9th percentile latency
+     */
+    record EndpointStats(String endpoint, long requests, long failures, double throughputPerSec,
+                         double p50Millis, double p99Millis, double p999Millis) {
+    }
+
+    /**
+     * Format the report as a table.
+     *
+     * @return The table
+     */
+    String toTable() {
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT,
+                "Load test at %d rps for %.0fs, allocation %.1f MB/s%n", targetRps, measuredSeconds, allocationMbPerSecond));
+        table.append(String.format(Locale.ROOT, "%-36s %9s %9s %10s %9s %9s %9s%n",
+                "endpoint", "requests", "failures", "req/s", "p50 ms", "p99 ms", "p999 ms"));
+        for (EndpointStats stats : endpoints) {
+            appendRow(table, stats);
+        }
+        appendRow(table, total);
+        return table.toString();
+    }
+
+    /**
+     * Write the report as JSON, so runs against different releases can be compared.
+     *
+     * @param file The file to write
+     * @throws IOException If the file cannot be written
+     */
+    void writeJson(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), this);
+    }
+
+    private static void appendRow(StringBuilder table, EndpointStats stats) {
+        table.append(String.format(Locale.ROOT, "%-36s %9d %9d %10.1f %9.1f %9.1f %9.1f%n",
+                stats.endpoint(), stats.requests(), stats.failures(), stats.throughputPerSec(),
+                stats.p50Millis(), stats.p99Millis(), stats.p999Millis()));
+    }
+}
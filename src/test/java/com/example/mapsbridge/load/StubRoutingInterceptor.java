@@ -0,0 +1,67 @@
+package com.example.mapsbridge.load;
+
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.net.ProtocolException;
+
+/**
+ * Sends every request of an OkHttp client to a stub instead of the internet, with the original
+ * host as the first path segment ({@code https://maps.apple.com/place?q=1}
+ * becomes {@code http://127.0.0.1:port/maps.apple.com/place?q=1}).
+ * <p>
+ * Redirects are followed here, against the stub, and the response carries the last upstream URL
+ * as its request URL, so the app sees the same final URL as it would on the internet. The client
+ * must not follow redirects itself, or it would follow the stub's Location headers out.
+ * HEAD requests are the hops of the app's own redirect walking, so their redirects are passed
+ * through with the Location rewritten back to the upstream URL.
+ */
+class StubRoutingInterceptor implements Interceptor {
+
+    private static final int MAX_REDIRECTS = 20;
+
+    private final HttpUrl stubUrl;
+
+    StubRoutingInterceptor(String stubBaseUrl) {
+        this.stubUrl = HttpUrl.get(stubBaseUrl);
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        Request request = chain.request();
+        HttpUrl upstreamUrl = request.url();
+
+        for (int redirects = 0; redirects <= MAX_REDIRECTS; redirects++) {
+            Response response = chain.proceed(request.newBuilder().url(toStub(upstreamUrl)).build());
+            String location = response.header("Location");
+            HttpUrl redirectUrl = location != null ? upstreamUrl.resolve(location) : null;
+            if ("HEAD".equals(request.method()) && redirectUrl != null) {
+                return response.newBuilder()
+                        .request(request.newBuilder().url(upstreamUrl).build())
+                        .header("Location", redirectUrl.toString())
+                        .build();
+            }
+            if (!response.isRedirect() || redirectUrl == null) {
+                return response.newBuilder()
+                        .request(request.newBuilder().url(upstreamUrl).build())
+                        .build();
+            }
+
+            response.close();
+            upstreamUrl = redirectUrl;
+        }
+        throw new ProtocolException("Too many redirects: " + (MAX_REDIRECTS + 1));
+    }
+
+    private HttpUrl toStub(HttpUrl upstreamUrl) {
+        return stubUrl.newBuilder()
+                .encodedPath("/" + upstreamUrl.host() + upstreamUrl.encodedPath())
+                .encodedQuery(upstreamUrl.encodedQuery())
+                .build();
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.mapsbridge.load;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local stand-in for an upstream API, serving recorded responses on a random port.
+ * <p>
+ * Every response is delayed by the configured latency, and the configured share of requests fails
+ * with a 503, so the behaviour of the app under slow or flaky upstreams can be measured.
+ * Both are read from {@code load.stub.<name>.latency} and {@code load.stub.<name>.error-rate},
+ * falling back to {@code load.stub.latency} and {@code load.stub.error-rate}.
+ */
+@Slf4j
+class UpstreamStub implements AutoCloseable {
+
+    /**
+     * A recorded response.
+     *
+     * @param status      The HTTP status
+     * @param contentType The content type, or null for none
+     * @param body        The body
+     * @param location    The Location header, or null for none
+     */
+    record StubResponse(int status, String contentType, byte[] body, String location) {
+
+        static StubResponse ok(String contentType, byte[] body) {
+            return new StubResponse(200, contentType, body, null);
+        }
+
+        static StubResponse redirect(String location) {
+            return new StubResponse(302, null, new byte[0], location);
+        }
+    }
+
+    /**
+     * Decides the response for a request.
+     */
+    @FunctionalInterface
+    interface Route {
+        StubResponse respond(HttpExchange exchange);
+    }
+
+    private static final StubResponse UNAVAILABLE = new StubResponse(503, "text/plain", "Injected error".getBytes(), null);
+
+    private final String name;
+    private final Duration latency;
+    private final double errorRate;
+    private final Map<String, Route> routes = new LinkedHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpServer server;
+
+    UpstreamStub(String name) {
+        this.name = name;
+        this.latency = Duration.parse(setting(name, "latency", "PT0.03S"));
+        this.errorRate = Double.parseDouble(setting(name, "error-rate", "0"));
+        try {
+            this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start the " + name + " stub", e);
+        }
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * Answer every request whose path starts with the prefix. The longest matching prefix wins.
+     *
+     * @param pathPrefix The path prefix
+     * @param route      The route
+     * @return this stub
+     */
+    UpstreamStub route(String pathPrefix, Route route) {
+        routes.put(pathPrefix, route);
+        return this;
+    }
+
+    UpstreamStub start() {
+        server.start();
+        log.info("Started the {} stub on {} (latency {}, error rate {})", name, baseUrl(), latency, errorRate);
+        return this;
+    }
+
+    String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    String name() {
+        return name;
+    }
+
+    long requests() {
+        return requests.sum();
+    }
+
+    long injectedErrors() {
+        return injectedErrors.sum();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Read a recorded response body from the test resources.
+     *
+     * @param resource The classpath resource
+     * @return The body
+     */
+    static byte[] recorded(String resource) {
+        try (InputStream inputStream = UpstreamStub.class.getResourceAsStream(resource)) {
+            if (inputStream == null) {
+                throw new IllegalArgumentException("No recorded response " + resource);
+            }
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read recorded response " + resource, e);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.increment();
+        try {
+            exchange.getRequestBody().readAllBytes();
+            if (!latency.isZero()) {
+                Thread.sleep(latency);
+            }
+
+            StubResponse response;
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                injectedErrors.increment();
+                response = UNAVAILABLE;
+            } else {
+                response = findRoute(exchange.getRequestURI().getPath()).respond(exchange);
+            }
+            send(exchange, response);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Route findRoute(String path) {
+        Route route = exchange -> new StubResponse(404, "text/plain", "No stub for this path".getBytes(), null);
+        int longest = -1;
+        for (Map.Entry<String, Route> entry : routes.entrySet()) {
+            if (path.startsWith(entry.getKey()) && entry.getKey().length() > longest) {
+                route = entry.getValue();
+                longest = entry.getKey().length();
+            }
+        }
+        return route;
+    }
+
+    private static void send(HttpExchange exchange, StubResponse response) throws IOException {
+        if (response.contentType() != null) {
+            exchange.getResponseHeaders().set("Content-Type", response.contentType());
+        }
+        if (response.location() != null) {
+            exchange.getResponseHeaders().set("Location", response.location());
+        }
+        // HEAD responses carry the headers only
+        boolean hasBody = response.body().length > 0 && !"HEAD".equals(exchange.getRequestMethod());
+        exchange.sendResponseHeaders(response.status(), hasBody ? response.body().length : -1);
+        if (hasBody) {
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(response.body());
+            }
+        }
+    }
+
+    private static String setting(String name, String key, String defaultValue) {
+        return System.getProperty("load.stub." + name + "." + key, System.getProperty("load.stub." + key, defaultValue));
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.mapsbridge.metrics;
+
+import com.example.mapsbridge.config.metrics.tracker.HttpClientTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.Call;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.EventListener;
+import okhttp3.Protocol;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class HttpClientTrackerTest {
+
+    private SimpleMeterRegistry registry;
+    private HttpClientTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        tracker = new HttpClientTracker(registry);
+    }
+
+    @Test
+    void shouldPublishConnectionPoolAndDispatcherState() {
+        // Given
+        ConnectionPool connectionPool = new ConnectionPool();
+        Dispatcher dispatcher = new Dispatcher();
+
+        // When
+        tracker.bindConnectionPool(connectionPool);
+        tracker.bindDispatcher(dispatcher);
+
+        // Then
+        assertEquals(0.0, registry.get("http.client.pool.connections").tag("state", "active").gauge().value());
+        assertEquals(0.0, registry.get("http.client.pool.connections").tag("state", "idle").gauge().value());
+        assertEquals(0.0, registry.get("http.client.dispatcher.calls").tag("state", "queued").gauge().value());
+        assertEquals(0.0, registry.get("http.client.dispatcher.calls").tag("state", "running").gauge().value());
+    }
+
+    @Test
+    void shouldTimeDnsLookupsAndConnectsPerProtocol() {
+        // Given
+        Call call = mock(Call.class);
+        InetSocketAddress address = InetSocketAddress.createUnresolved("maps.google.com", 443);
+        EventListener listener = tracker.eventListenerFactory().create(call);
+
+        // When
+        listener.dnsStart(call, "maps.google.com");
+        listener.dnsEnd(call, "maps.google.com", List.of(InetAddress.getLoopbackAddress()));
+        listener.connectStart(call, address, Proxy.NO_PROXY);
+        listener.connectEnd(call, address, Proxy.NO_PROXY, Protocol.HTTP_2);
+
+        // Then
+        assertEquals(1, registry.get("http.client.dns.duration").tag("outcome", "success").timer().count());
+        assertEquals(1, registry.get("http.client.connect.duration")
+                .tag("outcome", "success")
+                .tag("protocol", "h2")
+                .timer().count());
+        assertEquals(0, registry.get("http.client.dns.duration").tag("outcome", "failure").timer().count());
+    }
+
+    @Test
+    void shouldTimeFailedDnsLookupWhenCallFails() {
+        // Given
+        Call call = mock(Call.class);
+        EventListener listener = tracker.eventListenerFactory().create(call);
+
+        // When
+        listener.dnsStart(call, "unknown.invalid");
+        listener.callFailed(call, new IOException("Unknown host"));
+
+        // Then
+        assertEquals(1, registry.get("http.client.dns.duration").tag("outcome", "failure").timer().count());
+        assertEquals(0, registry.get("http.client.dns.duration").tag("outcome", "success").timer().count());
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.mapsbridge.metrics;
+
+import com.example.mapsbridge.config.metrics.Outcome;
+import com.example.mapsbridge.config.metrics.tracker.MapProviderTracker;
+import com.example.mapsbridge.dto.MapType;
+import com.example.mapsbridge.provider.extractor.google.G2LatLon3d4dExtractor;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MapProviderTrackerTest {
+
+    private SimpleMeterRegistry registry;
+    private MapProviderTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        tracker = new MapProviderTracker(registry);
+    }
+
+    @Test
+    void shouldCountExtractionsPerProviderAndExtractor() {
+        // When
+        tracker.trackExtractionSuccess(MapType.GOOGLE, G2LatLon3d4dExtractor.class);
+        tracker.trackExtractionSuccess(MapType.GOOGLE, G2LatLon3d4dExtractor.class);
+        tracker.trackExtractionFailure(MapType.APPLE, G2LatLon3d4dExtractor.class);
+
+        // Then
+        assertEquals(2.0, registry.get("maps.extraction.success")
+                .tag("provider", "google")
+                .tag("extractor", "G2LatLon3d4dExtractor")
+                .counter().count());
+        assertEquals(1.0, registry.get("maps.extraction.failure")
+                .tag("provider", "apple")
+                .tag("extractor", "G2LatLon3d4dExtractor")
+                .counter().count());
+        assertEquals(1, registry.find("maps.extraction.success").counters().size());
+    }
+
+    @Test
+    void shouldTimeExtractionsPerProviderExtractorAndOutcome() {
+        // When
+        tracker.recordExtraction(MapType.GOOGLE, G2LatLon3d4dExtractor.class, Outcome.SUCCESS, System.nanoTime());
+        tracker.recordExtraction(MapType.GOOGLE, G2LatLon3d4dExtractor.class, Outcome.SUCCESS, System.nanoTime());
+
+        // Then
+        Timer timer = registry.get("maps.extraction.duration")
+                .tag("provider", "google")
+                .tag("extractor", "G2LatLon3d4dExtractor")
+                .tag("outcome", "success")
+                .timer();
+        assertEquals(2, timer.count());
+        assertEquals(3, timer.takeSnapshot().percentileValues().length);
+        // Outcomes that did not happen are not registered
+        assertNull(registry.find("maps.extraction.duration").tag("outcome", "failure").timer());
+    }
+
+    @Test
+    void shouldTimeRedirectsPerProviderAndOutcome() {
+        // When
+        tracker.recordRedirect(MapType.APPLE, Outcome.CACHED, System.nanoTime());
+
+        // Then
+        assertEquals(1, registry.get("maps.redirect.duration")
+                .tag("provider", "apple")
+                .tag("outcome", "cached")
+                .timer().count());
+    }
+
+    @Test
+    void shouldCountResolvedUrlCacheLookupsAndEvictions() {
+        // When
+        tracker.trackResolvedUrlCacheHit();
+        tracker.trackResolvedUrlCacheMiss();
+        tracker.trackResolvedUrlCacheEviction(RemovalCause.SIZE);
+        tracker.trackResolvedUrlCacheEviction(RemovalCause.SIZE);
+
+        // Then
+        assertEquals(1.0, registry.get("maps.redirect.cache").tag("result", "hit").counter().count());
+        assertEquals(1.0, registry.get("maps.redirect.cache").tag("result", "miss").counter().count());
+        assertEquals(2.0, registry.get("maps.redirect.cache")
+                .tag("result", "eviction")
+                .tag("cause", "size")
+                .counter().count());
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.mapsbridge.provider.cache;
+
+import com.example.mapsbridge.config.metrics.tracker.MapProviderTracker;
+import com.example.mapsbridge.config.properties.CacheProperties;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResolvedUrlCacheTest {
+
+    private static final String SHORT_URL = "https://maps.app.goo.gl/3KRHSbjUDnMhbWg59";
+    private static final String FINAL_URL = "https://www.google.com/maps/place/@51.9740939,5.9016994,17z";
+
+    @Mock
+    private MapProviderTracker metrics;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private ResolvedUrlCache cache;
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties.CacheSpec spec = new CacheProperties.CacheSpec(2, Duration.ofMinutes(10));
+        cache = new ResolvedUrlCache(spec, metrics, nanos::get);
+    }
+
+    @Test
+    void shouldReturnEmptyAndTrackMissForUnknownUrl() {
+        // When
+        Optional<String> result = cache.get(SHORT_URL);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(metrics).trackResolvedUrlCacheMiss();
+        verify(metrics, never()).trackResolvedUrlCacheHit();
+    }
+
+    @Test
+    void shouldReturnCachedUrlAndTrackHit() {
+        // Given
+        cache.put(SHORT_URL, FINAL_URL);
+
+        // When
+        Optional<String> result = cache.get(SHORT_URL);
+
+        // Then
+        assertEquals(Optional.of(FINAL_URL), result);
+        verify(metrics).trackResolvedUrlCacheHit();
+    }
+
+    @Test
+    void shouldExpireEntriesAfterTtl() {
+        // Given
+        cache.put(SHORT_URL, FINAL_URL);
+
+        // When
+        nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+
+        // Then
+        assertTrue(cache.get(SHORT_URL).isEmpty());
+        assertEquals(0, cache.size());
+        verify(metrics).trackResolvedUrlCacheEviction(RemovalCause.EXPIRED);
+    }
+
+    @Test
+    void shouldEvictWhenMaximumSizeIsExceeded() {
+        // Given
+        cache.put("https://goo.gl/maps/a", FINAL_URL);
+        cache.put("https://goo.gl/maps/b", FINAL_URL);
+        cache.put("https://goo.gl/maps/c", FINAL_URL);
+
+        // When
+        long size = cache.size();
+
+        // Then
+        assertEquals(2, size);
+        verify(metrics).trackResolvedUrlCacheEviction(RemovalCause.SIZE);
+    }
+
+    @Test
+    void shouldIgnoreBlankValues() {
+        // When
+        cache.put(SHORT_URL, " ");
+        cache.put(null, FINAL_URL);
+
+        // Then
+        assertEquals(0, cache.size());
+        assertTrue(cache.get(null).isEmpty());
+        verifyNoInteractions(metrics);
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.mapsbridge.provider.extractor;
+
+import com.example.mapsbridge.config.logging.LoggingContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelExtractionRunnerTest {
+
+    private ParallelExtractionRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        runner = new ParallelExtractionRunner(true, 4, Duration.ofSeconds(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        runner.shutdown();
+    }
+
+    @Test
+    void shouldPreferHigherPriorityResultEvenIfItFinishesLast() {
+        // Given
+        List<Callable<String>> tasks = List.of(
+                () -> {
+                    Thread.sleep(100);
+                    return "G1";
+                },
+                () -> "G6");
+
+        // When
+        Optional<String> result = runner.firstAccepted(tasks, Objects::nonNull);
+
+        // Then
+        assertEquals(Optional.of("G1"), result);
+    }
+
+    @Test
+    void shouldFallBackToLowerPriorityWhenHigherOnesFail() {
+        // Given
+        List<Callable<String>> tasks = List.of(
+                () -> null,
+                () -> {
+                    throw new IllegalStateException("boom");
+                },
+                () -> "G7");
+
+        // When
+        Optional<String> result = runner.firstAccepted(tasks, Objects::nonNull);
+
+        // Then
+        assertEquals(Optional.of("G7"), result);
+    }
+
+    @Test
+    void shouldCancelLosingTasks() throws InterruptedException {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        List<Callable<String>> tasks = List.of(
+                () -> {
+                    started.await();
+                    return "G1";
+                },
+                () -> {
+                    started.countDown();
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                    return "G6";
+                });
+
+        // When
+        Optional<String> result = runner.firstAccepted(tasks, Objects::nonNull);
+
+        // Then
+        assertEquals(Optional.of("G1"), result);
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldGiveUpAfterTimeout() {
+        // Given
+        runner.shutdown();
+        runner = new ParallelExtractionRunner(true, 2, Duration.ofMillis(100));
+        List<Callable<String>> tasks = List.of(() -> {
+            Thread.sleep(10_000);
+            return "G1";
+        });
+
+        // When
+        Optional<String> result = runner.firstAccepted(tasks, Objects::nonNull);
+
+        // Then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void shouldRunTasksWithCallerLoggingContext() {
+        // Given
+        LoggingContext.setTransactionId("tx-1");
+        List<Callable<String>> tasks = List.of(LoggingContext::getTransactionId);
+
+        // When
+        Optional<String> result;
+        try {
+            result = runner.firstAccepted(tasks, Objects::nonNull);
+        } finally {
+            LoggingContext.clear();
+        }
+
+        // Then
+        assertEquals(Optional.of("tx-1"), result);
+    }
+
+    @Test
+    void shouldRunTasksOnCallerAfterShutdown() {
+        // Given
+        runner.shutdown();
+        List<Callable<String>> tasks = List.of(() -> null, () -> "G6");
+
+        // When
+        long start = System.nanoTime();
+        Optional<String> result = runner.firstAccepted(tasks, Objects::nonNull);
+
+        // Then
+        assertEquals(Optional.of("G6"), result);
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -4,6 +4,7 @@ import com.example.mapsbridge.config.metrics.tracker.MapProviderTracker;
 import com.example.mapsbridge.dto.Coordinate;
 import com.example.mapsbridge.dto.LocationResult;
 import com.example.mapsbridge.provider.extractor.apple.A100DefaultExtractor;
+import com.example.mapsbridge.provider.cache.ResolvedUrlCache;
 import okhttp3.OkHttpClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,11 +24,14 @@ class AppleMapProviderTest {
     @Mock
     private MapProviderTracker mockMetrics;
 
+    @Mock
+    private ResolvedUrlCache mockResolvedUrlCache;
+
     private AppleMapProvider target;
 
     @BeforeEach
     void setUp() {
-        target = new AppleMapProvider(new OkHttpClient.Builder().build(), "https://maps.apple.com/?q={lat},{lon}", List.of(new A100DefaultExtractor(new OkHttpClient.Builder().build())), mockMetrics);
+        target = new AppleMapProvider(new OkHttpClient.Builder().build(), "https://maps.apple.com/?q={lat},{lon}", List.of(new A100DefaultExtractor(new OkHttpClient.Builder().build())), mockMetrics, mockResolvedUrlCache);
     }
 
     @ParameterizedTest
@@ -4,6 +4,7 @@ import com.example.mapsbridge.config.metrics.tracker.MapProviderTracker;
 import com.example.mapsbridge.dto.LocationResult;
 import com.example.mapsbridge.dto.MapType;
 import com.example.mapsbridge.provider.extractor.bing.B100DefaultExtractor;
+import com.example.mapsbridge.provider.cache.ResolvedUrlCache;
 import okhttp3.OkHttpClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +24,9 @@ class BingMapProviderTest {
     @Mock
     private MapProviderTracker mockMetrics;
 
+    @Mock
+    private ResolvedUrlCache mockResolvedUrlCache;
+
     private BingMapProvider target;
 
     @BeforeEach
@@ -31,7 +35,8 @@ class BingMapProviderTest {
                 new OkHttpClient.Builder().build(),
                 "https://www.bing.com/maps?q={lat},{lon}",
                 List.of(new B100DefaultExtractor(new OkHttpClient.Builder().build())),
-                mockMetrics);
+                mockMetrics,
+                mockResolvedUrlCache);
     }
 
     @Test
@@ -8,6 +8,8 @@ import com.example.mapsbridge.provider.extractor.google.*;
 import com.example.mapsbridge.provider.url.UrlPatternExtractor;
 import com.example.mapsbridge.service.GoogleGeocodingService;
 import com.example.mapsbridge.service.geocoding.HybridGeocodingService;
+import com.example.mapsbridge.provider.cache.ResolvedUrlCache;
+import com.example.mapsbridge.provider.extractor.ParallelExtractionRunner;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import okhttp3.OkHttpClient;
@@ -19,6 +21,9 @@ import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -49,6 +54,12 @@ class GoogleMapProviderTest {
     @Mock
     private MapProviderTracker mockMapProviderTracker;
 
+    @Mock
+    private ResolvedUrlCache mockResolvedUrlCache;
+
+    @Mock
+    private ParallelExtractionRunner mockParallelExtractionRunner;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -84,7 +95,9 @@ class GoogleMapProviderTest {
                         placeIdExtractor,
                         addressGeocodingExtractor
                 ),
-                mockMapProviderTracker);
+                mockMapProviderTracker,
+                mockResolvedUrlCache,
+                mockParallelExtractionRunner);
     }
 
     @Test
@@ -202,4 +215,62 @@ class GoogleMapProviderTest {
         assertNull(target.extractLocation(nullUrl).getCoordinates());
     }
 
+    @Test
+    void shouldExtractCoordinatesAsynchronously() {
+        // given
+        String url = "https://www.google.com/maps/place/Eiffel+Tower/@48.8583701,2.2922926,17z/data=!3m1!4b1!8m2!3d48.8583701!4d2.2944813";
+
+        // when
+        LocationResult locationResult = target.extractLocationAsync(url).join();
+
+        // then
+        assertEquals(new Coordinate(48.8583701, 2.2944813), locationResult.getCoordinates());
+        assertEquals(MapType.GOOGLE, locationResult.getMapSource());
+        verify(mockMapProviderTracker).trackExtractionSuccess(MapType.GOOGLE, G2LatLon3d4dExtractor.class);
+        // The URL already has coordinates, so no redirect is looked up or followed
+        verify(mockResolvedUrlCache, never()).get(url);
+    }
+
+    @Test
+    void shouldParseUrlWithCoordinatesOnlyOnce() {
+        // given
+        String url = "https://www.google.com/maps/place/Eiffel+Tower/@48.8583701,2.2922926,17z/data=!3m1!4b1!8m2!3d48.8583701!4d2.2944813";
+        G2LatLon3d4dExtractor latLon3d4dExtractor = spy(new G2LatLon3d4dExtractor());
+        GoogleMapProvider provider = new GoogleMapProvider(
+                new OkHttpClient.Builder().build(),
+                "https://www.google.com/maps?q={lat},{lon}",
+                List.of(latLon3d4dExtractor),
+                mockMapProviderTracker,
+                mockResolvedUrlCache,
+                mockParallelExtractionRunner);
+
+        // when
+        LocationResult locationResult = provider.extractLocation(url);
+
+        // then the result of the redirect pre-check is used as is
+        assertEquals(new Coordinate(48.8583701, 2.2944813), locationResult.getCoordinates());
+        verify(latLon3d4dExtractor, times(1)).extract(url);
+        verify(mockMapProviderTracker, times(1)).trackExtractionSuccess(eq(MapType.GOOGLE), any());
+        verify(mockResolvedUrlCache, never()).get(url);
+    }
+
+    @Test
+    void shouldResolvePlaceIdAsynchronously() {
+        // given
+        String url = "https://www.google.com/maps/place/?q=place_id:ChIJN1t_tDeuEmsRUsoyG83frY4";
+        LocationResult resolved = LocationResult.fromCoordinatesAndName(new Coordinate(-33.8670522, 151.1957362), "Google Sydney");
+        when(mockResolvedUrlCache.get(url)).thenReturn(Optional.of(url));
+        when(mockUrlPatternExtractor.findPlaceId(url)).thenReturn(Optional.of("ChIJN1t_tDeuEmsRUsoyG83frY4"));
+        when(mockHybridGeocodingService.getLocationFromPlaceIdAsync("ChIJN1t_tDeuEmsRUsoyG83frY4"))
+                .thenReturn(CompletableFuture.completedFuture(resolved));
+
+        // when
+        LocationResult locationResult = target.extractLocationAsync(url).join();
+
+        // then
+        assertEquals(new Coordinate(-33.8670522, 151.1957362), locationResult.getCoordinates());
+        assertEquals(MapType.GOOGLE, locationResult.getMapSource());
+        verify(mockHybridGeocodingService, never()).getLocationFromPlaceId(anyString());
+    }
+
 }
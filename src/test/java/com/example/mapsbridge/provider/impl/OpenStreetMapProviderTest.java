@@ -3,6 +3,7 @@ package com.example.mapsbridge.provider.impl;
 import com.example.mapsbridge.config.metrics.tracker.MapProviderTracker;
 import com.example.mapsbridge.dto.Coordinate;
 import com.example.mapsbridge.dto.LocationResult;
+import com.example.mapsbridge.provider.cache.ResolvedUrlCache;
 import okhttp3.OkHttpClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,6 +26,9 @@ class OpenStreetMapProviderTest {
     @Mock
     private MapProviderTracker mockMetrics;
 
+    @Mock
+    private ResolvedUrlCache mockResolvedUrlCache;
+
     private OpenStreetMapProvider target;
 
     @BeforeEach
@@ -34,7 +38,8 @@ class OpenStreetMapProviderTest {
                 httpClient,
                 "https://www.openstreetmap.org/?mlat={lat}&mlon={lon}#map=16/{lat}/{lon}",
                 List.of(new com.example.mapsbridge.provider.extractor.openstreet.O100DefaultExtractor(httpClient)),
-                mockMetrics
+                mockMetrics,
+                mockResolvedUrlCache
         );
     }
 
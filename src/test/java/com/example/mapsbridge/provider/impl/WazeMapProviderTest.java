@@ -5,6 +5,7 @@ import com.example.mapsbridge.config.metrics.tracker.MapProviderTracker;
 import com.example.mapsbridge.dto.Coordinate;
 import com.example.mapsbridge.dto.LocationResult;
 import com.example.mapsbridge.dto.MapType;
+import com.example.mapsbridge.provider.cache.ResolvedUrlCache;
 import okhttp3.OkHttpClient;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +28,9 @@ class WazeMapProviderTest {
     @Mock
     private MapProviderTracker mockMetrics;
 
+    @Mock
+    private ResolvedUrlCache mockResolvedUrlCache;
+
     private WazeMapProvider target;
     private static final String REGULAR_URL_TEMPLATE = "https://waze.com/ul?ll={lat},{lon}&navigate=yes";
     private static final String SHORTCUT_URL_TEMPLATE = "waze://?ll={lat},{lon}";
@@ -57,7 +61,8 @@ class WazeMapProviderTest {
                 REGULAR_URL_TEMPLATE,
                 SHORTCUT_URL_TEMPLATE,
                 List.of(new com.example.mapsbridge.provider.extractor.waze.W100DefaultExtractor(httpClient)),
-                mockMetrics);
+                mockMetrics,
+                mockResolvedUrlCache);
     }
 
     @AfterEach
@@ -0,0 +1,166 @@
+package com.example.mapsbridge.provider.url;
+
+import com.example.mapsbridge.dto.Coordinate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GoogleUrlScannerTest {
+
+    // The expressions the Google extractors used before the scanner, kept as a reference
+    private static final Pattern LEGACY_DATA = Pattern.compile("!3d([\\-\\d.]+)!4d([\\-\\d.]+)");
+    private static final Pattern LEGACY_AT = Pattern.compile("@([\\-\\d.]+),([\\-\\d.]+)");
+    private static final Pattern LEGACY_QUERY = Pattern.compile("q=(?<lat>-?\\d+[.,]?\\d*),(?<lon>-?\\d+[.,]?\\d*)");
+    private static final Pattern LEGACY_SEARCH = Pattern.compile("/search/([-+]?\\d+\\.\\d+),([-+]?\\d+\\.\\d+)");
+
+    @Test
+    void shouldFindAllTokensInOneUrl() {
+        // Given
+        String url = "https://www.google.com/maps/place/Eiffel+Tower/@48.8583701,2.2922926,17z/"
+                + "data=!3m1!4b1!4m6!3m5!1s0x47e66e2964e34e2d:0x8ddca9ee380ef7e0!8m2!3d48.8583701!4d2.2944813";
+
+        // When
+        GoogleUrlTokens tokens = GoogleUrlScanner.scan(url);
+
+        // Then
+        assertEquals(new Coordinate(48.8583701, 2.2944813), tokens.dataCoordinate());
+        assertEquals(new Coordinate(48.8583701, 2.2922926), tokens.atCoordinate());
+        assertEquals("0x47e66e2964e34e2d:0x8ddca9ee380ef7e0", tokens.placeId());
+        assertNull(tokens.queryCoordinate());
+        assertNull(tokens.searchCoordinate());
+        assertNull(tokens.addressQuery());
+    }
+
+    @Test
+    void shouldUseLastValidDataCoordinate() {
+        // When
+        GoogleUrlTokens tokens = GoogleUrlScanner.scan("https://www.google.com/maps/data=!3d1.5!4d2.5!3d3.5!4d4.5!3d1..!4d2");
+
+        // Then
+        assertEquals(new Coordinate(3.5, 4.5), tokens.dataCoordinate());
+    }
+
+    @Test
+    void shouldParseEuropeanDecimalCommasInQuery() {
+        // When
+        GoogleUrlTokens tokens = GoogleUrlScanner.scan("https://www.google.com/maps?q=40,7128,-74,0060");
+
+        // Then
+        assertEquals(new Coordinate(40.7128, -74.006), tokens.queryCoordinate());
+    }
+
+    @Test
+    void shouldDecodeQueryCoordinates() {
+        // When
+        GoogleUrlTokens tokens = GoogleUrlScanner.scan("https://maps.google.com/?q%3D40.7128%2C-74.0060&z=10");
+
+        // Then
+        assertEquals(new Coordinate(40.7128, -74.006), tokens.queryCoordinate());
+    }
+
+    @Test
+    void shouldPreferPlaceIdParameterOverDataSegment() {
+        // When
+        GoogleUrlTokens tokens = GoogleUrlScanner.scan(
+                "https://www.google.com/maps/data=!1s0x123:0x456?place_id=ChIJN1t_tDeuEmsRUsoyG83frY4");
+
+        // Then
+        assertEquals("ChIJN1t_tDeuEmsRUsoyG83frY4", tokens.placeId());
+    }
+
+    @Test
+    void shouldDecodeAddressQuery() {
+        // When
+        GoogleUrlTokens tokens = GoogleUrlScanner.scan("https://www.google.com/maps?q=Amsterdam+Centraal%2C+Netherlands&hl=en");
+
+        // Then
+        assertEquals("Amsterdam Centraal, Netherlands", tokens.addressQuery());
+        assertNull(tokens.queryCoordinate());
+    }
+
+    @Test
+    void shouldReturnEmptyTokensForNull() {
+        // When
+        GoogleUrlTokens tokens = GoogleUrlScanner.scan(null);
+
+        // Then
+        assertNull(tokens.dataCoordinate());
+        assertNull(tokens.placeId());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "https://www.google.com/maps/place/Statue+of+Liberty/@40.6892494,-74.0445004,17z/data=!3m1!4b1!4m6!3m5!1s0x89c25090129c363d:0x40c6a5770d25022b!8m2!3d40.6892494!4d-74.0445004",
+            "https://www.google.com/maps/search/52.3676,4.9041?entry=ttu",
+            "https://www.google.com/maps/search/+52.3676,-4.9041",
+            "https://maps.google.com/maps?q=52.3676,4.9041&z=15",
+            "https://maps.google.com/maps?q=52,3676,4,9041",
+            "https://maps.google.com/maps?q=52.,4",
+            "https://maps.google.com/maps?q=-33.8688%2C151.2093",
+            "https://maps.google.com/maps?q=%zz&q=1.5,2.5%2C3",
+            "https://www.google.com/maps/@1.2.3,4/@5,6",
+            "https://www.google.com/maps/@abc,1@2,3",
+            "https://www.google.com/maps/search/40,5/search/40.1,5.2",
+            "https://www.google.com/maps/dir//@51.9740939,5.9016994,15z?q=Arnhem",
+            "https://www.google.com/"
+    })
+    void shouldMatchLegacyExpressions(String url) {
+        // When
+        GoogleUrlTokens tokens = GoogleUrlScanner.scan(url);
+
+        // Then
+        assertEquals(legacyData(url), tokens.dataCoordinate());
+        assertEquals(legacyFirst(LEGACY_AT, url), tokens.atCoordinate());
+        assertEquals(legacyQuery(url), tokens.queryCoordinate());
+        assertEquals(legacySearch(url), tokens.searchCoordinate());
+    }
+
+    private static Coordinate legacyData(String url) {
+        Matcher matcher = LEGACY_DATA.matcher(url);
+        Coordinate last = null;
+        while (matcher.find()) {
+            Coordinate candidate = parse(matcher.group(1), matcher.group(2));
+            if (candidate != null) {
+                last = candidate;
+            }
+        }
+        return last;
+    }
+
+    private static Coordinate legacyFirst(Pattern pattern, String url) {
+        Matcher matcher = pattern.matcher(url);
+        return matcher.find() ? parse(matcher.group(1), matcher.group(2)) : null;
+    }
+
+    private static Coordinate legacySearch(String url) {
+        return legacyFirst(LEGACY_SEARCH, url);
+    }
+
+    private static Coordinate legacyQuery(String url) {
+        String decoded;
+        try {
+            decoded = URLDecoder.decode(url, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            decoded = url;
+        }
+        Matcher matcher = LEGACY_QUERY.matcher(decoded);
+        return matcher.find()
+                ? parse(matcher.group("lat").replace(',', '.'), matcher.group("lon").replace(',', '.'))
+                : null;
+    }
+
+    private static Coordinate parse(String lat, String lon) {
+        try {
+            return new Coordinate(Double.parseDouble(lat), Double.parseDouble(lon));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
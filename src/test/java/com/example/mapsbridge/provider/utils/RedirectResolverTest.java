@@ -0,0 +1,183 @@
+package com.example.mapsbridge.provider.utils;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ProtocolException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedirectResolverTest {
+
+    private static final String SHORT_URL = "https://maps.app.goo.gl/abc123";
+    private static final String PLACE_URL = "https://www.google.com/maps/place/Eiffel+Tower/@48.8583701,2.2922926,17z";
+
+    private final Map<String, Response.Builder> responses = new HashMap<>();
+    private final List<String> requests = new ArrayList<>();
+
+    @Test
+    void shouldStopAtFirstLocationThatIsResolved() throws IOException {
+        // Given
+        redirect(SHORT_URL, PLACE_URL);
+        redirect(PLACE_URL, "https://consent.google.com/ml?continue=x");
+        RedirectResolver resolver = resolver(url -> url.contains("@"));
+
+        // When
+        Optional<String> finalUrl = resolver.resolve(SHORT_URL);
+
+        // Then
+        assertEquals(Optional.of(PLACE_URL), finalUrl);
+        assertEquals(List.of("HEAD " + SHORT_URL), requests);
+    }
+
+    @Test
+    void shouldWalkRelativeRedirectsToTheFinalPage() throws IOException {
+        // Given
+        redirect(SHORT_URL, "/maps/place/Eiffel+Tower");
+        respond("https://maps.app.goo.gl/maps/place/Eiffel+Tower", "HEAD", 200);
+        RedirectResolver resolver = resolver(url -> false);
+
+        // When
+        Optional<String> finalUrl = resolver.resolve(SHORT_URL);
+
+        // Then
+        assertEquals(Optional.of("https://maps.app.goo.gl/maps/place/Eiffel+Tower"), finalUrl);
+        assertEquals(2, requests.size());
+    }
+
+    @Test
+    void shouldRetryWithGetWhenHeadIsRejected() throws IOException {
+        // Given
+        respond(SHORT_URL, "HEAD", 405);
+        responses.put("GET " + SHORT_URL, new Response.Builder().code(302).header("Location", PLACE_URL));
+        RedirectResolver resolver = resolver(url -> url.contains("@"));
+
+        // When
+        Optional<String> finalUrl = resolver.resolve(SHORT_URL);
+
+        // Then
+        assertEquals(Optional.of(PLACE_URL), finalUrl);
+        assertEquals(List.of("HEAD " + SHORT_URL, "GET " + SHORT_URL), requests);
+    }
+
+    @Test
+    void shouldGoStraightToGetForHostsThatRejectedHead() throws IOException {
+        // Given
+        respond(SHORT_URL, "HEAD", 405);
+        responses.put("GET " + SHORT_URL, new Response.Builder().code(302).header("Location", PLACE_URL));
+        RedirectResolver resolver = resolver(url -> url.contains("@"));
+        resolver.resolve(SHORT_URL);
+        requests.clear();
+
+        // When
+        Optional<String> finalUrl = resolver.resolve(SHORT_URL);
+        Optional<String> finalUrlAsync = resolver.resolveAsync(SHORT_URL).join();
+
+        // Then
+        assertEquals(Optional.of(PLACE_URL), finalUrl);
+        assertEquals(Optional.of(PLACE_URL), finalUrlAsync);
+        assertEquals(List.of("GET " + SHORT_URL, "GET " + SHORT_URL), requests);
+    }
+
+    @Test
+    void shouldKeepWalkingHostsThatRejectedHeadWithGet() throws IOException {
+        // Given a host known to reject HEAD
+        String pageUrl = "https://maps.apple.com/place?auid=123";
+        respond(pageUrl, "HEAD", 405);
+        respond(pageUrl, "GET", 200);
+        RedirectResolver resolver = resolver(url -> false);
+        resolver.resolve(pageUrl);
+        redirect(SHORT_URL, pageUrl);
+        requests.clear();
+
+        // When
+        Optional<String> finalUrl = resolver.resolve(SHORT_URL);
+        Optional<String> finalUrlAsync = resolver.resolveAsync(SHORT_URL).join();
+
+        // Then
+        assertTrue(resolver.rejectsHead(pageUrl));
+        assertFalse(resolver.rejectsHead(SHORT_URL));
+        assertEquals(Optional.of(pageUrl), finalUrl);
+        assertEquals(Optional.of(pageUrl), finalUrlAsync);
+        assertEquals(List.of("HEAD " + SHORT_URL, "GET " + pageUrl, "HEAD " + SHORT_URL, "GET " + pageUrl), requests);
+    }
+
+    @Test
+    void shouldReturnEmptyWhenHopFails() throws IOException {
+        // Given
+        redirect(SHORT_URL, "https://maps.app.goo.gl/missing");
+        respond("https://maps.app.goo.gl/missing", "HEAD", 404);
+        RedirectResolver resolver = resolver(url -> false);
+
+        // When & Then
+        assertEquals(Optional.empty(), resolver.resolve(SHORT_URL));
+        assertEquals(Optional.empty(), resolver.resolveAsync(SHORT_URL).join());
+    }
+
+    @Test
+    void shouldFailOnRedirectLoop() {
+        // Given
+        redirect(SHORT_URL, SHORT_URL);
+        RedirectResolver resolver = resolver(url -> false);
+
+        // When & Then
+        assertThrows(ProtocolException.class, () -> resolver.resolve(SHORT_URL));
+        CompletionException e = assertThrows(CompletionException.class, () -> resolver.resolveAsync(SHORT_URL).join());
+        assertInstanceOf(ProtocolException.class, e.getCause());
+        assertEquals(2 * (RedirectResolver.MAX_HOPS + 1), requests.size());
+    }
+
+    @Test
+    void shouldResolveAsynchronously() {
+        // Given
+        redirect(SHORT_URL, PLACE_URL);
+        RedirectResolver resolver = resolver(url -> url.contains("@"));
+
+        // When
+        Optional<String> finalUrl = resolver.resolveAsync(SHORT_URL).join();
+
+        // Then
+        assertEquals(Optional.of(PLACE_URL), finalUrl);
+        assertEquals(List.of("HEAD " + SHORT_URL), requests);
+    }
+
+    private void redirect(String from, String location) {
+        responses.put("HEAD " + from, new Response.Builder().code(302).header("Location", location));
+    }
+
+    private void respond(String url, String method, int code) {
+        responses.put(method + " " + url, new Response.Builder().code(code));
+    }
+
+    private RedirectResolver resolver(Predicate<String> isResolved) {
+        Interceptor stub = chain -> {
+            Request request = chain.request();
+            String key = request.method() + " " + request.url();
+            synchronized (requests) {
+                requests.add(key);
+            }
+            Response.Builder response = responses.getOrDefault(key, new Response.Builder().code(404));
+            return response
+                    .request(request)
+                    .protocol(Protocol.HTTP_1_1)
+                    .message("stub")
+                    .body(ResponseBody.create("", MediaType.get("text/html")))
+                    .build();
+        };
+        return new RedirectResolver(new OkHttpClient.Builder().addInterceptor(stub).build(), isResolved);
+    }
+}
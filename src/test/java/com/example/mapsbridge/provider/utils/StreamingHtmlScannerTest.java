@@ -0,0 +1,119 @@
+package com.example.mapsbridge.provider.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingHtmlScannerTest {
+
+    private static final Pattern TITLE = Pattern.compile(
+            "<meta[^>]+property=[\"']og:title[\"'][^>]*content=[\"']([^\"']+)[\"']");
+    private static final Pattern COORDINATE = Pattern.compile(
+            "@([\\-+]?\\d+(?:\\.\\d+)?),([\\-+]?\\d+(?:\\.\\d+)?)");
+
+    private static final String PAGE = "<html><head>"
+            + "<meta property=\"og:title\" content=\"Rijnkade · Arnhem\">"
+            + "<link href=\"https://www.google.com/maps/@51.9740939,5.9016994,15z\">"
+            + "</head><body>" + "x".repeat(50_000) + "</body></html>";
+
+    @Test
+    void shouldFindMatchesSplitAcrossChunks() {
+        // Given
+        StreamingHtmlScanner scanner = new StreamingHtmlScanner(List.of(TITLE, COORDINATE), s -> false);
+
+        // When
+        for (int i = 0; i < PAGE.length(); i += 7) {
+            char[] chunk = PAGE.substring(i, Math.min(i + 7, PAGE.length())).toCharArray();
+            scanner.feed(chunk, 0, chunk.length);
+        }
+        scanner.finish();
+
+        // Then
+        assertEquals("Rijnkade · Arnhem", scanner.firstNonBlankGroup(TITLE));
+        assertEquals("51.9740939", scanner.group(COORDINATE, 1));
+        assertEquals("5.9016994", scanner.group(COORDINATE, 2));
+    }
+
+    @Test
+    void shouldBeCompleteOnceAllPatternsMatched() {
+        // Given
+        StreamingHtmlScanner scanner = new StreamingHtmlScanner(List.of(TITLE, COORDINATE), s -> false);
+        char[] page = PAGE.toCharArray();
+
+        // When
+        boolean complete = false;
+        int offset = 0;
+        while (!complete && offset < page.length) {
+            int length = Math.min(1024, page.length - offset);
+            complete = scanner.feed(page, offset, length);
+            offset += length;
+        }
+
+        // Then
+        assertTrue(complete);
+        assertEquals(1024, scanner.charsRead());
+    }
+
+    @Test
+    void shouldStopWhenCompletionConditionHolds() {
+        // Given
+        Pattern missing = Pattern.compile("\"shortAddress\":\\s*\"([^\"]+)\"");
+        StreamingHtmlScanner scanner = new StreamingHtmlScanner(List.of(TITLE, missing), s -> s.found(TITLE));
+        char[] page = PAGE.toCharArray();
+
+        // When
+        boolean complete = scanner.feed(page, 0, 200);
+
+        // Then
+        assertTrue(complete);
+        assertFalse(scanner.found(missing));
+    }
+
+    @Test
+    void shouldDeferMatchAtEndOfChunk() {
+        // Given
+        StreamingHtmlScanner scanner = new StreamingHtmlScanner(List.of(COORDINATE), s -> false);
+
+        // When
+        scanner.feed("see @52.37".toCharArray(), 0, 10);
+        boolean foundEarly = scanner.found(COORDINATE);
+        scanner.feed(",4.89".toCharArray(), 0, 5);
+        scanner.feed("03 here".toCharArray(), 0, 7);
+
+        // Then
+        assertFalse(foundEarly);
+        assertEquals("4.8903", scanner.group(COORDINATE, 2));
+    }
+
+    @Test
+    void shouldResolveDeferredMatchOnFinish() {
+        // Given
+        StreamingHtmlScanner scanner = new StreamingHtmlScanner(List.of(COORDINATE), s -> false);
+        scanner.feed("@52.37,4.89".toCharArray(), 0, 11);
+
+        // When
+        scanner.finish();
+
+        // Then
+        assertEquals("52.37", scanner.group(COORDINATE, 1));
+        assertEquals("4.89", scanner.group(COORDINATE, 2));
+    }
+
+    @Test
+    void shouldReturnNullForPatternsThatDidNotMatch() {
+        // Given
+        StreamingHtmlScanner scanner = new StreamingHtmlScanner(List.of(TITLE), s -> false);
+
+        // When
+        scanner.feed("<html></html>".toCharArray(), 0, 13);
+        scanner.finish();
+
+        // Then
+        assertFalse(scanner.found(TITLE));
+        assertNull(scanner.firstNonBlankGroup(TITLE));
+        assertNull(scanner.group(TITLE, 1));
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.mapsbridge.service;
+
+import com.example.mapsbridge.config.logging.LoggingContext;
+import com.example.mapsbridge.dto.Coordinate;
+import com.example.mapsbridge.dto.request.BatchConvertRequest;
+import com.example.mapsbridge.dto.request.ConvertRequest;
+import com.example.mapsbridge.dto.response.BatchConvertItem;
+import com.example.mapsbridge.dto.response.BatchConvertResponse;
+import com.example.mapsbridge.dto.response.WebConvertResponse;
+import com.example.mapsbridge.exception.InvalidInputException;
+import com.example.mapsbridge.exception.rate.EmailRateLimitExceededException;
+import com.example.mapsbridge.service.converter.BatchMapConverterService;
+import com.example.mapsbridge.service.converter.MapConverterService;
+import com.example.mapsbridge.service.ratelimit.MapConverterRateLimiterService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchMapConverterServiceTest {
+
+    @Mock
+    private MapConverterService<WebConvertResponse> mapConverterService;
+
+    @Mock
+    private MapConverterRateLimiterService rateLimiterService;
+
+    private BatchMapConverterService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BatchMapConverterService(mapConverterService, rateLimiterService, null, 3, 2, Duration.ofSeconds(5), 2);
+    }
+
+    @Test
+    void testConvertBatchKeepsOrderAndConvertsDuplicatesOnce() {
+        // Given
+        WebConvertResponse first = response(new Coordinate(1, 1));
+        WebConvertResponse second = response(new Coordinate(2, 2));
+        when(mapConverterService.convert(new ConvertRequest("1,1"))).thenReturn(first);
+        when(mapConverterService.convert(new ConvertRequest("2,2"))).thenReturn(second);
+
+        // When
+        BatchConvertResponse result = service.convert(new BatchConvertRequest(List.of("1,1", "2,2", " 1,1 ")));
+
+        // Then
+        assertEquals(List.of(
+                BatchConvertItem.success("1,1", first),
+                BatchConvertItem.success("2,2", second),
+                BatchConvertItem.success("1,1", first)), result.getResults());
+        assertEquals(3, result.getSucceeded());
+        assertEquals(0, result.getFailed());
+        verify(mapConverterService, times(1)).convert(new ConvertRequest("1,1"));
+    }
+
+    @Test
+    void testConvertBatchReportsErrorsPerItem() {
+        // Given
+        WebConvertResponse valid = response(new Coordinate(1, 1));
+        when(mapConverterService.convert(new ConvertRequest("1,1"))).thenReturn(valid);
+        when(mapConverterService.convert(new ConvertRequest("invalid"))).thenThrow(new InvalidInputException("Invalid input"));
+        when(mapConverterService.convert(new ConvertRequest("2,2"))).thenThrow(new EmailRateLimitExceededException("user@example.com"));
+
+        // When
+        BatchConvertResponse result = service.convert(new BatchConvertRequest(List.of("1,1", "invalid", "2,2")));
+
+        // Then
+        assertEquals(BatchConvertItem.success("1,1", valid), result.getResults().get(0));
+        assertEquals(BatchConvertItem.failure("invalid", "Invalid input"), result.getResults().get(1));
+        assertEquals(BatchConvertItem.failure("2,2", "Rate limit exceeded. Please try again later."), result.getResults().get(2));
+        assertEquals(1, result.getSucceeded());
+        assertEquals(2, result.getFailed());
+    }
+
+    @Test
+    void testConvertBatchRunsWithCallerLoggingContext() {
+        // Given
+        AtomicReference<String> email = new AtomicReference<>();
+        when(mapConverterService.convert(any(ConvertRequest.class))).thenAnswer(invocation -> {
+            email.set(LoggingContext.getEmail());
+            return response(new Coordinate(1, 1));
+        });
+        LoggingContext.setEmail("user@example.com");
+
+        // When
+        try {
+            service.convert(new BatchConvertRequest(List.of("1,1")));
+        } finally {
+            LoggingContext.clear();
+        }
+
+        // Then
+        assertEquals("user@example.com", email.get());
+    }
+
+    @Test
+    void testConvertBatchChargesRepeatedInputsPerItem() {
+        // Given
+        WebConvertResponse converted = response(new Coordinate(1, 1));
+        when(mapConverterService.convert(new ConvertRequest("1,1"))).thenReturn(converted);
+        doNothing().doThrow(new EmailRateLimitExceededException("user@example.com"))
+                .when(rateLimiterService).checkDailyQuotaForEmail("user@example.com");
+        LoggingContext.setEmail("user@example.com");
+
+        // When
+        BatchConvertResponse result;
+        try {
+            result = service.convert(new BatchConvertRequest(List.of("1,1", "1,1", "1,1")));
+        } finally {
+            LoggingContext.clear();
+        }
+
+        // Then the repeats are charged, and only the one over quota fails
+        assertEquals(List.of(
+                BatchConvertItem.success("1,1", converted),
+                BatchConvertItem.success("1,1", converted),
+                BatchConvertItem.failure("1,1", "Rate limit exceeded. Please try again later.")), result.getResults());
+        assertEquals(2, result.getSucceeded());
+        assertEquals(1, result.getFailed());
+        verify(rateLimiterService, times(2)).checkDailyQuotaForEmail("user@example.com");
+        verify(mapConverterService, times(1)).convert(new ConvertRequest("1,1"));
+    }
+
+    @Test
+    void testConvertBatchBoundsConversionsPerBatchWithoutFailingConcurrentBatches() throws Exception {
+        // Given one conversion in flight per batch, and two batches that must run at the same time
+        service = new BatchMapConverterService(mapConverterService, rateLimiterService, null, 3, 1, Duration.ofSeconds(5), 2);
+        CountDownLatch bothBatchesRunning = new CountDownLatch(2);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(mapConverterService.convert(any(ConvertRequest.class))).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                bothBatchesRunning.countDown();
+                bothBatchesRunning.await(5, TimeUnit.SECONDS);
+                Thread.sleep(20);
+                return response(new Coordinate(1, 1));
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+        CompletableFuture<BatchConvertResponse> otherBatch = CompletableFuture.supplyAsync(
+                () -> service.convert(new BatchConvertRequest(List.of("1,1", "2,2", "3,3"))));
+
+        // When
+        BatchConvertResponse result = service.convert(new BatchConvertRequest(List.of("4,4", "5,5", "6,6")));
+
+        // Then
+        assertEquals(3, result.getSucceeded());
+        assertEquals(3, otherBatch.get(5, TimeUnit.SECONDS).getSucceeded());
+        assertEquals(2, maxInFlight.get());
+    }
+
+    @Test
+    void testConvertBatchTooLarge() {
+        // Given
+        BatchConvertRequest request = new BatchConvertRequest(List.of("1,1", "2,2", "3,3", "4,4"));
+
+        // When & Then
+        assertThrows(InvalidInputException.class, () -> service.convert(request));
+        verifyNoInteractions(mapConverterService);
+    }
+
+    @Test
+    void testConvertStreamSkipsBlankLinesAndReportsErrorsPerLine() {
+        // Given
+        WebConvertResponse valid = response(new Coordinate(1, 1));
+        when(mapConverterService.convertAsync(new ConvertRequest("1,1"))).thenReturn(CompletableFuture.completedFuture(valid));
+        when(mapConverterService.convertAsync(new ConvertRequest("invalid")))
+                .thenReturn(CompletableFuture.failedFuture(new InvalidInputException("Invalid input")));
+        when(mapConverterService.convertAsync(new ConvertRequest("2,2")))
+                .thenThrow(new EmailRateLimitExceededException("user@example.com"));
+        ByteArrayInputStream body = new ByteArrayInputStream("1,1\n\n invalid \n2,2\n".getBytes(StandardCharsets.UTF_8));
+
+        // When
+        List<BatchConvertItem> result = service.convertStream(body).collectList().block();
+
+        // Then
+        assertNotNull(result);
+        assertEquals(3, result.size());
+        assertTrue(result.contains(BatchConvertItem.success("1,1", valid)));
+        assertTrue(result.contains(BatchConvertItem.failure("invalid", "Invalid input")));
+        assertTrue(result.contains(BatchConvertItem.failure("2,2", "Rate limit exceeded. Please try again later.")));
+    }
+
+    private static WebConvertResponse response(Coordinate coordinate) {
+        WebConvertResponse response = new WebConvertResponse(coordinate, null, null);
+        response.setLinks(Map.of());
+        return response;
+    }
+}
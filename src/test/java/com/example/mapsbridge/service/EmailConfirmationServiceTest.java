@@ -8,6 +8,7 @@ import com.example.mapsbridge.model.ApiKeyModel;
 import com.example.mapsbridge.model.EmailConfirmTokenModel;
 import com.example.mapsbridge.repository.ApiKeyRepository;
 import com.example.mapsbridge.repository.EmailConfirmTokenRepository;
+import com.example.mapsbridge.service.cache.ApiKeyCache;
 import com.example.mapsbridge.service.impl.EmailConfirmationServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -40,12 +41,15 @@ class EmailConfirmationServiceTest {
     @Mock
     private MailtrapService mailtrapService;
 
+    @Mock
+    private ApiKeyCache apiKeyCache;
+
     private EmailConfirmationService emailConfirmationService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        emailConfirmationService = new EmailConfirmationServiceImpl(tokenRepository, apiKeyRepository, mailtrapService);
+        emailConfirmationService = new EmailConfirmationServiceImpl(tokenRepository, apiKeyRepository, mailtrapService, apiKeyCache);
 
         // Set properties using ReflectionTestUtils
         ReflectionTestUtils.setField(emailConfirmationService, "tokenExpirationMinutes", 15);
@@ -217,6 +221,10 @@ class EmailConfirmationServiceTest {
             assertEquals(email, savedApiKey.getEmail());
             assertTrue(savedApiKey.isActive());
             assertEquals(response.getApiKey(), savedApiKey.getApiKey());
+
+            // Verify cached lookups of the old and new keys were invalidated
+            verify(apiKeyCache).invalidateEmail(email);
+            verify(apiKeyCache).invalidate(response.getApiKey());
         }
 
         @Test
@@ -6,6 +6,7 @@ import com.example.mapsbridge.dto.LocationResult;
 import com.example.mapsbridge.service.geocoding.GoogleGeocodingServiceImpl;
 import com.google.maps.GeoApiContext;
 import com.google.maps.GeocodingApi;
+import com.google.maps.PendingResult;
 import com.google.maps.PlacesApi;
 import com.google.maps.model.GeocodingResult;
 import com.google.maps.model.Geometry;
@@ -405,7 +406,165 @@ class GoogleGeocodingServiceImplTest {
         }
     }
 
+    // Async Tests
+    @Test
+    void shouldReverseGeocodeAsyncThroughCallback() {
+        // Given
+        Coordinate coordinate = new Coordinate(40.7128, -74.0060);
+        GeocodingResult result = createGeocodingResult("New York, NY", 40.7128, -74.0060);
+
+        try (MockedStatic<GeocodingApi> mockedApi = mockStatic(GeocodingApi.class)) {
+            com.google.maps.GeocodingApiRequest mockRequest = mock(com.google.maps.GeocodingApiRequest.class);
+            completeCallback(mockRequest, new GeocodingResult[]{result});
+
+            mockedApi.when(() -> GeocodingApi.reverseGeocode(any(GeoApiContext.class), any(LatLng.class)))
+                    .thenReturn(mockRequest);
+
+            // When
+            LocationResult locationResult = service.reverseGeocodeAsync(coordinate).join();
+
+            // Then
+            assertEquals("New York, NY", locationResult.getAddress());
+            assertEquals(coordinate, locationResult.getCoordinates());
+            verify(geocodingTracker).trackReverseGeocode("google");
+        }
+    }
+
+    @Test
+    void shouldReturnCoordinatesWhenReverseGeocodeAsyncFails() {
+        // Given
+        Coordinate coordinate = new Coordinate(40.7128, -74.0060);
+
+        try (MockedStatic<GeocodingApi> mockedApi = mockStatic(GeocodingApi.class)) {
+            com.google.maps.GeocodingApiRequest mockRequest = mock(com.google.maps.GeocodingApiRequest.class);
+            failCallback(mockRequest, new RuntimeException("API Error"));
+
+            mockedApi.when(() -> GeocodingApi.reverseGeocode(any(GeoApiContext.class), any(LatLng.class)))
+                    .thenReturn(mockRequest);
+
+            // When
+            LocationResult locationResult = service.reverseGeocodeAsync(coordinate).join();
+
+            // Then
+            assertEquals(coordinate, locationResult.getCoordinates());
+            assertNull(locationResult.getAddress());
+            verify(geocodingTracker, never()).trackReverseGeocode(anyString());
+        }
+    }
+
+    @Test
+    void shouldGetLocationFromPlaceIdAsyncThroughCallback() {
+        // Given
+        PlaceDetails placeDetails = createPlaceDetails("Paris, France", "Paris", 48.8566, 2.3522);
+
+        try (MockedStatic<PlacesApi> mockedApi = mockStatic(PlacesApi.class)) {
+            com.google.maps.PlaceDetailsRequest mockRequest = mock(com.google.maps.PlaceDetailsRequest.class);
+            completeCallback(mockRequest, placeDetails);
+
+            mockedApi.when(() -> PlacesApi.placeDetails(any(GeoApiContext.class), anyString()))
+                    .thenReturn(mockRequest);
+
+            // When
+            LocationResult result = service.getLocationFromPlaceIdAsync("ChIJD7fiBh9u5kcRYJSMaMOCCwQ").join();
+
+            // Then
+            assertEquals("Paris, France", result.getAddress());
+            assertEquals("Paris", result.getPlaceName());
+            verify(geocodingTracker).trackPlaceIdLookup("google");
+        }
+    }
+
+    @Test
+    void shouldFallBackToGeometryOnlyLookupWhenPlaceIdAsyncFails() {
+        // Given
+        PlaceDetails geometryOnly = createPlaceDetailsWithGeometry(48.8566, 2.3522);
+
+        try (MockedStatic<PlacesApi> mockedApi = mockStatic(PlacesApi.class)) {
+            com.google.maps.PlaceDetailsRequest failingRequest = mock(com.google.maps.PlaceDetailsRequest.class);
+            com.google.maps.PlaceDetailsRequest geometryRequest = mock(com.google.maps.PlaceDetailsRequest.class);
+            failCallback(failingRequest, new RuntimeException("API Error"));
+            when(failingRequest.fields(any())).thenReturn(geometryRequest);
+            completeCallback(geometryRequest, geometryOnly);
+
+            mockedApi.when(() -> PlacesApi.placeDetails(any(GeoApiContext.class), anyString()))
+                    .thenReturn(failingRequest);
+
+            // When
+            LocationResult result = service.getLocationFromPlaceIdAsync("ChIJD7fiBh9u5kcRYJSMaMOCCwQ").join();
+
+            // Then
+            assertEquals(new Coordinate(48.8566, 2.3522), result.getCoordinates());
+            assertNull(result.getAddress());
+        }
+    }
+
+    @Test
+    void shouldGeocodeQueryAsyncThroughCallback() {
+        // Given
+        GeocodingResult result = createGeocodingResult("New York, NY, USA", 40.7128, -74.0060);
+
+        try (MockedStatic<GeocodingApi> mockedApi = mockStatic(GeocodingApi.class)) {
+            com.google.maps.GeocodingApiRequest mockRequest = mock(com.google.maps.GeocodingApiRequest.class);
+            completeCallback(mockRequest, new GeocodingResult[]{result});
+
+            mockedApi.when(() -> GeocodingApi.geocode(any(GeoApiContext.class), anyString()))
+                    .thenReturn(mockRequest);
+
+            // When
+            LocationResult locationResult = service.geocodeQueryAsync("New York City").join();
+
+            // Then
+            assertEquals(new Coordinate(40.7128, -74.0060), locationResult.getCoordinates());
+            assertEquals("New York, NY, USA", locationResult.getAddress());
+            verify(geocodingTracker).trackForwardGeocode("google");
+        }
+    }
+
+    @Test
+    void shouldReturnNullWhenGeocodeQueryAsyncFails() {
+        try (MockedStatic<GeocodingApi> mockedApi = mockStatic(GeocodingApi.class)) {
+            // Given
+            com.google.maps.GeocodingApiRequest mockRequest = mock(com.google.maps.GeocodingApiRequest.class);
+            failCallback(mockRequest, new RuntimeException("API Error"));
+
+            mockedApi.when(() -> GeocodingApi.geocode(any(GeoApiContext.class), anyString()))
+                    .thenReturn(mockRequest);
+
+            // When
+            LocationResult locationResult = service.geocodeQueryAsync("New York City").join();
+
+            // Then
+            assertNull(locationResult);
+            verify(geocodingTracker, never()).trackForwardGeocode(anyString());
+        }
+    }
+
+    @Test
+    void shouldNotCallGoogleAsyncWhenDisabled() {
+        // When / Then
+        assertNull(disabledService.geocodeQueryAsync("New York City").join());
+        assertNull(disabledService.getLocationFromPlaceIdAsync("ChIJD7fiBh9u5kcRYJSMaMOCCwQ").join());
+        assertNull(disabledService.reverseGeocodeAsync(new Coordinate(40.7128, -74.0060)).join().getAddress());
+        verifyNoInteractions(geocodingTracker);
+    }
+
     // Helper methods for creating test data
+    private static <T> void completeCallback(PendingResult<T> request, T result) {
+        doAnswer(invocation -> {
+            PendingResult.Callback<T> callback = invocation.getArgument(0);
+            callback.onResult(result);
+            return null;
+        }).when(request).setCallback(any());
+    }
+
+    private static <T> void failCallback(PendingResult<T> request, Throwable error) {
+        doAnswer(invocation -> {
+            PendingResult.Callback<T> callback = invocation.getArgument(0);
+            callback.onFailure(error);
+            return null;
+        }).when(request).setCallback(any());
+    }
+
     private GeocodingResult createGeocodingResult(String address, double lat, double lon) {
         GeocodingResult result = new GeocodingResult();
         result.formattedAddress = address;
@@ -0,0 +1,278 @@
+package com.example.mapsbridge.service;
+
+import com.example.mapsbridge.config.metrics.tracker.GeocodingTracker;
+import com.example.mapsbridge.dto.Coordinate;
+import com.example.mapsbridge.dto.LocationResult;
+import com.example.mapsbridge.model.GeocodingCacheModel.LookupType;
+import com.example.mapsbridge.service.geocoding.GoogleGeocodingServiceImpl;
+import com.example.mapsbridge.service.geocoding.HybridGeocodingService;
+import com.example.mapsbridge.service.geocoding.RadarGeocodingService;
+import com.example.mapsbridge.service.geocoding.cache.GeocodeResultCache;
+import com.example.mapsbridge.service.geocoding.cache.PersistentGeocodingCache;
+import com.example.mapsbridge.service.geocoding.cache.ReverseGeocodeCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class HybridGeocodingServiceTest {
+
+    private static final Coordinate COORDINATE = new Coordinate(51.9740939, 5.9016994);
+    private static final String CELL_KEY = "4:519741:59017";
+    private static final String PLACE_ID = "ChIJN1t_tDeuEmsRUsoyG83frY4";
+    private static final String QUERY = "Rijnkade 1 Arnhem";
+
+    @Mock
+    private GoogleGeocodingServiceImpl googleService;
+
+    @Mock
+    private RadarGeocodingService radarService;
+
+    @Mock
+    private ReverseGeocodeCache reverseGeocodeCache;
+
+    @Mock
+    private GeocodeResultCache resultCache;
+
+    @Mock
+    private PersistentGeocodingCache persistentCache;
+
+    @Mock
+    private GeocodingTracker geocodingTracker;
+
+    private HybridGeocodingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new HybridGeocodingService(googleService, radarService, reverseGeocodeCache, resultCache, persistentCache,
+                Counter.builder("geocoding.requests"), new SimpleMeterRegistry(), geocodingTracker);
+
+        when(googleService.isEnabled()).thenReturn(true);
+        when(radarService.isEnabled()).thenReturn(true);
+        when(reverseGeocodeCache.get(any())).thenReturn(Optional.empty());
+        when(reverseGeocodeCache.cellKey(any())).thenReturn(CELL_KEY);
+        when(resultCache.get(any(), anyString())).thenReturn(Optional.empty());
+        when(persistentCache.findAsync(any(), anyString())).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+    }
+
+    @Test
+    void shouldReverseGeocodeAsyncWithoutBlockingDatabaseRead() {
+        // Given
+        CompletableFuture<Optional<LocationResult>> persisted = new CompletableFuture<>();
+        when(persistentCache.findAsync(LookupType.REVERSE, CELL_KEY)).thenReturn(persisted);
+
+        // When
+        CompletableFuture<LocationResult> result = service.reverseGeocodeAsync(COORDINATE);
+
+        // Then
+        assertFalse(result.isDone());
+        verify(persistentCache, never()).find(any(), anyString());
+        verifyNoInteractions(radarService, googleService);
+
+        // When the database read completes
+        persisted.complete(Optional.of(LocationResult.fromCoordinatesAndName(new Coordinate(51.97, 5.90), "Arnhem")));
+
+        // Then
+        assertEquals("Arnhem", result.join().getAddress());
+        assertEquals(COORDINATE, result.join().getCoordinates());
+        verify(reverseGeocodeCache).put(eq(COORDINATE), any());
+        verify(radarService, never()).reverseGeocodeAsync(any());
+    }
+
+    @Test
+    void shouldReverseGeocodeAsyncFromInMemoryCache() {
+        // Given
+        when(reverseGeocodeCache.get(COORDINATE))
+                .thenReturn(Optional.of(LocationResult.fromCoordinatesAndName(COORDINATE, "Arnhem")));
+
+        // When
+        LocationResult result = service.reverseGeocodeAsync(COORDINATE).join();
+
+        // Then
+        assertEquals("Arnhem", result.getAddress());
+        verifyNoInteractions(persistentCache);
+    }
+
+    @Test
+    void shouldFallBackToGoogleWhenRadarReverseGeocodeFails() {
+        // Given
+        when(radarService.reverseGeocodeAsync(COORDINATE))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Radar down")));
+        when(googleService.reverseGeocodeAsync(COORDINATE))
+                .thenReturn(CompletableFuture.completedFuture(LocationResult.fromCoordinatesAndName(COORDINATE, "Arnhem")));
+
+        // When
+        LocationResult result = service.reverseGeocodeAsync(COORDINATE).join();
+
+        // Then
+        assertEquals("Arnhem", result.getAddress());
+        verify(reverseGeocodeCache).put(COORDINATE, result);
+        verify(persistentCache).store(LookupType.REVERSE, CELL_KEY, result);
+    }
+
+    @Test
+    void shouldReturnCoordinatesOnlyWhenBothReverseGeocodersFail() {
+        // Given
+        when(radarService.reverseGeocodeAsync(COORDINATE))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Radar down")));
+        when(googleService.reverseGeocodeAsync(COORDINATE))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Google down")));
+
+        // When
+        LocationResult result = service.reverseGeocodeAsync(COORDINATE).join();
+
+        // Then
+        assertEquals(COORDINATE, result.getCoordinates());
+        assertNull(result.getAddress());
+    }
+
+    @Test
+    void shouldLookUpPlaceIdAsyncAfterPersistentMiss() {
+        // Given
+        LocationResult googleResult = new LocationResult(null, null, COORDINATE, "Rijnkade 1, Arnhem", "Rijnkade");
+        when(googleService.getLocationFromPlaceIdAsync(PLACE_ID)).thenReturn(CompletableFuture.completedFuture(googleResult));
+
+        // When
+        LocationResult result = service.getLocationFromPlaceIdAsync(PLACE_ID).join();
+
+        // Then
+        assertEquals("Rijnkade 1, Arnhem", result.getAddress());
+        verify(persistentCache).findAsync(LookupType.PLACE_ID, PLACE_ID);
+        verify(persistentCache, never()).find(any(), anyString());
+        verify(persistentCache).store(LookupType.PLACE_ID, PLACE_ID, googleResult);
+    }
+
+    @Test
+    void shouldShareDatabaseReadBetweenConcurrentPlaceIdLookups() {
+        // Given
+        CompletableFuture<Optional<LocationResult>> persisted = new CompletableFuture<>();
+        when(persistentCache.findAsync(LookupType.PLACE_ID, PLACE_ID)).thenReturn(persisted);
+
+        // When
+        CompletableFuture<LocationResult> first = service.getLocationFromPlaceIdAsync(PLACE_ID);
+        CompletableFuture<LocationResult> second = service.getLocationFromPlaceIdAsync(PLACE_ID);
+        persisted.complete(Optional.of(LocationResult.fromCoordinatesAndName(COORDINATE, "Arnhem")));
+
+        // Then
+        assertEquals("Arnhem", first.join().getAddress());
+        assertEquals("Arnhem", second.join().getAddress());
+        verify(persistentCache, times(1)).findAsync(LookupType.PLACE_ID, PLACE_ID);
+        verify(geocodingTracker).trackCoalesced(LookupType.PLACE_ID);
+        verifyNoInteractions(googleService);
+    }
+
+    @Test
+    void shouldReturnPersistedPlaceIdAsyncWithoutCallingGoogle() {
+        // Given
+        when(persistentCache.findAsync(LookupType.PLACE_ID, PLACE_ID)).thenReturn(CompletableFuture.completedFuture(
+                Optional.of(LocationResult.fromCoordinatesAndName(COORDINATE, "Arnhem"))));
+
+        // When
+        LocationResult result = service.getLocationFromPlaceIdAsync(PLACE_ID).join();
+
+        // Then
+        assertEquals("Arnhem", result.getAddress());
+        verify(googleService, never()).getLocationFromPlaceIdAsync(anyString());
+    }
+
+    @Test
+    void shouldReturnPlaceIdFromInMemoryCacheWithoutDatabaseRead() {
+        // Given
+        when(resultCache.get(LookupType.PLACE_ID, PLACE_ID))
+                .thenReturn(Optional.of(LocationResult.fromCoordinatesAndName(COORDINATE, "Arnhem")));
+
+        // When
+        LocationResult result = service.getLocationFromPlaceId(PLACE_ID);
+        LocationResult asyncResult = service.getLocationFromPlaceIdAsync(PLACE_ID).join();
+
+        // Then
+        assertEquals("Arnhem", result.getAddress());
+        assertEquals("Arnhem", asyncResult.getAddress());
+        verifyNoInteractions(persistentCache, googleService);
+    }
+
+    @Test
+    void shouldKeepPersistedQueryInMemory() {
+        // Given
+        LocationResult persisted = LocationResult.fromCoordinatesAndName(COORDINATE, "Rijnkade 1, Arnhem");
+        when(persistentCache.find(LookupType.FORWARD, QUERY)).thenReturn(Optional.of(persisted));
+
+        // When
+        LocationResult result = service.geocodeQuery(QUERY);
+
+        // Then
+        assertEquals(persisted, result);
+        verify(resultCache).put(LookupType.FORWARD, QUERY, persisted);
+        verify(googleService, never()).geocodeQuery(anyString());
+    }
+
+    @Test
+    void shouldEnrichPlaceIdAsyncWithRadarAddress() {
+        // Given
+        when(googleService.getLocationFromPlaceIdAsync(PLACE_ID))
+                .thenReturn(CompletableFuture.completedFuture(LocationResult.fromCoordinates(COORDINATE)));
+        when(radarService.reverseGeocodeAsync(COORDINATE))
+                .thenReturn(CompletableFuture.completedFuture(LocationResult.fromCoordinatesAndName(COORDINATE, "Arnhem")));
+
+        // When
+        LocationResult result = service.getLocationFromPlaceIdAsync(PLACE_ID).join();
+
+        // Then
+        assertEquals("Arnhem", result.getAddress());
+    }
+
+    @Test
+    void shouldGeocodeQueryAsyncWithRadarWhenGoogleFails() {
+        // Given
+        when(googleService.geocodeQueryAsync(QUERY))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Google down")));
+        LocationResult radarResult = LocationResult.fromCoordinatesAndName(COORDINATE, "Rijnkade 1, Arnhem");
+        when(radarService.geocodeQueryAsync(QUERY)).thenReturn(CompletableFuture.completedFuture(radarResult));
+
+        // When
+        LocationResult result = service.geocodeQueryAsync(QUERY).join();
+
+        // Then
+        assertEquals(radarResult, result);
+        verify(persistentCache, never()).find(any(), anyString());
+        verify(resultCache).put(LookupType.FORWARD, QUERY, radarResult);
+        verify(persistentCache).store(LookupType.FORWARD, QUERY, radarResult);
+    }
+
+    @Test
+    void shouldReturnNullWhenNoForwardGeocoderFindsQuery() {
+        // Given
+        when(googleService.geocodeQueryAsync(QUERY)).thenReturn(CompletableFuture.completedFuture(null));
+        when(radarService.geocodeQueryAsync(QUERY)).thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        LocationResult result = service.geocodeQueryAsync(QUERY).join();
+
+        // Then
+        assertNull(result);
+    }
+
+    @Test
+    void shouldSkipAsyncLookupsForBlankInput() {
+        // When / Then
+        assertNull(service.geocodeQueryAsync(" ").join());
+        assertNull(service.getLocationFromPlaceIdAsync("").join());
+        assertNull(service.reverseGeocodeAsync(null).join().getCoordinates());
+        verifyNoInteractions(persistentCache);
+    }
+}
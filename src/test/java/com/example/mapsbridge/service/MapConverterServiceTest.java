@@ -1,5 +1,6 @@
 package com.example.mapsbridge.service;
 
+import com.example.mapsbridge.config.metrics.tracker.InputSourceTracker;
 import com.example.mapsbridge.dto.Coordinate;
 import com.example.mapsbridge.dto.LocationResult;
 import com.example.mapsbridge.dto.MapType;
@@ -15,6 +16,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -31,6 +34,9 @@ class MapConverterServiceTest {
     @Mock
     private UserInputProcessorService userInputProcessorService;
 
+    @Mock
+    private InputSourceTracker inputSourceTracker;
+
     private MapConverterServiceImpl service;
 
     private MapType googleMapType;
@@ -54,7 +60,7 @@ class MapConverterServiceTest {
                 .thenAnswer(i -> "https://maps.apple.com/?ll=" + i.getArgument(0, LocationResult.class).getCoordinates().getLat() + "," + i.getArgument(0, LocationResult.class).getCoordinates().getLon());
 
         // Initialize service with mock providers and input processor
-        service = new MapConverterServiceImpl(List.of(googleProvider, appleProvider), userInputProcessorService);
+        service = new MapConverterServiceImpl(List.of(googleProvider, appleProvider), userInputProcessorService, inputSourceTracker);
     }
 
     @Test
@@ -114,4 +120,36 @@ class MapConverterServiceTest {
 
         assertTrue(exception.getMessage().contains("Input must be coordinates"));
     }
+
+    @Test
+    void testConvertAsync() {
+        // Given
+        ConvertRequest request = new ConvertRequest(" 40.6892,-74.0445 ");
+        LocationResult expectedLocationResult = LocationResult.fromCoordinates(new Coordinate(40.6892, -74.0445));
+        when(userInputProcessorService.processInputAsync("40.6892,-74.0445"))
+                .thenReturn(CompletableFuture.completedFuture(expectedLocationResult));
+
+        // When
+        WebConvertResponse response = service.convertAsync(request).join();
+
+        // Then
+        assertEquals(40.6892, response.getCoordinates().getLat());
+        assertEquals("https://maps.apple.com/?ll=40.6892,-74.0445", response.getLinks().get(appleMapType));
+        verify(userInputProcessorService, never()).processInput(anyString());
+    }
+
+    @Test
+    void testConvertAsyncInvalidInput() {
+        // Given
+        ConvertRequest request = new ConvertRequest("invalid input");
+        when(userInputProcessorService.processInputAsync("invalid input"))
+                .thenReturn(CompletableFuture.failedFuture(new InvalidInputException("Input must be coordinates (lat,lon) or a valid URL")));
+
+        // When
+        CompletableFuture<WebConvertResponse> future = service.convertAsync(request);
+
+        // Then
+        CompletionException exception = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(InvalidInputException.class, exception.getCause());
+    }
 }
@@ -0,0 +1,131 @@
+package com.example.mapsbridge.service;
+
+import com.example.mapsbridge.config.metrics.tracker.GeocodingTracker;
+import com.example.mapsbridge.dto.Coordinate;
+import com.example.mapsbridge.dto.LocationResult;
+import com.example.mapsbridge.service.geocoding.RadarGeocodingService;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RadarGeocodingServiceTest {
+
+    private static final Coordinate COORDINATE = new Coordinate(51.9740939, 5.9016994);
+    private static final String ADDRESS_RESPONSE = """
+            {"addresses":[{"latitude":51.9740939,"longitude":5.9016994,"formattedAddress":"Rijnkade 1, Arnhem"}]}""";
+
+    @Mock
+    private GeocodingTracker geocodingTracker;
+
+    private HttpServer server;
+    private volatile int status = 200;
+    private volatile String body = ADDRESS_RESPONSE;
+
+    private RadarGeocodingService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] response = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        server.start();
+
+        String baseUrl = "http://localhost:" + server.getAddress().getPort() + "/v1";
+        service = new RadarGeocodingService("test-key", true, baseUrl, geocodingTracker);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void shouldReverseGeocodeAsync() {
+        // When
+        LocationResult result = service.reverseGeocodeAsync(COORDINATE).join();
+
+        // Then
+        assertEquals(COORDINATE, result.getCoordinates());
+        assertEquals("Rijnkade 1, Arnhem", result.getAddress());
+        verify(geocodingTracker).trackReverseGeocode("radar");
+    }
+
+    @Test
+    void shouldReturnCoordinatesWhenReverseGeocodeAsyncFails() {
+        // Given
+        status = 500;
+        body = "{}";
+
+        // When
+        LocationResult result = service.reverseGeocodeAsync(COORDINATE).join();
+
+        // Then
+        assertEquals(COORDINATE, result.getCoordinates());
+        assertNull(result.getAddress());
+        verify(geocodingTracker, never()).trackReverseGeocode(anyString());
+    }
+
+    @Test
+    void shouldGeocodeQueryAsync() {
+        // When
+        LocationResult result = service.geocodeQueryAsync("Rijnkade 1 Arnhem").join();
+
+        // Then
+        assertEquals(COORDINATE, result.getCoordinates());
+        assertEquals("Rijnkade 1, Arnhem", result.getAddress());
+        verify(geocodingTracker).trackForwardGeocode("radar");
+    }
+
+    @Test
+    void shouldReturnNullWhenGeocodeQueryAsyncFindsNothing() {
+        // Given
+        body = "{\"addresses\":[]}";
+
+        // When
+        LocationResult result = service.geocodeQueryAsync("nowhere").join();
+
+        // Then
+        assertNull(result);
+    }
+
+    @Test
+    void shouldReturnNullWhenGeocodeQueryAsyncFails() {
+        // Given
+        status = 503;
+        body = "{}";
+
+        // When
+        LocationResult result = service.geocodeQueryAsync("Rijnkade 1 Arnhem").join();
+
+        // Then
+        assertNull(result);
+        verify(geocodingTracker, never()).trackForwardGeocode(anyString());
+    }
+
+    @Test
+    void shouldNotSupportPlaceIdsAsync() {
+        // When / Then
+        assertNull(service.getLocationFromPlaceIdAsync("ChIJN1t_tDeuEmsRUsoyG83frY4").join());
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.mapsbridge.service.cache;
+
+import com.example.mapsbridge.config.properties.CacheProperties;
+import com.example.mapsbridge.model.ApiKeyModel;
+import com.example.mapsbridge.service.cache.ApiKeyCache.CachedApiKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApiKeyCacheTest {
+
+    private static final String API_KEY = "maps_live_test";
+    private static final String EMAIL = "test@example.com";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private ApiKeyCache cache;
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties.CacheSpec spec = new CacheProperties.CacheSpec(10, Duration.ofMinutes(1));
+        CacheProperties.CacheSpec unknownSpec = new CacheProperties.CacheSpec(5, Duration.ofSeconds(10));
+        cache = new ApiKeyCache(spec, unknownSpec, nanos::get);
+    }
+
+    @Test
+    void shouldLoadApiKeyOnlyOnce() {
+        // Given
+        ApiKeyModel apiKey = apiKey(API_KEY, EMAIL);
+
+        // When
+        cache.get(API_KEY, loader(Optional.of(apiKey)));
+        Optional<CachedApiKey> result = cache.get(API_KEY, loader(Optional.of(apiKey)));
+
+        // Then
+        assertEquals(1, loads.get());
+        assertTrue(result.isPresent());
+        assertEquals(apiKey.getId(), result.get().id());
+        assertEquals(EMAIL, result.get().email());
+        assertTrue(result.get().active());
+    }
+
+    @Test
+    void shouldCacheUnknownApiKey() {
+        // When
+        cache.get(API_KEY, loader(Optional.empty()));
+        Optional<CachedApiKey> result = cache.get(API_KEY, loader(Optional.empty()));
+
+        // Then
+        assertTrue(result.isEmpty());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void shouldNotEvictApiKeysWhenScanningUnknownKeys() {
+        // Given
+        cache.get(API_KEY, loader(Optional.of(apiKey(API_KEY, EMAIL))));
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            cache.get("maps_live_guess_" + i, loader(Optional.empty()));
+        }
+        Optional<CachedApiKey> result = cache.get(API_KEY, loader(Optional.empty()));
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals(101, loads.get());
+    }
+
+    @Test
+    void shouldReloadUnknownApiKeyAfterShorterTtl() {
+        // Given
+        cache.get(API_KEY, loader(Optional.empty()));
+
+        // When
+        nanos.addAndGet(Duration.ofSeconds(11).toNanos());
+        Optional<CachedApiKey> result = cache.get(API_KEY, loader(Optional.of(apiKey(API_KEY, EMAIL))));
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldNotCacheFailedLookup() {
+        // Given
+        Function<String, Optional<ApiKeyModel>> failing = key -> {
+            throw new DataAccessResourceFailureException("Connection refused");
+        };
+
+        // When
+        assertThrows(DataAccessResourceFailureException.class, () -> cache.get(API_KEY, failing));
+        Optional<CachedApiKey> result = cache.get(API_KEY, loader(Optional.of(apiKey(API_KEY, EMAIL))));
+
+        // Then
+        assertTrue(result.isPresent());
+    }
+
+    @Test
+    void shouldReloadApiKeyAfterTtl() {
+        // Given
+        cache.get(API_KEY, loader(Optional.empty()));
+
+        // When
+        nanos.addAndGet(Duration.ofMinutes(1).plusSeconds(1).toNanos());
+        Optional<CachedApiKey> result = cache.get(API_KEY, loader(Optional.of(apiKey(API_KEY, EMAIL))));
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldInvalidateAllApiKeysOfEmail() {
+        // Given
+        cache.get(API_KEY, loader(Optional.of(apiKey(API_KEY, EMAIL))));
+        cache.get("maps_live_other", loader(Optional.of(apiKey("maps_live_other", "other@example.com"))));
+
+        // When
+        cache.invalidateEmail(EMAIL);
+        cache.get(API_KEY, loader(Optional.empty()));
+        cache.get("maps_live_other", loader(Optional.empty()));
+
+        // Then
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void shouldReloadInvalidatedApiKey() {
+        // Given
+        cache.get(API_KEY, loader(Optional.empty()));
+
+        // When
+        cache.invalidate(API_KEY);
+        Optional<CachedApiKey> result = cache.get(API_KEY, loader(Optional.of(apiKey(API_KEY, EMAIL))));
+
+        // Then
+        assertTrue(result.isPresent());
+    }
+
+    private Function<String, Optional<ApiKeyModel>> loader(Optional<ApiKeyModel> result) {
+        return key -> {
+            loads.incrementAndGet();
+            return result;
+        };
+    }
+
+    private static ApiKeyModel apiKey(String apiKey, String email) {
+        return ApiKeyModel.builder()
+                .id(UUID.randomUUID())
+                .apiKey(apiKey)
+                .email(email)
+                .active(true)
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.mapsbridge.service.cache;
+
+import com.example.mapsbridge.config.metrics.tracker.InputSourceTracker;
+import com.example.mapsbridge.config.properties.CacheProperties;
+import com.example.mapsbridge.dto.Coordinate;
+import com.example.mapsbridge.dto.LocationResult;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConversionResultCacheTest {
+
+    private static final String URL = "https://maps.app.goo.gl/3KRHSbjUDnMhbWg59";
+
+    @Mock
+    private InputSourceTracker metrics;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private ConversionResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties.CacheSpec spec = new CacheProperties.CacheSpec(10, Duration.ofMinutes(30));
+        cache = new ConversionResultCache(spec, metrics, nanos::get);
+    }
+
+    @Test
+    void shouldTrackMissForUnknownInput() {
+        // When
+        Optional<LocationResult> result = cache.get(URL, false);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(metrics).trackConversionCacheMiss();
+    }
+
+    @Test
+    void shouldReturnCachedResultForEquivalentUrl() {
+        // Given
+        cache.put(URL + "?g_st=ic", false, sampleResult());
+
+        // When
+        Optional<LocationResult> result = cache.get("  HTTPS://Maps.App.Goo.Gl/3KRHSbjUDnMhbWg59?utm_source=chat  ", false);
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals(new Coordinate(51.9740939, 5.9016994), result.get().getCoordinates());
+        verify(metrics).trackConversionCacheHit();
+    }
+
+    @Test
+    void shouldKeepReverseGeocodeVariantsSeparate() {
+        // Given
+        cache.put(URL, true, sampleResult());
+
+        // When
+        Optional<LocationResult> result = cache.get(URL, false);
+
+        // Then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void shouldReturnCopiesOfCachedResults() {
+        // Given
+        cache.put(URL, false, sampleResult());
+
+        // When
+        cache.get(URL, false).orElseThrow().getCoordinates().setLat(0);
+
+        // Then
+        assertEquals(51.9740939, cache.get(URL, false).orElseThrow().getCoordinates().getLat());
+    }
+
+    @Test
+    void shouldExpireEntriesAfterTtl() {
+        // Given
+        cache.put(URL, false, sampleResult());
+
+        // When
+        nanos.addAndGet(Duration.ofMinutes(31).toNanos());
+
+        // Then
+        assertTrue(cache.get(URL, false).isEmpty());
+        assertEquals(0, cache.size());
+        verify(metrics).trackConversionCacheEviction(RemovalCause.EXPIRED);
+    }
+
+    @Test
+    void shouldNotCacheResultsWithoutValidCoordinates() {
+        // When
+        cache.put(URL, false, LocationResult.fromCoordinates(new Coordinate(100, 200)));
+        cache.put(URL, false, null);
+
+        // Then
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldRoundCoordinateInput() {
+        assertEquals(ConversionResultCache.normalize("51.97409391,5.90169941"),
+                ConversionResultCache.normalize(" 51.974094, 5.901699 "));
+    }
+
+    @Test
+    void shouldStripOnlyTrackingParameters() {
+        assertEquals("url:https://www.google.com/maps?q=51.97,5.90#map=15",
+                ConversionResultCache.normalize("https://www.google.com/maps?utm_medium=x&q=51.97,5.90&fbclid=abc#map=15"));
+    }
+
+    @Test
+    void shouldNotNormalizeUnsupportedInput() {
+        assertNull(ConversionResultCache.normalize("   "));
+        assertNull(ConversionResultCache.normalize("Amsterdam"));
+    }
+
+    private LocationResult sampleResult() {
+        return LocationResult.fromCoordinatesAndName(new Coordinate(51.9740939, 5.9016994), "Arnhem");
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.mapsbridge.service.geocoding.cache;
+
+import com.example.mapsbridge.config.properties.CacheProperties;
+import com.example.mapsbridge.dto.Coordinate;
+import com.example.mapsbridge.dto.LocationResult;
+import com.example.mapsbridge.model.GeocodingCacheModel.LookupType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeocodeResultCacheTest {
+
+    private static final String PLACE_ID = "ChIJN1t_tDeuEmsRUsoyG83frY4";
+    private static final Coordinate COORDINATE = new Coordinate(51.9740939, 5.9016994);
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private GeocodeResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new GeocodeResultCache(new CacheProperties.CacheSpec(100, Duration.ofHours(1)), nanos::get);
+    }
+
+    @Test
+    void shouldReturnCopyOfCachedResult() {
+        // Given
+        cache.put(LookupType.PLACE_ID, PLACE_ID, LocationResult.fromCoordinatesAndName(COORDINATE, "Arnhem"));
+
+        // When
+        Optional<LocationResult> result = cache.get(LookupType.PLACE_ID, PLACE_ID);
+        result.ifPresent(location -> location.setAddress("Changed"));
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals("Arnhem", cache.get(LookupType.PLACE_ID, PLACE_ID).orElseThrow().getAddress());
+    }
+
+    @Test
+    void shouldMatchQueriesIgnoringCaseAndWhitespace() {
+        // Given
+        cache.put(LookupType.FORWARD, "Rijnkade 1  Arnhem", LocationResult.fromCoordinatesAndName(COORDINATE, "Rijnkade 1, Arnhem"));
+
+        // When
+        Optional<LocationResult> result = cache.get(LookupType.FORWARD, " rijnkade 1 arnhem ");
+
+        // Then
+        assertTrue(result.isPresent());
+        assertTrue(cache.get(LookupType.PLACE_ID, "Rijnkade 1  Arnhem").isEmpty());
+    }
+
+    @Test
+    void shouldNotCacheIncompleteResult() {
+        // When
+        cache.put(LookupType.PLACE_ID, PLACE_ID, LocationResult.fromCoordinates(COORDINATE));
+
+        // Then
+        assertTrue(cache.get(LookupType.PLACE_ID, PLACE_ID).isEmpty());
+    }
+
+    @Test
+    void shouldExpireResultAfterTtl() {
+        // Given
+        cache.put(LookupType.PLACE_ID, PLACE_ID, LocationResult.fromCoordinatesAndName(COORDINATE, "Arnhem"));
+
+        // When
+        nanos.addAndGet(Duration.ofHours(1).plusSeconds(1).toNanos());
+
+        // Then
+        assertTrue(cache.get(LookupType.PLACE_ID, PLACE_ID).isEmpty());
+    }
+}
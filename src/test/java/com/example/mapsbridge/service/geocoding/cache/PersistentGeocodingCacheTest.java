@@ -0,0 +1,245 @@
+package com.example.mapsbridge.service.geocoding.cache;
+
+import com.example.mapsbridge.config.metrics.tracker.GeocodingTracker;
+import com.example.mapsbridge.config.properties.CacheProperties;
+import com.example.mapsbridge.dto.Coordinate;
+import com.example.mapsbridge.dto.LocationResult;
+import com.example.mapsbridge.model.GeocodingCacheModel;
+import com.example.mapsbridge.model.GeocodingCacheModel.LookupType;
+import com.example.mapsbridge.repository.GeocodingCacheRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PersistentGeocodingCacheTest {
+
+    private static final String PLACE_ID = "ChIJN1t_tDeuEmsRUsoyG83frY4";
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+
+    @Mock
+    private GeocodingCacheRepository repository;
+
+    @Mock
+    private GeocodingTracker metrics;
+
+    private PersistentGeocodingCache cache;
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties.PersistentCacheSpec spec = new CacheProperties.PersistentCacheSpec(true, Duration.ofDays(30));
+        cache = new PersistentGeocodingCache(repository, metrics, spec, Clock.fixed(NOW, ZoneOffset.UTC), Runnable::run, Runnable::run);
+    }
+
+    @Test
+    void shouldReturnFreshEntry() {
+        // Given
+        when(repository.findByLookupTypeAndLookupKey(LookupType.PLACE_ID, PLACE_ID))
+                .thenReturn(Optional.of(entry(LookupType.PLACE_ID, PLACE_ID, now().minusDays(1))));
+
+        // When
+        Optional<LocationResult> result = cache.find(LookupType.PLACE_ID, PLACE_ID);
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals(new Coordinate(51.9740939, 5.9016994), result.get().getCoordinates());
+        assertEquals("Arnhem", result.get().getAddress());
+        verify(metrics).trackPersistentCache(LookupType.PLACE_ID, "hit");
+    }
+
+    @Test
+    void shouldIgnoreStaleEntry() {
+        // Given
+        when(repository.findByLookupTypeAndLookupKey(LookupType.PLACE_ID, PLACE_ID))
+                .thenReturn(Optional.of(entry(LookupType.PLACE_ID, PLACE_ID, now().minusDays(31))));
+
+        // When
+        Optional<LocationResult> result = cache.find(LookupType.PLACE_ID, PLACE_ID);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(metrics).trackPersistentCache(LookupType.PLACE_ID, "stale");
+    }
+
+    @Test
+    void shouldTreatDatabaseErrorsAsMiss() {
+        // Given
+        when(repository.findByLookupTypeAndLookupKey(any(), any())).thenThrow(new QueryTimeoutException("timeout"));
+
+        // When
+        Optional<LocationResult> result = cache.find(LookupType.FORWARD, "Arnhem");
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(metrics).trackPersistentCache(LookupType.FORWARD, "error");
+    }
+
+    @Test
+    void shouldNormalizeForwardQueries() {
+        // Given
+        when(repository.findByLookupTypeAndLookupKey(LookupType.FORWARD, "rijnkade 1 arnhem")).thenReturn(Optional.empty());
+
+        // When
+        cache.find(LookupType.FORWARD, "  Rijnkade   1 ARNHEM ");
+
+        // Then
+        verify(repository).findByLookupTypeAndLookupKey(LookupType.FORWARD, "rijnkade 1 arnhem");
+    }
+
+    @Test
+    void shouldReadOnReadPoolForAsyncLookups() {
+        // Given
+        List<Runnable> readTasks = new ArrayList<>();
+        CacheProperties.PersistentCacheSpec spec = new CacheProperties.PersistentCacheSpec(true, Duration.ofDays(30));
+        cache = new PersistentGeocodingCache(repository, metrics, spec, Clock.fixed(NOW, ZoneOffset.UTC), readTasks::add, Runnable::run);
+        when(repository.findByLookupTypeAndLookupKey(LookupType.PLACE_ID, PLACE_ID))
+                .thenReturn(Optional.of(entry(LookupType.PLACE_ID, PLACE_ID, now().minusDays(1))));
+
+        // When
+        CompletableFuture<Optional<LocationResult>> result = cache.findAsync(LookupType.PLACE_ID, PLACE_ID);
+
+        // Then
+        assertFalse(result.isDone());
+        verifyNoInteractions(repository);
+
+        // When the read pool runs the lookup
+        readTasks.forEach(Runnable::run);
+
+        // Then
+        assertEquals("Arnhem", result.join().orElseThrow().getAddress());
+    }
+
+    @Test
+    void shouldTreatSaturatedReadPoolAsMiss() {
+        // Given
+        CacheProperties.PersistentCacheSpec spec = new CacheProperties.PersistentCacheSpec(true, Duration.ofDays(30));
+        cache = new PersistentGeocodingCache(repository, metrics, spec, Clock.fixed(NOW, ZoneOffset.UTC),
+                task -> {
+                    throw new RejectedExecutionException("full");
+                },
+                Runnable::run);
+
+        // When
+        Optional<LocationResult> result = cache.findAsync(LookupType.FORWARD, "Arnhem").join();
+
+        // Then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(repository);
+        verify(metrics).trackPersistentCache(LookupType.FORWARD, "rejected");
+    }
+
+    @Test
+    void shouldHashKeysLongerThanTheKeyColumn() {
+        // Given
+        String query = "rijnkade ".repeat(100).trim();
+        when(repository.findByLookupTypeAndLookupKey(any(), any())).thenReturn(Optional.empty());
+
+        // When
+        cache.find(LookupType.FORWARD, query);
+        cache.store(LookupType.FORWARD, query,
+                new LocationResult(null, null, new Coordinate(52.0, 5.0), "Arnhem", null));
+
+        // Then
+        ArgumentCaptor<GeocodingCacheModel> captor = ArgumentCaptor.forClass(GeocodingCacheModel.class);
+        verify(repository).save(captor.capture());
+        String key = captor.getValue().getLookupKey();
+        assertTrue(key.startsWith("sha256:"));
+        assertTrue(key.length() <= GeocodingCacheModel.LOOKUP_KEY_LENGTH);
+        verify(repository, times(2)).findByLookupTypeAndLookupKey(LookupType.FORWARD, key);
+    }
+
+    @Test
+    void shouldUpdateExistingEntryOnStore() {
+        // Given
+        GeocodingCacheModel existing = entry(LookupType.PLACE_ID, PLACE_ID, now().minusDays(40));
+        when(repository.findByLookupTypeAndLookupKey(LookupType.PLACE_ID, PLACE_ID)).thenReturn(Optional.of(existing));
+
+        // When
+        cache.store(LookupType.PLACE_ID, PLACE_ID,
+                new LocationResult(null, null, new Coordinate(52.0, 5.0), "Utrecht", "Dom"));
+
+        // Then
+        ArgumentCaptor<GeocodingCacheModel> captor = ArgumentCaptor.forClass(GeocodingCacheModel.class);
+        verify(repository).save(captor.capture());
+        assertSame(existing, captor.getValue());
+        assertEquals("Utrecht", captor.getValue().getAddress());
+        assertEquals("Dom", captor.getValue().getPlaceName());
+        assertEquals(now(), captor.getValue().getFetchedAt());
+        verify(metrics).trackPersistentCache(LookupType.PLACE_ID, "write");
+    }
+
+    @Test
+    void shouldSwallowWriteConflicts() {
+        // Given
+        when(repository.findByLookupTypeAndLookupKey(any(), any())).thenReturn(Optional.empty());
+        when(repository.save(any())).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        // When
+        assertDoesNotThrow(() -> cache.store(LookupType.REVERSE, "4:519740:59016",
+                LocationResult.fromCoordinatesAndName(new Coordinate(51.97401, 5.90161), "Arnhem")));
+
+        // Then
+        verify(metrics).trackPersistentCache(LookupType.REVERSE, "error");
+    }
+
+    @Test
+    void shouldNotStoreIncompleteResults() {
+        // When
+        cache.store(LookupType.PLACE_ID, PLACE_ID, LocationResult.fromCoordinates(new Coordinate(52.0, 5.0)));
+        cache.store(LookupType.PLACE_ID, PLACE_ID, null);
+
+        // Then
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void shouldDoNothingWhenDisabled() {
+        // Given
+        CacheProperties.PersistentCacheSpec spec = new CacheProperties.PersistentCacheSpec(false, Duration.ofDays(30));
+        cache = new PersistentGeocodingCache(repository, metrics, spec, Clock.fixed(NOW, ZoneOffset.UTC), Runnable::run, Runnable::run);
+
+        // When
+        Optional<LocationResult> result = cache.find(LookupType.PLACE_ID, PLACE_ID);
+        cache.store(LookupType.PLACE_ID, PLACE_ID,
+                LocationResult.fromCoordinatesAndName(new Coordinate(52.0, 5.0), "Utrecht"));
+
+        // Then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(repository);
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.ofInstant(NOW, ZoneOffset.UTC);
+    }
+
+    private GeocodingCacheModel entry(LookupType type, String key, LocalDateTime fetchedAt) {
+        return GeocodingCacheModel.builder()
+                .lookupType(type)
+                .lookupKey(key)
+                .latitude(51.9740939)
+                .longitude(5.9016994)
+                .address("Arnhem")
+                .fetchedAt(fetchedAt)
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.mapsbridge.service.geocoding.cache;
+
+import com.example.mapsbridge.config.metrics.tracker.GeocodingTracker;
+import com.example.mapsbridge.config.properties.CacheProperties;
+import com.example.mapsbridge.dto.Coordinate;
+import com.example.mapsbridge.dto.LocationResult;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReverseGeocodeCacheTest {
+
+    private static final String ADDRESS = "Rijnkade 1, 6811 HA Arnhem, Netherlands";
+
+    @Mock
+    private GeocodingTracker metrics;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private ReverseGeocodeCache cache;
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties.SpatialCacheSpec spec = new CacheProperties.SpatialCacheSpec(100, Duration.ofDays(1), 4);
+        cache = new ReverseGeocodeCache(spec, metrics, nanos::get);
+    }
+
+    @Test
+    void shouldReturnCachedAddressForCoordinateInSameCell() {
+        // Given
+        cache.put(new Coordinate(51.97401, 5.90161), LocationResult.fromCoordinatesAndName(new Coordinate(51.97401, 5.90161), ADDRESS));
+
+        // When
+        Optional<LocationResult> result = cache.get(new Coordinate(51.97409, 5.90169));
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals(ADDRESS, result.get().getAddress());
+        assertEquals(new Coordinate(51.97409, 5.90169), result.get().getCoordinates());
+        verify(metrics).trackReverseGeocodeCacheHit();
+    }
+
+    @Test
+    void shouldMissForCoordinateInNeighbouringCell() {
+        // Given
+        cache.put(new Coordinate(51.97401, 5.90161), LocationResult.fromCoordinatesAndName(new Coordinate(51.97401, 5.90161), ADDRESS));
+
+        // When
+        Optional<LocationResult> result = cache.get(new Coordinate(51.97411, 5.90161));
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(metrics).trackReverseGeocodeCacheMiss();
+    }
+
+    @Test
+    void shouldKeepNegativeCoordinatesInTheirOwnCell() {
+        // Given
+        cache.put(new Coordinate(-0.00001, -0.00001), LocationResult.fromCoordinatesAndName(new Coordinate(-0.00001, -0.00001), ADDRESS));
+
+        // When
+        Optional<LocationResult> result = cache.get(new Coordinate(0.00001, 0.00001));
+
+        // Then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void shouldNotCacheResultsWithoutAddress() {
+        // When
+        cache.put(new Coordinate(51.97401, 5.90161), LocationResult.fromCoordinates(new Coordinate(51.97401, 5.90161)));
+
+        // Then
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldExpireEntriesAfterTtl() {
+        // Given
+        cache.put(new Coordinate(51.97401, 5.90161), LocationResult.fromCoordinatesAndName(new Coordinate(51.97401, 5.90161), ADDRESS));
+
+        // When
+        nanos.addAndGet(Duration.ofDays(2).toNanos());
+
+        // Then
+        assertTrue(cache.get(new Coordinate(51.97401, 5.90161)).isEmpty());
+        assertEquals(0, cache.size());
+        verify(metrics).trackReverseGeocodeCacheEviction(RemovalCause.EXPIRED);
+    }
+
+    @Test
+    void shouldRejectUnsupportedPrecision() {
+        CacheProperties.SpatialCacheSpec spec = new CacheProperties.SpatialCacheSpec(100, Duration.ofDays(1), 12);
+
+        assertThrows(IllegalArgumentException.class, () -> new ReverseGeocodeCache(spec, metrics, nanos::get));
+    }
+}
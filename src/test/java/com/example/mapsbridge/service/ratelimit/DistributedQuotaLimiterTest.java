@@ -0,0 +1,272 @@
+package com.example.mapsbridge.service.ratelimit;
+
+import com.example.mapsbridge.exception.rate.IpRateLimitExceededException;
+import com.example.mapsbridge.model.QuotaCounterModel;
+import com.example.mapsbridge.repository.QuotaCounterRepository;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DistributedQuotaLimiterTest {
+
+    private static final String CONFIG = "geocodingIpConfig";
+    private static final int LIMIT = 20;
+    private static final int BATCH = 3;
+
+    private final AtomicLong millis = new AtomicLong(Duration.ofDays(20_000).toMillis());
+    // The shared quota_counter table, keyed by quota key and window start
+    private final Map<String, AtomicLong> table = new ConcurrentHashMap<>();
+    private RateLimiterRegistry rateLimiterRegistry;
+    private QuotaCounterRepository repository;
+    private Clock clock;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiterRegistry = mock(RateLimiterRegistry.class);
+        when(rateLimiterRegistry.getConfiguration(CONFIG)).thenReturn(Optional.of(RateLimiterConfig.custom()
+                .limitForPeriod(LIMIT)
+                .limitRefreshPeriod(Duration.ofHours(24))
+                .build()));
+
+        repository = mock(QuotaCounterRepository.class);
+        when(repository.addUsage(anyString(), any(LocalDateTime.class), anyLong())).thenAnswer(invocation ->
+                table.computeIfAbsent(invocation.getArgument(0) + "@" + invocation.getArgument(1), k -> new AtomicLong())
+                        .addAndGet(invocation.getArgument(2)));
+        when(repository.addUsages(anyMap())).thenAnswer(invocation -> {
+            Map<QuotaCounterModel.Key, Long> usages = invocation.getArgument(0);
+            Map<QuotaCounterModel.Key, Long> used = new HashMap<>();
+            usages.forEach((key, delta) -> used.put(key,
+                    table.computeIfAbsent(key.getQuotaKey() + "@" + key.getWindowStart(), k -> new AtomicLong()).addAndGet(delta)));
+            return used;
+        });
+
+        clock = mock(Clock.class);
+        when(clock.millis()).thenAnswer(invocation -> millis.get());
+    }
+
+    @Test
+    void shouldAllowUpToLimitOnSingleNode() {
+        // Given
+        DistributedQuotaLimiter node = newNode();
+
+        // When
+        int allowed = acquire(node, "key", LIMIT * 2);
+
+        // Then
+        assertEquals(LIMIT, allowed);
+    }
+
+    @Test
+    void shouldOnlyReachDatabaseOncePerBatch() {
+        // Given
+        DistributedQuotaLimiter node = newNode();
+
+        // When
+        acquire(node, "key", BATCH * 3);
+
+        // Then
+        verify(repository, times(2)).addUsage(eq(CONFIG + ":key"), any(LocalDateTime.class), eq((long) BATCH));
+    }
+
+    @Test
+    void shouldBoundOvershootAcrossNodes() {
+        // Given
+        DistributedQuotaLimiter[] nodes = {newNode(), newNode(), newNode(), newNode()};
+
+        // When
+        int allowed = 0;
+        for (int round = 0; round < LIMIT; round++) {
+            for (DistributedQuotaLimiter node : nodes) {
+                allowed += acquire(node, "key", 1);
+            }
+        }
+
+        // Then
+        assertTrue(allowed >= LIMIT, "Allowed " + allowed);
+        assertTrue(allowed <= LIMIT + nodes.length * BATCH, "Allowed " + allowed);
+    }
+
+    @Test
+    void shouldRejectOnOtherNodesOnceQuotaIsUsedUp() {
+        // Given
+        DistributedQuotaLimiter first = newNode();
+        DistributedQuotaLimiter second = newNode();
+        acquire(first, "key", LIMIT);
+        first.syncAll();
+
+        // When
+        int allowed = acquire(second, "key", LIMIT);
+
+        // Then
+        assertTrue(allowed <= BATCH, "Allowed " + allowed);
+    }
+
+    @Test
+    void shouldSeedNewCounterFromSharedCounter() {
+        // Given
+        DistributedQuotaLimiter first = newNode();
+        acquire(first, "key", LIMIT);
+        first.syncAll();
+
+        // When
+        int allowed = acquire(newNode(), "key", LIMIT);
+
+        // Then
+        assertEquals(0, allowed);
+    }
+
+    @Test
+    void shouldReportAllCountersInOneStatement() {
+        // Given
+        DistributedQuotaLimiter node = newNode();
+        acquire(node, "first", 2);
+        acquire(node, "second", 1);
+
+        // When
+        int synced = node.syncAll();
+
+        // Then
+        assertEquals(2, synced);
+        verify(repository, times(1)).addUsages(anyMap());
+        verify(repository, never()).addUsage(anyString(), any(LocalDateTime.class), longThat(delta -> delta > 0));
+    }
+
+    @Test
+    void shouldReportGrantedPermitsOnSync() {
+        // Given
+        DistributedQuotaLimiter node = newNode();
+        acquire(node, "key", 2);
+
+        // When
+        int synced = node.syncAll();
+
+        // Then
+        assertEquals(1, synced);
+        assertEquals(2, table.values().iterator().next().get());
+        assertEquals(0, node.syncAll());
+    }
+
+    @Test
+    void shouldStartNewWindowAndDropEndedOnes() {
+        // Given
+        DistributedQuotaLimiter node = newNode();
+        acquire(node, "key", LIMIT);
+        assertFalse(node.tryAcquire(CONFIG, "key"));
+
+        // When
+        millis.addAndGet(Duration.ofHours(24).toMillis());
+
+        // Then
+        assertTrue(node.tryAcquire(CONFIG, "key"));
+        assertEquals(1, node.countKeys(null));
+
+        millis.addAndGet(Duration.ofHours(24).toMillis());
+        node.syncAll();
+        assertEquals(0, node.countKeys(null));
+    }
+
+    @Test
+    void shouldKeepDecidingLocallyWhenDatabaseIsDown() {
+        // Given
+        doThrow(new DataAccessResourceFailureException("Connection refused"))
+                .when(repository).addUsage(anyString(), any(LocalDateTime.class), anyLong());
+        doThrow(new DataAccessResourceFailureException("Connection refused"))
+                .when(repository).addUsages(anyMap());
+        DistributedQuotaLimiter node = newNode();
+
+        // When
+        int allowed = acquire(node, "key", LIMIT * 2);
+
+        // Then
+        assertEquals(LIMIT, allowed);
+        verify(repository, times(1)).addUsage(anyString(), any(LocalDateTime.class), anyLong());
+        assertEquals(0, node.syncAll());
+    }
+
+    @Test
+    void shouldSyncOnceWhenThreadsQueueBehindSlowDatabase() throws InterruptedException {
+        // Given a full batch and a database that blocks the first sync
+        DistributedQuotaLimiter node = newNode();
+        acquire(node, "key", BATCH);
+        clearInvocations(repository);
+        CountDownLatch syncing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            syncing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return (long) BATCH;
+        }).when(repository).addUsage(anyString(), any(LocalDateTime.class), anyLong());
+        ExecutorService executor = Executors.newFixedThreadPool(BATCH);
+        AtomicInteger allowed = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < BATCH; i++) {
+            executor.execute(() -> {
+                if (node.tryAcquire(CONFIG, "key")) {
+                    allowed.incrementAndGet();
+                }
+            });
+        }
+        assertTrue(syncing.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        // Then the threads that waited for the lock skip the sync they no longer need
+        assertEquals(BATCH, allowed.get());
+        verify(repository, times(1)).addUsage(anyString(), any(LocalDateTime.class), anyLong());
+        verify(repository, never()).addUsage(anyString(), any(LocalDateTime.class), eq(0L));
+    }
+
+    @Test
+    void shouldEnforceQuotaThroughMapConverterRateLimiterService() {
+        // Given
+        DistributedQuotaLimiter node = newNode();
+        MapConverterRateLimiterService service = new MapConverterRateLimiterService(
+                rateLimiterRegistry, null, node);
+        for (int i = 0; i < LIMIT; i++) {
+            service.checkDailyQuotaForIp("192.168.1.1");
+        }
+
+        // When & Then
+        assertThrows(IpRateLimitExceededException.class, () -> service.checkDailyQuotaForIp("192.168.1.1"));
+        assertEquals(1, service.getLiveLimiterCount());
+        verify(rateLimiterRegistry, never()).rateLimiter(anyString(), anyString());
+    }
+
+    private DistributedQuotaLimiter newNode() {
+        return new DistributedQuotaLimiter(rateLimiterRegistry, repository, BATCH,
+                Duration.ofSeconds(5), Duration.ofDays(7), clock);
+    }
+
+    private static int acquire(DistributedQuotaLimiter node, String key, int attempts) {
+        int allowed = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (node.tryAcquire(CONFIG, key)) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+}
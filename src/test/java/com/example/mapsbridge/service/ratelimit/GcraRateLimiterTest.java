@@ -0,0 +1,148 @@
+package com.example.mapsbridge.service.ratelimit;
+
+import com.example.mapsbridge.exception.rate.IpRateLimitExceededException;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class GcraRateLimiterTest {
+
+    private static final String CONFIG = "testConfig";
+
+    private final AtomicLong nanos = new AtomicLong(1_000_000_000L);
+    private final Ticker ticker = nanos::get;
+    private RateLimiterRegistry rateLimiterRegistry;
+    private GcraRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiterRegistry = mock(RateLimiterRegistry.class);
+        when(rateLimiterRegistry.getConfiguration(CONFIG)).thenReturn(Optional.of(RateLimiterConfig.custom()
+                .limitForPeriod(3)
+                .limitRefreshPeriod(Duration.ofSeconds(3))
+                .build()));
+        when(rateLimiterRegistry.getConfiguration("geocodingIpConfig")).thenReturn(Optional.of(RateLimiterConfig.custom()
+                .limitForPeriod(1)
+                .limitRefreshPeriod(Duration.ofHours(24))
+                .build()));
+        limiter = new GcraRateLimiter(rateLimiterRegistry, ticker);
+    }
+
+    @Test
+    void shouldAllowBurstUpToLimitThenReject() {
+        // When & Then
+        assertTrue(limiter.tryAcquire(CONFIG, "key"));
+        assertTrue(limiter.tryAcquire(CONFIG, "key"));
+        assertTrue(limiter.tryAcquire(CONFIG, "key"));
+        assertFalse(limiter.tryAcquire(CONFIG, "key"));
+    }
+
+    @Test
+    void shouldRefillOnePermitPerEmissionInterval() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire(CONFIG, "key");
+        }
+
+        // When
+        advance(Duration.ofSeconds(1));
+
+        // Then
+        assertTrue(limiter.tryAcquire(CONFIG, "key"));
+        assertFalse(limiter.tryAcquire(CONFIG, "key"));
+    }
+
+    @Test
+    void shouldLimitKeysIndependently() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire(CONFIG, "first");
+        }
+
+        // When & Then
+        assertFalse(limiter.tryAcquire(CONFIG, "first"));
+        assertTrue(limiter.tryAcquire(CONFIG, "second"));
+    }
+
+    @Test
+    void shouldSweepOnlyIdleKeys() {
+        // Given
+        limiter.tryAcquire(CONFIG, "idle");
+        advance(Duration.ofSeconds(2));
+        limiter.tryAcquire(CONFIG, "active");
+        limiter.tryAcquire(CONFIG, "active");
+
+        // When
+        int removed = limiter.sweep();
+
+        // Then
+        assertEquals(1, removed);
+        assertEquals(1, limiter.size());
+    }
+
+    @Test
+    void shouldNotSweepWhileAcquiring() {
+        // Given
+        limiter.tryAcquire(CONFIG, "idle");
+
+        // When
+        advance(Duration.ofMinutes(2));
+        limiter.tryAcquire(CONFIG, "active");
+
+        // Then the idle key stays until the scheduled sweep
+        assertEquals(2, limiter.size());
+        assertEquals(1, limiter.sweep());
+        assertEquals(1, limiter.size());
+    }
+
+    @Test
+    void shouldNeverExceedLimitUnderContention() throws InterruptedException {
+        // Given
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> {
+                if (limiter.tryAcquire(CONFIG, "key")) {
+                    allowed.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        // Then
+        assertEquals(3, allowed.get());
+    }
+
+    @Test
+    void shouldBeUsedByRateLimiterServices() {
+        // Given
+        MapConverterRateLimiterService service = new MapConverterRateLimiterService(rateLimiterRegistry, limiter, null);
+        service.checkDailyQuotaForIp("192.168.1.1");
+
+        // When & Then
+        assertThrows(IpRateLimitExceededException.class, () -> service.checkDailyQuotaForIp("192.168.1.1"));
+        verify(rateLimiterRegistry, never()).rateLimiter(anyString(), anyString());
+        assertEquals(Map.of(), service.ipRateLimiters);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}
@@ -34,7 +34,7 @@ public class MapConverterRateLimiterServiceTest {
 
     @BeforeEach
     public void setUp() {
-        mapConverterRateLimiterService = new MapConverterRateLimiterService(rateLimiterRegistry);
+        mapConverterRateLimiterService = new MapConverterRateLimiterService(rateLimiterRegistry, null, null);
 
         // Setup default behavior for the mock - use lenient to avoid unnecessary stubbing errors
         lenient().when(rateLimiterRegistry.rateLimiter(anyString(), anyString())).thenReturn(rateLimiter);
@@ -145,6 +145,49 @@ public class MapConverterRateLimiterServiceTest {
         assertTrue(ipRateLimiters.containsKey("192.168.1.1"), "Recent entry should remain");
     }
 
+    @Test
+    public void testCleanupOldIpRateLimiters_UnregistersEvictedLimiters() {
+        // Given
+        when(rateLimiter.acquirePermission()).thenReturn(true);
+        mapConverterRateLimiterService.checkDailyQuotaForIp("192.168.1.1");
+        mapConverterRateLimiterService.checkDailyQuotaForIp("192.168.1.2");
+        mapConverterRateLimiterService.ipLastAccessTimes.put("daily_192.168.1.2", LocalDateTime.now(UTC).minusHours(25));
+        assertEquals(2, mapConverterRateLimiterService.getLiveLimiterCount());
+
+        // When
+        int removedCount = mapConverterRateLimiterService.cleanupOldIpRateLimiters(24);
+
+        // Then
+        assertEquals(1, removedCount);
+        assertEquals(1, mapConverterRateLimiterService.getLiveLimiterCount());
+        verify(rateLimiterRegistry).remove("daily_192.168.1.2");
+        verify(rateLimiterRegistry, never()).remove("daily_192.168.1.1");
+    }
+
+    @Test
+    public void testCleanupOldIpRateLimiters_KeepsLimiterAccessedDuringCleanup() {
+        // Given
+        when(rateLimiter.acquirePermission()).thenReturn(true);
+        mapConverterRateLimiterService.checkDailyQuotaForIp("192.168.1.1");
+        // The iteration still sees the stale time, but the identifier is accessed before its limiter is removed
+        Map<String, LocalDateTime> ipLastAccessTimes = new ConcurrentHashMap<>() {
+            @Override
+            public LocalDateTime get(Object key) {
+                return LocalDateTime.now(UTC);
+            }
+        };
+        ipLastAccessTimes.put("daily_192.168.1.1", LocalDateTime.now(UTC).minusHours(25));
+        ReflectionTestUtils.setField(mapConverterRateLimiterService, "ipLastAccessTimes", ipLastAccessTimes);
+
+        // When
+        int removedCount = mapConverterRateLimiterService.cleanupOldIpRateLimiters(24);
+
+        // Then
+        assertEquals(0, removedCount);
+        assertEquals(1, mapConverterRateLimiterService.getLiveLimiterCount());
+        verify(rateLimiterRegistry, never()).remove(anyString());
+    }
+
     @Test
     public void testCheckDailyQuotaForEmail_Success() {
         // Given
@@ -0,0 +1,88 @@
+package com.example.mapsbridge.service.ratelimit;
+
+import io.github.resilience4j.micrometer.tagged.TaggedRateLimiterMetrics;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.time.ZoneOffset.UTC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Soak test for the limiter lifecycle: millions of distinct IPs must not grow the heap, the
+ * registry or the meter registry once their limiters are cleaned up. Excluded from the default build, run with
+ * {@code ./gradlew soakTest}.
+ */
+@Tag("soak")
+class RateLimiterRegistrySoakTest {
+
+    private static final int ROUNDS = 20;
+    private static final int IPS_PER_ROUND = 100_000;
+    private static final long MAX_HEAP_GROWTH_BYTES = 16L * 1024 * 1024;
+
+    @Test
+    void shouldKeepMemoryFlatAfterMillionsOfDistinctIps() {
+        // given
+        RateLimiterConfig config = RateLimiterConfig.custom()
+                .limitForPeriod(100)
+                .limitRefreshPeriod(Duration.ofDays(1))
+                .timeoutDuration(Duration.ZERO)
+                .build();
+        RateLimiterRegistry registry = RateLimiterRegistry.of(Map.of("geocodingIpConfig", config));
+        LongAdder removedFromRegistry = new LongAdder();
+        registry.getEventPublisher().onEntryRemoved(event -> removedFromRegistry.increment());
+        // The Micrometer binder must drop the limiter meters when the limiters are removed
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TaggedRateLimiterMetrics.ofRateLimiterRegistry(registry).bindTo(meterRegistry);
+        int baselineMeters = meterRegistry.getMeters().size();
+        MapConverterRateLimiterService service = new MapConverterRateLimiterService(registry, null, null);
+
+        // when
+        long baseline = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int i = 0; i < IPS_PER_ROUND; i++) {
+                service.checkDailyQuotaForIp(ipAddress(round * IPS_PER_ROUND + i));
+            }
+            assertEquals(IPS_PER_ROUND, service.getLiveLimiterCount());
+            assertTrue(meterRegistry.getMeters().size() > baselineMeters);
+
+            // Age every identifier of the round past the cleanup threshold
+            LocalDateTime stale = LocalDateTime.now(UTC).minusHours(2);
+            service.ipLastAccessTimes.replaceAll((key, lastAccess) -> stale);
+            assertEquals(IPS_PER_ROUND, service.cleanupOldIpRateLimiters(1));
+            assertEquals(baselineMeters, meterRegistry.getMeters().size(), "Meters left behind after round " + round);
+
+            if (round == 0) {
+                baseline = usedHeapAfterGc();
+            }
+        }
+
+        // then
+        long heapGrowth = usedHeapAfterGc() - baseline;
+        assertEquals(0, service.getLiveLimiterCount());
+        assertEquals(0, registry.getAllRateLimiters().size());
+        assertEquals((long) ROUNDS * IPS_PER_ROUND, removedFromRegistry.sum());
+        assertTrue(heapGrowth < MAX_HEAP_GROWTH_BYTES,
+                "Heap grew by " + heapGrowth + " bytes after " + ROUNDS * IPS_PER_ROUND + " distinct IPs");
+    }
+
+    private static String ipAddress(int n) {
+        return "10." + ((n >>> 16) & 0xFF) + "." + ((n >>> 8) & 0xFF) + "." + (n & 0xFF);
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
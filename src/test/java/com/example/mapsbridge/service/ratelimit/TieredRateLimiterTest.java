@@ -0,0 +1,218 @@
+package com.example.mapsbridge.service.ratelimit;
+
+import com.example.mapsbridge.dto.RateLimitStatus;
+import com.example.mapsbridge.service.ratelimit.TieredRateLimiter.IdentifierType;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TieredRateLimiterTest {
+
+    private static final Duration MINUTE = Duration.ofMinutes(1);
+    private static final Duration DAY = Duration.ofDays(1);
+
+    // Starts at midnight UTC, aligned with every window
+    private final AtomicLong millis = new AtomicLong(Duration.ofDays(20_000).toMillis());
+    private TieredRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimiterRegistry rateLimiterRegistry = mock(RateLimiterRegistry.class);
+        when(rateLimiterRegistry.getConfiguration("burst")).thenReturn(config(1, Duration.ofSeconds(3)));
+        when(rateLimiterRegistry.getConfiguration("minute")).thenReturn(config(5, MINUTE));
+        when(rateLimiterRegistry.getConfiguration("day")).thenReturn(config(10, DAY));
+
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenAnswer(invocation -> millis.get());
+
+        limiter = new TieredRateLimiter(rateLimiterRegistry, Map.of(
+                IdentifierType.IP, List.of("burst", "minute", "day"),
+                IdentifierType.EMAIL, List.of("day"),
+                IdentifierType.CHAT_ID, List.of("minute", "day")),
+                clock);
+    }
+
+    @Test
+    void shouldReportMostRestrictiveTierOfAllowedRequest() {
+        // When
+        RateLimitStatus status = limiter.tryAcquire(IdentifierType.IP, "192.168.1.1");
+
+        // Then
+        assertTrue(status.allowed());
+        assertEquals(1, status.limit());
+        assertEquals(0, status.remaining());
+        assertEquals(Duration.ofSeconds(3), status.reset());
+        assertEquals("1;w=3, 5;w=60, 10;w=86400", status.policy());
+    }
+
+    @Test
+    void shouldRejectBurstWithRetryAfter() {
+        // Given
+        limiter.tryAcquire(IdentifierType.IP, "192.168.1.1");
+
+        // When
+        RateLimitStatus status = limiter.tryAcquire(IdentifierType.IP, "192.168.1.1");
+
+        // Then
+        assertFalse(status.allowed());
+        assertEquals(1, status.limit());
+        assertEquals(Duration.ofMillis(3001), status.retryAfter());
+
+        millis.addAndGet(3001);
+        assertTrue(limiter.tryAcquire(IdentifierType.IP, "192.168.1.1").allowed());
+    }
+
+    @Test
+    void shouldNotCountRejectedRequestInAnyTier() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire(IdentifierType.IP, "192.168.1.1").allowed());
+            millis.addAndGet(3001);
+        }
+
+        // When
+        RateLimitStatus first = limiter.tryAcquire(IdentifierType.IP, "192.168.1.1");
+        RateLimitStatus second = limiter.tryAcquire(IdentifierType.IP, "192.168.1.1");
+
+        // Then
+        // The first rejection left the burst tier untouched, so the minute tier rejects again
+        assertFalse(first.allowed());
+        assertEquals(5, first.limit());
+        assertFalse(second.allowed());
+        assertEquals(5, second.limit());
+    }
+
+    @Test
+    void shouldWeighPreviousWindowBySlidingOverlap() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire(IdentifierType.CHAT_ID, "42");
+        }
+        assertFalse(limiter.tryAcquire(IdentifierType.CHAT_ID, "42").allowed());
+
+        // When
+        // Half-way the next minute, half of the previous minute still counts
+        millis.addAndGet(MINUTE.toMillis() + MINUTE.toMillis() / 2);
+        RateLimitStatus status = limiter.tryAcquire(IdentifierType.CHAT_ID, "42");
+
+        // Then
+        assertTrue(status.allowed());
+        assertEquals(5, status.limit());
+        assertEquals(2, status.remaining());
+        assertEquals(Duration.ofSeconds(30), status.reset());
+    }
+
+    @Test
+    void shouldAlignDailyWindowToMidnight() {
+        // Given
+        millis.addAndGet(Duration.ofHours(18).toMillis());
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire(IdentifierType.EMAIL, "user@example.com").allowed());
+        }
+
+        // When
+        RateLimitStatus status = limiter.tryAcquire(IdentifierType.EMAIL, "user@example.com");
+
+        // Then
+        assertFalse(status.allowed());
+        assertEquals(10, status.limit());
+        assertEquals(0, status.remaining());
+        assertEquals(Duration.ofHours(6), status.reset());
+    }
+
+    @Test
+    void shouldAllowExactlyTheLimitUnderContention() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicInteger allowed = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            executor.execute(() -> {
+                if (limiter.tryAcquire(IdentifierType.EMAIL, "user@example.com").allowed()) {
+                    allowed.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Then
+        assertEquals(10, allowed.get());
+    }
+
+    @Test
+    void shouldDropIdentifiersOnceAllWindowsPassed() {
+        // Given
+        limiter.tryAcquire(IdentifierType.IP, "192.168.1.1");
+        limiter.tryAcquire(IdentifierType.EMAIL, "user@example.com");
+        millis.addAndGet(DAY.toMillis());
+        assertEquals(0, limiter.sweep());
+
+        // When
+        millis.addAndGet(DAY.toMillis());
+        int removed = limiter.sweep();
+
+        // Then
+        assertEquals(2, removed);
+        assertEquals(0, limiter.size());
+        assertTrue(limiter.tryAcquire(IdentifierType.EMAIL, "user@example.com").allowed());
+    }
+
+    @Test
+    void shouldNotSweepWhileAcquiring() {
+        // Given
+        limiter.tryAcquire(IdentifierType.EMAIL, "idle@example.com");
+
+        // When
+        millis.addAndGet(2 * DAY.toMillis());
+        limiter.tryAcquire(IdentifierType.EMAIL, "active@example.com");
+
+        // Then the idle identifier stays until the scheduled sweep
+        assertEquals(2, limiter.size());
+        assertEquals(1, limiter.sweep());
+        assertEquals(1, limiter.size());
+    }
+
+    @Test
+    void shouldBuildRateLimitHeaders() {
+        // Given
+        RateLimitStatus allowed = new RateLimitStatus(true, 5, 3, Duration.ofMillis(12_500), Duration.ZERO, "5;w=60");
+        RateLimitStatus rejected = new RateLimitStatus(false, 1, 0, Duration.ofSeconds(3), Duration.ofMillis(3001), "1;w=3");
+
+        // When
+        HttpHeaders allowedHeaders = allowed.toHeaders();
+        HttpHeaders rejectedHeaders = rejected.toHeaders();
+
+        // Then
+        assertEquals("5", allowedHeaders.getFirst("RateLimit-Limit"));
+        assertEquals("3", allowedHeaders.getFirst("RateLimit-Remaining"));
+        assertEquals("13", allowedHeaders.getFirst("RateLimit-Reset"));
+        assertEquals("5;w=60", allowedHeaders.getFirst("RateLimit-Policy"));
+        assertNull(allowedHeaders.getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("4", rejectedHeaders.getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    private static Optional<RateLimiterConfig> config(int limit, Duration period) {
+        return Optional.of(RateLimiterConfig.custom()
+                .limitForPeriod(limit)
+                .limitRefreshPeriod(period)
+                .build());
+    }
+}
@@ -35,7 +35,7 @@ public class UserRateLimiterServiceTest {
 
     @BeforeEach
     public void setUp() {
-        userRateLimiterService = new UserRateLimiterService(rateLimiterRegistry);
+        userRateLimiterService = new UserRateLimiterService(rateLimiterRegistry, null);
     }
 
     @AfterEach
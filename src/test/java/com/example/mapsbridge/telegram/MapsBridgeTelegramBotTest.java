@@ -0,0 +1,104 @@
+package com.example.mapsbridge.telegram;
+
+import com.example.mapsbridge.telegram.service.ResponseFormatterService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.objects.Chat;
+import org.telegram.telegrambots.meta.api.objects.Message;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class MapsBridgeTelegramBotTest {
+
+    private final Map<String, List<String>> replies = new ConcurrentHashMap<>();
+    private final CountDownLatch releaseSlowMessages = new CountDownLatch(1);
+    private CountDownLatch expectedReplies;
+    private MapsBridgeTelegramBot bot;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ResponseFormatterService formatter = mock(ResponseFormatterService.class);
+        when(formatter.convertMessageToMapLinks(any())).thenAnswer(invocation -> {
+            String text = invocation.getArgument(0);
+            if (text.startsWith("slow")) {
+                releaseSlowMessages.await(5, TimeUnit.SECONDS);
+            }
+            return "reply to " + text;
+        });
+
+        bot = spy(new MapsBridgeTelegramBot("test_token", formatter, true));
+        doAnswer(invocation -> {
+            SendMessage message = invocation.getArgument(0);
+            replies.computeIfAbsent(message.getChatId(), chatId -> new CopyOnWriteArrayList<>()).add(message.getText());
+            expectedReplies.countDown();
+            return null;
+        }).when(bot).execute(any(SendMessage.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSlowMessages.countDown();
+        bot.shutdownUpdateExecutor();
+    }
+
+    @Test
+    void shouldAnswerMessagesOfOneChatInOrder() throws InterruptedException {
+        // Given
+        expectedReplies = new CountDownLatch(3);
+
+        // When
+        bot.onUpdatesReceived(List.of(update(1L, "slow 1"), update(1L, "fast 2")));
+        bot.onUpdatesReceived(List.of(update(1L, "fast 3")));
+
+        // Then the later messages wait for the slow one
+        assertFalse(expectedReplies.await(100, TimeUnit.MILLISECONDS));
+        assertNull(replies.get("1"));
+
+        // When the slow conversion finishes
+        releaseSlowMessages.countDown();
+
+        // Then
+        assertTrue(expectedReplies.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("reply to slow 1", "reply to fast 2", "reply to fast 3"), replies.get("1"));
+    }
+
+    @Test
+    void shouldNotHoldBackOtherChats() throws InterruptedException {
+        // Given
+        expectedReplies = new CountDownLatch(1);
+
+        // When
+        bot.onUpdatesReceived(List.of(update(1L, "slow 1"), update(2L, "fast 1")));
+
+        // Then the other chat is answered while the slow conversion is still running
+        assertTrue(expectedReplies.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("reply to fast 1"), replies.get("2"));
+        assertNull(replies.get("1"));
+    }
+
+    private static Update update(long chatId, String text) {
+        Chat chat = new Chat();
+        chat.setId(chatId);
+        chat.setType("private");
+
+        Message message = new Message();
+        message.setChat(chat);
+        message.setText(text);
+
+        Update update = new Update();
+        update.setMessage(message);
+        return update;
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.mapsbridge.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final AtomicInteger coalesced = new AtomicInteger();
+    private final SingleFlight<String, StringBuilder> singleFlight =
+            new SingleFlight<>(value -> new StringBuilder(value), key -> coalesced.incrementAndGet());
+
+    @Test
+    void shouldShareOneComputationBetweenConcurrentCallers() throws Exception {
+        // Given
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            Future<StringBuilder> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+                computations.incrementAndGet();
+                leaderStarted.countDown();
+                await(release);
+                return new StringBuilder("result");
+            }));
+            assertTrue(leaderStarted.await(1, TimeUnit.SECONDS));
+            List<Future<StringBuilder>> followers = List.of(
+                    executor.submit(() -> singleFlight.execute("key", () -> {
+                        computations.incrementAndGet();
+                        return new StringBuilder("other");
+                    })),
+                    executor.submit(() -> singleFlight.execute("key", () -> {
+                        computations.incrementAndGet();
+                        return new StringBuilder("other");
+                    })));
+            waitForCoalesced(2);
+
+            // When
+            release.countDown();
+
+            // Then
+            StringBuilder leaderResult = leader.get(1, TimeUnit.SECONDS);
+            assertEquals("result", leaderResult.toString());
+            for (Future<StringBuilder> follower : followers) {
+                StringBuilder followerResult = follower.get(1, TimeUnit.SECONDS);
+                assertEquals("result", followerResult.toString());
+                assertNotSame(leaderResult, followerResult);
+            }
+            assertEquals(1, computations.get());
+            assertEquals(0, singleFlight.inFlightCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRethrowLeaderExceptionToFollowers() throws Exception {
+        // Given
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<StringBuilder> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+                leaderStarted.countDown();
+                await(release);
+                throw new IllegalStateException("boom");
+            }));
+            assertTrue(leaderStarted.await(1, TimeUnit.SECONDS));
+            Future<StringBuilder> follower = executor.submit(() -> singleFlight.execute("key", StringBuilder::new));
+            waitForCoalesced(1);
+
+            // When
+            release.countDown();
+
+            // Then
+            Exception leaderError = assertThrows(Exception.class, () -> leader.get(1, TimeUnit.SECONDS));
+            Exception followerError = assertThrows(Exception.class, () -> follower.get(1, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, leaderError.getCause());
+            assertInstanceOf(IllegalStateException.class, followerError.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldShareAsyncComputation() {
+        // Given
+        AtomicInteger computations = new AtomicInteger();
+        CompletableFuture<StringBuilder> upstream = new CompletableFuture<>();
+
+        // When
+        CompletableFuture<StringBuilder> leader = singleFlight.executeAsync("key", () -> {
+            computations.incrementAndGet();
+            return upstream;
+        });
+        CompletableFuture<StringBuilder> follower = singleFlight.executeAsync("key", () -> {
+            computations.incrementAndGet();
+            return CompletableFuture.completedFuture(new StringBuilder("other"));
+        });
+        upstream.complete(new StringBuilder("result"));
+
+        // Then
+        assertEquals("result", leader.join().toString());
+        assertEquals("result", follower.join().toString());
+        assertNotSame(leader.join(), follower.join());
+        assertEquals(1, computations.get());
+        assertEquals(1, coalesced.get());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void shouldNotRememberCompletedComputations() {
+        // Given
+        AtomicInteger computations = new AtomicInteger();
+
+        // When
+        singleFlight.execute("key", () -> new StringBuilder("first" + computations.incrementAndGet()));
+        StringBuilder second = singleFlight.execute("key", () -> new StringBuilder("second" + computations.incrementAndGet()));
+
+        // Then
+        assertEquals("second2", second.toString());
+        assertEquals(0, coalesced.get());
+    }
+
+    @Test
+    void shouldFailFollowersOfFailedAsyncComputation() {
+        // Given
+        CompletableFuture<StringBuilder> upstream = new CompletableFuture<>();
+        CompletableFuture<StringBuilder> leader = singleFlight.executeAsync("key", () -> upstream);
+        CompletableFuture<StringBuilder> follower = singleFlight.executeAsync("key", CompletableFuture::new);
+
+        // When
+        upstream.completeExceptionally(new IllegalStateException("boom"));
+
+        // Then
+        CompletionException error = assertThrows(CompletionException.class, follower::join);
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+        assertTrue(leader.isCompletedExceptionally());
+    }
+
+    private void waitForCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (coalesced.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, coalesced.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}